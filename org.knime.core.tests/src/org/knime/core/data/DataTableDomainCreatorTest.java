@@ -55,6 +55,7 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.Random;
 import java.util.Set;
 
 import org.junit.Test;
@@ -62,6 +63,7 @@
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 
 /**
@@ -373,4 +375,48 @@ public void testDefaultNumberOfPossibleValues() {
         assertThat("Unexpected possible values", colDomain.getValues(), is(nullValue()));
 
     }
+
+    /**
+     * Checks that merging partial domains, each computed on a batch of rows, gives the same result as processing all
+     * rows with a single domain creator.
+     */
+    @Test
+    public void testMergePartialDomains() {
+        DataTableSpec tableSpec = new DataTableSpec(new String[]{"String col", "Double col", "Long col", "Int col"},
+            new DataType[]{StringCell.TYPE, DoubleCell.TYPE, LongCell.TYPE, IntCell.TYPE});
+        long seed = System.currentTimeMillis();
+        Random rand = new Random(seed);
+        DataRow[] rows = new DataRow[1000];
+        for (int i = 0; i < rows.length; i++) {
+            DataCell doubleCell = rand.nextInt(10) == 0 ? new IntCell(rand.nextInt(200) - 100)
+                : new DoubleCell(rand.nextBoolean() ? rand.nextGaussian() * 100 : Double.NaN);
+            rows[i] = new DefaultRow(RowKey.createRowKey((long)i),
+                rand.nextInt(20) == 0 ? DataType.getMissingCell() : new StringCell("v" + rand.nextInt(40)), doubleCell,
+                new LongCell(rand.nextLong()), rand.nextInt(20) == 0 ? DataType.getMissingCell()
+                    : new IntCell(rand.nextInt()));
+        }
+
+        for (int maxPossibleValues : new int[]{20, 100}) {
+            DataTableDomainCreator expected = new DataTableDomainCreator(tableSpec, false);
+            expected.setMaxPossibleValues(maxPossibleValues);
+            for (DataRow r : rows) {
+                expected.updateDomain(r);
+            }
+
+            DataTableDomainCreator merged = new DataTableDomainCreator(tableSpec, false);
+            merged.setMaxPossibleValues(maxPossibleValues);
+            for (int offset = 0; offset < rows.length; offset += 300) {
+                DataTableDomainCreator partial = merged.createPartialDomainCreator();
+                partial.updateDomain(rows, offset, Math.min(300, rows.length - offset));
+                merged.merge(partial);
+            }
+            assertThat("Unexpected merged domain (seed " + seed + ")", merged.createSpec(), is(expected.createSpec()));
+            for (int i = 0; i < tableSpec.getNumColumns(); i++) {
+                // sets are equal regardless of order, compare string representations
+                assertThat("Unexpected order of possible values (seed " + seed + ")",
+                    String.valueOf(merged.createSpec().getColumnSpec(i).getDomain().getValues()),
+                    is(String.valueOf(expected.createSpec().getColumnSpec(i).getDomain().getValues())));
+            }
+        }
+    }
 }
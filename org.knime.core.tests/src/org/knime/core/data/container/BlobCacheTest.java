@@ -0,0 +1,215 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+
+/**
+ * Tests for {@link BlobCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BlobCacheTest {
+
+    private static final long BLOB_SIZE = 1000;
+
+    /** Minimal blob cell, only used as value in the cache. */
+    private static final class TestBlobCell extends BlobDataCell {
+        private static final long serialVersionUID = 1L;
+
+        private final int m_value;
+
+        TestBlobCell(final int value) {
+            m_value = value;
+        }
+
+        @Override
+        public String toString() {
+            return Integer.toString(m_value);
+        }
+
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return ((TestBlobCell)dc).m_value == m_value;
+        }
+
+        @Override
+        public int hashCode() {
+            return m_value;
+        }
+    }
+
+    private static BlobAddress address(final int index) {
+        BlobAddress address = new BlobAddress(1, 0, false);
+        address.setIndexOfBlobInColumn(index);
+        return address;
+    }
+
+    /** Reads a blob through the cache, adds it on a miss. */
+    private static BlobDataCell read(final BlobCache cache, final long owner, final int index) {
+        BlobDataCell cell = cache.get(owner, address(index));
+        if (cell == null) {
+            cell = new TestBlobCell(index);
+            cache.put(owner, address(index), cell, BLOB_SIZE);
+        }
+        return cell;
+    }
+
+    /** Hits, misses and removal of all blobs of a buffer. */
+    @Test
+    public void testGetPutInvalidate() {
+        BlobCache cache = new BlobCache(1 << 20, 4);
+        long owner1 = BlobCache.nextOwnerID();
+        long owner2 = BlobCache.nextOwnerID();
+        BlobDataCell cell = new TestBlobCell(1);
+        assertNull(cache.get(owner1, address(1)));
+        cache.put(owner1, address(1), cell, BLOB_SIZE);
+        assertSame(cell, cache.get(owner1, address(1)));
+        // same address in another buffer (e.g. in another workflow) is a different blob
+        assertNull(cache.get(owner2, address(1)));
+        cache.put(owner2, address(1), new TestBlobCell(2), BLOB_SIZE);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2 * (BLOB_SIZE + BlobCache.ENTRY_OVERHEAD), cache.getSize());
+
+        cache.invalidate(owner1);
+        assertNull(cache.get(owner1, address(1)));
+        assertNotNull(cache.get(owner2, address(1)));
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertNull(cache.get(owner2, address(1)));
+    }
+
+    /** Frequently read blobs must survive a scan over many blobs that are read only once. */
+    @Test
+    public void testFrequentBlobsSurviveScan() {
+        final long maxSize = 100 * (BLOB_SIZE + BlobCache.ENTRY_OVERHEAD);
+        BlobCache cache = new BlobCache(maxSize, 1);
+        long owner = BlobCache.nextOwnerID();
+        final int hotCount = 20;
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < hotCount; i++) {
+                read(cache, owner, i);
+            }
+        }
+        for (int i = hotCount; i < 10000; i++) {
+            read(cache, owner, i);
+        }
+        assertTrue("Cache exceeds its size: " + cache, cache.getSize() <= maxSize);
+        long hits = cache.getHitCount();
+        for (int i = 0; i < hotCount; i++) {
+            read(cache, owner, i);
+        }
+        assertEquals("Frequently used blobs were evicted: " + cache, hits + hotCount, cache.getHitCount());
+        assertTrue(cache.getRejectionCount() > 0);
+    }
+
+    /** Blobs larger than the cache are not cached; a disabled cache caches nothing. */
+    @Test
+    public void testSizeLimits() {
+        BlobCache cache = new BlobCache(BLOB_SIZE, 1);
+        long owner = BlobCache.nextOwnerID();
+        cache.put(owner, address(1), new TestBlobCell(1), 2 * BLOB_SIZE);
+        assertNull(cache.get(owner, address(1)));
+        assertEquals(0, cache.getSize());
+
+        BlobCache disabled = new BlobCache(0, 1);
+        disabled.put(owner, address(1), new TestBlobCell(1), 1);
+        assertNull(disabled.get(owner, address(1)));
+    }
+
+    /** Concurrent reads, the cache must stay within its size and return correct blobs. */
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final long maxSize = 200 * (BLOB_SIZE + BlobCache.ENTRY_OVERHEAD);
+        final BlobCache cache = new BlobCache(maxSize, 16);
+        final long owner = BlobCache.nextOwnerID();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final long seed = t;
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        Random rand = new Random(seed);
+                        for (int i = 0; i < 100000; i++) {
+                            // skewed access pattern
+                            int index = rand.nextBoolean() ? rand.nextInt(50) : rand.nextInt(5000);
+                            assertEquals(index, ((TestBlobCell)read(cache, owner, index)).m_value);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<Void> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue("Cache exceeds its size: " + cache, cache.getSize() <= maxSize);
+        assertTrue("Unexpected low hit count: " + cache, cache.getHitCount() > cache.getMissCount() / 2);
+    }
+}
@@ -46,6 +46,7 @@
 package org.knime.core.data.container;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
@@ -56,6 +57,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -65,27 +67,47 @@
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.junit.Assume;
 import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomainCreator;
+import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.MissingCell;
 import org.knime.core.data.MissingValue;
+import org.knime.core.data.PrimitiveDataRow;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormatRegistry;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.BooleanCell.BooleanCellFactory;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.internal.NotInWorkflowDataRepository;
+import org.knime.core.data.filestore.internal.NotInWorkflowWriteFileStoreHandler;
 import org.knime.core.data.util.ObjectToDataCellConverter;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.DefaultNodeProgressMonitor;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettings;
 import org.knime.core.util.DuplicateKeyException;
 import org.knime.core.util.FileUtil;
+import org.osgi.framework.FrameworkUtil;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
@@ -695,25 +717,39 @@ public void testAsyncWriteLimits() throws Exception {
         Assume.assumeTrue(!DataContainer.SYNCHRONOUS_IO);
         final int limit = Platform.ARCH_X86.equals(Platform.getOSArch()) ? 10 : 50;
         Assert.assertEquals(limit, DataContainer.MAX_ASYNC_WRITE_THREADS);
-        RowIterator infinitIterator = generateRows(Integer.MAX_VALUE);
+        Assert.assertEquals(limit, DataContainer.ASYNC_EXECUTORS.getMaximumPoolSize());
+        final int rowCount = 10 * DataContainer.ASYNC_CACHE_SIZE * DataContainer.ASYNC_QUEUE_BATCH_COUNT;
         List<DataContainer> containerList = new ArrayList<DataContainer>();
+        List<RowIterator> iteratorList = new ArrayList<RowIterator>();
         try {
-            boolean isAsync;
-            do {
-                int activeCount = DataContainer.ASYNC_EXECUTORS.getActiveCount();
+            // many more containers than threads - all of them write asynchronously
+            for (int i = 0; i < 3 * limit; i++) {
                 DataContainer c = new DataContainer(SPEC_STR_INT_DBL, true, 0);
-                c.addRowToTable(infinitIterator.next());
-                // no activeCount is incremented by one - so order of two lines is important.
                 containerList.add(c);
-                isAsync = activeCount <= limit;
-                assertEquals("unexpected async write behavior, active thread count is " + activeCount,
-                    isAsync, !c.isSynchronousWrite());
-            } while (isAsync);
+                iteratorList.add(generateRows(rowCount));
+                assertFalse("unexpected synchronous write", c.isSynchronousWrite());
+            }
+            for (int r = 0; r < rowCount; r++) {
+                for (int i = 0; i < containerList.size(); i++) {
+                    containerList.get(i).addRowToTable(iteratorList.get(i).next());
+                }
+                assertTrue("Too many table IO threads: " + DataContainer.ASYNC_EXECUTORS.getPoolSize(),
+                    DataContainer.ASYNC_EXECUTORS.getPoolSize() <= limit);
+            }
         } finally {
             for (DataContainer c : containerList) {
                 c.close();
             }
         }
+        for (DataContainer c : containerList) {
+            assertEquals(rowCount, c.size());
+            assertTrue(c.getMaxAsyncWriteQueueDepth() <= DataContainer.ASYNC_QUEUE_BATCH_COUNT);
+            RowIterator expected = generateRows(rowCount);
+            for (DataRow row : c.getTable()) {
+                assertEquals(expected.next(), row);
+            }
+            c.dispose();
+        }
     }
 
     /**
@@ -791,6 +827,511 @@ public void testWriteRead() throws IOException, CanceledExecutionException {
         }
     }
 
+    /**
+     * Writes a table with the {@link ColumnarTableStoreFormat} (more rows than fit into one chunk, some missing
+     * cells, strings that have no standard UTF-8 representation) and reads it back, once fully and once with a column
+     * filter. The reader is used without a buffer, i.e. it determines the row count from the file.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    public void testColumnarFormatWriteRead() throws Exception {
+        final ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        assertTrue(format.accepts(SPEC_STR_INT_DBL));
+        final int rowCount = 3 * ColumnarTableStoreFormat.MAX_ROWS_PER_CHUNK + 17;
+        final List<DataRow> rows = new ArrayList<>();
+        for (RowIterator it = generateRows(rowCount); it.hasNext();) {
+            DataRow r = it.next();
+            if (rows.size() % 7 == 0) {
+                r = new DefaultRow(r.getKey(), DataType.getMissingCell(), r.getCell(1), DataType.getMissingCell());
+            } else if (rows.size() % 101 == 0) {
+                // unpaired surrogates, null character, supplementary character
+                r = new DefaultRow(r.getKey(), new StringCell("\uD800-\uDC00-\u0000-\uD83D\uDE00 " + rows.size()),
+                    r.getCell(1), r.getCell(2));
+            }
+            rows.add(r);
+        }
+        final File file = FileUtil.createTempFile("testColumnarFormat", format.getFilenameSuffix());
+        file.deleteOnExit();
+        final NodeSettings settings = new NodeSettings("columnar");
+        try (AbstractTableStoreWriter writer = format.createWriter(file, SPEC_STR_INT_DBL, true)) {
+            for (DataRow r : rows) {
+                writer.writeRow(r);
+            }
+            writer.writeMetaInfoAfterWrite(settings);
+        }
+        final AbstractTableStoreReader reader =
+            format.createReader(file, SPEC_STR_INT_DBL, null, settings, Buffer.IVERSION, true);
+        try (CloseableRowIterator it = reader.iterator()) {
+            for (DataRow ref : rows) {
+                assertTrue(it.hasNext());
+                DataRow row = it.next();
+                assertEquals(ref.getKey(), row.getKey());
+                for (int i = 0; i < ref.getNumCells(); i++) {
+                    assertEquals(ref.getCell(i), row.getCell(i));
+                }
+                assertTrue(row instanceof PrimitiveDataRow);
+                assertEquals(ref.getCell(2).isMissing(), PrimitiveDataRow.isMissing(row, 2));
+                if (!ref.getCell(2).isMissing()) {
+                    assertEquals(((DoubleValue)ref.getCell(2)).getDoubleValue(),
+                        ((PrimitiveDataRow)row).getDouble(2), 0.0);
+                    assertEquals(((IntValue)ref.getCell(1)).getIntValue(), ((PrimitiveDataRow)row).getLong(1));
+                }
+            }
+            assertFalse(it.hasNext());
+        }
+        try (CloseableRowIterator it = reader.iteratorBuilder().filterColumns(1).build()) {
+            for (DataRow ref : rows) {
+                DataRow row = it.next();
+                assertEquals(ref.getKey(), row.getKey());
+                assertEquals(ref.getCell(1), row.getCell(1));
+                assertTrue(row.getCell(0) instanceof UnmaterializedCell);
+                assertTrue(row.getCell(2) instanceof UnmaterializedCell);
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /**
+     * Writes a nominal string column with the {@link ColumnarTableStoreFormat} and checks that it is dictionary
+     * encoded (small file) and that the cells of the column domain are returned when reading.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    public void testColumnarFormatDictionaryEncoding() throws Exception {
+        final ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        final DataCell[] values = {new StringCell("Red"), new StringCell("Green"), new StringCell("Blue")};
+        final DataColumnSpecCreator colCreator = new DataColumnSpecCreator("Color", StringCell.TYPE);
+        colCreator.setDomain(new DataColumnDomainCreator(values).createDomain());
+        final DataTableSpec spec = new DataTableSpec(colCreator.createSpec());
+        final int rowCount = 2 * ColumnarTableStoreFormat.MAX_ROWS_PER_CHUNK + 17;
+        final File file = FileUtil.createTempFile("testColumnarDictionary", format.getFilenameSuffix());
+        file.deleteOnExit();
+        final NodeSettings settings = new NodeSettings("columnar");
+        try (AbstractTableStoreWriter writer = format.createWriter(file, spec, false)) {
+            for (int i = 0; i < rowCount; i++) {
+                DataCell c = i % 11 == 0 ? DataType.getMissingCell() : new StringCell(values[i % 3].toString());
+                writer.writeRow(new DefaultRow(RowKey.createRowKey((long)i), c));
+            }
+            writer.writeMetaInfoAfterWrite(settings);
+        }
+        assertTrue("Nominal column not dictionary encoded, file size " + file.length(), file.length() < 2 * rowCount);
+        final AbstractTableStoreReader reader = format.createReader(file, spec, null, settings, Buffer.IVERSION, false);
+        try (CloseableRowIterator it = reader.iterator()) {
+            for (int i = 0; i < rowCount; i++) {
+                DataCell c = it.next().getCell(0);
+                if (i % 11 == 0) {
+                    assertTrue(c.isMissing());
+                } else {
+                    assertSame(values[i % 3], c);
+                }
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /**
+     * Writes a string column with the {@link ColumnarTableStoreFormat} whose first and last chunk contain only missing
+     * values (no dictionary entries) and reads it back.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    public void testColumnarFormatAllMissingChunks() throws Exception {
+        final ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        final DataTableSpec spec = new DataTableSpec(new String[]{"String"}, new DataType[]{StringCell.TYPE});
+        final int chunkSize = ColumnarTableStoreFormat.MAX_ROWS_PER_CHUNK;
+        final int rowCount = 2 * chunkSize + 10;
+        final File file = FileUtil.createTempFile("testColumnarAllMissing", format.getFilenameSuffix());
+        file.deleteOnExit();
+        final NodeSettings settings = new NodeSettings("columnar");
+        try (AbstractTableStoreWriter writer = format.createWriter(file, spec, false)) {
+            for (int i = 0; i < rowCount; i++) {
+                final boolean isMissing = i < chunkSize || i >= 2 * chunkSize || i % 2 == 0;
+                DataCell c = isMissing ? DataType.getMissingCell() : new StringCell(i % 3 == 0 ? "A" : "B");
+                writer.writeRow(new DefaultRow(RowKey.createRowKey((long)i), c));
+            }
+            writer.writeMetaInfoAfterWrite(settings);
+        }
+        final AbstractTableStoreReader reader = format.createReader(file, spec, null, settings, Buffer.IVERSION, false);
+        try (CloseableRowIterator it = reader.iterator()) {
+            for (int i = 0; i < rowCount; i++) {
+                assertTrue("Missing row " + i, it.hasNext());
+                DataCell c = it.next().getCell(0);
+                final boolean isMissing = i < chunkSize || i >= 2 * chunkSize || i % 2 == 0;
+                assertEquals("Row " + i, isMissing ? DataType.getMissingCell() : new StringCell(i % 3 == 0 ? "A" : "B"),
+                    c);
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /**
+     * Writes an {@link IntCell} into a {@link DoubleCell} column. The {@link ColumnarTableStoreFormat} writer must
+     * reject it (it would be restored as {@link DoubleCell}) and a container configured to use the columnar format must
+     * fall back to the default format and restore the cell unchanged.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    public void testColumnarFormatSubtypeCells() throws Exception {
+        final ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        final DataTableSpec spec = new DataTableSpec(new String[]{"Double"}, new DataType[]{DoubleCell.TYPE});
+        final File file = FileUtil.createTempFile("testColumnarSubtype", format.getFilenameSuffix());
+        file.deleteOnExit();
+        try (AbstractTableStoreWriter writer = format.createWriter(file, spec, true)) {
+            writer.writeRow(new DefaultRow(RowKey.createRowKey(0L), new DoubleCell(1.5)));
+            try {
+                writer.writeRow(new DefaultRow(RowKey.createRowKey(1L), new IntCell(2)));
+                fail("IntCell in DoubleCell column not rejected");
+            } catch (IOException e) {
+                // expected
+            }
+        }
+
+        final IEclipsePreferences corePrefs =
+            InstanceScope.INSTANCE.getNode(FrameworkUtil.getBundle(Buffer.class).getSymbolicName());
+        corePrefs.put(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT, ColumnarTableStoreFormat.class.getName());
+        try {
+            final List<DataRow> rows = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                DataCell c = i % 2 == 0 ? new IntCell(i) : new DoubleCell(i + 0.5);
+                rows.add(new DefaultRow(RowKey.createRowKey((long)i), c));
+            }
+            final DataContainer container = new DataContainer(spec, false, /* no rows in mem */ 0, true);
+            rows.forEach(container::addRowToTable);
+            container.close();
+            final ContainerTable table = container.getBufferedTable();
+            assertTrue("Table not written with default format: " + table.getTableStoreFormat(),
+                table.getTableStoreFormat() instanceof DefaultTableStoreFormat);
+            try (CloseableRowIterator it = table.iterator()) {
+                for (DataRow ref : rows) {
+                    DataCell c = it.next().getCell(0);
+                    assertEquals(ref.getCell(0).getClass(), c.getClass());
+                    assertEquals(ref.getCell(0), c);
+                }
+                assertFalse(it.hasNext());
+            }
+            table.clear();
+
+            final DataContainer doubleContainer = new DataContainer(spec, false, 0, true);
+            doubleContainer.addRowToTable(new DefaultRow(RowKey.createRowKey(0L), new DoubleCell(1.5)));
+            doubleContainer.close();
+            final ContainerTable doubleTable = doubleContainer.getBufferedTable();
+            assertTrue("Table not written with columnar format: " + doubleTable.getTableStoreFormat(),
+                doubleTable.getTableStoreFormat() instanceof ColumnarTableStoreFormat);
+            doubleTable.clear();
+        } finally {
+            corePrefs.remove(TableStoreFormatRegistry.PREF_KEY_STORAGE_FORMAT);
+        }
+    }
+
+    /**
+     * Writes rows that keep their numeric cells as primitives with the default table format and reads them back.
+     * Covers missing cells (with and without error message) and cells that are not of the column's primitive type.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    public void testPrimitiveRowsWriteRead() throws Exception {
+        final DataTableSpec spec = new DataTableSpec(new String[]{"String", "Int", "Long", "Double", "Boolean"},
+            new DataType[]{StringCell.TYPE, IntCell.TYPE, LongCell.TYPE, DoubleCell.TYPE, BooleanCell.TYPE});
+        final PrimitiveBlobSupportDataRow.Kind[] kinds = PrimitiveBlobSupportDataRow.Kind.getKinds(spec);
+        assertNotNull(kinds);
+        final PrimitiveBlobSupportDataRow.Builder builder = new PrimitiveBlobSupportDataRow.Builder(kinds);
+        final List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final DataCell[] cells = {new StringCell("Row " + i), new IntCell(i), new LongCell(Long.MAX_VALUE - i),
+                new DoubleCell(i / 3.0), BooleanCellFactory.create(i % 2 == 0)};
+            if (i % 5 == 0) {
+                cells[1 + i % 4] = DataType.getMissingCell();
+            } else if (i % 13 == 0) {
+                cells[3] = new MissingCell("Error in row " + i);
+            }
+            for (int c = 0; c < cells.length; c++) {
+                builder.setCell(c, cells[c]);
+            }
+            final DataRow row = builder.build(RowKey.createRowKey((long)i));
+            for (int c = 0; c < cells.length; c++) {
+                assertEquals(cells[c], row.getCell(c));
+            }
+            rows.add(row);
+        }
+        final PrimitiveDataRow first = (PrimitiveDataRow)rows.get(1);
+        assertTrue(first.isPrimitive(1));
+        assertEquals(1L, first.getLong(1));
+        assertEquals(1 / 3.0, first.getDouble(3), 0.0);
+        assertTrue(Double.isNaN(((PrimitiveDataRow)rows.get(10)).getDouble(3)));
+
+        final DefaultTableStoreFormat format = new DefaultTableStoreFormat();
+        final File file = FileUtil.createTempFile("testPrimitiveRows", format.getFilenameSuffix());
+        file.deleteOnExit();
+        final NodeSettings settings = new NodeSettings("primitive");
+        try (AbstractTableStoreWriter writer = format.createWriter(file, spec, true)) {
+            for (DataRow r : rows) {
+                writer.writeRow(r);
+            }
+            writer.writeMetaInfoAfterWrite(settings);
+        }
+        final AbstractTableStoreReader reader =
+            format.createReader(file, spec, null, settings, Buffer.IVERSION, true);
+        reader.setBufferAndDataRepository(createMemoryBuffer(spec, rows), NotInWorkflowDataRepository.newInstance());
+        try (CloseableRowIterator it = reader.iterator()) {
+            for (DataRow ref : rows) {
+                DataRow row = it.next();
+                assertEquals(ref.getKey(), row.getKey());
+                for (int c = 0; c < ref.getNumCells(); c++) {
+                    final DataCell refCell = ref.getCell(c);
+                    assertEquals("Cell " + c + " in row " + ref.getKey(), refCell, row.getCell(c));
+                    if (refCell.isMissing()) {
+                        assertEquals(((MissingValue)refCell).getError(), ((MissingValue)row.getCell(c)).getError());
+                    }
+                }
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /** Rows of {@link #SPEC_STR_INT_DBL} with some missing cells, some of them with error message. */
+    private static List<DataRow> createRowsWithMissingCells(final int count) {
+        final List<DataRow> rows = new ArrayList<>();
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            DataRow r = it.next();
+            if (rows.size() % 7 == 0) {
+                r = new DefaultRow(r.getKey(), r.getCell(0), DataType.getMissingCell(), r.getCell(2));
+            } else if (rows.size() % 11 == 0) {
+                r = new DefaultRow(r.getKey(), r.getCell(0), r.getCell(1), new MissingCell("Error " + rows.size()));
+            }
+            rows.add(r);
+        }
+        return rows;
+    }
+
+    private static void assertRowsEqual(final List<DataRow> expected, final CloseableRowIterator it,
+        final boolean expectPrimitive) {
+        for (DataRow ref : expected) {
+            final DataRow row = it.next();
+            assertEquals(ref.getKey(), row.getKey());
+            assertEquals(expectPrimitive, row instanceof PrimitiveDataRow);
+            for (int c = 0; c < ref.getNumCells(); c++) {
+                final DataCell refCell = ref.getCell(c);
+                assertEquals("Cell " + c + " in row " + ref.getKey(), refCell, row.getCell(c));
+                if (refCell.isMissing()) {
+                    assertEquals(((MissingValue)refCell).getError(), ((MissingValue)row.getCell(c)).getError());
+                }
+            }
+            if (expectPrimitive) {
+                final PrimitiveDataRow primitiveRow = (PrimitiveDataRow)row;
+                assertEquals(ref.getCell(1).isMissing(), PrimitiveDataRow.isMissing(row, 1));
+                if (!ref.getCell(1).isMissing()) {
+                    assertEquals(((IntValue)ref.getCell(1)).getIntValue(), primitiveRow.getLong(1));
+                }
+                if (!ref.getCell(2).isMissing()) {
+                    assertEquals(((DoubleValue)ref.getCell(2)).getDoubleValue(), primitiveRow.getDouble(2), 0.0);
+                }
+            }
+        }
+        assertFalse(it.hasNext());
+    }
+
+    /**
+     * Reads a default format file with and without primitive rows enabled, i.e. via the builder based read path
+     * of {@link BufferFromFileIteratorVersion20}, including a column filter.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    public void testPrimitiveRowsReadFromFile() throws Exception {
+        final List<DataRow> rows = createRowsWithMissingCells(1000);
+        final DefaultTableStoreFormat format = new DefaultTableStoreFormat();
+        final File file = FileUtil.createTempFile("testPrimitiveRowsRead", format.getFilenameSuffix());
+        file.deleteOnExit();
+        final NodeSettings settings = new NodeSettings("primitive");
+        try (AbstractTableStoreWriter writer = format.createWriter(file, SPEC_STR_INT_DBL, true)) {
+            for (DataRow r : rows) {
+                writer.writeRow(r);
+            }
+            writer.writeMetaInfoAfterWrite(settings);
+        }
+        final boolean wasEnabled = PrimitiveBlobSupportDataRow.isEnabled();
+        try {
+            for (boolean enabled : new boolean[]{true, false}) {
+                PrimitiveBlobSupportDataRow.setEnabled(enabled);
+                final AbstractTableStoreReader reader =
+                    format.createReader(file, SPEC_STR_INT_DBL, null, settings, Buffer.IVERSION, true);
+                reader.setBufferAndDataRepository(createMemoryBuffer(SPEC_STR_INT_DBL, rows),
+                    NotInWorkflowDataRepository.newInstance());
+                try (CloseableRowIterator it = reader.iterator()) {
+                    assertRowsEqual(rows, it, enabled);
+                }
+                try (CloseableRowIterator it = reader.iteratorBuilder().filterColumns(2).build()) {
+                    for (DataRow ref : rows) {
+                        final DataRow row = it.next();
+                        assertTrue(row.getCell(0) instanceof UnmaterializedCell);
+                        assertTrue(row.getCell(1) instanceof UnmaterializedCell);
+                        assertEquals(ref.getCell(2), row.getCell(2));
+                    }
+                    assertFalse(it.hasNext());
+                }
+            }
+        } finally {
+            PrimitiveBlobSupportDataRow.setEnabled(wasEnabled);
+        }
+    }
+
+    /**
+     * Keeps rows in memory with and without primitive rows enabled, i.e. with and without the compaction in
+     * {@link Buffer#addRow(DataRow, boolean, boolean)}.
+     */
+    public void testPrimitiveRowsInMemory() {
+        final List<DataRow> rows = createRowsWithMissingCells(1000);
+        final boolean wasEnabled = PrimitiveBlobSupportDataRow.isEnabled();
+        try {
+            for (boolean enabled : new boolean[]{true, false}) {
+                PrimitiveBlobSupportDataRow.setEnabled(enabled);
+                final DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, Integer.MAX_VALUE, true);
+                for (DataRow r : rows) {
+                    container.addRowToTable(r);
+                }
+                container.close();
+                final ContainerTable table = container.getBufferedTable();
+                assertFalse(table.getBuffer().usesOutFile());
+                try (CloseableRowIterator it = table.iterator()) {
+                    assertRowsEqual(rows, it, enabled);
+                }
+                table.clear();
+            }
+        } finally {
+            PrimitiveBlobSupportDataRow.setEnabled(wasEnabled);
+        }
+    }
+
+    /** Creates an in-memory buffer holding the argument rows. It serves as the (size-providing) buffer of the table
+     * store readers that are tested in isolation. */
+    private static Buffer createMemoryBuffer(final DataTableSpec spec, final List<DataRow> rows) {
+        final Buffer buffer = new Buffer(spec, Integer.MAX_VALUE, -1, NotInWorkflowDataRepository.newInstance(),
+            new HashMap<>(), NotInWorkflowWriteFileStoreHandler.create());
+        for (DataRow r : rows) {
+            buffer.addRow(r, false, false);
+        }
+        return buffer;
+    }
+
+    /**
+     * Iterates a table that has been written to disc with a column filter; cells of unselected columns must not be
+     * materialized.
+     */
+    public void testFilterColumnsOnFile() {
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, /* no rows in mem */ 0, false);
+        int count = 1000;
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            container.addRowToTable(it.next());
+        }
+        container.close();
+        ContainerTable table = container.getBufferedTable();
+        assertTrue(table.getBuffer().usesOutFile());
+        RowIterator referenceIterator = generateRows(count);
+        try (CloseableRowIterator it = table.iteratorBuilder().filterColumns("Int").build()) {
+            while (referenceIterator.hasNext()) {
+                DataRow expected = referenceIterator.next();
+                DataRow actual = it.next();
+                assertEquals(expected.getKey(), actual.getKey());
+                assertEquals(expected.getCell(1), actual.getCell(1));
+                assertTrue(actual.getCell(0) instanceof UnmaterializedCell);
+                assertTrue(actual.getCell(2) instanceof UnmaterializedCell);
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    /**
+     * Random access to a table written to disc, see {@link ContainerTable#iteratorFrom(long)}. Uses the configured
+     * compression (gzip by default, which positions by skipping rows), see
+     * {@link #testRandomAccessWithRowIndex()} for the row index.
+     */
+    public void testRandomAccessOnFile() {
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, /* no rows in mem */ 0, false);
+        int count = 1000;
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            container.addRowToTable(it.next());
+        }
+        container.close();
+        ContainerTable table = container.getBufferedTable();
+        assertTrue(table.getBuffer().usesOutFile());
+        for (int index : new int[]{0, 1, 31, 32, 33, 500, 999}) {
+            DataRow actual = table.getRow(index);
+            assertEquals(RowKey.createRowKey(index), actual.getKey());
+            assertEquals(new IntCell(index), actual.getCell(1));
+            assertEquals(new StringCell("String " + index), actual.getCell(0));
+        }
+        try (CloseableRowIterator it = table.iteratorFrom(990)) {
+            for (int i = 990; i < count; i++) {
+                assertEquals(new DoubleCell(i), it.next().getCell(2));
+            }
+            assertFalse(it.hasNext());
+        }
+        try (CloseableRowIterator it = table.iteratorFrom(count)) {
+            assertFalse(it.hasNext());
+        }
+        try {
+            table.getRow(count);
+            fail("Expected exception for row index out of range");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Random access via the row index of uncompressed and LZ4 compressed files. The index is limited to 4 entries so
+     * that it is halved (and its stride doubled from 32 to 256) while writing.
+     */
+    public void testRandomAccessWithRowIndex() throws Exception {
+        final int count = 1000;
+        final List<DataRow> rows = new ArrayList<>();
+        for (RowIterator it = generateRows(count); it.hasNext();) {
+            rows.add(it.next());
+        }
+        final DefaultTableStoreFormat format = new DefaultTableStoreFormat();
+        for (CompressionFormat compression : new CompressionFormat[]{CompressionFormat.None, CompressionFormat.Lz4}) {
+            final File file = FileUtil.createTempFile("testRandomAccess" + compression, format.getFilenameSuffix());
+            file.deleteOnExit();
+            final NodeSettings settings = new NodeSettings("rowIndex");
+            try (AbstractTableStoreWriter writer = new DefaultTableStoreWriter(SPEC_STR_INT_DBL,
+                new FileOutputStream(file), true, compression, 4)) {
+                for (DataRow r : rows) {
+                    writer.writeRow(r);
+                }
+                writer.writeMetaInfoAfterWrite(settings);
+            }
+            final AbstractTableStoreReader reader =
+                format.createReader(file, SPEC_STR_INT_DBL, null, settings, Buffer.IVERSION, true);
+            reader.setBufferAndDataRepository(createMemoryBuffer(SPEC_STR_INT_DBL, rows),
+                NotInWorkflowDataRepository.newInstance());
+            assertTrue(compression + " file must have a row index", reader.isRandomAccessSupported());
+            // indices before, on, and after the (initial and final) index entries
+            for (int index : new int[]{0, 1, 31, 32, 33, 63, 64, 127, 128, 129, 255, 256, 257, 511, 512, 767, 768,
+                769, 998, 999}) {
+                try (CloseableRowIterator it = reader.iteratorFrom(index)) {
+                    for (int i = index; i < Math.min(index + 3, count); i++) {
+                        final DataRow expected = rows.get(i);
+                        final DataRow actual = it.next();
+                        assertEquals(compression + ", from " + index, expected.getKey(), actual.getKey());
+                        for (int c = 0; c < expected.getNumCells(); c++) {
+                            assertEquals(expected.getCell(c), actual.getCell(c));
+                        }
+                    }
+                }
+            }
+            try (CloseableRowIterator it = reader.iteratorFrom(990)) {
+                for (int i = 990; i < count; i++) {
+                    assertEquals(rows.get(i).getKey(), it.next().getKey());
+                }
+                assertFalse(it.hasNext());
+            }
+            try (CloseableRowIterator it = reader.iteratorFrom(count)) {
+                assertFalse(it.hasNext());
+            }
+            // releases the memory mapping, otherwise the file can't be deleted on Windows
+            reader.clearIteratorInstances();
+            assertTrue("Unable to delete " + file, file.delete());
+        }
+    }
+
     private static DataRow createRandomRow(final int index, final int colCount, final Random rand1,
         final ObjectToDataCellConverter conv) {
         RowKey key = new RowKey("Row " + index);
@@ -0,0 +1,154 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LZ4BlockOutputStream} and {@link LZ4BlockInputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LZ4BlockStreamTest {
+
+    private static byte[] roundTrip(final byte[] data, final boolean singleBytes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new LZ4BlockOutputStream(bytes)) {
+            if (singleBytes) {
+                for (byte b : data) {
+                    out.write(b);
+                }
+            } else {
+                out.write(data);
+            }
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (InputStream in = new LZ4BlockInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            if (singleBytes) {
+                int b;
+                while ((b = in.read()) >= 0) {
+                    result.write(b);
+                }
+            } else {
+                byte[] buffer = new byte[4096];
+                int r;
+                while ((r = in.read(buffer)) >= 0) {
+                    result.write(buffer, 0, r);
+                }
+            }
+        }
+        return result.toByteArray();
+    }
+
+    /** Empty and very short streams. */
+    @Test
+    public void testShortData() throws IOException {
+        for (int length = 0; length < 40; length++) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte)(i % 3);
+            }
+            assertArrayEquals(data, roundTrip(data, true));
+        }
+    }
+
+    /** Compressible data spanning multiple blocks, including long runs (overlapping matches). */
+    @Test
+    public void testCompressibleData() throws IOException {
+        StringBuilder b = new StringBuilder();
+        for (int i = 0; i < 50000; i++) {
+            b.append("Row").append(i).append(i % 7 == 0 ? "0000000000000000000000000000000000" : "abc");
+        }
+        byte[] data = b.toString().getBytes("UTF-8");
+        assertArrayEquals(data, roundTrip(data, false));
+        assertArrayEquals(data, roundTrip(data, true));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new LZ4BlockOutputStream(bytes)) {
+            out.write(data);
+        }
+        assertTrue("Data not compressed: " + bytes.size() + " vs. " + data.length, bytes.size() < data.length / 2);
+    }
+
+    /** Random (incompressible) data is stored as is. */
+    @Test
+    public void testRandomData() throws IOException {
+        byte[] data = new byte[3 * LZ4BlockOutputStream.BLOCK_SIZE + 17];
+        new Random(42).nextBytes(data);
+        assertArrayEquals(data, roundTrip(data, false));
+    }
+
+    /** Skipping within and across blocks. */
+    @Test
+    public void testSkip() throws IOException {
+        byte[] data = new byte[2 * LZ4BlockOutputStream.BLOCK_SIZE];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte)(i / 100);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new LZ4BlockOutputStream(bytes)) {
+            out.write(data);
+        }
+        try (InputStream in = new LZ4BlockInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(LZ4BlockOutputStream.BLOCK_SIZE + 10, in.skip(LZ4BlockOutputStream.BLOCK_SIZE + 10));
+            assertEquals(data[LZ4BlockOutputStream.BLOCK_SIZE + 10] & 0xFF, in.read());
+        }
+    }
+
+}
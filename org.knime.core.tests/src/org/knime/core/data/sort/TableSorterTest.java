@@ -65,11 +65,15 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.IntValue;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.DefaultNodeProgressMonitor;
@@ -140,6 +144,100 @@ public final void testMultiStageMerge() throws CanceledExecutionException {
         runMemoryTest(100, 5, 8);
     }
 
+    /**
+     * Test the parallel mode, the result must be identical to the sequential sort (which is stable).
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testParallelSort() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Index", "Data"},
+            new DataType[]{IntCell.TYPE, StringCell.TYPE});
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        Random rand = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey(i), new IntCell(rand.nextInt(100)),
+                new StringCell("Row " + i)));
+        }
+        cont.close();
+        BufferedDataTable bdt = cont.getTable();
+
+        BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt, Arrays.asList("Index"), new boolean[]{true});
+        // multiple chunks on disc, the last one in memory
+        sorter.setMaxRows(6000);
+        BufferedDataTable expected = sorter.sort(m_exec);
+
+        sorter.setParallel(true);
+        // enforce multi stage merge
+        sorter.setMaxOpenContainers(3);
+        BufferedDataTable actual = sorter.sort(m_exec);
+
+        Assert.assertEquals(expected.size(), actual.size());
+        RowIterator expectedIter = expected.iterator();
+        RowIterator actualIter = actual.iterator();
+        while (expectedIter.hasNext()) {
+            DataRow expectedRow = expectedIter.next();
+            DataRow actualRow = actualIter.next();
+            Assert.assertEquals(expectedRow.getKey(), actualRow.getKey());
+            Assert.assertEquals(expectedRow.getCell(0), actualRow.getCell(0));
+        }
+    }
+
+    /**
+     * Test sorting with normalized keys, the result must be identical to the sort without them.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testNormalizedKeys() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Int", "Double", "String", "Long"},
+            new DataType[]{IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE, LongCell.TYPE});
+        BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        Random rand = new Random(7);
+        double[] specialDoubles = new double[]{Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.MAX_VALUE};
+        String[] prefixes = new String[]{"", "a", "ab\u0000", "abcdefgh", "abcdefghij", "\uFFFFz"};
+        for (int i = 0; i < 5000; i++) {
+            DataCell intCell = rand.nextInt(10) == 0 ? DataType.getMissingCell() : new IntCell(rand.nextInt(20) - 10);
+            DataCell doubleCell = rand.nextInt(10) == 0 ? DataType.getMissingCell() : new DoubleCell(
+                rand.nextInt(4) == 0 ? specialDoubles[rand.nextInt(specialDoubles.length)] : rand.nextInt(5) - 2.5);
+            DataCell stringCell = rand.nextInt(10) == 0 ? DataType.getMissingCell()
+                : new StringCell(prefixes[rand.nextInt(prefixes.length)] + (rand.nextBoolean() ? "" : rand.nextInt(3)));
+            DataCell longCell = new LongCell(rand.nextLong() >> rand.nextInt(64));
+            cont.addRowToTable(new DefaultRow(RowKey.createRowKey(i), intCell, doubleCell, stringCell, longCell));
+        }
+        cont.close();
+        BufferedDataTable bdt = cont.getTable();
+
+        String[][] sortColumns = new String[][]{{"Int", "Long"}, {"Double", "String", "Int"}, {"String", "Long"},
+            {AbstractTableSorter.ROWKEY_SORT_SPEC.getName()}};
+        for (String[] columns : sortColumns) {
+            for (int order = 0; order < 4; order++) {
+                boolean[] ascending = new boolean[columns.length];
+                for (int i = 0; i < ascending.length; i++) {
+                    ascending[i] = ((order + i) % 2) == 0;
+                }
+                boolean missingsToEnd = order >= 2;
+                BufferedDataTableSorter sorter =
+                    new BufferedDataTableSorter(bdt, Arrays.asList(columns), ascending, missingsToEnd);
+                sorter.setMaxRows(1500);
+                BufferedDataTable expected = sorter.sort(m_exec);
+                sorter.setUseNormalizedKeys(true);
+                BufferedDataTable actual = sorter.sort(m_exec);
+                sorter.setParallel(true);
+                BufferedDataTable actualParallel = sorter.sort(m_exec);
+                String message = Arrays.toString(columns) + ", " + Arrays.toString(ascending) + ", " + missingsToEnd;
+                RowIterator expectedIter = expected.iterator();
+                RowIterator actualIter = actual.iterator();
+                RowIterator actualParallelIter = actualParallel.iterator();
+                while (expectedIter.hasNext()) {
+                    RowKey expectedKey = expectedIter.next().getKey();
+                    Assert.assertEquals(message, expectedKey, actualIter.next().getKey());
+                    Assert.assertEquals(message, expectedKey, actualParallelIter.next().getKey());
+                }
+                Assert.assertFalse(actualIter.hasNext());
+                Assert.assertFalse(actualParallelIter.hasNext());
+            }
+        }
+    }
+
     private void runMemoryTest(final int numRows,
             final int maxNumRowsPerContainer,
             final int maxOpenContainers) throws CanceledExecutionException {
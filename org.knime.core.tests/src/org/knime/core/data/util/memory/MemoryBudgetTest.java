@@ -0,0 +1,201 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.util.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.knime.core.data.util.memory.MemoryBudget.Reservation;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+
+/**
+ * Testcase for {@link MemoryBudget}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class MemoryBudgetTest {
+
+    /**
+     * Checks that reservations are only granted within the budget and that released memory can be reserved again.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testReserveAndRelease() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100, () -> false);
+        Reservation first = budget.tryReserve(60);
+        assertNotNull("First reservation not granted", first);
+        assertNull("Reservation exceeding the budget granted", budget.tryReserve(50));
+        assertNull("Reservation not timed out", budget.reserve(50, 50));
+        Reservation second = budget.tryReserve(40);
+        assertNotNull("Reservation within budget not granted", second);
+        assertEquals("Unexpected reserved bytes", 100, budget.getReservedBytes());
+
+        first.close();
+        first.close();
+        assertEquals("Unexpected reserved bytes after release", 40, budget.getReservedBytes());
+        second.close();
+
+        // a single reservation is always granted even if it exceeds the budget
+        try (Reservation large = budget.tryReserve(500)) {
+            assertNotNull("Single large reservation not granted", large);
+            try (Reservation forced = budget.forceReserve(10)) {
+                assertEquals("Unexpected reserved bytes", 510, budget.getReservedBytes());
+            }
+        }
+    }
+
+    /**
+     * Checks that a waiting reservation is granted as soon as memory is released.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 10000)
+    public void testWaitForRelease() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100, () -> false);
+        Reservation first = budget.tryReserve(100);
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                // ignore
+            }
+            first.close();
+        });
+        releaser.start();
+        Reservation second = budget.reserve(100, 5000);
+        assertNotNull("Reservation not granted after release", second);
+        releaser.join();
+    }
+
+    /**
+     * Checks that a reservation exceeding the budget is granted after the maximum wait time and that waiting is
+     * aborted if the execution is canceled.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 10000)
+    public void testOvercommitAfterWait() throws Exception {
+        MemoryBudget budget = new MemoryBudget(100, () -> false);
+        DefaultNodeProgressMonitor progress = new DefaultNodeProgressMonitor();
+        try (Reservation first = budget.tryReserve(100)) {
+            try (Reservation second = budget.reserveOrOvercommit(50, progress, 200)) {
+                assertEquals("Unexpected reserved bytes after overcommit", 150, budget.getReservedBytes());
+            }
+            progress.setExecuteCanceled();
+            try {
+                budget.reserveOrOvercommit(50, progress, 5000);
+                fail("Waiting for memory not canceled");
+            } catch (CanceledExecutionException e) {
+                // expected
+            }
+        }
+        assertEquals("Unexpected reserved bytes after release", 0, budget.getReservedBytes());
+    }
+
+    /**
+     * Checks that only a first reservation is granted while memory is low.
+     */
+    @Test
+    public void testLowMemory() {
+        AtomicBoolean memoryLow = new AtomicBoolean(true);
+        MemoryBudget budget = new MemoryBudget(100, memoryLow::get);
+        assertNotNull("First reservation not granted", budget.tryReserve(10));
+        assertNull("Reservation granted while memory is low", budget.tryReserve(10));
+        memoryLow.set(false);
+        assertNotNull("Reservation not granted after memory is available again", budget.tryReserve(10));
+    }
+
+    /**
+     * Checks the learned estimates.
+     */
+    @Test
+    public void testEstimates() {
+        MemoryBudget budget = new MemoryBudget(4000, () -> false);
+        assertEquals("Unexpected default estimate", MemoryBudget.DEFAULT_ESTIMATE, budget.getEstimate("a"));
+        budget.recordUsage("a", 1000);
+        assertEquals("Unexpected first estimate", 1000, budget.getEstimate("a"));
+        budget.recordUsage("a", 2000);
+        assertEquals("Unexpected smoothed estimate", 1500, budget.getEstimate("a"));
+        budget.recordUsage("a", -5000);
+        assertEquals("Negative usage not treated as zero", 750, budget.getEstimate("a"));
+        budget.recordUsage("b", 10000);
+        assertEquals("Usage not limited to budget", 4000, budget.getEstimate("b"));
+    }
+
+    /**
+     * Checks that reservations are only exclusive if no other reservation was held while they were held.
+     */
+    @Test
+    public void testExclusiveReservations() {
+        MemoryBudget budget = new MemoryBudget(100, () -> false);
+        Reservation alone = budget.tryReserve(10);
+        alone.close();
+        assertTrue("Single reservation not exclusive", alone.isExclusive());
+
+        Reservation first = budget.tryReserve(10);
+        Reservation second = budget.tryReserve(10);
+        first.close();
+        second.close();
+        assertFalse("Reservation overlapping with later one exclusive", first.isExclusive());
+        assertFalse("Reservation overlapping with earlier one exclusive", second.isExclusive());
+
+        Reservation third = budget.tryReserve(10);
+        assertFalse("Reservation exclusive before release", third.isExclusive());
+        third.close();
+        assertTrue("Reservation after release of others not exclusive", third.isExclusive());
+    }
+}
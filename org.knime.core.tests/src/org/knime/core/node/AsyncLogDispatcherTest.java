@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.Test;
+
+/**
+ * Tests {@link AsyncLogDispatcher}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AsyncLogDispatcherTest {
+
+    /**
+     * Logs from several threads into a small buffer (so that producers have to wait for the dispatcher) and checks
+     * that all events arrive, in order per thread and with the name of the logging thread.
+     *
+     * @throws Exception if anything goes wrong
+     */
+    @Test(timeout = 30000L)
+    public void testConcurrentLogging() throws Exception {
+        final List<LoggingEvent> events = Collections.synchronizedList(new ArrayList<>());
+        final Logger logger = Logger.getLogger(AsyncLogDispatcherTest.class.getName() + ".concurrent");
+        logger.setAdditivity(false);
+        logger.setLevel(Level.ALL);
+        logger.addAppender(new AppenderSkeleton() {
+            @Override
+            protected void append(final LoggingEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public boolean requiresLayout() {
+                return false;
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        final AsyncLogDispatcher dispatcher = new AsyncLogDispatcher(16);
+        final int threadCount = 4;
+        final int eventsPerThread = 5000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount, r -> new Thread(r, "Producer"));
+        for (int t = 0; t < threadCount; t++) {
+            final int thread = t;
+            executor.submit(() -> {
+                for (int i = 0; i < eventsPerThread; i++) {
+                    dispatcher.log(logger, Level.INFO, thread + ":" + i, null);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(20, TimeUnit.SECONDS));
+        dispatcher.flush();
+        assertEquals(0, dispatcher.getPendingCount());
+        assertEquals(threadCount * eventsPerThread, events.size());
+        final int[] next = new int[threadCount];
+        for (LoggingEvent e : events) {
+            assertEquals("Producer", e.getThreadName());
+            final String[] parts = e.getRenderedMessage().split(":");
+            final int thread = Integer.parseInt(parts[0]);
+            assertEquals("Event order of thread " + thread, next[thread]++, Integer.parseInt(parts[1]));
+        }
+    }
+
+    /** Capacity must be a power of two. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new AsyncLogDispatcher(100);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.NodeExecutionPriority;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Tests the order in which {@link PrioritizedJobQueue} runs its jobs.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PrioritizedJobQueueTest {
+
+    private ThreadPool m_pool;
+
+    private final List<String> m_runOrder = Collections.synchronizedList(new ArrayList<String>());
+
+    /** Creates the pool. */
+    @Before
+    public void setUp() {
+        m_pool = new ThreadPool(1);
+    }
+
+    /** Shuts down the pool. */
+    @After
+    public void tearDown() {
+        m_pool.shutdown();
+    }
+
+    private Runnable record(final String name) {
+        return () -> m_runOrder.add(name);
+    }
+
+    /** Runnable that blocks until the latch is released. */
+    private static Runnable block(final CountDownLatch started, final CountDownLatch release) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    /**
+     * Jobs queued while the only thread is busy run by descending urgency; jobs of equal priority in submission
+     * order.
+     *
+     * @throws Exception ...
+     */
+    @Test(timeout = 10000)
+    public void testOrderByPriority() throws Exception {
+        PrioritizedJobQueue queue = new PrioritizedJobQueue(m_pool, Collections.<String> emptySet(), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        queue.submit(block(started, release), NodeExecutionPriority.NONE, false);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        List<Future<?>> futures = new ArrayList<>();
+        futures.add(queue.submit(record("short"), new NodeExecutionPriority(100, 1, 0), false));
+        futures.add(queue.submit(record("long"), new NodeExecutionPriority(300, 3, 1), false));
+        futures.add(queue.submit(record("medium-1"), new NodeExecutionPriority(200, 2, 1), false));
+        futures.add(queue.submit(record("medium-2"), new NodeExecutionPriority(200, 2, 1), false));
+        futures.add(queue.submit(record("medium-many-successors"), new NodeExecutionPriority(200, 2, 4), false));
+        futures.add(queue.submit(record("none"), NodeExecutionPriority.NONE, false));
+        release.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        assertEquals(Arrays.asList("long", "medium-many-successors", "medium-1", "medium-2", "short", "none"),
+            m_runOrder);
+    }
+
+    /**
+     * A memory heavy job must not start while the maximum number of them is running, even if it's more urgent; light
+     * jobs overtake it in the meantime.
+     *
+     * @throws Exception ...
+     */
+    @Test(timeout = 10000)
+    public void testMemoryHeavyJobsAreLimited() throws Exception {
+        m_pool.setMaxThreads(3);
+        PrioritizedJobQueue queue = new PrioritizedJobQueue(m_pool, Collections.<String> emptySet(), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> heavy1 = queue.submit(block(started, release), new NodeExecutionPriority(300, 1, 0), true);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<?> heavy2 = queue.submit(record("heavy"), new NodeExecutionPriority(200, 1, 0), true);
+        Future<?> light = queue.submit(record("light"), new NodeExecutionPriority(100, 1, 0), false);
+        light.get(5, TimeUnit.SECONDS);
+        assertFalse("Memory heavy job started while the maximum is running", heavy2.isDone());
+
+        release.countDown();
+        heavy1.get(5, TimeUnit.SECONDS);
+        heavy2.get(5, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList("light", "heavy"), m_runOrder);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.streamable.RowOutput.OutputClosedException;
+
+/**
+ * Tests the row exchange between {@link StreamingRowOutput} and {@link StreamingRowInput}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StreamingRowOutputTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec());
+
+    private static DataRow createRow(final int i) {
+        return new DefaultRow(RowKey.createRowKey((long)i), new DataCell[]{new IntCell(i)});
+    }
+
+    /** Counts the rows of an input, optionally closing it after a given number of rows. */
+    private static Callable<Integer> consume(final StreamingRowInput input, final int stopAfter) {
+        return () -> {
+            int count = 0;
+            while (count < stopAfter && input.poll() != null) {
+                count++;
+            }
+            input.close();
+            return count;
+        };
+    }
+
+    /** Producer pushes more rows than the queues can hold, one consumer stops early, the other reads all rows.
+     * @throws Exception ... */
+    @Test(timeout = 20000)
+    public void testFanOutWithEarlyClose() throws Exception {
+        final int rowCount = 10000;
+        StreamingRowInput all = new StreamingRowInput(SPEC, 16);
+        StreamingRowInput some = new StreamingRowInput(SPEC, 16);
+        StreamingRowOutput output = new StreamingRowOutput(SPEC, Arrays.asList(all, some), false, null);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> allCount = executor.submit(consume(all, Integer.MAX_VALUE));
+            Future<Integer> someCount = executor.submit(consume(some, 100));
+            for (int i = 0; i < rowCount; i++) {
+                output.push(createRow(i));
+            }
+            output.close();
+            assertEquals("Rows read by full consumer", rowCount, allCount.get().intValue());
+            assertEquals("Rows read by partial consumer", 100, someCount.get().intValue());
+            assertNull("Closed input must not return rows", some.poll());
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /** Push must fail once all consumers have closed their input.
+     * @throws Exception ... */
+    @Test(timeout = 20000)
+    public void testAllConsumersClosed() throws Exception {
+        StreamingRowInput input = new StreamingRowInput(SPEC, 4);
+        StreamingRowOutput output = new StreamingRowOutput(SPEC, Collections.singletonList(input), false, null);
+        output.push(createRow(0));
+        assertEquals(createRow(0).getKey(), input.poll().getKey());
+        input.close();
+        try {
+            output.push(createRow(1));
+            fail("Expected " + OutputClosedException.class.getSimpleName());
+        } catch (OutputClosedException e) {
+            // expected
+        }
+    }
+
+}
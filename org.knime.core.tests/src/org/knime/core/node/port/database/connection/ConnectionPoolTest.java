@@ -0,0 +1,223 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.knime.core.node.port.database.connection.ConnectionPool.ConnectionCreator;
+import org.knime.core.node.port.database.connection.ConnectionPool.Lease;
+
+/**
+ * Tests {@link ConnectionPool}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ConnectionPoolTest {
+
+    private final AtomicInteger m_openConnections = new AtomicInteger();
+
+    private final ConnectionCreator m_creator = () -> (Connection)Proxy.newProxyInstance(
+        getClass().getClassLoader(), new Class<?>[]{Connection.class}, new InvocationHandler() {
+            private boolean m_closed;
+
+            {
+                m_openConnections.incrementAndGet();
+            }
+
+            @Override
+            public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!m_closed) {
+                            m_closed = true;
+                            m_openConnections.decrementAndGet();
+                        }
+                        return null;
+                    case "isClosed":
+                        return m_closed;
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        return null;
+                }
+            }
+        });
+
+    /**
+     * Checks that leases are exclusive, reentrant within a thread and that released connections are re-used.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testBorrowAndRelease() throws Exception {
+        ConnectionPool pool = new ConnectionPool("test", 0, 2, 0, 0);
+        try (Lease l1 = pool.borrow(m_creator, c -> true)) {
+            try (Lease l2 = pool.borrow(m_creator, c -> true)) {
+                assertSame("Reentrant borrow must return the same connection", l1.getConnection(),
+                    l2.getConnection());
+            }
+            assertEquals(1, pool.getActiveCount());
+
+            Connection other = Executors.newSingleThreadExecutor().submit(() -> {
+                try (Lease l3 = pool.borrow(m_creator, c -> true)) {
+                    return l3.getConnection();
+                }
+            }).get();
+            assertNotSame("Other thread must get its own connection", l1.getConnection(), other);
+        }
+        assertEquals(0, pool.getActiveCount());
+        assertEquals(2, pool.getIdleCount());
+        assertEquals(2, m_openConnections.get());
+        assertEquals(2, pool.getBorrowCount());
+        pool.close();
+        assertEquals(0, m_openConnections.get());
+    }
+
+    /**
+     * Checks that threads wait if all connections are in use and that invalid idle connections are replaced.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testBoundedAndValidated() throws Exception {
+        final ConnectionPool pool = new ConnectionPool("test", 0, 1, 0, 0);
+        final CountDownLatch borrowed = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<?> holder = executor.submit(() -> {
+            try (Lease l = pool.borrow(m_creator, c -> true)) {
+                borrowed.countDown();
+                release.await();
+            }
+            return null;
+        });
+        assertTrue(borrowed.await(10, TimeUnit.SECONDS));
+        Future<Connection> waiter = Executors.newSingleThreadExecutor().submit(() -> {
+            // the idle connection is rejected and replaced by a new one
+            try (Lease l = pool.borrow(m_creator, c -> false)) {
+                return l.getConnection();
+            }
+        });
+        Thread.sleep(100);
+        assertFalse("Borrow must block while the only connection is in use", waiter.isDone());
+        release.countDown();
+        holder.get();
+        Connection c = waiter.get(10, TimeUnit.SECONDS);
+        assertFalse(c.isClosed());
+        assertEquals(1, m_openConnections.get());
+        assertEquals(1, pool.getSize());
+        executor.shutdown();
+        pool.close();
+    }
+
+    /**
+     * Checks that the shared connection is kept separate from the borrowable connections: it is never lent out, it is
+     * not returned while a connection is borrowed and it doesn't count towards the maximum size.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSharedConnectionSeparate() throws Exception {
+        ConnectionPool pool = new ConnectionPool("test", 0, 1, 0, 0);
+        Connection shared = pool.getSharedConnection(m_creator, c -> true);
+        try (Lease lease = pool.borrow(m_creator, c -> true)) {
+            assertNotSame("Shared connection must not be borrowed", shared, lease.getConnection());
+            assertSame("Shared connection must not change while a connection is borrowed", shared,
+                pool.getSharedConnection(m_creator, c -> true));
+        }
+        assertEquals(1, pool.getSize());
+        assertEquals(2, m_openConnections.get());
+
+        Connection replaced = pool.getSharedConnection(m_creator, c -> false);
+        assertNotSame("Invalid shared connection must be replaced", shared, replaced);
+        assertTrue(shared.isClosed());
+        try (Lease lease = pool.borrow(m_creator, c -> true)) {
+            assertNotSame("Shared connection must not be borrowed", replaced, lease.getConnection());
+        }
+        pool.close();
+        assertEquals(0, m_openConnections.get());
+    }
+
+    /**
+     * Checks that idle connections beyond the minimum size are evicted.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testIdleEviction() throws Exception {
+        ConnectionPool pool = new ConnectionPool("test", 1, 3, 1, 0);
+        Lease l1 = pool.borrow(m_creator, c -> true);
+        Lease l2 = Executors.newSingleThreadExecutor().submit(() -> pool.borrow(m_creator, c -> true)).get();
+        l1.close();
+        l2.close();
+        assertEquals(2, pool.getIdleCount());
+        Thread.sleep(20);
+        pool.maintain();
+        assertEquals(1, pool.getIdleCount());
+        assertEquals(1, m_openConnections.get());
+        pool.close();
+    }
+}
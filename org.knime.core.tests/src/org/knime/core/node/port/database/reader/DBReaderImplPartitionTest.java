@@ -0,0 +1,114 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.data.RowKey;
+
+/**
+ * Tests the partitioning of queries in {@link DBReaderImpl}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBReaderImplPartitionTest {
+
+    /** Checks the bounds for integer, decimal and date ranges. */
+    @Test
+    public void testSplitRange() {
+        assertArrayEquals(new Object[]{1, 26L, 51L, 76L, 100}, DBReaderImpl.splitRange(1, 100, 4));
+        assertArrayEquals(new Object[]{new BigDecimal("1.00"), new BigDecimal("1.34"), new BigDecimal("1.67"),
+            new BigDecimal("2.00")}, DBReaderImpl.splitRange(new BigDecimal("1.00"), new BigDecimal("2.00"), 3));
+        assertArrayEquals(new Object[]{new Timestamp(0), new Timestamp(43200000L), new Timestamp(86400000L)},
+            DBReaderImpl.splitRange(new Timestamp(0), new Timestamp(86400000L), 2));
+    }
+
+    /** Checks that empty partitions are skipped and unsplittable ranges are rejected. */
+    @Test
+    public void testSmallRanges() {
+        assertArrayEquals(new Object[]{1L, 2L, 3L}, DBReaderImpl.splitRange(1L, 3L, 8));
+        assertNull(DBReaderImpl.splitRange(5, 5, 4));
+        assertNull(DBReaderImpl.splitRange(null, 5, 4));
+        assertNull(DBReaderImpl.splitRange("a", "z", 4));
+        assertNull(DBReaderImpl.splitRange(Double.NaN, 1.0, 4));
+    }
+
+    /** Queries with statements before the select statement (which may have side effects) are not partitioned. */
+    @Test
+    public void testPartitionableQuery() {
+        assertEquals("SELECT * FROM t", DBReaderImpl.getPartitionableQuery("SELECT * FROM t"));
+        assertNull(DBReaderImpl.getPartitionableQuery(
+            "CREATE TEMPORARY TABLE tmp AS SELECT * FROM t" + DBReader.SQL_QUERY_SEPARATOR + "SELECT * FROM tmp"));
+        assertNull(DBReaderImpl.getPartitionableQuery(
+            "INSERT INTO log VALUES (1)" + DBReader.SQL_QUERY_SEPARATOR + "SELECT * FROM t"));
+        // a semicolon without line break does not separate statements
+        assertEquals("SELECT ';' FROM t", DBReaderImpl.getPartitionableQuery("SELECT ';' FROM t"));
+    }
+
+    /** Row keys of partitions are unique across partitions and don't clash with keys of sequential reads. */
+    @Test
+    public void testPartitionRowKeys() {
+        final Set<RowKey> keys = new HashSet<>();
+        for (int partition = 0; partition < 12; partition++) {
+            for (long row = 0; row < 120; row++) {
+                final RowKey key = DBReaderImpl.createPartitionRowKey(partition, row);
+                assertTrue("Duplicate key " + key, keys.add(key));
+                assertTrue("Clash with sequential key " + key, !key.equals(RowKey.createRowKey(row)));
+            }
+        }
+    }
+}
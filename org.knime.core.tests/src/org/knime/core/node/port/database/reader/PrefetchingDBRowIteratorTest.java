@@ -0,0 +1,285 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Types;
+
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.blob.BinaryObjectCellFactory;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+
+/**
+ * Tests {@link PrefetchingDBRowIterator} against {@link DBRowIteratorImpl} on a fake result set.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PrefetchingDBRowIteratorTest {
+
+    private static final DataType[] TYPES = new DataType[]{BooleanCell.TYPE, IntCell.TYPE, IntCell.TYPE, IntCell.TYPE,
+        LongCell.TYPE, DoubleCell.TYPE, DoubleCell.TYPE, StringCell.TYPE, StringCell.TYPE};
+
+    private static final int[] DB_TYPES = new int[]{Types.BIT, Types.TINYINT, Types.SMALLINT, Types.INTEGER,
+        Types.BIGINT, Types.REAL, Types.DOUBLE, Types.VARCHAR, Types.NVARCHAR};
+
+    /** More than two batches, the last one incomplete. */
+    private static final int ROW_COUNT = 2 * PrefetchingDBRowIterator.DEF_BATCH_SIZE + 123;
+
+    private static final DataTableSpec SPEC = createSpec();
+
+    private static DataTableSpec createSpec() {
+        DataColumnSpec[] specs = new DataColumnSpec[TYPES.length];
+        for (int c = 0; c < TYPES.length; c++) {
+            specs[c] = new DataColumnSpecCreator("col" + c, TYPES[c]).createSpec();
+        }
+        return new DataTableSpec(specs);
+    }
+
+    /** The value of a cell in the fake result set, <code>null</code> for missing values. */
+    private static Object value(final int row, final int column) {
+        if ((row + column) % 7 == 0) {
+            return null;
+        }
+        switch (column) {
+            case 0:
+                return row % 2 == 0;
+            case 1:
+                return (byte)(row % 100);
+            case 2:
+                return (short)row;
+            case 3:
+                return row * 3;
+            case 4:
+                return row * 1000000000L;
+            case 5:
+                return row + 0.5f;
+            case 6:
+                return row / 3.0;
+            case 7:
+                return "s" + row;
+            default:
+                return "nä" + row;
+        }
+    }
+
+    /**
+     * The prefetched rows, which are read in batches of primitive arrays, equal the rows read directly, including
+     * the missing values.
+     */
+    @Test
+    public void testSameRowsAsDirectIteration() {
+        FakeResult expectedResult = new FakeResult(ROW_COUNT);
+        RowIterator expectedIt = new DBRowIteratorImpl(SPEC, new DatabaseConnectionSettings(),
+            new BinaryObjectCellFactory(), expectedResult.create(), false, 0);
+        FakeResult actualResult = new FakeResult(ROW_COUNT);
+        PrefetchingDBRowIterator actualIt = new PrefetchingDBRowIterator(SPEC, new DatabaseConnectionSettings(),
+            new BinaryObjectCellFactory(), actualResult.create(), false, 0);
+        int row = 0;
+        int missingCount = 0;
+        while (expectedIt.hasNext()) {
+            assertTrue("Too few rows", actualIt.hasNext());
+            DataRow expected = expectedIt.next();
+            DataRow actual = actualIt.next();
+            assertEquals("Row key at " + row, expected.getKey(), actual.getKey());
+            for (int c = 0; c < TYPES.length; c++) {
+                assertEquals("Cell " + c + " at row " + row, expected.getCell(c), actual.getCell(c));
+                assertEquals("Type of cell " + c + " at row " + row, expected.getCell(c).getType(),
+                    actual.getCell(c).getType());
+                if (actual.getCell(c).isMissing()) {
+                    assertTrue("Unexpected missing value", value(row, c) == null);
+                    missingCount++;
+                }
+            }
+            row++;
+        }
+        assertFalse("Too many rows", actualIt.hasNext());
+        assertEquals(ROW_COUNT, row);
+        assertTrue("Missing values expected", missingCount > ROW_COUNT);
+        assertTrue("Result set not closed", actualResult.m_closed);
+        actualIt.close();
+    }
+
+    /**
+     * Closing the iterator before the result is consumed stops the fetching thread, which must not access the result
+     * set after close returns.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEarlyClose() throws Exception {
+        FakeResult result = new FakeResult(Integer.MAX_VALUE);
+        PrefetchingDBRowIterator it = new PrefetchingDBRowIterator(SPEC, new DatabaseConnectionSettings(),
+            new BinaryObjectCellFactory(), result.create(), false, 0);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(it.hasNext());
+            it.next();
+        }
+        it.close();
+        result.m_isStatementClosed = true;
+        assertTrue("Result set not closed", result.m_closed);
+        assertFalse("No rows expected after close", it.hasNext());
+        Thread.sleep(200);
+        assertFalse("Result set accessed after close", result.m_isAccessedAfterClose);
+        // closing twice is fine
+        it.close();
+    }
+
+    /** Closing an iterator that was never used closes the result set. */
+    @Test
+    public void testCloseUnused() {
+        FakeResult result = new FakeResult(10);
+        PrefetchingDBRowIterator it = new PrefetchingDBRowIterator(SPEC, new DatabaseConnectionSettings(),
+            new BinaryObjectCellFactory(), result.create(), false, 0);
+        it.close();
+        assertTrue("Result set not closed", result.m_closed);
+        assertFalse(it.hasNext());
+    }
+
+    /** Result set returning {@link PrefetchingDBRowIteratorTest#value(int, int)}. */
+    private static final class FakeResult implements InvocationHandler {
+
+        private final int m_rowCount;
+
+        private int m_row = -1;
+
+        private Object m_lastValue;
+
+        private volatile boolean m_closed;
+
+        private volatile boolean m_isStatementClosed;
+
+        private volatile boolean m_isAccessedAfterClose;
+
+        FakeResult(final int rowCount) {
+            m_rowCount = rowCount;
+        }
+
+        ResultSet create() {
+            return (ResultSet)Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                this);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (m_isStatementClosed) {
+                m_isAccessedAfterClose = true;
+            }
+            switch (method.getName()) {
+                case "next":
+                    return !m_closed && ++m_row < m_rowCount;
+                case "close":
+                    m_closed = true;
+                    return null;
+                case "isClosed":
+                    return m_closed;
+                case "getRow":
+                    return m_row + 1;
+                case "wasNull":
+                    return m_lastValue == null;
+                case "getMetaData":
+                    return Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[]{ResultSetMetaData.class}, (p, m, a) -> {
+                            if ("getColumnType".equals(m.getName())) {
+                                return DB_TYPES[(Integer)a[0] - 1];
+                            } else if ("getColumnCount".equals(m.getName())) {
+                                return DB_TYPES.length;
+                            }
+                            throw new UnsupportedOperationException(m.getName());
+                        });
+                default:
+                    if (method.getName().startsWith("get") && args != null && args[0] instanceof Integer) {
+                        m_lastValue = value(m_row, (Integer)args[0] - 1);
+                        return convert(m_lastValue, method.getReturnType());
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+
+        private static Object convert(final Object value, final Class<?> type) {
+            if (type == boolean.class) {
+                return value != null && (Boolean)value;
+            } else if (type == String.class || type == Object.class) {
+                return value == null ? null : value.toString();
+            }
+            Number n = value == null ? 0 : (Number)value;
+            if (type == byte.class) {
+                return n.byteValue();
+            } else if (type == short.class) {
+                return n.shortValue();
+            } else if (type == int.class) {
+                return n.intValue();
+            } else if (type == long.class) {
+                return n.longValue();
+            } else if (type == float.class) {
+                return n.floatValue();
+            } else if (type == double.class) {
+                return n.doubleValue();
+            }
+            throw new UnsupportedOperationException(type.getName());
+        }
+    }
+}
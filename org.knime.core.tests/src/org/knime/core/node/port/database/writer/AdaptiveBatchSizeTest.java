@@ -0,0 +1,86 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link AdaptiveBatchSize}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AdaptiveBatchSizeTest {
+
+    /** Checks that fast batches grow up to the maximum and slow batches shrink. */
+    @Test
+    public void testAdapt() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(100, 500, true);
+        size.update(100, 0);
+        assertEquals(200, size.get());
+        size.update(200, 0);
+        size.update(400, 0);
+        assertEquals(500, size.get());
+        size.update(500, AdaptiveBatchSize.TARGET_NANOS);
+        assertEquals("Batch within target range must not change", 500, size.get());
+        size.update(500, 3 * AdaptiveBatchSize.TARGET_NANOS);
+        assertEquals(250, size.get());
+        size.update(10, 10 * AdaptiveBatchSize.TARGET_NANOS);
+        assertEquals("Incomplete batches must be ignored", 250, size.get());
+    }
+
+    /** Checks that the batch size is fixed if adaption is disabled. */
+    @Test
+    public void testFixed() {
+        AdaptiveBatchSize size = new AdaptiveBatchSize(100, AdaptiveBatchSize.MAX_BATCH_SIZE, false);
+        size.update(100, 0);
+        assertEquals(100, size.get());
+        assertEquals(1, new AdaptiveBatchSize(0, 10, false).get());
+    }
+}
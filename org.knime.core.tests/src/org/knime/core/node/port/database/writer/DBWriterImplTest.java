@@ -0,0 +1,184 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.node.port.database.SQLiteUtility;
+import org.knime.core.node.port.database.StatementManipulator;
+
+/**
+ * Tests the multi-row INSERT support of {@link DBWriterImpl}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class DBWriterImplTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+
+    /** Checks the generated multi-row INSERT statement and the row limits. */
+    @Test
+    public void testInsertRowsStatement() {
+        StatementManipulator manipulator = new StatementManipulator();
+        assertEquals("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?)",
+            manipulator.insertRows("t", "(a, b)", "(?, ?)", 3));
+        assertEquals("Multi-row INSERT must be disabled by default", 0, manipulator.getMaxInsertRows(2));
+
+        StatementManipulator sqlite = new SQLiteUtility().getStatementManipulator();
+        assertEquals("Row limit", 500, sqlite.getMaxInsertRows(1));
+        assertEquals("Parameter limit", 333, sqlite.getMaxInsertRows(3));
+        assertEquals("Parameter limit", 1, sqlite.getMaxInsertRows(999));
+    }
+
+    /**
+     * Checks that consecutive rows are set at consecutive parameter indices, including the nulls for database columns
+     * missing in the input.
+     *
+     * @throws SQLException not expected
+     */
+    @Test
+    public void testFillRow() throws SQLException {
+        List<String> calls = new ArrayList<>();
+        PreparedStatement stmt = recordingStatement(calls);
+        TestWriter writer = new TestWriter();
+        // database columns: int, <not in input>, string
+        int[] mapping = new int[]{0, -1, 1};
+        DataRow row1 = new DefaultRow(RowKey.createRowKey(0L), new IntCell(1), new StringCell("a"));
+        DataRow row2 = new DefaultRow(RowKey.createRowKey(1L), DataType.getMissingCell(), new StringCell("b"));
+
+        int next = writer.fillRow(stmt, 1, row1, mapping, true);
+        assertEquals(4, next);
+        next = writer.fillRow(stmt, next, row2, mapping, true);
+        assertEquals(7, next);
+        assertEquals(Arrays.asList("setInt(1, 1)", "setNull(2, " + Types.NULL + ")", "setString(3, a)",
+            "setNull(4, " + Types.INTEGER + ")", "setNull(5, " + Types.NULL + ")", "setString(6, b)"), calls);
+
+        calls.clear();
+        next = writer.fillRow(stmt, 1, row1, mapping, false);
+        next = writer.fillRow(stmt, next, row2, mapping, false);
+        assertEquals(5, next);
+        assertEquals(Arrays.asList("setInt(1, 1)", "setString(2, a)", "setNull(3, " + Types.INTEGER + ")",
+            "setString(4, b)"), calls);
+    }
+
+    /** Multi-row INSERT statements are not used if a subclass relies on the index passed to fillStatement. */
+    @Test
+    public void testMultiRowInsertDisabledForOverriddenFillStatement() {
+        assertTrue(new TestWriter().isMultiRowInsertSupported());
+        assertFalse(new TestWriter() {
+            @Override
+            protected void fillStatement(final PreparedStatement stmt, final int dbIdx, final DataColumnSpec cspec,
+                final DataCell cell, final TimeZone tz, final Map<Integer, Integer> columnTypes) throws SQLException {
+                super.fillStatement(stmt, dbIdx, cspec, cell, tz, columnTypes);
+            }
+        }.isMultiRowInsertSupported());
+    }
+
+    /** Creates a statement that records the parameters set. */
+    private static PreparedStatement recordingStatement(final List<String> calls) {
+        return (PreparedStatement)Proxy.newProxyInstance(DBWriterImplTest.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                calls.add(method.getName() + "(" + args[0] + ", " + args[1] + ")");
+                return null;
+            });
+    }
+
+    /** Gives access to the value setters and to {@link DBWriterImpl#fillRow}. */
+    private static class TestWriter extends DBWriterImpl {
+
+        TestWriter() {
+            super(new DatabaseConnectionSettings());
+        }
+
+        int fillRow(final PreparedStatement stmt, final int firstDbIdx, final DataRow row, final int[] mapping,
+            final boolean insertNullForMissingCols) throws SQLException {
+            ValueSetter[] setters = new ValueSetter[mapping.length];
+            int dbIdx = 0;
+            for (int i = 0; i < mapping.length; i++) {
+                if (mapping[i] >= 0 || insertNullForMissingCols) {
+                    dbIdx++;
+                }
+                if (mapping[i] >= 0) {
+                    setters[i] = createValueSetter(SPEC.getColumnSpec(mapping[i]), dbIdx, TimeZone.getDefault(), null);
+                }
+            }
+            return DBWriterImpl.fillRow(stmt, firstDbIdx, row, mapping, setters, insertNullForMissingCols);
+        }
+
+        @Override
+        public boolean isMultiRowInsertSupported() {
+            return super.isMultiRowInsertSupported();
+        }
+    }
+}
@@ -46,13 +46,21 @@
  */
 package org.knime.core.node.property.hilite;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import javax.swing.SwingUtilities;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.knime.core.data.RowKey;
@@ -340,4 +348,104 @@ public void test7() {
         assertFalse(m_hdl.isHiLit(m_c2));
         assertFalse(m_hdl.isHiLit(m_c3));
     }
+
+    /**
+     * Tests index based hiliting with two tables sharing some row keys, mixed with key based events.
+     * @throws Exception if the EDT can't be flushed
+     */
+    @Test
+    public void test8() throws Exception {
+        final RowKey c4 = new RowKey("m_c4");
+        final RowKeyIndex index12 = RowKeyIndex.create(Arrays.asList(m_c1, m_c2));
+        final RowKeyIndex index234 = RowKeyIndex.create(Arrays.asList(m_c2, m_c3, c4));
+        assertEquals(1, index234.getIndex(m_c3));
+        assertEquals(-1, index12.getIndex(m_c3));
+
+        final List<KeyEvent> events = new ArrayList<KeyEvent>();
+        m_hdl.addHiLiteListener(new MyHiLiteListener() {
+            @Override
+            public void hiLite(final KeyEvent event) {
+                events.add(event);
+            }
+        });
+        // key based hilite before the index is registered
+        m_hdl.fireHiLiteEvent(m_c3);
+        m_hdl.addRowKeyIndex(index234);
+        m_hdl.fireHiLiteEvent(index234, RowIndexBitmap.of(0, 1));
+        assertTrue(m_hdl.isHiLit(m_c2, m_c3));
+        assertTrue(m_hdl.isHiLit(index234, 0));
+        assertFalse(m_hdl.isHiLit(index234, 2));
+        m_hdl.addRowKeyIndex(index12);
+        assertArrayEquals(new int[]{1}, m_hdl.getHiLitIndices(index12).toArray());
+
+        // key based hilite of a key known to both indices, index based hilite on the other index
+        m_hdl.fireHiLiteEvent(m_c1, c4);
+        assertArrayEquals(new int[]{0, 1, 2}, m_hdl.getHiLitIndices(index234).toArray());
+        m_hdl.fireUnHiLiteEvent(index12, RowIndexBitmap.of(1));
+        assertFalse(m_hdl.isHiLit(m_c2));
+        assertFalse(m_hdl.isHiLit(index234, 0));
+        assertEquals(new HashSet<RowKey>(Arrays.asList(m_c1, m_c3, c4)), m_hdl.getHiLitKeys());
+
+        // status is retained when the index is removed
+        m_hdl.removeRowKeyIndex(index234);
+        assertTrue(m_hdl.isHiLit(m_c1, m_c3, c4));
+        m_hdl.removeRowKeyIndex(index12);
+        assertTrue(m_hdl.isHiLit(m_c1, m_c3, c4));
+        assertFalse(m_hdl.isHiLit(m_c2));
+
+        SwingUtilities.invokeAndWait(() -> { });
+        // second event contains only the delta (m_c3 was hilit before)
+        assertEquals(3, events.size());
+        assertTrue(events.get(1) instanceof IndexedKeyEvent);
+        assertEquals(Collections.singleton(m_c2), events.get(1).keys());
+        assertArrayEquals(new int[]{0}, ((IndexedKeyEvent)events.get(1)).getIndices().toArray());
+        assertEquals(new HashSet<RowKey>(Arrays.asList(m_c1, c4)), events.get(2).keys());
+    }
+
+    /**
+     * Index based events for an index that is not registered are applied by key (the index is not retained), rows
+     * out of range of the index are rejected.
+     * @throws Exception if the EDT can't be flushed
+     */
+    @Test
+    public void test9() throws Exception {
+        final RowKeyIndex index = RowKeyIndex.create(Arrays.asList(m_c1, m_c2, m_c3));
+        final List<KeyEvent> events = new ArrayList<KeyEvent>();
+        m_hdl.addHiLiteListener(new MyHiLiteListener() {
+            @Override
+            public void hiLite(final KeyEvent event) {
+                events.add(event);
+            }
+        });
+        m_hdl.fireHiLiteEvent(index, RowIndexBitmap.of(0, 2));
+        assertTrue(m_hdl.isHiLit(m_c1, m_c3));
+        assertFalse(m_hdl.isHiLit(m_c2));
+        assertTrue(m_hdl.isHiLit(index, 2));
+        assertArrayEquals(new int[]{0, 2}, m_hdl.getHiLitIndices(index).toArray());
+        m_hdl.fireUnHiLiteEvent(index, RowIndexBitmap.of(0));
+        assertFalse(m_hdl.isHiLit(m_c1));
+        assertEquals(Collections.singleton(m_c3), m_hdl.getHiLitKeys());
+
+        try {
+            m_hdl.fireHiLiteEvent(index, RowIndexBitmap.of(1, 3));
+            fail("Expected exception for row index out of range");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        m_hdl.addRowKeyIndex(index);
+        try {
+            m_hdl.fireUnHiLiteEvent(index, RowIndexBitmap.of(2, 100000));
+            fail("Expected exception for row index out of range");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        // nothing changed by the rejected events
+        assertFalse(m_hdl.isHiLit(m_c2));
+        assertTrue(m_hdl.isHiLit(index, 2));
+
+        SwingUtilities.invokeAndWait(() -> { });
+        assertEquals(1, events.size());
+        assertFalse(events.get(0) instanceof IndexedKeyEvent);
+        assertEquals(new HashSet<RowKey>(Arrays.asList(m_c1, m_c3)), events.get(0).keys());
+    }
 }   // HiLiteHandlerTest
@@ -0,0 +1,137 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.property.hilite;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link RowIndexBitmap} against {@link BitSet}, covering sparse (array) and dense (bit set) blocks.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowIndexBitmapTest {
+
+    /** Random adds and removes in sparse and dense regions. */
+    @Test
+    public void testAddRemoveContains() {
+        final Random rand = new Random(42);
+        final RowIndexBitmap bitmap = new RowIndexBitmap();
+        final BitSet reference = new BitSet();
+        for (int i = 0; i < 200000; i++) {
+            // first block gets dense, the others stay sparse
+            final int index = rand.nextBoolean() ? rand.nextInt(20000) : rand.nextInt(1000000);
+            if (rand.nextInt(4) == 0) {
+                assertEquals(reference.get(index), bitmap.remove(index));
+                reference.clear(index);
+            } else {
+                assertEquals(!reference.get(index), bitmap.add(index));
+                reference.set(index);
+            }
+        }
+        assertBitmap(reference, bitmap);
+        // remove until the dense block gets sparse again
+        for (int i = 0; i < 20000; i++) {
+            bitmap.remove(i);
+            reference.clear(i);
+        }
+        assertBitmap(reference, bitmap);
+    }
+
+    /** Bulk operations and ranges. */
+    @Test
+    public void testBulkOperations() {
+        final RowIndexBitmap a = new RowIndexBitmap();
+        a.addRange(10, 200000);
+        final BitSet refA = new BitSet();
+        refA.set(10, 200000);
+        assertBitmap(refA, a);
+
+        final RowIndexBitmap b = RowIndexBitmap.of(0, 5, 10, 65535, 65536, 150000, 300000);
+        final BitSet refB = new BitSet();
+        for (int i : b.toArray()) {
+            refB.set(i);
+        }
+
+        final RowIndexBitmap union = new RowIndexBitmap(a);
+        union.addAll(b);
+        final BitSet refUnion = (BitSet)refA.clone();
+        refUnion.or(refB);
+        assertBitmap(refUnion, union);
+
+        final RowIndexBitmap intersection = new RowIndexBitmap(a);
+        intersection.retainAll(b);
+        assertArrayEquals(new int[]{10, 65535, 65536, 150000}, intersection.toArray());
+
+        final RowIndexBitmap difference = new RowIndexBitmap(b);
+        difference.removeAll(a);
+        assertArrayEquals(new int[]{0, 5, 300000}, difference.toArray());
+
+        assertEquals(a, new RowIndexBitmap(a));
+        assertEquals(a.hashCode(), new RowIndexBitmap(a).hashCode());
+        assertFalse(a.equals(union));
+        a.clear();
+        assertTrue(a.isEmpty());
+        assertEquals(-1, a.nextSetIndex(0));
+    }
+
+    private static void assertBitmap(final BitSet reference, final RowIndexBitmap bitmap) {
+        assertEquals(reference.cardinality(), bitmap.cardinality());
+        assertArrayEquals(reference.stream().toArray(), bitmap.toArray());
+        for (int i = 0; i < reference.length() + 10; i += 7) {
+            assertEquals("Index " + i, reference.get(i), bitmap.contains(i));
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.streamable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.HashMap;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests {@link PartitionedStreamableExecutor}: the partitioned result must equal the result of serial execution,
+ * independent of whether the input can be positioned directly or needs to be split.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PartitionedStreamableExecutorTest {
+
+    private static final int ROW_COUNT = 10 * (int)PartitionedStreamableExecutor.MIN_ROWS_PER_PARTITION + 17;
+
+    private ExecutionContext m_exec;
+
+    /** Creates the execution context. */
+    @Before
+    public void setUp() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Partitioned execution on a table held in memory, which is read by row ranges.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testPartitionedEqualsSerialInMemory() throws Exception {
+        BufferedDataTable input = createInput(Integer.MAX_VALUE);
+        assertTrue("In-memory table expected to support random access", input.isRandomAccessSupported());
+        checkPartitionedEqualsSerial(input);
+    }
+
+    /**
+     * Partitioned execution on a table written to disc, which is split in a single pass if it can't be positioned
+     * directly (e.g. gzip compressed).
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testPartitionedEqualsSerialOnDisc() throws Exception {
+        checkPartitionedEqualsSerial(createInput(0));
+    }
+
+    /**
+     * A node not providing the output spec fails with a clear message.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMissingOutputSpec() throws Exception {
+        BufferedDataTable input = createInput(Integer.MAX_VALUE);
+        try {
+            new PartitionedStreamableExecutor(4).execute(new AppendingNodeModel(true), new PortObject[]{input}, m_exec);
+            fail("Expected IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("table spec for output 0"));
+        }
+    }
+
+    private void checkPartitionedEqualsSerial(final BufferedDataTable input) throws Exception {
+        AppendingNodeModel model = new AppendingNodeModel(false);
+        assertTrue(PartitionedStreamableExecutor.isPartitionable(model));
+        BufferedDataTable serial = model.executeSerial(input, m_exec);
+        for (int partitionCount : new int[]{1, 3, 8}) {
+            PortObject[] result =
+                new PartitionedStreamableExecutor(partitionCount).execute(model, new PortObject[]{input}, m_exec);
+            BufferedDataTable partitioned = (BufferedDataTable)result[0];
+            assertEquals("Spec for " + partitionCount + " partitions", serial.getDataTableSpec(),
+                partitioned.getDataTableSpec());
+            assertEquals("Row count for " + partitionCount + " partitions", serial.size(), partitioned.size());
+            try (CloseableRowIterator expIt = serial.iterator(); CloseableRowIterator actIt = partitioned.iterator()) {
+                long index = 0;
+                while (expIt.hasNext()) {
+                    assertTrue("Too few rows for " + partitionCount + " partitions", actIt.hasNext());
+                    DataRow expected = expIt.next();
+                    DataRow actual = actIt.next();
+                    assertEquals("Row key at " + index, expected.getKey(), actual.getKey());
+                    for (int c = 0; c < expected.getNumCells(); c++) {
+                        assertEquals("Cell " + c + " at row " + index, expected.getCell(c), actual.getCell(c));
+                    }
+                    index++;
+                }
+                assertFalse("Too many rows for " + partitionCount + " partitions", actIt.hasNext());
+            }
+        }
+    }
+
+    private BufferedDataTable createInput(final int maxCellsInMemory) {
+        DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("int", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("string", StringCell.TYPE).createSpec());
+        BufferedDataContainer container = m_exec.createDataContainer(spec, false, maxCellsInMemory);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            container.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i), new StringCell("Row " + i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /** Appends a column with the doubled int value, as a distributable streamable function. */
+    private static final class AppendingNodeModel extends NodeModel {
+
+        private final boolean m_isFailingSpec;
+
+        AppendingNodeModel(final boolean isFailingSpec) {
+            super(1, 1);
+            m_isFailingSpec = isFailingSpec;
+        }
+
+        private static DataTableSpec createOutSpec(final DataTableSpec inSpec) {
+            return new DataTableSpec(inSpec, new DataTableSpec(
+                new DataColumnSpecCreator("doubled", IntCell.TYPE).createSpec()));
+        }
+
+        private static DataRow compute(final DataRow row) {
+            int value = ((IntValue)row.getCell(0)).getIntValue();
+            return new DefaultRow(row.getKey(), row.getCell(0), row.getCell(1), new IntCell(2 * value));
+        }
+
+        BufferedDataTable executeSerial(final BufferedDataTable in, final ExecutionContext exec) {
+            BufferedDataContainer container = exec.createDataContainer(createOutSpec(in.getDataTableSpec()));
+            for (DataRow row : in) {
+                container.addRowToTable(compute(row));
+            }
+            container.close();
+            return container.getTable();
+        }
+
+        @Override
+        protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws InvalidSettingsException {
+            return new DataTableSpec[]{m_isFailingSpec ? null : createOutSpec(inSpecs[0])};
+        }
+
+        @Override
+        protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final ExecutionContext exec)
+            throws Exception {
+            return new BufferedDataTable[]{executeSerial(inData[0], exec)};
+        }
+
+        @Override
+        public InputPortRole[] getInputPortRoles() {
+            return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE};
+        }
+
+        @Override
+        public OutputPortRole[] getOutputPortRoles() {
+            return new OutputPortRole[]{OutputPortRole.DISTRIBUTED};
+        }
+
+        @Override
+        public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+            return new StreamableOperator() {
+                @Override
+                public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                    RowInput in = (RowInput)inputs[0];
+                    RowOutput out = (RowOutput)outputs[0];
+                    DataRow row;
+                    while ((row = in.poll()) != null) {
+                        out.push(compute(row));
+                    }
+                    in.close();
+                    out.close();
+                }
+            };
+        }
+
+        @Override
+        protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec) {
+        }
+
+        @Override
+        protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec) {
+        }
+
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+        @Override
+        protected void reset() {
+        }
+    }
+}
@@ -61,10 +61,13 @@
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DefaultRowIterator;
 import org.knime.core.data.def.DefaultTable;
 import org.knime.core.data.def.DoubleCell;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.property.hilite.KeyEvent;
@@ -269,6 +272,64 @@ public final void testGetValueAt() {
         }
     }
 
+    /**
+     * Method being tested: Object getValueAt(int, int) on a table that supports
+     * random access (paging mode), using jumps in both directions.
+     * @throws Exception not expected
+     */
+    public final void testGetValueAtPaging() throws Exception {
+        final int rowCount = 5 * TableContentPageCache.PAGE_SIZE + 17;
+        final DataTable data = DataContainer.cache(
+            new DefaultTable(createPagingData(rowCount), null, null), new ExecutionMonitor());
+        assertTrue(data instanceof ContainerTable);
+        assertTrue(((ContainerTable)data).isRandomAccessSupported());
+        checkPaging(data, rowCount);
+    }
+
+    /**
+     * Method being tested: Object getValueAt(int, int) in paging mode on a
+     * table written to disc with the default (gzip) compression, i.e. without
+     * random access.
+     * @throws Exception not expected
+     */
+    public final void testGetValueAtPagingOnFile() throws Exception {
+        final int rowCount = 5 * TableContentPageCache.PAGE_SIZE + 17;
+        final DataTable data = DataContainer.cache(
+            new DefaultTable(createPagingData(rowCount), null, null), new ExecutionMonitor(), 0);
+        assertTrue(data instanceof ContainerTable);
+        checkPaging(data, rowCount);
+    }
+
+    private static double[][] createPagingData(final int rowCount) {
+        final double[][] ddata = new double[rowCount][2];
+        for (int row = 0; row < rowCount; row++) {
+            ddata[row][0] = row;
+            ddata[row][1] = -row;
+        }
+        return ddata;
+    }
+
+    private static void checkPaging(final DataTable data, final int rowCount) {
+        final TableContentModel m = new TableContentModel(data);
+        assertTrue(m.isRowCountFinal());
+        assertEquals(rowCount, m.getRowCount());
+        final int[] rows = new int[]{rowCount - 1, 0, rowCount / 2,
+            rowCount / 2 - 1, 3 * TableContentPageCache.PAGE_SIZE - 1, 1, rowCount - 2};
+        for (int row : rows) {
+            assertEquals("Row " + row, new RowKey("Row_" + row), m.getRow(row).getKey());
+            assertEquals("Row " + row, row, ((DoubleValue)m.getValueAt(row, 0)).getDoubleValue(), 0.0);
+            assertEquals("Row " + row, -row, ((DoubleValue)m.getValueAt(row, 1)).getDoubleValue(), 0.0);
+        }
+        // scroll downwards and upwards
+        for (int row = 0; row < rowCount; row += 3) {
+            assertEquals(new RowKey("Row_" + row), m.getRow(row).getKey());
+        }
+        for (int row = rowCount - 1; row >= 0; row -= 7) {
+            assertEquals(new RowKey("Row_" + row), m.getRow(row).getKey());
+        }
+        m.setDataTable(null);
+    }
+
     /**
      * Method being tested: String getColumnName(int).
      */
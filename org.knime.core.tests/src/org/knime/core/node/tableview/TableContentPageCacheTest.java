@@ -0,0 +1,182 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.tableview;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+
+/**
+ * Tests {@link TableContentPageCache}, in particular how often the underlying table is read.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class TableContentPageCacheTest {
+
+    private static final int ROW_COUNT = 10 * TableContentPageCache.PAGE_SIZE + 17;
+
+    private final AtomicInteger m_openedIterators = new AtomicInteger();
+
+    private final AtomicLong m_rowsRead = new AtomicLong();
+
+    private TableContentPageCache m_cache;
+
+    /** Disposes the cache under test. */
+    @After
+    public void disposeCache() {
+        if (m_cache != null) {
+            m_cache.dispose();
+        }
+    }
+
+    /** Creates a cache on a table whose iterators count the rows they read (including skipped rows). */
+    private TableContentPageCache createCache(final boolean isRandomAccess) {
+        m_cache = new TableContentPageCache(rowIndex -> {
+            m_openedIterators.incrementAndGet();
+            // without random access the iterator needs to read all leading rows
+            return new CountingIterator(isRandomAccess ? rowIndex : 0, rowIndex);
+        }, () -> isRandomAccess, ROW_COUNT, 1);
+        return m_cache;
+    }
+
+    private static void assertRow(final TableContentPageCache cache, final int row) {
+        assertEquals("Row key of row " + row, RowKey.createRowKey((long)row), cache.getRow(row).getKey());
+    }
+
+    /** Scrolling down reads each row once, also without random access (e.g. gzip compressed files). */
+    @Test
+    public void testSequentialAccessWithoutRandomAccess() {
+        final TableContentPageCache cache = createCache(false);
+        for (int row = 0; row < ROW_COUNT; row++) {
+            assertRow(cache, row);
+        }
+        assertEquals("Number of opened iterators", 1, m_openedIterators.get());
+        assertEquals("Number of rows read", ROW_COUNT, m_rowsRead.get());
+    }
+
+    /** Scrolling down reads each row once with random access. */
+    @Test
+    public void testSequentialAccessWithRandomAccess() {
+        final TableContentPageCache cache = createCache(true);
+        for (int row = 0; row < ROW_COUNT; row++) {
+            assertRow(cache, row);
+        }
+        assertEquals("Number of rows read", ROW_COUNT, m_rowsRead.get());
+    }
+
+    /** Jumps in both directions only read the pages around the target rows if random access is supported. */
+    @Test
+    public void testJumpsWithRandomAccess() {
+        final TableContentPageCache cache = createCache(true);
+        final int[] rows = {ROW_COUNT - 1, 0, ROW_COUNT / 2, 3 * TableContentPageCache.PAGE_SIZE + 5, ROW_COUNT - 2};
+        for (int row : rows) {
+            assertRow(cache, row);
+        }
+        // each access loads at most its page and one prefetched page
+        assertTrue("Number of rows read: " + m_rowsRead.get(),
+            m_rowsRead.get() <= 2L * rows.length * TableContentPageCache.PAGE_SIZE);
+    }
+
+    /** Scrolling up without random access doesn't prefetch (each page would read all leading rows). */
+    @Test
+    public void testBackwardAccessWithoutRandomAccess() throws Exception {
+        final TableContentPageCache cache = createCache(false);
+        assertRow(cache, ROW_COUNT - 1);
+        assertRow(cache, ROW_COUNT - 1 - TableContentPageCache.PAGE_SIZE);
+        Thread.sleep(200); // give a (wrong) prefetch the chance to run
+        // one scan to the last page, one to the page before (last iterator is positioned after it)
+        assertEquals("Number of opened iterators", 2, m_openedIterators.get());
+        assertTrue("Number of rows read: " + m_rowsRead.get(), m_rowsRead.get() <= 2L * ROW_COUNT);
+    }
+
+    /** Rows out of range are rejected. */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfRange() {
+        createCache(true).getRow(ROW_COUNT);
+    }
+
+    /** Iterator over rows with key "Row" + index, counting the rows it reads. */
+    private final class CountingIterator extends CloseableRowIterator {
+
+        private long m_next;
+
+        CountingIterator(final long start, final long firstReturned) {
+            m_next = start;
+            while (m_next < firstReturned) {
+                next();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_next < ROW_COUNT;
+        }
+
+        @Override
+        public DataRow next() {
+            m_rowsRead.incrementAndGet();
+            final long row = m_next++;
+            return new DefaultRow(RowKey.createRowKey(row), new IntCell((int)row));
+        }
+
+        @Override
+        public void close() {
+            m_next = ROW_COUNT;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+
+/**
+ * Tests {@link NodeExecutionPriority}: ordering and the critical path computed from a workflow.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeExecutionPriorityTest extends WorkflowTestCase {
+
+    private NodeID m_source;
+
+    private NodeID m_chain1;
+
+    private NodeID m_chain2;
+
+    private NodeID m_chain3;
+
+    private NodeID m_branch;
+
+    /**
+     * Creates a workflow with a source node, followed by a chain of three nodes and a single node branch.
+     *
+     * @throws Exception ...
+     */
+    @Before
+    public void setUp() throws Exception {
+        WorkflowManager wfm =
+            WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        setManager(wfm);
+        m_source = wfm.addNode(new AdapterNodeFactory(true));
+        m_chain1 = wfm.addNode(new AdapterNodeFactory());
+        m_chain2 = wfm.addNode(new AdapterNodeFactory());
+        m_chain3 = wfm.addNode(new AdapterNodeFactory());
+        m_branch = wfm.addNode(new AdapterNodeFactory());
+        wfm.addConnection(m_source, 1, m_chain1, 1);
+        wfm.addConnection(m_chain1, 1, m_chain2, 1);
+        wfm.addConnection(m_chain2, 1, m_chain3, 1);
+        wfm.addConnection(m_source, 1, m_branch, 1);
+    }
+
+    private NodeExecutionPriority priorityOf(final NodeID id) {
+        return NodeExecutionPriority.of(findNodeContainer(id));
+    }
+
+    /** Longer critical paths come first, ties are broken by path length, then by number of successors. */
+    @Test
+    public void testCompareTo() {
+        NodeExecutionPriority longPath = new NodeExecutionPriority(300, 1, 0);
+        NodeExecutionPriority manyNodes = new NodeExecutionPriority(200, 3, 0);
+        NodeExecutionPriority fewNodes = new NodeExecutionPriority(200, 2, 0);
+        NodeExecutionPriority fewNodesManySuccessors = new NodeExecutionPriority(200, 2, 3);
+        assertTrue(longPath.compareTo(manyNodes) < 0);
+        assertTrue(manyNodes.compareTo(fewNodesManySuccessors) < 0);
+        assertTrue(fewNodesManySuccessors.compareTo(fewNodes) < 0);
+        assertTrue(fewNodes.compareTo(longPath) > 0);
+        assertEquals(0, fewNodes.compareTo(new NodeExecutionPriority(200, 2, 0)));
+        assertTrue(fewNodes.compareTo(NodeExecutionPriority.NONE) < 0);
+    }
+
+    /** The critical path of each node follows the longest downstream chain. */
+    @Test
+    public void testCriticalPath() {
+        NodeExecutionPriority source = priorityOf(m_source);
+        NodeExecutionPriority chain1 = priorityOf(m_chain1);
+        NodeExecutionPriority chain3 = priorityOf(m_chain3);
+        NodeExecutionPriority branch = priorityOf(m_branch);
+
+        assertEquals(4, source.getCriticalPathLength());
+        assertEquals(2, source.getSuccessorCount());
+        assertEquals(3, chain1.getCriticalPathLength());
+        assertEquals(1, chain1.getSuccessorCount());
+        assertEquals(1, chain3.getCriticalPathLength());
+        assertEquals(0, chain3.getSuccessorCount());
+        assertEquals(1, branch.getCriticalPathLength());
+
+        // all nodes are of the same kind, hence have the same duration estimate
+        long nodeDuration = branch.getCriticalPathDuration();
+        assertEquals(4 * nodeDuration, source.getCriticalPathDuration());
+        assertEquals(3 * nodeDuration, chain1.getCriticalPathDuration());
+        assertEquals(nodeDuration, chain3.getCriticalPathDuration());
+
+        assertTrue(source.compareTo(chain1) < 0);
+        assertTrue(chain1.compareTo(branch) < 0);
+        assertEquals(0, chain3.compareTo(branch));
+    }
+
+    /**
+     * Executed nodes don't contribute to the duration of the critical path.
+     *
+     * @throws Exception ...
+     */
+    @Test
+    public void testExecutedNodesAreFree() throws Exception {
+        executeAndWait(m_chain1);
+        checkState(m_chain1, InternalNodeContainerState.EXECUTED);
+        NodeExecutionPriority source = priorityOf(m_source);
+        NodeExecutionPriority chain2 = priorityOf(m_chain2);
+        assertEquals(4, source.getCriticalPathLength());
+        assertEquals(chain2.getCriticalPathDuration(), source.getCriticalPathDuration());
+    }
+
+    /**
+     * If another thread holds the workflow lock the graph isn't analyzed.
+     *
+     * @throws Exception ...
+     */
+    @Test(timeout = 10000)
+    public void testLockedWorkflow() throws Exception {
+        final ReentrantLock lock = getManager().getReentrantLockInstance();
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Thread t = new Thread(() -> {
+            lock.lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        }, getClass().getSimpleName() + "-Lock");
+        t.start();
+        try {
+            assertTrue(locked.await(5, TimeUnit.SECONDS));
+            assertSame(NodeExecutionPriority.NONE, priorityOf(m_source));
+        } finally {
+            release.countDown();
+            t.join();
+        }
+        assertEquals(4, priorityOf(m_source).getCriticalPathLength());
+    }
+}
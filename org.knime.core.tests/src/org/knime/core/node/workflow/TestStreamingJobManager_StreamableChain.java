@@ -0,0 +1,410 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.exec.StreamingNodeExecutionJobManagerFactory;
+import org.knime.core.node.exec.ThreadNodeExecutionJobManagerFactory;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.workflow.action.CollapseIntoMetaNodeResult;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeFactory;
+import org.knime.core.node.workflow.node.adapter.AdapterNodeModel;
+
+/**
+ * Executes a component containing a chain of streamable nodes with the streaming job manager and compares the result
+ * with the default (node by node) execution. The source produces more rows than a streamed connection buffers, so
+ * the nodes in the chain need to run concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestStreamingJobManager_StreamableChain extends WorkflowTestCase {
+
+    private static final int ROW_COUNT = 5000;
+
+    private NodeID m_component;
+
+    private NodeID m_sink;
+
+    /**
+     * Creates source -&gt; [twice -&gt; filter -&gt; negate] -&gt; sink, whereby the bracketed nodes are wrapped
+     * into a component.
+     *
+     * @throws Exception ...
+     */
+    @Before
+    public void setUp() throws Exception {
+        WorkflowManager wfm =
+            WorkflowManager.ROOT.createAndAddProject(getClass().getSimpleName(), new WorkflowCreationHelper());
+        setManager(wfm);
+        NodeID source = wfm.addNode(new SourceNodeFactory());
+        NodeID twice = wfm.addNode(new TwiceNodeFactory());
+        NodeID filter = wfm.addNode(new FilterNodeFactory());
+        NodeID negate = wfm.addNode(new NegateNodeFactory());
+        m_sink = wfm.addNode(new AdapterNodeFactory());
+        wfm.addConnection(source, 1, twice, 1);
+        wfm.addConnection(twice, 1, filter, 1);
+        wfm.addConnection(filter, 1, negate, 1);
+        wfm.addConnection(negate, 1, m_sink, 1);
+        CollapseIntoMetaNodeResult collapseResult = wfm.collapseIntoMetaNode(new NodeID[]{twice, filter, negate},
+            new WorkflowAnnotation[0], "Streamed Chain");
+        m_component = collapseResult.getCollapsedMetanodeID();
+        wfm.convertMetaNodeToSubNode(m_component);
+        checkState(m_sink, InternalNodeContainerState.CONFIGURED);
+    }
+
+    /**
+     * Executes the component once streamed, once with the default job manager and compares the output.
+     *
+     * @throws Exception ...
+     */
+    @Test(timeout = 60000L)
+    public void testStreamedEqualsDefaultExecution() throws Exception {
+        getManager().setJobManager(m_component, StreamingNodeExecutionJobManagerFactory.INSTANCE.getInstance());
+        executeAllAndWait();
+        checkState(m_sink, InternalNodeContainerState.EXECUTED);
+        List<DataRow> streamedRows = getSinkRows();
+        // the output of the first node is only consumed as a stream, hence not kept
+        assertEquals(0, getInnerOutputTable(TwiceNodeModel.class).size());
+
+        getManager().resetAndConfigureAll();
+        getManager().setJobManager(m_component, ThreadNodeExecutionJobManagerFactory.INSTANCE.getInstance());
+        executeAllAndWait();
+        checkState(m_sink, InternalNodeContainerState.EXECUTED);
+        List<DataRow> defaultRows = getSinkRows();
+        assertEquals(ROW_COUNT, getInnerOutputTable(TwiceNodeModel.class).size());
+
+        assertEquals(ROW_COUNT - (ROW_COUNT + 2) / 3, defaultRows.size());
+        assertEquals(defaultRows.size(), streamedRows.size());
+        for (int i = 0; i < defaultRows.size(); i++) {
+            DataRow expected = defaultRows.get(i);
+            DataRow actual = streamedRows.get(i);
+            assertEquals(expected.getKey(), actual.getKey());
+            assertEquals(3, actual.getNumCells());
+            int value = ((IntValue)actual.getCell(0)).getIntValue();
+            assertTrue("Row not filtered: " + actual, value % 3 != 0);
+            for (int c = 0; c < expected.getNumCells(); c++) {
+                assertEquals(expected.getCell(c), actual.getCell(c));
+            }
+            assertEquals(new IntCell(-2 * value), actual.getCell(2));
+        }
+    }
+
+    /**
+     * A component containing a node with a view is rejected by the streaming job manager, as the view content would
+     * not be retained.
+     *
+     * @throws Exception ...
+     */
+    @Test(timeout = 60000L)
+    public void testRejectNodeWithView() throws Exception {
+        addInnerNode(new ViewNodeFactory());
+        getManager().setJobManager(m_component, StreamingNodeExecutionJobManagerFactory.INSTANCE.getInstance());
+        executeAllAndWait();
+        NodeContainer component = findNodeContainer(m_component);
+        assertFalse(component.getNodeContainerState().isExecuted());
+        assertFalse(findNodeContainer(m_sink).getNodeContainerState().isExecuted());
+        String message = component.getNodeMessage().getMessage();
+        assertTrue("Unexpected message: " + message, message.contains("nodes with views"));
+    }
+
+    /**
+     * A node that creates file stores in a streamed component fails (rather than losing the file stores).
+     *
+     * @throws Exception ...
+     */
+    @Test(timeout = 60000L)
+    public void testFailNodeCreatingFileStores() throws Exception {
+        NodeID fileStoreNode = addInnerNode(new FileStoreNodeFactory());
+        getManager().setJobManager(m_component, StreamingNodeExecutionJobManagerFactory.INSTANCE.getInstance());
+        executeAllAndWait();
+        assertFalse(findNodeContainer(m_component).getNodeContainerState().isExecuted());
+        SubNodeContainer snc = getManager().getNodeContainer(m_component, SubNodeContainer.class, true);
+        NodeContainer nc = snc.getWorkflowManager().getNodeContainer(fileStoreNode);
+        assertFalse(nc.getNodeContainerState().isExecuted());
+        String message = nc.getNodeMessage().getMessage();
+        assertTrue("Unexpected message: " + message, message.contains("creating file stores"));
+    }
+
+    /** Adds a node to the component, connected to the output of the first node in the chain. */
+    private NodeID addInnerNode(final AdapterNodeFactory factory) {
+        SubNodeContainer snc = getManager().getNodeContainer(m_component, SubNodeContainer.class, true);
+        WorkflowManager inner = snc.getWorkflowManager();
+        NodeID twice = findInnerNode(TwiceNodeModel.class).getID();
+        NodeID id = inner.addNode(factory);
+        inner.addConnection(twice, 1, id, 1);
+        return id;
+    }
+
+    private NativeNodeContainer findInnerNode(final Class<? extends NodeModel> modelClass) {
+        SubNodeContainer snc = getManager().getNodeContainer(m_component, SubNodeContainer.class, true);
+        for (NodeContainer nc : snc.getWorkflowManager().getNodeContainers()) {
+            if (nc instanceof NativeNodeContainer && modelClass.isInstance(((NativeNodeContainer)nc).getNodeModel())) {
+                return (NativeNodeContainer)nc;
+            }
+        }
+        throw new AssertionError("No node with model " + modelClass.getSimpleName() + " in component");
+    }
+
+    private List<DataRow> getSinkRows() {
+        BufferedDataTable table = (BufferedDataTable)findNodeContainer(m_sink).getOutPort(1).getPortObject();
+        assertNotNull(table);
+        List<DataRow> rows = new ArrayList<>();
+        for (DataRow r : table) {
+            rows.add(r);
+        }
+        return rows;
+    }
+
+    private BufferedDataTable getInnerOutputTable(final Class<? extends NodeModel> modelClass) {
+        NativeNodeContainer nc = findInnerNode(modelClass);
+        assertTrue(nc.getNodeContainerState().isExecuted());
+        return (BufferedDataTable)nc.getOutPort(1).getPortObject();
+    }
+
+    /** Creates {@link #ROW_COUNT} rows with a single int column. */
+    public static final class SourceNodeFactory extends AdapterNodeFactory {
+
+        private static final DataTableSpec SPEC =
+            new DataTableSpec(new DataColumnSpecCreator("value", IntCell.TYPE).createSpec());
+
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(0, 1) {
+                @Override
+                protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) {
+                    return new DataTableSpec[]{SPEC};
+                }
+
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    BufferedDataContainer cnt = exec.createDataContainer(SPEC);
+                    for (int i = 0; i < ROW_COUNT; i++) {
+                        cnt.addRowToTable(new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i)));
+                    }
+                    cnt.close();
+                    return new BufferedDataTable[]{cnt.getTable()};
+                }
+            };
+        }
+    }
+
+    /** Maps each input row to at most one output row, streamable. */
+    private abstract static class MapNodeModel extends AdapterNodeModel {
+
+        MapNodeModel() {
+            super(1, 1);
+        }
+
+        abstract DataTableSpec createOutputSpec(DataTableSpec inSpec);
+
+        /** @return the output row, null to skip the row */
+        abstract DataRow map(DataRow row);
+
+        @Override
+        protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+            return new DataTableSpec[]{createOutputSpec((DataTableSpec)inSpecs[0])};
+        }
+
+        @Override
+        protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+            BufferedDataTable in = (BufferedDataTable)inObjects[0];
+            BufferedDataContainer cnt = exec.createDataContainer(createOutputSpec(in.getDataTableSpec()));
+            for (DataRow r : in) {
+                DataRow out = map(r);
+                if (out != null) {
+                    cnt.addRowToTable(out);
+                }
+            }
+            cnt.close();
+            return new BufferedDataTable[]{cnt.getTable()};
+        }
+
+        @Override
+        public InputPortRole[] getInputPortRoles() {
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        }
+
+        @Override
+        public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+            return new StreamableOperator() {
+                @Override
+                public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                    RowInput in = (RowInput)inputs[0];
+                    RowOutput out = (RowOutput)outputs[0];
+                    DataRow r;
+                    while ((r = in.poll()) != null) {
+                        DataRow mapped = map(r);
+                        if (mapped != null) {
+                            out.push(mapped);
+                        }
+                    }
+                    in.close();
+                    out.close();
+                }
+            };
+        }
+    }
+
+    /** Appends a column with twice the value of the first column. */
+    private static final class TwiceNodeModel extends MapNodeModel {
+
+        @Override
+        DataTableSpec createOutputSpec(final DataTableSpec inSpec) {
+            return new DataTableSpec(inSpec,
+                new DataTableSpec(new DataColumnSpecCreator("twice", IntCell.TYPE).createSpec()));
+        }
+
+        @Override
+        DataRow map(final DataRow row) {
+            return new AppendedColumnRow(row, new IntCell(2 * ((IntValue)row.getCell(0)).getIntValue()));
+        }
+    }
+
+    /** Factory for {@link TwiceNodeModel}. */
+    public static final class TwiceNodeFactory extends AdapterNodeFactory {
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new TwiceNodeModel();
+        }
+    }
+
+    /** Drops rows whose first column is a multiple of 3. */
+    public static final class FilterNodeFactory extends AdapterNodeFactory {
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new MapNodeModel() {
+                @Override
+                DataTableSpec createOutputSpec(final DataTableSpec inSpec) {
+                    return inSpec;
+                }
+
+                @Override
+                DataRow map(final DataRow row) {
+                    return ((IntValue)row.getCell(0)).getIntValue() % 3 == 0 ? null : row;
+                }
+            };
+        }
+    }
+
+    /** Appends a column with the negated value of the second column. */
+    public static final class NegateNodeFactory extends AdapterNodeFactory {
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new MapNodeModel() {
+                @Override
+                DataTableSpec createOutputSpec(final DataTableSpec inSpec) {
+                    return new DataTableSpec(inSpec,
+                        new DataTableSpec(new DataColumnSpecCreator("negated", IntCell.TYPE).createSpec()));
+                }
+
+                @Override
+                DataRow map(final DataRow row) {
+                    DataCell twice = row.getCell(1);
+                    return new AppendedColumnRow(row, new IntCell(-((IntValue)twice).getIntValue()));
+                }
+            };
+        }
+    }
+
+    /** Pass-through node with a (never opened) view. */
+    public static final class ViewNodeFactory extends AdapterNodeFactory {
+        @Override
+        protected int getNrNodeViews() {
+            return 1;
+        }
+    }
+
+    /** Node creating a file store during execution. */
+    public static final class FileStoreNodeFactory extends AdapterNodeFactory {
+        @Override
+        public AdapterNodeModel createNodeModel() {
+            return new AdapterNodeModel(1, 1) {
+                @Override
+                protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec)
+                    throws Exception {
+                    exec.createFileStore("file");
+                    return inObjects;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Standalone benchmark comparing the run time of {@link DuplicateChecker} and {@link FingerprintDuplicateChecker}
+ * on the same (large) set of unique keys. It is not run as part of the unit tests, start it via its main method
+ * (preferably with the same heap settings as the application, e.g. <code>-Xmx2g</code>).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class DuplicateCheckerBenchmark {
+
+    private DuplicateCheckerBenchmark() {
+    }
+
+    /**
+     * Runs the benchmark and prints the run times to standard out.
+     *
+     * @param args optional: number of keys (default 5,000,000) and number of measured runs per implementation
+     *            (default 5)
+     * @throws Exception if a checker fails
+     */
+    public static void main(final String[] args) throws Exception {
+        final int count = args.length > 0 ? Integer.parseInt(args[0]) : 5000000;
+        final int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        final String[] sequentialKeys = new String[count];
+        final String[] randomKeys = new String[count];
+        final Random random = new Random(count);
+        for (int i = 0; i < count; i++) {
+            sequentialKeys[i] = "Row" + i;
+            // unique as the index is part of the key, the random prefix avoids sorted input
+            randomKeys[i] = Long.toHexString(random.nextLong()) + "_" + i;
+        }
+        System.out.println(String.format("%d keys, %d runs (after one warm-up run) per implementation", count, runs));
+        for (String[] keys : new String[][]{sequentialKeys, randomKeys}) {
+            System.out.println(keys == sequentialKeys ? "Sequential keys (\"Row0\", \"Row1\", ...)" : "Random keys");
+            report("DuplicateChecker", measure(DuplicateChecker::new, keys, runs));
+            report("FingerprintDuplicateChecker", measure(FingerprintDuplicateChecker::new, keys, runs));
+        }
+    }
+
+    /** Returns the sorted run times in milliseconds, the first (warm-up) run is not included. */
+    private static long[] measure(final Supplier<IDuplicateChecker> factory, final String[] keys,
+        final int runs) throws IOException, DuplicateKeyException {
+        final long[] times = new long[runs];
+        for (int r = -1; r < runs; r++) {
+            System.gc();
+            final IDuplicateChecker checker = factory.get();
+            final long start = System.nanoTime();
+            try {
+                for (String key : keys) {
+                    checker.addKey(key);
+                }
+                checker.checkForDuplicates();
+            } finally {
+                checker.clear();
+            }
+            if (r >= 0) {
+                times[r] = (System.nanoTime() - start) / 1000000;
+            }
+        }
+        Arrays.sort(times);
+        return times;
+    }
+
+    private static void report(final String name, final long[] times) {
+        System.out.println(String.format("  %-28s min %6d ms, median %6d ms, max %6d ms", name, times[0],
+            times[times.length / 2], times[times.length - 1]));
+    }
+}
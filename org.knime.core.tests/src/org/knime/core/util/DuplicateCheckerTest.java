@@ -106,19 +106,36 @@ public void testNoStringsAtAll() throws DuplicateKeyException, IOException {
     public void testArbitraryStringsNoDuplicates() throws IOException {
         long seed = System.currentTimeMillis();
         NodeLogger.getLogger(getClass()).info("Using seed " + seed);
-        internalTestArbitraryStrings(false, seed);
+        internalTestArbitraryStrings(new DuplicateChecker(1000, 50), false, seed);
+        internalTestArbitraryStrings(new FingerprintDuplicateChecker(1000, 50), false, seed);
     }
 
     @Test
     public void testArbitraryStringsDuplicates() throws IOException {
         long seed = System.currentTimeMillis();
         NodeLogger.getLogger(getClass()).info("Using seed " + seed);
-        internalTestArbitraryStrings(true, seed);
+        internalTestArbitraryStrings(new DuplicateChecker(1000, 50), true, seed);
+        internalTestArbitraryStrings(new FingerprintDuplicateChecker(1000, 50), true, seed);
 
         // this one generates invalid UTF-16 strings
         seed = 1343253055319L;
         NodeLogger.getLogger(getClass()).info("Using seed " + seed);
-        internalTestArbitraryStrings(true, seed);
+        internalTestArbitraryStrings(new DuplicateChecker(1000, 50), true, seed);
+        internalTestArbitraryStrings(new FingerprintDuplicateChecker(1000, 50), true, seed);
+    }
+
+    /**
+     * Runs the fingerprint checker with a fingerprint function that maps almost all keys onto the same values, so
+     * that every key must be verified against the full string.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Test
+    public void testFingerprintCollisions() throws IOException {
+        long seed = System.currentTimeMillis();
+        NodeLogger.getLogger(getClass()).info("Using seed " + seed);
+        internalTestArbitraryStrings(new FingerprintDuplicateChecker(1000, 50, s -> s.length() % 3), false, seed);
+        internalTestArbitraryStrings(new FingerprintDuplicateChecker(1000, 50, s -> s.length() % 3), true, seed);
     }
 
     /**
@@ -134,7 +151,22 @@ public void testEarlyDuplicate() throws Exception {
         checker.addKey("A");
     }
 
-    private void internalTestArbitraryStrings(final boolean isAddDuplicates, final long seed) throws IOException {
+    /**
+     * Simple test for duplicates in the first chunk of the fingerprint checker.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEarlyDuplicateFingerprint() throws Exception {
+        FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker();
+        checker.addKey("A");
+        checker.addKey("B");
+        expectedException.expect(DuplicateKeyException.class);
+        checker.addKey("A");
+    }
+
+    private void internalTestArbitraryStrings(final IDuplicateChecker dc, final boolean isAddDuplicates,
+        final long seed) throws IOException {
         LinkedHashSet<String> hash = new LinkedHashSet<String>();
         Random r = new Random(seed);
         while (hash.size() < 300000) {
@@ -152,7 +184,6 @@ private void internalTestArbitraryStrings(final boolean isAddDuplicates, final l
             }
             hash.add(new String(c));
         }
-        DuplicateChecker dc = new DuplicateChecker(1000, 50);
         int duplIndex = r.nextInt(hash.size());
         int indexToInsert = r.nextInt(hash.size());
         while (indexToInsert == duplIndex) {
@@ -0,0 +1,226 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+/**
+ * Testcase for the work-stealing thread pool.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkStealingThreadPoolTest extends TestCase {
+    private final AtomicInteger m_running = new AtomicInteger();
+
+    private final AtomicInteger m_maxRunning = new AtomicInteger();
+
+    private final Runnable m_sleeper = new Runnable() {
+        @Override
+        public void run() {
+            int running = m_running.incrementAndGet();
+            int max;
+            while ((max = m_maxRunning.get()) < running) {
+                m_maxRunning.compareAndSet(max, running);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                m_running.decrementAndGet();
+            }
+        }
+    };
+
+    /**
+     * Tests that sub pools never run more jobs than their quota allows.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testSubPoolQuota() throws Exception {
+        WorkStealingThreadPool root = new WorkStealingThreadPool(4);
+        ThreadPool sub = root.createSubPool(2);
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(sub.enqueue(m_sleeper));
+            assertTrue(sub.getRunningThreads() <= sub.getMaxThreads());
+        }
+        sub.waitForTermination();
+        for (Future<?> f : futures) {
+            assertTrue(f.isDone());
+        }
+        assertTrue("More than 2 jobs ran concurrently: " + m_maxRunning.get(), m_maxRunning.get() <= 2);
+        assertEquals(0, root.getQueueSize());
+        root.shutdown();
+    }
+
+    /**
+     * Tests nested parallelism: jobs that submit sub jobs and wait for them don't deadlock the pool, even if there
+     * are more waiting jobs than threads.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testNestedJobs() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(2);
+        List<Future<Integer>> outer = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 6; i++) {
+            outer.add(root.enqueue(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    final ThreadPool pool = ThreadPool.currentPool().createSubPool();
+                    return pool.runInvisible(new Callable<Integer>() {
+                        @Override
+                        public Integer call() throws Exception {
+                            List<Future<Integer>> inner = new ArrayList<Future<Integer>>();
+                            for (int j = 0; j < 5; j++) {
+                                final int value = j;
+                                inner.add(pool.enqueue(new Callable<Integer>() {
+                                    @Override
+                                    public Integer call() throws Exception {
+                                        return value;
+                                    }
+                                }));
+                            }
+                            int sum = 0;
+                            for (Future<Integer> f : inner) {
+                                sum += f.get();
+                            }
+                            return sum;
+                        }
+                    });
+                }
+            }));
+        }
+        for (Future<Integer> f : outer) {
+            assertEquals(10, f.get().intValue());
+        }
+        root.waitForTermination();
+        assertEquals(0, root.getRunningThreads());
+        root.shutdown();
+    }
+
+    /**
+     * Tests that {@link ThreadPool#runInvisible(Callable)} is rejected outside of a pool thread.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testRunInvisibleOutsidePool() throws Exception {
+        WorkStealingThreadPool root = new WorkStealingThreadPool(1);
+        try {
+            root.runInvisible(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    return null;
+                }
+            });
+            fail("Expected IllegalThreadStateException");
+        } catch (IllegalThreadStateException ex) {
+            // expected
+        }
+        root.shutdown();
+    }
+
+    /**
+     * Tests that canceling a running job with <code>mayInterruptIfRunning</code> interrupts the executing thread
+     * and that the future is only reported as done once the job has actually ended.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testCancelRunningJob() throws Exception {
+        WorkStealingThreadPool root = new WorkStealingThreadPool(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Future<?> future = root.enqueue(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                started.countDown();
+                try {
+                    Thread.sleep(60000);
+                } catch (InterruptedException ex) {
+                    interrupted.countDown();
+                }
+                release.await(10, TimeUnit.SECONDS);
+                return null;
+            }
+        });
+        assertTrue("Job did not start", started.await(10, TimeUnit.SECONDS));
+        assertTrue("Running job could not be canceled", future.cancel(true));
+        assertTrue(future.isCancelled());
+        assertTrue("Executing thread was not interrupted", interrupted.await(10, TimeUnit.SECONDS));
+        assertFalse("Job reported as done while still running", future.isDone());
+
+        release.countDown();
+        long end = System.currentTimeMillis() + 10000;
+        while (!future.isDone() && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertTrue("Job not done after it has ended", future.isDone());
+
+        // the cancellation interrupt must not leak into the next job run by the same worker
+        final AtomicBoolean nextInterrupted = new AtomicBoolean(true);
+        root.enqueue(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                nextInterrupted.set(Thread.currentThread().isInterrupted());
+                return null;
+            }
+        }).get();
+        assertFalse("Cancellation interrupt leaked into next job", nextInterrupted.get());
+        root.shutdown();
+    }
+}
@@ -49,6 +49,7 @@
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.DataContainer;
@@ -62,6 +63,11 @@
  * {@link #updateDomain(DataTable, ExecutionMonitor, int)}. Finally the resulting spec including updated domains is
  * created by calling {@link #createSpec()}.
  *
+ * <p>
+ * Instances are not thread-safe. In order to compute the domain of a table that is produced in parallel, each thread
+ * updates its own domain creator obtained from {@link #createPartialDomainCreator()}, the partial results are then
+ * combined using {@link #merge(DataTableDomainCreator)}.
+ *
  * @author Heiko Hofer
  * @since 2.10
  */
@@ -85,6 +91,32 @@ public class DataTableDomainCreator {
 
     private final DataValueComparator[] m_comparators;
 
+    /**
+     * For each column one of the <code>PRIMITIVE_*</code> constants, describing whether min and max can be tracked as
+     * primitive values (without calling the comparator).
+     */
+    private final byte[] m_primitiveTypes;
+
+    /** Primitive copies of {@link #m_mins}/{@link #m_maxs} for {@link #PRIMITIVE_DOUBLE} columns. */
+    private final double[] m_minDoubles, m_maxDoubles;
+
+    /** Primitive copies of {@link #m_mins}/{@link #m_maxs} for {@link #PRIMITIVE_INT} and {@link #PRIMITIVE_LONG}. */
+    private final long[] m_minLongs, m_maxLongs;
+
+    /**
+     * Indices of the columns that have possible values or bounds to compute, other columns aren't looked at. Updated
+     * once a column exceeds the maximum number of possible values.
+     */
+    private int[] m_activeColumns;
+
+    private static final byte PRIMITIVE_NONE = 0;
+
+    private static final byte PRIMITIVE_DOUBLE = 1;
+
+    private static final byte PRIMITIVE_INT = 2;
+
+    private static final byte PRIMITIVE_LONG = 3;
+
     /**
      * A new instance that recreates the domain of certains columns. Which columns are processed and if the domains
      * should be initialized with the domain from the incoming table can be controlled by the two
@@ -103,6 +135,11 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
         m_maxs = new DataCell[inputSpec.getNumColumns()];
         m_possVals = new LinkedHashSet[inputSpec.getNumColumns()];
         m_comparators = new DataValueComparator[inputSpec.getNumColumns()];
+        m_primitiveTypes = new byte[inputSpec.getNumColumns()];
+        m_minDoubles = new double[inputSpec.getNumColumns()];
+        m_maxDoubles = new double[inputSpec.getNumColumns()];
+        m_minLongs = new long[inputSpec.getNumColumns()];
+        m_maxLongs = new long[inputSpec.getNumColumns()];
         m_domainValuesColumnSelection = domainValuesColumnSelection;
         m_domainMinMaxColumnSelection = domainMinMaxColumnSelection;
         m_maxPossibleValues = DataContainer.MAX_POSSIBLE_VALUES;
@@ -137,9 +174,117 @@ public DataTableDomainCreator(final DataTableSpec inputSpec,
                     }
                 }
                 m_comparators[i] = colSpec.getType().getComparator();
+                initPrimitiveBounds(i);
             }
             i++;
         }
+        updateActiveColumns();
+    }
+
+    /**
+     * Determines whether the bounds of a column can be tracked as primitives and, if so, initializes the primitive
+     * bounds from the current min and max cell.
+     */
+    private void initPrimitiveBounds(final int col) {
+        final Class<?> comparatorClass = m_comparators[col].getClass();
+        byte type = PRIMITIVE_NONE;
+        if (comparatorClass == DoubleValueComparator.class) {
+            type = PRIMITIVE_DOUBLE;
+        } else if (comparatorClass == IntValueComparator.class) {
+            type = PRIMITIVE_INT;
+        } else if (comparatorClass == LongValueComparator.class) {
+            type = PRIMITIVE_LONG;
+        }
+        if (!m_mins[col].isMissing()) {
+            if (!isPrimitiveCompatible(type, m_mins[col]) || !isPrimitiveCompatible(type, m_maxs[col])) {
+                // unusual bounds in the input spec, use the comparator
+                type = PRIMITIVE_NONE;
+            } else if (type == PRIMITIVE_DOUBLE) {
+                m_minDoubles[col] = ((DoubleValue)m_mins[col]).getDoubleValue();
+                m_maxDoubles[col] = ((DoubleValue)m_maxs[col]).getDoubleValue();
+            } else if (type == PRIMITIVE_INT) {
+                m_minLongs[col] = ((IntValue)m_mins[col]).getIntValue();
+                m_maxLongs[col] = ((IntValue)m_maxs[col]).getIntValue();
+            } else if (type == PRIMITIVE_LONG) {
+                m_minLongs[col] = ((LongValue)m_mins[col]).getLongValue();
+                m_maxLongs[col] = ((LongValue)m_maxs[col]).getLongValue();
+            }
+        }
+        m_primitiveTypes[col] = type;
+    }
+
+    private static boolean isPrimitiveCompatible(final byte type, final DataCell cell) {
+        switch (type) {
+            case PRIMITIVE_DOUBLE:
+                return cell instanceof DoubleValue && !Double.isNaN(((DoubleValue)cell).getDoubleValue());
+            case PRIMITIVE_INT:
+                return cell instanceof IntValue;
+            case PRIMITIVE_LONG:
+                return cell instanceof LongValue;
+            default:
+                return true;
+        }
+    }
+
+    private void updateActiveColumns() {
+        m_activeColumns = IntStream.range(0, m_inputSpec.getNumColumns())
+            .filter(i -> m_possVals[i] != null || m_mins[i] != null).toArray();
+    }
+
+    /**
+     * Creates a new, independent domain creator with the same configuration (column selections and maximum number of
+     * possible values) as this one. It's meant to process a partition of the rows, e.g. in a separate thread; its
+     * result is then added to this instance by calling {@link #merge(DataTableDomainCreator)}.
+     *
+     * @return a new domain creator, not yet having seen any rows
+     * @since 3.8
+     */
+    public DataTableDomainCreator createPartialDomainCreator() {
+        DataTableDomainCreator partial = new DataTableDomainCreator(m_inputSpec, m_domainValuesColumnSelection,
+            m_domainMinMaxColumnSelection);
+        partial.m_maxPossibleValues = m_maxPossibleValues;
+        return partial;
+    }
+
+    /**
+     * Adds the domain computed by another domain creator to this one, as if all rows presented to the argument had
+     * also been presented to this instance. Possible values of the argument are appended to the possible values of
+     * this instance, so in order to keep the order of first occurrence, partial results should be merged in the order
+     * of the rows they have seen. The argument must not be used concurrently and should be discarded afterwards.
+     *
+     * @param other a domain creator created by {@link #createPartialDomainCreator()} (or one with same configuration)
+     * @throws IllegalArgumentException if the argument was created for a table with a different structure
+     * @since 3.8
+     */
+    public void merge(final DataTableDomainCreator other) {
+        if (!m_inputSpec.equalStructure(other.m_inputSpec)) {
+            throw new IllegalArgumentException("Spec of domain creator to merge does not match spec of this instance");
+        }
+        for (int i = 0; i < m_possVals.length; i++) {
+            if (m_possVals[i] != null) {
+                if (other.m_possVals[i] == null) {
+                    // the other partition exceeded the maximum number of possible values
+                    m_possVals[i] = null;
+                } else if (m_possVals[i].addAll(other.m_possVals[i]) && m_possVals[i].size() > m_maxPossibleValues) {
+                    m_possVals[i] = null;
+                }
+            }
+            if (m_mins[i] != null && other.m_mins[i] != null) {
+                mergeMinMax(i, other.m_mins[i]);
+                mergeMinMax(i, other.m_maxs[i]);
+            }
+        }
+        updateActiveColumns();
+    }
+
+    private void mergeMinMax(final int col, final DataCell cell) {
+        if (cell.isMissing()) {
+            return;
+        }
+        if (m_primitiveTypes[col] != PRIMITIVE_NONE && !isPrimitiveCompatible(m_primitiveTypes[col], cell)) {
+            m_primitiveTypes[col] = PRIMITIVE_NONE;
+        }
+        updateMinMax(col, cell);
     }
 
     /**
@@ -193,24 +338,83 @@ public void setMaxPossibleValues(final int maxValues) {
      * @param col the column of interest
      * @param cell the new value to check
      */
-    private void updateMinMax(final int col, final DataCell cell, final DataCell[] mins, final DataCell[] maxs,
-        final DataValueComparator[] comparators) {
-        if (mins[col] == null || cell.isMissing()) {
+    private void updateMinMax(final int col, final DataCell cell) {
+        if (m_mins[col] == null || cell.isMissing()) {
             return;
         }
 
         final DataCell unwrapped = (cell instanceof BlobWrapperDataCell) ? ((BlobWrapperDataCell)cell).getCell() : cell;
 
+        switch (m_primitiveTypes[col]) {
+            case PRIMITIVE_DOUBLE:
+                if (unwrapped instanceof DoubleValue) {
+                    updateMinMax(col, unwrapped, ((DoubleValue)unwrapped).getDoubleValue());
+                    return;
+                }
+                break;
+            case PRIMITIVE_INT:
+                if (unwrapped instanceof IntValue) {
+                    updateMinMax(col, unwrapped, ((IntValue)unwrapped).getIntValue());
+                    return;
+                }
+                break;
+            case PRIMITIVE_LONG:
+                if (unwrapped instanceof LongValue) {
+                    updateMinMax(col, unwrapped, ((LongValue)unwrapped).getLongValue());
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        // not of the expected primitive type (shouldn't happen) -- from now on only use the comparator
+        m_primitiveTypes[col] = PRIMITIVE_NONE;
+
         if (isNaN(unwrapped)) {
             return;
         }
 
-        Comparator<DataCell> comparator = comparators[col];
-        if (mins[col].isMissing() || (comparator.compare(unwrapped, mins[col]) < 0)) {
-            mins[col] = unwrapped;
+        Comparator<DataCell> comparator = m_comparators[col];
+        if (m_mins[col].isMissing() || (comparator.compare(unwrapped, m_mins[col]) < 0)) {
+            m_mins[col] = unwrapped;
         }
-        if (maxs[col].isMissing() || (comparator.compare(unwrapped, maxs[col]) > 0)) {
-            maxs[col] = unwrapped;
+        if (m_maxs[col].isMissing() || (comparator.compare(unwrapped, m_maxs[col]) > 0)) {
+            m_maxs[col] = unwrapped;
+        }
+    }
+
+    /** Primitive variant of {@link #updateMinMax(int, DataCell)}, same semantics as {@link DoubleValueComparator}. */
+    private void updateMinMax(final int col, final DataCell cell, final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (m_mins[col].isMissing()) {
+            m_mins[col] = cell;
+            m_maxs[col] = cell;
+            m_minDoubles[col] = value;
+            m_maxDoubles[col] = value;
+        } else if (Double.compare(value, m_minDoubles[col]) < 0) {
+            m_mins[col] = cell;
+            m_minDoubles[col] = value;
+        } else if (Double.compare(value, m_maxDoubles[col]) > 0) {
+            m_maxs[col] = cell;
+            m_maxDoubles[col] = value;
+        }
+    }
+
+    /** Primitive variant of {@link #updateMinMax(int, DataCell)} for int and long columns. */
+    private void updateMinMax(final int col, final DataCell cell, final long value) {
+        if (m_mins[col].isMissing()) {
+            m_mins[col] = cell;
+            m_maxs[col] = cell;
+            m_minLongs[col] = value;
+            m_maxLongs[col] = value;
+        } else if (value < m_minLongs[col]) {
+            m_mins[col] = cell;
+            m_minLongs[col] = value;
+        } else if (value > m_maxLongs[col]) {
+            m_maxs[col] = cell;
+            m_maxLongs[col] = value;
         }
     }
 
@@ -268,15 +472,53 @@ public void updateDomain(final DataRow row) {
         assert row.getNumCells() == m_inputSpec.getNumColumns() : "Unequal number of columns in spec and row: "
             + m_inputSpec.getNumColumns() + " vs. " + row.getNumCells();
 
-        int i = 0;
-        for (DataCell c : row) {
+        boolean isActiveColumnsChanged = false;
+        for (final int i : m_activeColumns) {
+            final DataCell c = row.getCell(i);
             if (!c.isMissing() && m_possVals[i] != null) {
                 if (m_possVals[i].add(c) && (m_possVals[i].size() > m_maxPossibleValues)) {
                     m_possVals[i] = null;
+                    isActiveColumnsChanged = true;
                 }
             }
-            updateMinMax(i, c, m_mins, m_maxs, m_comparators);
-            i++;
+            updateMinMax(i, c);
+        }
+        if (isActiveColumnsChanged) {
+            updateActiveColumns();
+        }
+    }
+
+    /**
+     * Updates the domain values with a batch of rows. The result is the same as calling {@link #updateDomain(DataRow)}
+     * for each of the rows but the rows are processed column by column, which is faster for wide tables.
+     *
+     * @param rows the array containing the rows
+     * @param offset the index of the first row to process
+     * @param length the number of rows to process
+     * @throws IndexOutOfBoundsException if offset or length don't denote a valid range in the array
+     * @since 3.8
+     */
+    public void updateDomain(final DataRow[] rows, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset + length > rows.length) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ", " + (offset + length)
+                + ") for array of length " + rows.length);
+        }
+        final int end = offset + length;
+        boolean isActiveColumnsChanged = false;
+        for (final int i : m_activeColumns) {
+            for (int r = offset; r < end; r++) {
+                final DataCell c = rows[r].getCell(i);
+                if (!c.isMissing() && m_possVals[i] != null) {
+                    if (m_possVals[i].add(c) && (m_possVals[i].size() > m_maxPossibleValues)) {
+                        m_possVals[i] = null;
+                        isActiveColumnsChanged = true;
+                    }
+                }
+                updateMinMax(i, c);
+            }
+        }
+        if (isActiveColumnsChanged) {
+            updateActiveColumns();
         }
     }
 
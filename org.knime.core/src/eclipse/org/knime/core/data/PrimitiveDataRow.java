@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.data;
+
+/**
+ * A {@link DataRow} that keeps the values of (some of) its int, long, double and boolean columns as primitives rather
+ * than as {@link DataCell} objects. Cells for these columns are created on each call of {@link #getCell(int)};
+ * performance critical code should use the typed accessors instead, e.g. via {@link #getDouble(DataRow, int)}, which
+ * also works for ordinary rows.
+ *
+ * <p>Rows of this type are returned by table iterators if the property
+ * {@link org.knime.core.node.KNIMEConstants#PROPERTY_TABLE_PRIMITIVE_ROWS} is set (or the table is stored in a
+ * columnar format). Clients must not rely on it and must not implement this interface.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noimplement This interface is not intended to be implemented by clients.
+ */
+public interface PrimitiveDataRow extends DataRow {
+
+    /**
+     * @param index the column index
+     * @return whether the value at the given index is held as primitive, i.e. whether the typed accessors can
+     *         return it without creating a cell
+     */
+    boolean isPrimitive(int index);
+
+    /**
+     * @param index the column index
+     * @return whether the cell at the given index is missing
+     */
+    boolean isMissing(int index);
+
+    /**
+     * Returns the value at the given index as double, the cell must be compatible to {@link DoubleValue}.
+     *
+     * @param index the column index
+     * @return the value, {@link Double#NaN} if the cell is missing
+     * @throws ClassCastException if the cell is not compatible to {@link DoubleValue}
+     */
+    double getDouble(int index);
+
+    /**
+     * Returns the value at the given index as long, the cell must be compatible to {@link LongValue} (which includes
+     * int and boolean cells).
+     *
+     * @param index the column index
+     * @return the value, 0 if the cell is missing
+     * @throws ClassCastException if the cell is not compatible to {@link LongValue}
+     */
+    long getLong(int index);
+
+    /**
+     * Reads a double from an arbitrary row, without creating a cell if the row is a {@link PrimitiveDataRow}.
+     *
+     * @param row the row to read from
+     * @param index the column index
+     * @return the value, {@link Double#NaN} if the cell is missing
+     * @throws ClassCastException if the cell is not compatible to {@link DoubleValue}
+     */
+    static double getDouble(final DataRow row, final int index) {
+        if (row instanceof PrimitiveDataRow) {
+            return ((PrimitiveDataRow)row).getDouble(index);
+        }
+        final DataCell cell = row.getCell(index);
+        return cell.isMissing() ? Double.NaN : ((DoubleValue)cell).getDoubleValue();
+    }
+
+    /**
+     * Reads a long from an arbitrary row, without creating a cell if the row is a {@link PrimitiveDataRow}.
+     *
+     * @param row the row to read from
+     * @param index the column index
+     * @return the value, 0 if the cell is missing
+     * @throws ClassCastException if the cell is not compatible to {@link LongValue}
+     */
+    static long getLong(final DataRow row, final int index) {
+        if (row instanceof PrimitiveDataRow) {
+            return ((PrimitiveDataRow)row).getLong(index);
+        }
+        final DataCell cell = row.getCell(index);
+        return cell.isMissing() ? 0L : ((LongValue)cell).getLongValue();
+    }
+
+    /**
+     * Tells whether the cell at the given index of an arbitrary row is missing, without creating a cell if the row is
+     * a {@link PrimitiveDataRow}.
+     *
+     * @param row the row to read from
+     * @param index the column index
+     * @return whether the cell is missing
+     */
+    static boolean isMissing(final DataRow row, final int index) {
+        if (row instanceof PrimitiveDataRow) {
+            return ((PrimitiveDataRow)row).isMissing(index);
+        }
+        return row.getCell(index).isMissing();
+    }
+}
@@ -0,0 +1,485 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Cache for {@link BlobDataCell} read from the blob files of {@link Buffer} instances. There is a single instance
+ * shared by all buffers. It's bounded by an (estimated) byte size and is cleared when the
+ * {@link MemoryAlertSystem} reports low memory.
+ *
+ * <p>
+ * The cache is split into independently locked segments (by hash of the key) so that concurrent readers of different
+ * blobs don't contend. Each segment has a small admission window (about 1% of its size) and a main area, both in LRU
+ * order. Blobs evicted from the window only enter the main area if they have been accessed more frequently than the
+ * blob they would displace (W-TinyLFU); access frequencies are approximated in a count-min sketch shared by all
+ * segments, which is periodically aged. This protects frequently read blobs from being flushed by a single scan over
+ * a large blob column.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BlobCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BlobCache.class);
+
+    /** Fixed size overhead (in bytes) added to the estimated size of each blob. */
+    static final long ENTRY_OVERHEAD = 64;
+
+    /** Number of segments of the shared instance. */
+    private static final int SEGMENT_COUNT = 16;
+
+    private static final BlobCache INSTANCE = new BlobCache(getDefaultMaxSize(), SEGMENT_COUNT);
+
+    private static final AtomicLong OWNER_ID_COUNTER = new AtomicLong();
+
+    private final Segment[] m_segments;
+
+    private final FrequencySketch m_sketch;
+
+    private final long m_maxSize;
+
+    private final LongAdder m_hitCount = new LongAdder();
+
+    private final LongAdder m_missCount = new LongAdder();
+
+    private final LongAdder m_evictionCount = new LongAdder();
+
+    private final LongAdder m_rejectionCount = new LongAdder();
+
+    /**
+     * @param maxSize the maximum (estimated) size of all cached blobs in bytes, 0 disables the cache
+     * @param segmentCount number of segments, a power of 2
+     */
+    BlobCache(final long maxSize, final int segmentCount) {
+        if (Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("Segment count must be a power of 2: " + segmentCount);
+        }
+        m_maxSize = maxSize;
+        m_segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            m_segments[i] = new Segment(maxSize / segmentCount);
+        }
+        m_sketch = new FrequencySketch();
+    }
+
+    /** @return the cache shared by all buffers */
+    static BlobCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return a new ID for a buffer, used to tell apart blobs of different buffers (whose {@link BlobAddress} may be
+     *         equal if they are part of different workflows)
+     */
+    static long nextOwnerID() {
+        return OWNER_ID_COUNTER.incrementAndGet();
+    }
+
+    private static long getDefaultMaxSize() {
+        long maxSize = Runtime.getRuntime().maxMemory() / 20;
+        String property = System.getProperty(KNIMEConstants.PROPERTY_BLOB_CACHE_SIZE_MB);
+        if (property != null) {
+            try {
+                long sizeMB = Long.parseLong(property.trim());
+                if (sizeMB < 0) {
+                    throw new NumberFormatException("blob cache size < 0: " + sizeMB);
+                }
+                maxSize = sizeMB << 20;
+                LOGGER.debug("Setting blob cache size to " + sizeMB + "MB");
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Unable to parse property " + KNIMEConstants.PROPERTY_BLOB_CACHE_SIZE_MB
+                    + ", using default (" + (maxSize >> 20) + "MB)", e);
+            }
+        }
+        return maxSize;
+    }
+
+    static {
+        MemoryAlertSystem.getInstance().addListener(new MemoryAlertListener() {
+            @Override
+            protected boolean memoryAlert(final MemoryAlert alert) {
+                LOGGER.debug("Clearing blob cache due to low memory (" + INSTANCE + ")");
+                INSTANCE.clear();
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Get a cached blob.
+     *
+     * @param ownerID the ID of the buffer owning the blob, see {@link #nextOwnerID()}
+     * @param address the address of the blob
+     * @return the blob or null if not cached
+     */
+    BlobDataCell get(final long ownerID, final BlobAddress address) {
+        final Key key = new Key(ownerID, address);
+        final int hash = key.hashCode();
+        m_sketch.increment(hash);
+        final BlobDataCell result = segmentFor(hash).get(key);
+        if (result != null) {
+            m_hitCount.increment();
+        } else {
+            m_missCount.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Adds a blob to the cache, which may be rejected if there is not enough space and the blob is accessed less
+     * frequently than the cached ones.
+     *
+     * @param ownerID the ID of the buffer owning the blob, see {@link #nextOwnerID()}
+     * @param address the address of the blob
+     * @param cell the blob
+     * @param size the estimated size of the blob in bytes
+     */
+    void put(final long ownerID, final BlobAddress address, final BlobDataCell cell, final long size) {
+        if (m_maxSize == 0L) {
+            return;
+        }
+        final Key key = new Key(ownerID, address);
+        segmentFor(key.hashCode()).put(key, cell, size + ENTRY_OVERHEAD);
+    }
+
+    /**
+     * Removes all blobs of a buffer, called when the buffer is cleared.
+     *
+     * @param ownerID the ID of the buffer
+     */
+    void invalidate(final long ownerID) {
+        for (Segment s : m_segments) {
+            s.invalidate(ownerID);
+        }
+    }
+
+    /** Removes all blobs. */
+    void clear() {
+        for (Segment s : m_segments) {
+            s.clear();
+        }
+    }
+
+    /** @return number of successful lookups */
+    long getHitCount() {
+        return m_hitCount.sum();
+    }
+
+    /** @return number of lookups of blobs that were not cached */
+    long getMissCount() {
+        return m_missCount.sum();
+    }
+
+    /** @return number of blobs removed from the cache in favor of other blobs */
+    long getEvictionCount() {
+        return m_evictionCount.sum();
+    }
+
+    /** @return number of blobs that were not added to the cache as they are accessed too infrequently */
+    long getRejectionCount() {
+        return m_rejectionCount.sum();
+    }
+
+    /** @return the estimated size of all cached blobs in bytes */
+    long getSize() {
+        long size = 0L;
+        for (Segment s : m_segments) {
+            size += s.getSize();
+        }
+        return size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("%,d of %,d bytes used, %,d hits, %,d misses, %,d evictions, %,d rejections", getSize(),
+            m_maxSize, getHitCount(), getMissCount(), getEvictionCount(), getRejectionCount());
+    }
+
+    private Segment segmentFor(final int hash) {
+        // use the high bits, the low bits select the counters in the sketch
+        return m_segments[(hash >>> 16) & (m_segments.length - 1)];
+    }
+
+    /** Key of the cache, the blob address plus the identity of the owning buffer. */
+    private static final class Key {
+
+        private final long m_ownerID;
+
+        private final BlobAddress m_address;
+
+        private final int m_hash;
+
+        Key(final long ownerID, final BlobAddress address) {
+            m_ownerID = ownerID;
+            m_address = address;
+            int h = 31 * Long.hashCode(ownerID) + address.hashCode();
+            // spread bits as the blob address hash is a simple sum
+            h *= 0x9E3779B9;
+            m_hash = h ^ (h >>> 15);
+        }
+
+        @Override
+        public int hashCode() {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key)obj;
+            return m_ownerID == other.m_ownerID && m_address.equals(other.m_address);
+        }
+    }
+
+    /** A cached blob plus its estimated size. */
+    private static final class Entry {
+
+        private final BlobDataCell m_cell;
+
+        private final long m_size;
+
+        Entry(final BlobDataCell cell, final long size) {
+            m_cell = cell;
+            m_size = size;
+        }
+    }
+
+    /** One lock stripe of the cache, consisting of admission window and main area. */
+    private final class Segment {
+
+        private final LinkedHashMap<Key, Entry> m_window = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final LinkedHashMap<Key, Entry> m_main = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final long m_maxWindowSize;
+
+        private final long m_maxMainSize;
+
+        private long m_windowSize;
+
+        private long m_mainSize;
+
+        Segment(final long maxSize) {
+            m_maxWindowSize = maxSize / 100;
+            m_maxMainSize = maxSize - m_maxWindowSize;
+        }
+
+        synchronized BlobDataCell get(final Key key) {
+            Entry e = m_main.get(key);
+            if (e == null) {
+                e = m_window.get(key);
+            }
+            return e != null ? e.m_cell : null;
+        }
+
+        synchronized void put(final Key key, final BlobDataCell cell, final long size) {
+            if (size > m_maxMainSize) {
+                // too large to be cached at all
+                m_rejectionCount.increment();
+                return;
+            }
+            if (m_main.containsKey(key) || m_window.containsKey(key)) {
+                // read concurrently by another thread
+                return;
+            }
+            m_window.put(key, new Entry(cell, size));
+            m_windowSize += size;
+            while (m_windowSize > m_maxWindowSize) {
+                Iterator<Map.Entry<Key, Entry>> it = m_window.entrySet().iterator();
+                Map.Entry<Key, Entry> candidate = it.next();
+                it.remove();
+                m_windowSize -= candidate.getValue().m_size;
+                admitToMain(candidate.getKey(), candidate.getValue());
+            }
+        }
+
+        /** Moves an entry evicted from the window to the main area if it's accessed more often than the victims. */
+        private void admitToMain(final Key key, final Entry entry) {
+            final int candidateFrequency = m_sketch.frequency(key.hashCode());
+            final Iterator<Map.Entry<Key, Entry>> it = m_main.entrySet().iterator();
+            while (m_mainSize + entry.m_size > m_maxMainSize) {
+                Map.Entry<Key, Entry> victim = it.next();
+                if (m_sketch.frequency(victim.getKey().hashCode()) >= candidateFrequency) {
+                    m_rejectionCount.increment();
+                    return;
+                }
+                it.remove();
+                m_mainSize -= victim.getValue().m_size;
+                m_evictionCount.increment();
+            }
+            m_main.put(key, entry);
+            m_mainSize += entry.m_size;
+        }
+
+        synchronized void invalidate(final long ownerID) {
+            for (Iterator<Map.Entry<Key, Entry>> it = m_window.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<Key, Entry> e = it.next();
+                if (e.getKey().m_ownerID == ownerID) {
+                    it.remove();
+                    m_windowSize -= e.getValue().m_size;
+                }
+            }
+            for (Iterator<Map.Entry<Key, Entry>> it = m_main.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<Key, Entry> e = it.next();
+                if (e.getKey().m_ownerID == ownerID) {
+                    it.remove();
+                    m_mainSize -= e.getValue().m_size;
+                }
+            }
+        }
+
+        synchronized void clear() {
+            m_window.clear();
+            m_main.clear();
+            m_windowSize = 0L;
+            m_mainSize = 0L;
+        }
+
+        synchronized long getSize() {
+            return m_windowSize + m_mainSize;
+        }
+    }
+
+    /**
+     * Count-min sketch with four 4-bit counters per key, used to estimate how often a blob was requested. All counters
+     * are halved after a number of increments, so that the estimate reflects recent accesses. Updates are lock-free.
+     */
+    static final class FrequencySketch {
+
+        private static final int TABLE_SIZE = 1 << 14;
+
+        /** Number of increments after which all counters are halved. */
+        private static final int SAMPLE_SIZE = 10 * TABLE_SIZE;
+
+        private static final int[] SEEDS = {0x97CB3127, 0xB3C4F5A1, 0x7E5A3D29, 0xC2B2AE35};
+
+        private final AtomicLongArray m_table = new AtomicLongArray(TABLE_SIZE);
+
+        private final AtomicLong m_incrementCount = new AtomicLong();
+
+        /**
+         * Increments the counters of a key, saturating at 15.
+         *
+         * @param hash the hash of the key
+         */
+        void increment(final int hash) {
+            boolean isIncremented = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                isIncremented |= incrementAt(indexOf(hash, i), counterOffset(hash, i));
+            }
+            if (isIncremented && m_incrementCount.incrementAndGet() % SAMPLE_SIZE == 0) {
+                reset();
+            }
+        }
+
+        /**
+         * @param hash the hash of the key
+         * @return the estimated number of recent accesses (0 - 15)
+         */
+        int frequency(final int hash) {
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < SEEDS.length; i++) {
+                long value = m_table.get(indexOf(hash, i));
+                frequency = Math.min(frequency, (int)((value >>> counterOffset(hash, i)) & 0xFL));
+            }
+            return frequency;
+        }
+
+        private boolean incrementAt(final int index, final int offset) {
+            final long mask = 0xFL << offset;
+            while (true) {
+                long value = m_table.get(index);
+                if ((value & mask) == mask) {
+                    return false;
+                }
+                if (m_table.compareAndSet(index, value, value + (1L << offset))) {
+                    return true;
+                }
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < TABLE_SIZE; i++) {
+                while (true) {
+                    long value = m_table.get(i);
+                    // halve each 4-bit counter
+                    if (m_table.compareAndSet(i, value, (value >>> 1) & 0x7777777777777777L)) {
+                        break;
+                    }
+                }
+            }
+        }
+
+        private static int indexOf(final int hash, final int i) {
+            int h = (hash + SEEDS[i]) * SEEDS[i];
+            h ^= h >>> 17;
+            return h & (TABLE_SIZE - 1);
+        }
+
+        /** Offset (in bits) of the i-th counter within its long, 16 counters per long. */
+        private static int counterOffset(final int hash, final int i) {
+            return ((hash >>> (i << 2)) & 0xF) << 2;
+        }
+    }
+}
@@ -77,6 +77,17 @@ public BlobSupportDataRow(final RowKey key, final DataCell[] cells) {
         m_cells = cells;
     }
 
+    /**
+     * Constructor for subclasses that don't keep their content in a cell array; they must override all methods
+     * accessing cells.
+     *
+     * @param key Row key
+     */
+    BlobSupportDataRow(final RowKey key) {
+        m_key = key;
+        m_cells = null;
+    }
+
     /**
      * Creates a new data row with a new row ID.
      *
@@ -85,12 +96,13 @@ public BlobSupportDataRow(final RowKey key, final DataCell[] cells) {
      */
     public BlobSupportDataRow(final RowKey key, final DataRow oldRow) {
         m_key = key;
-        if (oldRow instanceof BlobSupportDataRow) {
+        if (oldRow instanceof BlobSupportDataRow && ((BlobSupportDataRow)oldRow).m_cells != null) {
             m_cells = ((BlobSupportDataRow)oldRow).m_cells;
         } else {
             m_cells = new DataCell[oldRow.getNumCells()];
             for (int i = 0; i < m_cells.length; i++) {
-                m_cells[i] = oldRow.getCell(i);
+                m_cells[i] = oldRow instanceof BlobSupportDataRow
+                    ? ((BlobSupportDataRow)oldRow).getRawCell(i) : oldRow.getCell(i);
             }
         }
 
@@ -113,10 +125,15 @@ public BlobSupportDataRow(final RowKey key, final Iterable<DataRow> oldRows) {
         m_cells = new DataCell[length];
         int offset = 0;
         for (DataRow row : oldRows) {
-            if (row instanceof BlobSupportDataRow) {
+            if (row instanceof BlobSupportDataRow && ((BlobSupportDataRow)row).m_cells != null) {
                 BlobSupportDataRow blobRow = (BlobSupportDataRow)row;
                 System.arraycopy(blobRow.m_cells, 0, m_cells, offset, blobRow.getNumCells());
                 offset += blobRow.getNumCells();
+            } else if (row instanceof BlobSupportDataRow) {
+                BlobSupportDataRow blobRow = (BlobSupportDataRow)row;
+                for (int i = 0; i < blobRow.getNumCells(); i++) {
+                    m_cells[offset++] = blobRow.getRawCell(i);
+                }
             } else {
                 for (DataCell cell : row) {
                     m_cells[offset++] = cell;
@@ -56,7 +56,6 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.text.NumberFormat;
@@ -66,10 +65,8 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
@@ -124,6 +121,7 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.ShutdownHelper;
 import org.knime.core.util.ThreadUtils;
@@ -288,11 +286,15 @@ public class Buffer implements KNIMEStreamConstants {
     }
 
     /**
-     * Hash used to reduce the overhead of reading a blob cell over and over again. Useful in cases where a blob is
-     * added multiple times to a table... the iterator will read the blob address, treat it as unseen and then ask the
-     * owning Buffer to restore the blob.
+     * Identifies the blobs of this buffer in the {@link BlobCache}, which is used to reduce the overhead of reading a
+     * blob cell over and over again. Useful in cases where a blob is added multiple times to a table or is read by
+     * many iterators... the iterator will read the blob address, treat it as unseen and then ask the owning Buffer to
+     * restore the blob.
      */
-    private final BlobLRUCache m_blobLRUCache = new BlobLRUCache();
+    private final long m_blobCacheID = BlobCache.nextOwnerID();
+
+    /** Whether blobs of this buffer have been added to the {@link BlobCache} (and need to be removed on clear). */
+    private volatile boolean m_hasCachedBlobs;
 
     static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         @SuppressWarnings("unchecked")
@@ -336,6 +338,8 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
     /** Compression on the binary (main) file. */
     enum CompressionFormat {
         Gzip,
+        /** Block-wise compression, see {@link LZ4BlockOutputStream}. */
+        Lz4,
         None;
     }
 
@@ -373,6 +377,11 @@ enum CompressionFormat {
     private IFileStoreHandler m_fileStoreHandler;
 
     private TableStoreFormat m_outputFormat;
+
+    /** Encodings of the columns if the {@link #m_outputFormat} is the {@link ColumnarTableStoreFormat} and no row has
+     * been written yet, used to fall back to the default format for cells the columnar format can't restore. */
+    private ColumnarTableStoreFormat.ColumnEncoding[] m_columnarEncodings;
+
     private AbstractTableStoreWriter m_outputWriter;
     private AbstractTableStoreReader m_outputReader;
 
@@ -394,6 +403,10 @@ enum CompressionFormat {
     /** the list that keeps up to m_maxRowsInMem in memory. */
     private List<BlobSupportDataRow> m_list;
 
+    /** Column kinds used to keep rows in {@link #m_list} as {@link PrimitiveBlobSupportDataRow}, null if rows are
+     * kept as they are added. */
+    private PrimitiveBlobSupportDataRow.Kind[] m_primitiveKinds;
+
     private int[] m_indicesOfBlobInColumns;
 
     /** the spec the rows comply with, no checking is done, however. */
@@ -450,6 +463,8 @@ enum CompressionFormat {
         m_fileStoreHandler = fileStoreHandler;
         m_dataRepository = dataRepository;
         m_spec = spec;
+        m_primitiveKinds =
+            PrimitiveBlobSupportDataRow.isEnabled() ? PrimitiveBlobSupportDataRow.Kind.getKinds(spec) : null;
         TableStoreFormat storeFormat = TableStoreFormatRegistry.getInstance().getFormatFor(spec);
         TableStoreFormat prefFormat = TableStoreFormatRegistry.getInstance().getInstanceTableStoreFormat();
         if (storeFormat == prefFormat) {
@@ -459,6 +474,9 @@ enum CompressionFormat {
                     + "using '%s' instead", prefFormat.getClass().getName(), storeFormat.getClass().getName());
         }
         m_outputFormat = storeFormat;
+        if (storeFormat instanceof ColumnarTableStoreFormat) {
+            m_columnarEncodings = ColumnarTableStoreFormat.getEncodings(spec);
+        }
         BufferTracker.getInstance().bufferCreated(this);
     }
 
@@ -571,8 +589,14 @@ int validateVersion(final String version) {
     synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final boolean forceCopyOfBlobs) {
         try {
             BlobSupportDataRow row = saveBlobsAndFileStores(r, isCopyOfExisting, forceCopyOfBlobs);
+            if (m_columnarEncodings != null) {
+                checkColumnarFormat(row);
+            }
             getAndIncrementSize();
             if ((m_list != null) && (m_maxRowsInMem > 0)) {
+                if (m_primitiveKinds != null) {
+                    row = PrimitiveBlobSupportDataRow.compact(m_primitiveKinds, row);
+                }
                 m_list.add(row);
                 if (m_list.size() > m_maxRowsInMem) {
                     flushBuffer();
@@ -601,6 +625,24 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
         }
     } // addRow(DataRow)
 
+    /**
+     * Switches to the default format if the row contains cells the {@link ColumnarTableStoreFormat} can't restore
+     * (e.g. an {@link org.knime.core.data.def.IntCell} in a {@link org.knime.core.data.def.DoubleCell} column). That
+     * is only possible as long as no row has been written; later rows are rejected by the writer.
+     */
+    private void checkColumnarFormat(final DataRow row) {
+        if (m_outputWriter != null) {
+            m_columnarEncodings = null;
+        } else if (!ColumnarTableStoreFormat.accepts(m_columnarEncodings, row)) {
+            // the registry lists the (always present) DefaultTableStoreFormat first
+            m_outputFormat = TableStoreFormatRegistry.getInstance().getTableStoreFormats().get(0);
+            m_columnarEncodings = null;
+            LOGGER.debugWithFormat("Cannot use table format '%s' as row \"%s\" contains cells of unsupported class, "
+                + "using '%s' instead", ColumnarTableStoreFormat.class.getName(), row.getKey(),
+                m_outputFormat.getClass().getName());
+        }
+    }
+
     /**
      * Write all rows from list into file. Used while rows are added and if low mem condition is met.
      *
@@ -1270,8 +1312,8 @@ BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellClassInfo
             Buffer blobBuffer = cnTbl.getBuffer();
             return blobBuffer.readBlobDataCell(blobAddress, cl);
         }
-        SoftReference<BlobDataCell> softRef = m_blobLRUCache.get(blobAddress);
-        BlobDataCell result = softRef != null ? softRef.get() : null;
+        final BlobCache blobCache = BlobCache.getInstance();
+        BlobDataCell result = blobCache.get(m_blobCacheID, blobAddress);
         if (result != null) {
             return result;
         }
@@ -1280,10 +1322,20 @@ BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellClassInfo
         } else {
             result = BufferFromFileIteratorVersion20.readBlobDataCell(blobAddress, cl, this);
         }
-        m_blobLRUCache.put(blobAddress, new SoftReference<BlobDataCell>(result));
+        m_hasCachedBlobs = true;
+        blobCache.put(m_blobCacheID, blobAddress, result, estimateBlobSize(blobAddress));
         return result;
     }
 
+    /** Estimate of the memory footprint of a blob, based on its file size (the file was just read). */
+    private long estimateBlobSize(final BlobAddress blobAddress) throws IOException {
+        boolean isCompress = blobAddress.isUseCompression();
+        long fileSize = getBlobFile(blobAddress.getIndexOfBlobInColumn(), blobAddress.getColumn(), false, isCompress)
+            .length();
+        // assume gzip halves the size on average
+        return isCompress ? 2 * fileSize : fileSize;
+    }
+
     private void ensureBlobDirExists() throws IOException {
         if (m_blobDir == null) {
             ensureTempFileExists();
@@ -1408,6 +1460,45 @@ synchronized RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder(
         }
     }
 
+    /**
+     * Returns an iterator starting at the argument row. Unlike {@link #iteratorBuilder()} this does not read the
+     * table back into memory.
+     *
+     * @param rowIndex the index of the first row
+     * @return a new iterator
+     */
+    synchronized CloseableRowIterator iteratorFrom(final long rowIndex) {
+        CheckUtils.checkArgument(rowIndex >= 0, "Row index must not be negative: %d", rowIndex);
+        if (usesOutFile()) {
+            return m_outputReader.iteratorFrom(rowIndex);
+        }
+        FromListIterator it = new FromListIterator();
+        it.skipTo(rowIndex);
+        return it;
+    }
+
+    /**
+     * @return whether {@link #iteratorFrom(long)} positions the iterator without iterating over the leading rows,
+     *         true for tables kept in memory
+     */
+    synchronized boolean isRandomAccessSupported() {
+        return !usesOutFile() || m_outputReader.isRandomAccessSupported();
+    }
+
+    /**
+     * @param rowIndex the index of the row
+     * @return the row at the argument index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    DataRow getRow(final long rowIndex) {
+        if (rowIndex < 0 || rowIndex >= size()) {
+            throw new IndexOutOfBoundsException("Row index " + rowIndex + " out of range [0, " + size() + ")");
+        }
+        try (CloseableRowIterator it = iteratorFrom(rowIndex)) {
+            return it.next();
+        }
+    }
+
     /**
      * True if any row containing blob cells is contained in this buffer.
      *
@@ -1627,8 +1718,9 @@ synchronized void clear() {
         if (m_fileStoreHandler instanceof NotInWorkflowWriteFileStoreHandler) {
             m_fileStoreHandler.clearAndDispose();
         }
-        if (m_blobLRUCache != null) {
-            m_blobLRUCache.clear();
+        if (m_hasCachedBlobs) {
+            BlobCache.getInstance().invalidate(m_blobCacheID);
+            m_hasCachedBlobs = false;
         }
         m_binFile = null;
         m_blobDir = null;
@@ -1685,36 +1777,6 @@ synchronized void flushBuffer() {
         }
     }
 
-    /** Last recently used cache for blobs. */
-    private static final class BlobLRUCache extends LinkedHashMap<BlobAddress, SoftReference<BlobDataCell>> {
-
-        /** Default constructor, instructs for access order. */
-        BlobLRUCache() {
-            super(16, 0.75f, true); // args copied from HashMap implementation
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        protected synchronized boolean removeEldestEntry(final Entry<BlobAddress, SoftReference<BlobDataCell>> eldest) {
-            return size() >= 100;
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> get(final Object key) {
-            return super.get(key);
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> put(final BlobAddress key,
-                                                            final SoftReference<BlobDataCell> value) {
-            return super.put(key, value);
-        }
-
-    }
-
-
     /**
      * Iterator to be used when data is contained in m_list. It uses access by index rather than wrapping an
      * java.util.Iterator as the list may be simultaneously modified while reading (in case the content is fetched from
@@ -1771,6 +1833,18 @@ public DataRow next() {
             }
         }
 
+        /** Moves the iterator forward so that the next row returned is the row with the argument index. */
+        void skipTo(final long rowIndex) {
+            if (m_backIntoMemoryIterator == null) {
+                // all rows in list
+                m_nextIndex = (int)Math.min(Math.max(rowIndex, m_nextIndex), size());
+            } else {
+                while (m_nextIndex < rowIndex && hasNext()) {
+                    next();
+                }
+            }
+        }
+
         /** {@inheritDoc} */
         @Override
         public void close() {
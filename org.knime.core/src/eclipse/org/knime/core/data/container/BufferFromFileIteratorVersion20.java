@@ -60,6 +60,7 @@
 import org.knime.core.data.DataCellSerializer;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DCObjectInputVersion2.BlockableDCObjectInputVersion2;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
@@ -84,7 +85,7 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     private final DefaultTableStoreReader m_tableFormatReader;
 
     /** Row pointer. */
-    private int m_pointer;
+    private long m_pointer;
 
     /** Content of the rows that get returned in {@link #next()} when the
      * table is {@link #close()}'d. Will be instantiated lazy. */
@@ -102,20 +103,61 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     /** Utility object with designated functionality to deserialize datacell. */
     private DataCellStreamReader m_dataCellStreamReader;
 
-    /** Inits iterator, opens input stream.
+    /** Flags for the columns to deserialize, null if all columns are deserialized. */
+    private final boolean[] m_isMaterialized;
+
+    /** Collects the values of primitive columns, null if rows are returned with cell arrays. */
+    private final PrimitiveBlobSupportDataRow.Builder m_primitiveRowBuilder;
+
+    /** Inits iterator, opens input stream. Cells of columns not contained in the argument array are skipped on the
+     * stream and returned as {@link UnmaterializedCell}.
      * @param tableFormatReader The associated buffer.
+     * @param materializedColumns The indices of the columns to deserialize or null to deserialize all columns.
+     * @param startRow The index of the first row to return; the stream is positioned using the row index of the
+     * file, if available, otherwise leading rows are skipped.
      * @throws IOException If stream reading fails.
      */
-    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader,
+        final int[] materializedColumns, final long startRow) throws IOException {
         m_pointer = 0;
         if (tableFormatReader.getBinFile() == null) {
             throw new IOException("Unable to read table from file, "
                     + "table has been cleared.");
         }
         m_tableFormatReader = tableFormatReader;
+        if (materializedColumns != null) {
+            m_isMaterialized = new boolean[tableFormatReader.getTableSpec().getNumColumns()];
+            for (int i : materializedColumns) {
+                m_isMaterialized[i] = true;
+            }
+        } else {
+            m_isMaterialized = null;
+        }
+        final PrimitiveBlobSupportDataRow.Kind[] kinds = PrimitiveBlobSupportDataRow.isEnabled()
+            ? PrimitiveBlobSupportDataRow.Kind.getKinds(tableFormatReader.getTableSpec()) : null;
+        m_primitiveRowBuilder = kinds != null ? new PrimitiveBlobSupportDataRow.Builder(kinds) : null;
         assert m_tableFormatReader.getReadVersion() >= 6 : "Iterator is not backward "
             + "compatible, use instead "
             + BufferFromFileIteratorVersion1x.class.getSimpleName();
+        final long seekableRow = tableFormatReader.getSeekableRow(startRow);
+        if (seekableRow > 0) {
+            m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
+            m_inStream = new BlockableDCObjectInputVersion2(tableFormatReader.openStreamAtRow(seekableRow),
+                m_dataCellStreamReader);
+            m_pointer = seekableRow;
+        } else {
+            m_inStream = openStream(tableFormatReader);
+        }
+        try {
+            skipRows(startRow - m_pointer);
+        } catch (IOException ioe) {
+            m_inStream.close();
+            throw ioe;
+        }
+    }
+
+    private BlockableDCObjectInputVersion2 openStream(final DefaultTableStoreReader tableFormatReader)
+        throws IOException {
         BufferedInputStream bufferedStream =
             new BufferedInputStream(new FileInputStream(tableFormatReader.getBinFile()));
         InputStream in;
@@ -125,6 +167,9 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
                 // buffering is important when reading gzip streams
                 in = new BufferedInputStream(in);
                 break;
+            case Lz4:
+                in = new LZ4BlockInputStream(bufferedStream);
+                break;
             case None:
                 in = bufferedStream;
                 break;
@@ -132,7 +177,25 @@ public final class BufferFromFileIteratorVersion20 extends FromFileIterator {
                 throw new IOException("Unsupported compression format: " + tableFormatReader.getBinFileCompressionFormat());
         }
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
-        m_inStream = new BlockableDCObjectInputVersion2(in, m_dataCellStreamReader);
+        return new BlockableDCObjectInputVersion2(in, m_dataCellStreamReader);
+    }
+
+    /** Skips the argument number of rows on the stream (without deserializing any cell). */
+    private void skipRows(final long count) throws IOException {
+        final int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
+        for (long r = 0; r < count && m_pointer < m_tableFormatReader.size(); r++) {
+            if (m_tableFormatReader.isReadRowKey()) {
+                m_inStream.endBlock();
+            }
+            for (int i = 0; i < colCount; i++) {
+                m_inStream.endBlock();
+            }
+            byte eoRow = m_inStream.readControlByte();
+            if (eoRow != BYTE_ROW_SEPARATOR) {
+                throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
+            }
+            m_pointer++;
+        }
     }
 
     /** {@inheritDoc} */
@@ -175,12 +238,21 @@ public synchronized BlobSupportDataRow next() {
             String keyS = "Read_failed__auto_generated_key_" + m_pointer;
             key = new RowKey(keyS);
         }
-        DataCell[] cells = new DataCell[colCount];
+        final PrimitiveBlobSupportDataRow.Builder builder = m_primitiveRowBuilder;
+        DataCell[] cells = builder == null ? new DataCell[colCount] : null;
         for (int i = 0; i < colCount; i++) {
             DataCell nextCell;
             try {
                 try {
-                    nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    if (m_isMaterialized != null && !m_isMaterialized[i]) {
+                        // the cell is skipped as part of ending the block
+                        nextCell = UnmaterializedCell.getInstance();
+                    } else if (builder != null) {
+                        // null if the value was read as primitive
+                        nextCell = m_dataCellStreamReader.readDataCell(m_inStream, builder, i);
+                    } else {
+                        nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    }
                 } finally {
                     m_inStream.endBlock();
                 }
@@ -188,7 +260,11 @@ public synchronized BlobSupportDataRow next() {
                 handleReadThrowable(e);
                 nextCell = DataType.getMissingCell();
             }
-            cells[i] = nextCell;
+            if (builder == null) {
+                cells[i] = nextCell;
+            } else if (nextCell != null) {
+                builder.setCell(i, nextCell);
+            }
         }
         try {
             byte eoRow = inStream.readControlByte();
@@ -201,7 +277,7 @@ public synchronized BlobSupportDataRow next() {
         } finally {
             m_pointer++;
         }
-        return new BlobSupportDataRow(key, cells);
+        return builder == null ? new BlobSupportDataRow(key, cells) : builder.build(key);
     }
 
     /** Reads a row key from the stream and ends the block. In case of buffers
@@ -334,6 +410,42 @@ public DataCell readDataCell(final DCObjectInputVersion2 inStream) throws IOExce
             inStream.setCurrentClassLoader(null);
 
             byte identifier = inStream.readControlByte();
+            return readDataCell(inStream, identifier);
+        }
+
+        /**
+         * Reads a data cell from the argument stream into a primitive row builder. Int, long, double and boolean
+         * values in columns of the respective type are read without creating a cell.
+         *
+         * @param inStream To read from.
+         * @param builder To put primitive values into.
+         * @param index The column index.
+         * @return null if the value was put into the builder, otherwise the cell being read
+         * @throws IOException If exceptions occur.
+         */
+        DataCell readDataCell(final DCObjectInputVersion2 inStream, final PrimitiveBlobSupportDataRow.Builder builder,
+            final int index) throws IOException {
+            inStream.setCurrentClassLoader(null);
+
+            byte identifier = inStream.readControlByte();
+            final PrimitiveBlobSupportDataRow.Kind kind = builder.getKind(index);
+            if (kind != PrimitiveBlobSupportDataRow.Kind.OBJECT) {
+                if (identifier == BYTE_TYPE_MISSING) {
+                    builder.setMissing(index);
+                    return null;
+                }
+                if (identifier != BYTE_TYPE_SERIALIZATION
+                    && m_tableFormatReader.getTypeForChar(identifier).getCellClass() == kind.getCellClass()) {
+                    builder.setBits(index, kind.read(inStream.getDataInput()));
+                    return null;
+                }
+            }
+            return readDataCell(inStream, identifier);
+        }
+
+        private DataCell readDataCell(final DCObjectInputVersion2 inStream, final byte typeIdentifier)
+            throws IOException {
+            byte identifier = typeIdentifier;
             if (identifier == BYTE_TYPE_MISSING) {
                 return DataType.getMissingCell();
             }
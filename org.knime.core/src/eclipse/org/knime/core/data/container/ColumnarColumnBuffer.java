@@ -0,0 +1,890 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnEncoding;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * The in-memory representation of a single column of a chunk in the {@link ColumnarTableStoreFormat}. Instances are
+ * used by the writer to collect the values of a chunk and by the reader to hold the decoded values of the current
+ * chunk. They are re-used across chunks.
+ *
+ * <p>
+ * Serialized layout of a column block (all numbers big endian):
+ * <pre>
+ *   int    length of the remaining block in bytes
+ *   byte   flags (bit 0: block contains missing values, bit 1: payload is dictionary encoded)
+ *   long[] missing bitmap, only present if flag is set ((n + 63) / 64 longs)
+ *   ...    payload, depending on the {@link ColumnEncoding}
+ * </pre>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class ColumnarColumnBuffer {
+
+    private static final byte FLAG_HAS_MISSING = 1;
+
+    /** Flag set by {@link StringColumnBuffer} for dictionary encoded blocks. */
+    static final byte FLAG_DICTIONARY = 2;
+
+    private final long[] m_missing;
+
+    private boolean m_hasMissing;
+
+    private int m_size;
+
+    private ByteBuffer m_ioBuffer;
+
+    /** @param capacity maximum number of values in a chunk */
+    ColumnarColumnBuffer(final int capacity) {
+        m_missing = new long[bitmapLength(capacity)];
+    }
+
+    /**
+     * @param encoding the column encoding
+     * @param capacity maximum number of values in a chunk
+     * @return a new buffer for the argument encoding
+     */
+    static ColumnarColumnBuffer create(final ColumnEncoding encoding, final int capacity) {
+        switch (encoding) {
+            case INT:
+                return new IntColumnBuffer(capacity);
+            case LONG:
+                return new LongColumnBuffer(capacity);
+            case DOUBLE:
+                return new DoubleColumnBuffer(capacity);
+            case BOOLEAN:
+                return new BooleanColumnBuffer(capacity);
+            case STRING:
+                return new StringColumnBuffer(capacity, true);
+            default:
+                throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+        }
+    }
+
+    private static int bitmapLength(final int nrBits) {
+        return (nrBits + 63) >>> 6;
+    }
+
+    /** @return number of values in this buffer */
+    final int size() {
+        return m_size;
+    }
+
+    /** Increments the size counter, used by subclasses adding values outside {@link #add(DataCell)}. */
+    final void markAdded() {
+        m_size++;
+    }
+
+    /** Clears the content so that the next chunk can be collected. */
+    void clear() {
+        if (m_hasMissing) {
+            Arrays.fill(m_missing, 0L);
+            m_hasMissing = false;
+        }
+        m_size = 0;
+    }
+
+    /**
+     * Appends a cell.
+     *
+     * @param cell to add, not null
+     * @throws IOException If the cell is not compatible with the encoding of this column.
+     */
+    final void add(final DataCell cell) throws IOException {
+        final int index = m_size++;
+        if (cell.isMissing()) {
+            m_missing[index >>> 6] |= 1L << index;
+            m_hasMissing = true;
+            addMissing(index);
+        } else {
+            addValue(index, cell);
+        }
+    }
+
+    /**
+     * @param index the row index in the current chunk
+     * @return whether the value at the given index is missing
+     */
+    final boolean isMissing(final int index) {
+        return m_hasMissing && (m_missing[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    /**
+     * @param index the row index in the current chunk
+     * @return a new cell representing the value at the argument index
+     */
+    final DataCell getCell(final int index) {
+        return isMissing(index) ? DataType.getMissingCell() : getValue(index);
+    }
+
+    /**
+     * Write the content of this buffer, including the length prefix.
+     *
+     * @param out to write to
+     * @throws IOException if that fails
+     */
+    final void writeTo(final DataOutputStream out) throws IOException {
+        final int bitmapBytes = m_hasMissing ? bitmapLength(m_size) * Long.BYTES : 0;
+        final int length = 1 + bitmapBytes + getPayloadLength();
+        ByteBuffer buffer = ensureIOBuffer(length);
+        buffer.put((byte)((m_hasMissing ? FLAG_HAS_MISSING : 0) | getEncodingFlags()));
+        if (m_hasMissing) {
+            buffer.asLongBuffer().put(m_missing, 0, bitmapLength(m_size));
+            buffer.position(buffer.position() + bitmapBytes);
+        }
+        writePayload(buffer);
+        assert buffer.position() == length : "Column block length mismatch: " + buffer.position() + " vs. " + length;
+        out.writeInt(length);
+        out.write(buffer.array(), 0, length);
+    }
+
+    /**
+     * Reads the next column block from the stream, replacing the current content.
+     *
+     * @param in to read from
+     * @param nrRows number of rows in the chunk (as read from the chunk header)
+     * @throws IOException if that fails or the stream is corrupt
+     */
+    final void readFrom(final DataInputStream in, final int nrRows) throws IOException {
+        final int length = in.readInt();
+        ByteBuffer buffer = ensureIOBuffer(length);
+        in.readFully(buffer.array(), 0, length);
+        buffer.limit(length);
+        clear();
+        final byte flags = buffer.get();
+        m_hasMissing = (flags & FLAG_HAS_MISSING) != 0;
+        if (m_hasMissing) {
+            final int bitmapLength = bitmapLength(nrRows);
+            buffer.asLongBuffer().get(m_missing, 0, bitmapLength);
+            buffer.position(buffer.position() + bitmapLength * Long.BYTES);
+        }
+        readPayload(buffer, nrRows, flags);
+        if (buffer.hasRemaining()) {
+            throw new IOException("Corrupt column block, " + buffer.remaining() + " unread bytes");
+        }
+        m_size = nrRows;
+    }
+
+    /**
+     * Skips the next column block in the stream without decoding it.
+     *
+     * @param in to read from
+     * @throws IOException if that fails
+     */
+    static void skip(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new IOException("Unexpected end of stream while skipping column block of " + length + " bytes");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private ByteBuffer ensureIOBuffer(final int length) {
+        if (m_ioBuffer == null || m_ioBuffer.capacity() < length) {
+            m_ioBuffer = ByteBuffer.allocate(Math.max(length, 1024));
+        }
+        m_ioBuffer.clear();
+        return m_ioBuffer;
+    }
+
+    /** Called when a missing cell is added, subclasses may need to fill in a dummy value. */
+    abstract void addMissing(int index);
+
+    /** Adds a non-missing cell. */
+    abstract void addValue(int index, DataCell cell) throws IOException;
+
+    /** Creates a cell for a non-missing value. */
+    abstract DataCell getValue(int index);
+
+    /** @return the number of bytes written in {@link #writePayload(ByteBuffer)}. */
+    abstract int getPayloadLength();
+
+    /** Writes the payload of the current chunk. */
+    abstract void writePayload(ByteBuffer buffer);
+
+    /** Reads the payload of a chunk with the given number of rows. */
+    abstract void readPayload(ByteBuffer buffer, int nrRows) throws IOException;
+
+    /** @return flags describing the payload written in {@link #writePayload(ByteBuffer)}, 0 by default. */
+    byte getEncodingFlags() {
+        return 0;
+    }
+
+    /** Reads the payload of a chunk given the flags of the block, delegates to {@link #readPayload(ByteBuffer, int)}
+     * by default. */
+    void readPayload(final ByteBuffer buffer, final int nrRows, final byte flags) throws IOException {
+        readPayload(buffer, nrRows);
+    }
+
+    /** Creates an exception for cells not matching the column encoding. Only cells of exactly the cell class of the
+     * column are accepted as cells are restored as that class; values of subtypes (e.g. an {@link IntCell} in a
+     * {@link DoubleCell} column) would otherwise silently change their type. */
+    static IOException newIncompatibleCellException(final DataCell cell, final Class<? extends DataCell> expected) {
+        return new IOException(String.format("Cell of class \"%s\" is not supported in a \"%s\" column of the "
+            + "columnar table format", cell.getClass().getName(), expected.getSimpleName()));
+    }
+
+    /** Buffer for {@link IntCell} columns. */
+    static final class IntColumnBuffer extends ColumnarColumnBuffer {
+
+        private final int[] m_values;
+
+        IntColumnBuffer(final int capacity) {
+            super(capacity);
+            m_values = new int[capacity];
+        }
+
+        @Override
+        void addMissing(final int index) {
+            m_values[index] = 0;
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            if (cell.getClass() != IntCell.class) {
+                throw newIncompatibleCellException(cell, IntCell.class);
+            }
+            m_values[index] = ((IntCell)cell).getIntValue();
+        }
+
+        @Override
+        DataCell getValue(final int index) {
+            return new IntCell(m_values[index]);
+        }
+
+        /**
+         * @param index row index in chunk
+         * @return the primitive value (0 for missing values)
+         */
+        int getInt(final int index) {
+            return m_values[index];
+        }
+
+        @Override
+        int getPayloadLength() {
+            return size() * Integer.BYTES;
+        }
+
+        @Override
+        void writePayload(final ByteBuffer buffer) {
+            buffer.asIntBuffer().put(m_values, 0, size());
+            buffer.position(buffer.position() + getPayloadLength());
+        }
+
+        @Override
+        void readPayload(final ByteBuffer buffer, final int nrRows) {
+            buffer.asIntBuffer().get(m_values, 0, nrRows);
+            buffer.position(buffer.position() + nrRows * Integer.BYTES);
+        }
+    }
+
+    /** Buffer for {@link LongCell} columns. */
+    static final class LongColumnBuffer extends ColumnarColumnBuffer {
+
+        private final long[] m_values;
+
+        LongColumnBuffer(final int capacity) {
+            super(capacity);
+            m_values = new long[capacity];
+        }
+
+        @Override
+        void addMissing(final int index) {
+            m_values[index] = 0L;
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            if (cell.getClass() != LongCell.class) {
+                throw newIncompatibleCellException(cell, LongCell.class);
+            }
+            m_values[index] = ((LongCell)cell).getLongValue();
+        }
+
+        @Override
+        DataCell getValue(final int index) {
+            return new LongCell(m_values[index]);
+        }
+
+        /**
+         * @param index row index in chunk
+         * @return the primitive value (0 for missing values)
+         */
+        long getLong(final int index) {
+            return m_values[index];
+        }
+
+        @Override
+        int getPayloadLength() {
+            return size() * Long.BYTES;
+        }
+
+        @Override
+        void writePayload(final ByteBuffer buffer) {
+            buffer.asLongBuffer().put(m_values, 0, size());
+            buffer.position(buffer.position() + getPayloadLength());
+        }
+
+        @Override
+        void readPayload(final ByteBuffer buffer, final int nrRows) {
+            buffer.asLongBuffer().get(m_values, 0, nrRows);
+            buffer.position(buffer.position() + nrRows * Long.BYTES);
+        }
+    }
+
+    /** Buffer for {@link DoubleCell} columns. */
+    static final class DoubleColumnBuffer extends ColumnarColumnBuffer {
+
+        private final double[] m_values;
+
+        DoubleColumnBuffer(final int capacity) {
+            super(capacity);
+            m_values = new double[capacity];
+        }
+
+        @Override
+        void addMissing(final int index) {
+            m_values[index] = Double.NaN;
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            if (cell.getClass() != DoubleCell.class) {
+                throw newIncompatibleCellException(cell, DoubleCell.class);
+            }
+            m_values[index] = ((DoubleCell)cell).getDoubleValue();
+        }
+
+        @Override
+        DataCell getValue(final int index) {
+            return new DoubleCell(m_values[index]);
+        }
+
+        /**
+         * @param index row index in chunk
+         * @return the primitive value ({@link Double#NaN} for missing values)
+         */
+        double getDouble(final int index) {
+            return m_values[index];
+        }
+
+        @Override
+        int getPayloadLength() {
+            return size() * Double.BYTES;
+        }
+
+        @Override
+        void writePayload(final ByteBuffer buffer) {
+            buffer.asDoubleBuffer().put(m_values, 0, size());
+            buffer.position(buffer.position() + getPayloadLength());
+        }
+
+        @Override
+        void readPayload(final ByteBuffer buffer, final int nrRows) {
+            buffer.asDoubleBuffer().get(m_values, 0, nrRows);
+            buffer.position(buffer.position() + nrRows * Double.BYTES);
+        }
+    }
+
+    /** Buffer for {@link BooleanCell} columns, values are stored as bitmap. */
+    static final class BooleanColumnBuffer extends ColumnarColumnBuffer {
+
+        private final long[] m_values;
+
+        BooleanColumnBuffer(final int capacity) {
+            super(capacity);
+            m_values = new long[bitmapLength(capacity)];
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            Arrays.fill(m_values, 0L);
+        }
+
+        @Override
+        void addMissing(final int index) {
+            // bit is already cleared
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            if (cell.getClass() != BooleanCell.class) {
+                throw newIncompatibleCellException(cell, BooleanCell.class);
+            }
+            if (((BooleanCell)cell).getBooleanValue()) {
+                m_values[index >>> 6] |= 1L << index;
+            }
+        }
+
+        @Override
+        DataCell getValue(final int index) {
+            return BooleanCell.get(getBoolean(index));
+        }
+
+        /**
+         * @param index row index in chunk
+         * @return the primitive value (false for missing values)
+         */
+        boolean getBoolean(final int index) {
+            return (m_values[index >>> 6] & (1L << index)) != 0L;
+        }
+
+        @Override
+        int getPayloadLength() {
+            return bitmapLength(size()) * Long.BYTES;
+        }
+
+        @Override
+        void writePayload(final ByteBuffer buffer) {
+            buffer.asLongBuffer().put(m_values, 0, bitmapLength(size()));
+            buffer.position(buffer.position() + getPayloadLength());
+        }
+
+        @Override
+        void readPayload(final ByteBuffer buffer, final int nrRows) {
+            final int length = bitmapLength(nrRows);
+            buffer.asLongBuffer().get(m_values, 0, length);
+            buffer.position(buffer.position() + length * Long.BYTES);
+        }
+    }
+
+    /**
+     * Buffer for {@link StringCell} columns (also used for row keys). The payload is either an int array of end offsets
+     * followed by the encoded strings or, if the chunk contains only few distinct values, a dictionary:
+     * <pre>
+     *   int    number of distinct values (d)
+     *   int[]  end offsets of the distinct values (d ints)
+     *   byte[] encoded distinct values
+     *   codes  index into the dictionary per row, one byte each if d &lt;= 256, otherwise two bytes each
+     * </pre>
+     * Dictionary encoded chunks are decoded into one {@link StringCell} per distinct value, which is shared by all
+     * rows (and, via {@link #setCanonicalCells(Iterable)}, across chunks). Strings are encoded in modified UTF-8, the
+     * encoding of {@link java.io.DataOutput#writeUTF(String)} (also used for cells and row keys in the default table
+     * format), so that any string is restored unchanged.
+     */
+    static final class StringColumnBuffer extends ColumnarColumnBuffer {
+
+        /** Maximum number of distinct values in a dictionary encoded chunk. */
+        static final int MAX_DICTIONARY_SIZE = 1 << 12;
+
+        /** Maximum number of cells kept in {@link #m_canonicalCells}. */
+        private static final int MAX_CANONICAL_CELLS = 1 << 14;
+
+        private final int[] m_endOffsets;
+
+        private byte[] m_data;
+
+        /** Codes into the dictionary per row, valid if {@link #m_dictionary} is not null (write) or
+         * {@link #m_dictionaryCells} is not null (read). */
+        private final short[] m_codes;
+
+        /** Distinct values of the current chunk mapped to their code. Null if dictionary encoding is not used or was
+         * given up because a chunk exceeded {@link #MAX_DICTIONARY_SIZE}; the remaining chunks are then written plain
+         * to avoid the hashing overhead for columns with many distinct values. */
+        private Map<String, Integer> m_dictionary;
+
+        /** Encoded distinct values of the current chunk in order of their code. */
+        private final List<byte[]> m_dictionaryValues;
+
+        /** Cells per code of a dictionary encoded chunk while reading, null for plain chunks. */
+        private StringCell[] m_dictionaryCells;
+
+        /** Cells handed out for dictionary values, shared across chunks. */
+        private final Map<String, StringCell> m_canonicalCells;
+
+        /**
+         * @param capacity maximum number of values in a chunk
+         * @param useDictionary whether chunks with few distinct values are dictionary encoded; false for row keys
+         */
+        StringColumnBuffer(final int capacity, final boolean useDictionary) {
+            super(capacity);
+            m_endOffsets = new int[capacity];
+            m_data = new byte[capacity * 16];
+            m_codes = useDictionary ? new short[capacity] : null;
+            m_dictionary = useDictionary ? new HashMap<>() : null;
+            m_dictionaryValues = useDictionary ? new ArrayList<>() : null;
+            m_canonicalCells = useDictionary ? new HashMap<>() : null;
+        }
+
+        /**
+         * Sets cells that are returned for dictionary encoded values instead of newly created cells, usually the
+         * possible values of the column domain. This way the same cell instances are returned for all chunks.
+         *
+         * @param cells the cells, elements that are not {@link StringCell} are ignored
+         */
+        void setCanonicalCells(final Iterable<? extends DataCell> cells) {
+            if (m_canonicalCells == null) {
+                return;
+            }
+            for (DataCell c : cells) {
+                if (c instanceof StringCell && m_canonicalCells.size() < MAX_CANONICAL_CELLS) {
+                    m_canonicalCells.put(((StringCell)c).getStringValue(), (StringCell)c);
+                }
+            }
+        }
+
+        private int getStart(final int index) {
+            return index == 0 ? 0 : m_endOffsets[index - 1];
+        }
+
+        @Override
+        void clear() {
+            super.clear();
+            if (m_dictionary != null) {
+                m_dictionary.clear();
+                m_dictionaryValues.clear();
+            }
+        }
+
+        @Override
+        void addMissing(final int index) {
+            m_endOffsets[index] = getStart(index);
+            if (m_dictionary != null) {
+                m_codes[index] = 0;
+            }
+        }
+
+        @Override
+        void addValue(final int index, final DataCell cell) throws IOException {
+            if (cell.getClass() != StringCell.class) {
+                throw newIncompatibleCellException(cell, StringCell.class);
+            }
+            addString(index, ((StringCell)cell).getStringValue());
+        }
+
+        /**
+         * Adds a string value (used for row keys).
+         *
+         * @param value non-null value
+         */
+        void addString(final String value) {
+            addString(size(), value);
+            markAdded();
+        }
+
+        private void addString(final int index, final String value) {
+            final byte[] bytes = toModifiedUTF8(value);
+            final int start = getStart(index);
+            final int end = start + bytes.length;
+            if (end > m_data.length) {
+                m_data = Arrays.copyOf(m_data, Math.max(end, m_data.length + (m_data.length >> 1)));
+            }
+            System.arraycopy(bytes, 0, m_data, start, bytes.length);
+            m_endOffsets[index] = end;
+            if (m_dictionary != null) {
+                addToDictionary(index, value, bytes);
+            }
+        }
+
+        private void addToDictionary(final int index, final String value, final byte[] bytes) {
+            Integer code = m_dictionary.get(value);
+            if (code == null) {
+                if (m_dictionaryValues.size() == MAX_DICTIONARY_SIZE) {
+                    // too many distinct values, most likely not a nominal column
+                    m_dictionary = null;
+                    m_dictionaryValues.clear();
+                    return;
+                }
+                code = m_dictionaryValues.size();
+                m_dictionary.put(value, code);
+                m_dictionaryValues.add(bytes);
+            }
+            m_codes[index] = (short)code.intValue();
+        }
+
+        @Override
+        DataCell getValue(final int index) {
+            if (m_dictionaryCells != null) {
+                return m_dictionaryCells[m_codes[index] & 0xFFFF];
+            }
+            return new StringCell(getString(index));
+        }
+
+        /**
+         * @param index row index in chunk
+         * @return the string value (empty string for missing values)
+         */
+        String getString(final int index) {
+            if (m_dictionaryCells != null) {
+                return isMissing(index) ? "" : m_dictionaryCells[m_codes[index] & 0xFFFF].getStringValue();
+            }
+            final int start = getStart(index);
+            return fromModifiedUTF8(m_data, start, m_endOffsets[index] - start);
+        }
+
+        /** @return whether the current chunk is written dictionary encoded, i.e. that is shorter than plain. Chunks
+         * with only missing values are written plain as there is no value to put into the dictionary. */
+        private boolean isWriteDictionary() {
+            return m_dictionary != null && !m_dictionaryValues.isEmpty()
+                && getDictionaryPayloadLength() < getPlainPayloadLength();
+        }
+
+        private int getPlainPayloadLength() {
+            final int size = size();
+            return size * Integer.BYTES + (size == 0 ? 0 : m_endOffsets[size - 1]);
+        }
+
+        private int getDictionaryPayloadLength() {
+            int length = Integer.BYTES * (1 + m_dictionaryValues.size());
+            for (byte[] v : m_dictionaryValues) {
+                length += v.length;
+            }
+            return length + size() * getCodeLength(m_dictionaryValues.size());
+        }
+
+        private static int getCodeLength(final int dictionarySize) {
+            return dictionarySize <= 256 ? Byte.BYTES : Short.BYTES;
+        }
+
+        @Override
+        byte getEncodingFlags() {
+            return isWriteDictionary() ? FLAG_DICTIONARY : 0;
+        }
+
+        @Override
+        int getPayloadLength() {
+            return isWriteDictionary() ? getDictionaryPayloadLength() : getPlainPayloadLength();
+        }
+
+        @Override
+        void writePayload(final ByteBuffer buffer) {
+            final int size = size();
+            if (isWriteDictionary()) {
+                final int dictionarySize = m_dictionaryValues.size();
+                buffer.putInt(dictionarySize);
+                final int offsetsPosition = buffer.position();
+                buffer.position(offsetsPosition + dictionarySize * Integer.BYTES);
+                int end = 0;
+                for (int i = 0; i < dictionarySize; i++) {
+                    final byte[] bytes = m_dictionaryValues.get(i);
+                    buffer.put(bytes);
+                    end += bytes.length;
+                    buffer.putInt(offsetsPosition + i * Integer.BYTES, end);
+                }
+                if (getCodeLength(dictionarySize) == Byte.BYTES) {
+                    for (int i = 0; i < size; i++) {
+                        buffer.put((byte)m_codes[i]);
+                    }
+                } else {
+                    buffer.asShortBuffer().put(m_codes, 0, size);
+                    buffer.position(buffer.position() + size * Short.BYTES);
+                }
+            } else {
+                buffer.asIntBuffer().put(m_endOffsets, 0, size);
+                buffer.position(buffer.position() + size * Integer.BYTES);
+                buffer.put(m_data, 0, size == 0 ? 0 : m_endOffsets[size - 1]);
+            }
+        }
+
+        @Override
+        void readPayload(final ByteBuffer buffer, final int nrRows, final byte flags) throws IOException {
+            if ((flags & FLAG_DICTIONARY) != 0) {
+                readDictionaryPayload(buffer, nrRows);
+            } else {
+                m_dictionaryCells = null;
+                readPayload(buffer, nrRows);
+            }
+        }
+
+        @Override
+        void readPayload(final ByteBuffer buffer, final int nrRows) throws IOException {
+            buffer.asIntBuffer().get(m_endOffsets, 0, nrRows);
+            buffer.position(buffer.position() + nrRows * Integer.BYTES);
+            final int dataLength = nrRows == 0 ? 0 : m_endOffsets[nrRows - 1];
+            if (dataLength != buffer.remaining()) {
+                throw new IOException("Corrupt string column block, expected " + dataLength + " bytes but got "
+                    + buffer.remaining());
+            }
+            if (m_data.length < dataLength) {
+                m_data = new byte[dataLength];
+            }
+            buffer.get(m_data, 0, dataLength);
+        }
+
+        private void readDictionaryPayload(final ByteBuffer buffer, final int nrRows) throws IOException {
+            if (m_codes == null) {
+                throw new IOException("Corrupt string column block, unexpected dictionary encoding");
+            }
+            final int dictionarySize = buffer.getInt();
+            if (dictionarySize <= 0 || dictionarySize > MAX_DICTIONARY_SIZE) {
+                throw new IOException("Corrupt string column block, invalid dictionary size " + dictionarySize);
+            }
+            final int offsetsPosition = buffer.position();
+            buffer.position(offsetsPosition + dictionarySize * Integer.BYTES);
+            m_dictionaryCells = new StringCell[dictionarySize];
+            int start = 0;
+            for (int i = 0; i < dictionarySize; i++) {
+                final int end = buffer.getInt(offsetsPosition + i * Integer.BYTES);
+                final String value = fromModifiedUTF8(buffer.array(), buffer.position() + start, end - start);
+                m_dictionaryCells[i] = getCanonicalCell(value);
+                start = end;
+            }
+            buffer.position(buffer.position() + start);
+            if (getCodeLength(dictionarySize) == Byte.BYTES) {
+                for (int i = 0; i < nrRows; i++) {
+                    m_codes[i] = (short)(buffer.get() & 0xFF);
+                }
+            } else {
+                buffer.asShortBuffer().get(m_codes, 0, nrRows);
+                buffer.position(buffer.position() + nrRows * Short.BYTES);
+            }
+            for (int i = 0; i < nrRows; i++) {
+                if ((m_codes[i] & 0xFFFF) >= dictionarySize && !isMissing(i)) {
+                    throw new IOException("Corrupt string column block, invalid dictionary code " + m_codes[i]);
+                }
+            }
+        }
+
+        private StringCell getCanonicalCell(final String value) {
+            StringCell cell = m_canonicalCells.get(value);
+            if (cell == null) {
+                cell = new StringCell(value);
+                if (m_canonicalCells.size() < MAX_CANONICAL_CELLS) {
+                    m_canonicalCells.put(value, cell);
+                }
+            }
+            return cell;
+        }
+    }
+
+    /**
+     * Encodes a string in modified UTF-8 as {@link java.io.DataOutput#writeUTF(String)} does (without length prefix
+     * and length limit): characters are encoded individually, '\u0000' and surrogates included.
+     *
+     * @param value the string
+     * @return the encoded bytes
+     */
+    static byte[] toModifiedUTF8(final String value) {
+        final int length = value.length();
+        int utfLength = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                utfLength++;
+            } else if (c > 0x07FF) {
+                utfLength += 3;
+            } else {
+                utfLength += 2;
+            }
+        }
+        final byte[] bytes = new byte[utfLength];
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                bytes[pos++] = (byte)c;
+            } else if (c > 0x07FF) {
+                bytes[pos++] = (byte)(0xE0 | ((c >> 12) & 0x0F));
+                bytes[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+                bytes[pos++] = (byte)(0x80 | (c & 0x3F));
+            } else {
+                bytes[pos++] = (byte)(0xC0 | ((c >> 6) & 0x1F));
+                bytes[pos++] = (byte)(0x80 | (c & 0x3F));
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Decodes a string encoded by {@link #toModifiedUTF8(String)}. Malformed input (which is not written by this
+     * class) is decoded as '\uFFFD'.
+     *
+     * @param bytes the array containing the encoded string
+     * @param offset start of the encoded string
+     * @param length number of bytes of the encoded string
+     * @return the decoded string
+     */
+    static String fromModifiedUTF8(final byte[] bytes, final int offset, final int length) {
+        final char[] chars = new char[length];
+        final int end = offset + length;
+        int count = 0;
+        int i = offset;
+        while (i < end) {
+            final int c = bytes[i] & 0xFF;
+            if (c < 0x80) {
+                chars[count++] = (char)c;
+                i++;
+            } else if ((c >> 5) == 0x06 && i + 1 < end && (bytes[i + 1] & 0xC0) == 0x80) {
+                chars[count++] = (char)(((c & 0x1F) << 6) | (bytes[i + 1] & 0x3F));
+                i += 2;
+            } else if ((c >> 4) == 0x0E && i + 2 < end && (bytes[i + 1] & 0xC0) == 0x80
+                && (bytes[i + 2] & 0xC0) == 0x80) {
+                chars[count++] = (char)(((c & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F));
+                i += 3;
+            } else {
+                chars[count++] = '\uFFFD';
+                i++;
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.IDataRepository;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * A table format that stores tables column-wise. Rows are collected into chunks; each chunk stores every column as
+ * a contiguous block of primitives (ints, longs, doubles, bits) or, for strings, an offset array followed by the
+ * modified UTF-8 encoded data. String columns with few distinct values per chunk (e.g. nominal columns) are
+ * dictionary encoded, i.e. only the distinct values and a one or two byte code per row are stored, and are read back
+ * as shared {@link StringCell} instances (the ones in the column domain, if present). Each column block is prefixed
+ * by its length so that readers that only need some of the columns can skip over the others without decoding them.
+ *
+ * <p>
+ * The format only accepts tables whose columns are all of type {@link IntCell}, {@link LongCell}, {@link DoubleCell},
+ * {@link BooleanCell} or {@link StringCell}; all other tables are written using the {@link DefaultTableStoreFormat}.
+ * Cells of other classes that are compatible to the column type (e.g. an {@link IntCell} in a {@link DoubleCell}
+ * column) are not accepted by the writer; the {@link Buffer} falls back to the {@link DefaultTableStoreFormat} if it
+ * encounters such a cell before the first row is written.
+ * Missing cells are restored as {@link DataType#getMissingCell() plain missing cells}, i.e. an error message attached
+ * to a missing cell is not retained.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** Version string written into the meta information and checked in {@link #validateVersion(String)}. */
+    static final String VERSION = "columnar_1";
+
+    /** Magic number at the beginning of each file ("KCOL"). */
+    static final int MAGIC_NUMBER = 0x4B434F4C;
+
+    /** Version of the binary layout, written after {@link #MAGIC_NUMBER}. */
+    static final int FILE_VERSION = 1;
+
+    /** Config key for the number of rows per chunk as used by the writer (int). */
+    static final String CFG_ROWS_PER_CHUNK = "columnar.rowsPerChunk";
+
+    /** Upper bound for the number of rows kept in a single chunk. */
+    static final int MAX_ROWS_PER_CHUNK = 8192;
+
+    /** Lower bound for the number of rows kept in a single chunk (relevant for very wide tables). */
+    static final int MIN_ROWS_PER_CHUNK = 256;
+
+    /** Approximate number of cells per chunk, used to derive the chunk size for wide tables. */
+    private static final int CELLS_PER_CHUNK = 1 << 20;
+
+    /** The encoding of a single column. */
+    enum ColumnEncoding {
+        /** {@link IntCell} columns, 4 bytes per value. */
+        INT(IntCell.TYPE, IntCell.class),
+        /** {@link LongCell} columns, 8 bytes per value. */
+        LONG(LongCell.TYPE, LongCell.class),
+        /** {@link DoubleCell} columns, 8 bytes per value. */
+        DOUBLE(DoubleCell.TYPE, DoubleCell.class),
+        /** {@link BooleanCell} columns, 1 bit per value. */
+        BOOLEAN(BooleanCell.TYPE, BooleanCell.class),
+        /** {@link StringCell} columns, offset array plus modified UTF-8 data or dictionary encoded. */
+        STRING(StringCell.TYPE, StringCell.class);
+
+        private final DataType m_type;
+
+        private final Class<? extends DataCell> m_cellClass;
+
+        ColumnEncoding(final DataType type, final Class<? extends DataCell> cellClass) {
+            m_type = type;
+            m_cellClass = cellClass;
+        }
+
+        /**
+         * @param cell a non-null cell
+         * @return whether the cell is missing or of exactly the cell class of this encoding. Cells of other classes
+         *         (e.g. an {@link IntCell} in a {@link DoubleCell} column) can't be stored as they would be restored
+         *         as a different class.
+         */
+        boolean accepts(final DataCell cell) {
+            return cell.getClass() == m_cellClass || cell.isMissing();
+        }
+
+        /**
+         * @param type the column type in question
+         * @return the encoding for the type or null if the type is not supported by this format
+         */
+        static ColumnEncoding get(final DataType type) {
+            for (ColumnEncoding e : values()) {
+                if (e.m_type.equals(type)) {
+                    return e;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * @param spec a non-null spec
+     * @return the encodings of all columns in the argument spec, never null.
+     * @throws IllegalArgumentException if any column is not supported
+     */
+    static ColumnEncoding[] getEncodings(final DataTableSpec spec) {
+        ColumnEncoding[] result = new ColumnEncoding[spec.getNumColumns()];
+        for (int i = 0; i < result.length; i++) {
+            DataColumnSpec colSpec = spec.getColumnSpec(i);
+            result[i] = ColumnEncoding.get(colSpec.getType());
+            if (result[i] == null) {
+                throw new IllegalArgumentException(String.format(
+                    "Column \"%s\" of type \"%s\" not supported by columnar table format",
+                    colSpec.getName(), colSpec.getType()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param encodings the encodings as per {@link #getEncodings(DataTableSpec)}
+     * @param row the row to check
+     * @return whether all cells of the row can be stored, see {@link ColumnEncoding#accepts(DataCell)}
+     */
+    static boolean accepts(final ColumnEncoding[] encodings, final DataRow row) {
+        for (int i = 0; i < encodings.length; i++) {
+            if (!encodings[i].accepts(row.getCell(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param nrColumns the number of columns in the table
+     * @return the number of rows per chunk as used by the writer
+     */
+    static int getRowsPerChunk(final int nrColumns) {
+        int rows = CELLS_PER_CHUNK / Math.max(1, nrColumns);
+        return Math.max(MIN_ROWS_PER_CHUNK, Math.min(MAX_ROWS_PER_CHUNK, rows));
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar (primitive types only)";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".kcol";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        return spec.stream().allMatch(c -> ColumnEncoding.get(c.getType()) != null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final IDataRepository dataRepository, final NodeSettingsRO settings, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, version, isReadRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVersion() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateVersion(final String versionString) {
+        return VERSION.equals(versionString);
+    }
+
+}
@@ -0,0 +1,348 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnDomain;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.UnmaterializedCell;
+import org.knime.core.data.container.ColumnarColumnBuffer.BooleanColumnBuffer;
+import org.knime.core.data.container.ColumnarColumnBuffer.DoubleColumnBuffer;
+import org.knime.core.data.container.ColumnarColumnBuffer.IntColumnBuffer;
+import org.knime.core.data.container.ColumnarColumnBuffer.LongColumnBuffer;
+import org.knime.core.data.container.ColumnarColumnBuffer.StringColumnBuffer;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnEncoding;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for the {@link ColumnarTableStoreFormat}. Iterators created via {@link #iterator(int[])} only decode the
+ * selected columns, all other column blocks are skipped on the stream and represented by {@link UnmaterializedCell}
+ * in the returned rows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ColumnarTableStoreReader.class);
+
+    private final ColumnEncoding[] m_encodings;
+
+    private final boolean m_isReadRowKey;
+
+    private final int m_rowsPerChunk;
+
+    /**
+     * Constructs a reader for materializing column-wise stored KNIME tables.
+     *
+     * @param binFile the local file from which to read
+     * @param spec the specification of the data table
+     * @param settings The settings (written by
+     *            {@link AbstractTableStoreWriter#writeMetaInfoAfterWrite(org.knime.core.node.NodeSettingsWO)})
+     * @param version The version as defined in the {@link Buffer} class
+     * @param isReadRowKey whether or not row keys are to be read
+     * @throws IOException any type of I/O problem
+     * @throws InvalidSettingsException if the spec contains unsupported column types or the settings are invalid
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final int version, final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        super(binFile, spec, settings, version);
+        try {
+            m_encodings = ColumnarTableStoreFormat.getEncodings(spec);
+        } catch (IllegalArgumentException iae) {
+            throw new InvalidSettingsException(iae.getMessage(), iae);
+        }
+        m_isReadRowKey = isReadRowKey;
+        m_rowsPerChunk = settings.getInt(ColumnarTableStoreFormat.CFG_ROWS_PER_CHUNK);
+        if (m_rowsPerChunk <= 0) {
+            throw new InvalidSettingsException("Invalid number of rows per chunk: " + m_rowsPerChunk);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iterator() {
+        return openIterator(null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final int[] materializedColumns) {
+        return openIterator(materializedColumns);
+    }
+
+    /**
+     * @param materializedColumns the indices of columns to decode, sorted ascending, or null to decode all columns
+     * @return a new iterator (not yet registered)
+     */
+    private TableStoreCloseableRowIterator openIterator(final int[] materializedColumns) {
+        try {
+            return new ColumnarFromFileIterator(materializedColumns);
+        } catch (IOException ioe) {
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException("Cannot read file \"" + getFile().getName() + "\"", ioe);
+        }
+    }
+
+    /** Iterator reading the file chunk by chunk, decoding only the selected columns. */
+    private final class ColumnarFromFileIterator extends TableStoreCloseableRowIterator {
+
+        private final boolean[] m_isMaterialized;
+
+        private final ColumnarColumnBuffer[] m_columns;
+
+        private final StringColumnBuffer m_rowKeys;
+
+        /** Creates rows holding primitives rather than cells, null if the table has no primitive columns. */
+        private final PrimitiveBlobSupportDataRow.Builder m_rowBuilder;
+
+        private DataInputStream m_inStream;
+
+        /** Overall row pointer. */
+        private long m_pointer;
+
+        /** Row pointer in current chunk. */
+        private int m_indexInChunk;
+
+        private int m_rowsInChunk;
+
+        /** Content of the rows that get returned in {@link #next()} when the table is {@link #close()}'d. */
+        private DataCell[] m_missingCellsForClosedTable;
+
+        ColumnarFromFileIterator(final int[] materializedColumns) throws IOException {
+            final File binFile = getFile();
+            if (binFile == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            m_isMaterialized = new boolean[m_encodings.length];
+            if (materializedColumns == null) {
+                Arrays.fill(m_isMaterialized, true);
+            } else {
+                for (int i : materializedColumns) {
+                    m_isMaterialized[i] = true;
+                }
+            }
+            final int capacity = m_rowsPerChunk;
+            m_columns = new ColumnarColumnBuffer[m_encodings.length];
+            for (int i = 0; i < m_columns.length; i++) {
+                if (m_isMaterialized[i]) {
+                    m_columns[i] = ColumnarColumnBuffer.create(m_encodings[i], capacity);
+                    if (m_columns[i] instanceof StringColumnBuffer) {
+                        // hand out the domain's cells for nominal columns rather than allocating new ones
+                        DataColumnDomain domain = getSpec().getColumnSpec(i).getDomain();
+                        if (domain.hasValues()) {
+                            ((StringColumnBuffer)m_columns[i]).setCanonicalCells(domain.getValues());
+                        }
+                    }
+                }
+            }
+            m_rowKeys = m_isReadRowKey ? new StringColumnBuffer(capacity, false) : null;
+            final PrimitiveBlobSupportDataRow.Kind[] kinds = PrimitiveBlobSupportDataRow.Kind.getKinds(getSpec());
+            m_rowBuilder = kinds != null ? new PrimitiveBlobSupportDataRow.Builder(kinds) : null;
+            m_inStream = new DataInputStream(new BufferedInputStream(new FileInputStream(binFile)));
+            int magic = m_inStream.readInt();
+            if (magic != ColumnarTableStoreFormat.MAGIC_NUMBER) {
+                m_inStream.close();
+                throw new IOException(String.format("Invalid file header 0x%08X, not a columnar table file", magic));
+            }
+            int fileVersion = m_inStream.readInt();
+            if (fileVersion != ColumnarTableStoreFormat.FILE_VERSION) {
+                m_inStream.close();
+                throw new IOException("Unsupported columnar table file version " + fileVersion);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            if (m_indexInChunk < m_rowsInChunk) {
+                return true;
+            }
+            if (m_inStream == null) {
+                // closed; rows of a cleared table are returned as invalid rows (see next())
+                final Buffer buffer = getBuffer();
+                return buffer != null && m_pointer < buffer.size();
+            }
+            // the row count is determined by the chunk headers, the file ends after the last chunk
+            final boolean hasNext;
+            try {
+                hasNext = readChunk();
+            } catch (IOException ioe) {
+                throw new RuntimeException("Errors while reading row " + (m_pointer + 1) + " from file \""
+                    + getFile().getName() + "\": " + ioe.getMessage(), ioe);
+            }
+            if (!hasNext) {
+                close();
+            }
+            return hasNext;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            if (m_inStream == null) { // iterator was closed
+                if (m_missingCellsForClosedTable == null) {
+                    m_missingCellsForClosedTable = new DataCell[m_encodings.length];
+                    Arrays.fill(m_missingCellsForClosedTable, DataType.getMissingCell());
+                    LOGGER.warn("Invalid access on table, iterator has been closed");
+                }
+                RowKey key = new RowKey("INVALID_ROW (table is closed) - (Row " + m_pointer + ")");
+                m_pointer++;
+                return new BlobSupportDataRow(key, m_missingCellsForClosedTable);
+            }
+            final int index = m_indexInChunk++;
+            RowKey key = m_rowKeys != null ? new RowKey(m_rowKeys.getString(index)) : DUMMY_ROW_KEY;
+            if (m_rowBuilder != null) {
+                m_pointer++;
+                return nextPrimitiveRow(key, index);
+            }
+            DataCell[] cells = new DataCell[m_columns.length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = m_isMaterialized[i] ? m_columns[i].getCell(index) : UnmaterializedCell.getInstance();
+            }
+            m_pointer++;
+            return new BlobSupportDataRow(key, cells);
+        }
+
+        /** Creates a row from the column buffers without creating cells for primitive values. */
+        private BlobSupportDataRow nextPrimitiveRow(final RowKey key, final int index) {
+            final PrimitiveBlobSupportDataRow.Builder builder = m_rowBuilder;
+            for (int i = 0; i < m_columns.length; i++) {
+                final ColumnarColumnBuffer column = m_columns[i];
+                if (!m_isMaterialized[i]) {
+                    builder.setCell(i, UnmaterializedCell.getInstance());
+                } else if (column.isMissing(index)) {
+                    builder.setCell(i, DataType.getMissingCell());
+                } else {
+                    switch (m_encodings[i]) {
+                        case INT:
+                            builder.setBits(i, ((IntColumnBuffer)column).getInt(index));
+                            break;
+                        case LONG:
+                            builder.setBits(i, ((LongColumnBuffer)column).getLong(index));
+                            break;
+                        case DOUBLE:
+                            final double d = ((DoubleColumnBuffer)column).getDouble(index);
+                            builder.setBits(i, Double.doubleToRawLongBits(d));
+                            break;
+                        case BOOLEAN:
+                            builder.setBits(i, ((BooleanColumnBuffer)column).getBoolean(index) ? 1L : 0L);
+                            break;
+                        default:
+                            builder.setCell(i, column.getCell(index));
+                    }
+                }
+            }
+            return builder.build(key);
+        }
+
+        /** Reads the next chunk, returns false if the end of the file has been reached. */
+        private boolean readChunk() throws IOException {
+            final int firstByte = m_inStream.read();
+            if (firstByte < 0) {
+                return false;
+            }
+            final int nrRows = (firstByte << 24) | (m_inStream.readUnsignedByte() << 16)
+                | (m_inStream.readUnsignedByte() << 8) | m_inStream.readUnsignedByte();
+            if (nrRows <= 0 || nrRows > m_rowsPerChunk) {
+                throw new IOException("Invalid chunk size: " + nrRows);
+            }
+            if (m_rowKeys != null) {
+                m_rowKeys.readFrom(m_inStream, nrRows);
+            }
+            for (int i = 0; i < m_columns.length; i++) {
+                if (m_isMaterialized[i]) {
+                    m_columns[i].readFrom(m_inStream, nrRows);
+                } else {
+                    ColumnarColumnBuffer.skip(m_inStream);
+                }
+            }
+            m_rowsInChunk = nrRows;
+            m_indexInChunk = 0;
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_inStream == null) {
+                return false;
+            }
+            DataInputStream in = m_inStream;
+            m_inStream = null;
+            m_rowsInChunk = 0;
+            m_indexInChunk = 0;
+            in.close();
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void finalize() throws Throwable {
+            super.finalize();
+            close();
+        }
+    }
+
+}
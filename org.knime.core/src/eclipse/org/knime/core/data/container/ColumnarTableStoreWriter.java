@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ColumnarColumnBuffer.StringColumnBuffer;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnEncoding;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. Rows are collected in {@link ColumnarColumnBuffer} objects (one
+ * per column) and written as a chunk once the buffers are full or the writer is closed.
+ *
+ * <p>
+ * File layout:
+ * <pre>
+ *   int   magic number ({@link ColumnarTableStoreFormat#MAGIC_NUMBER})
+ *   int   file version ({@link ColumnarTableStoreFormat#FILE_VERSION})
+ *   chunk*, each consisting of
+ *     int   number of rows in chunk
+ *     block row keys (only if row keys are written)
+ *     block per column
+ * </pre>
+ * See {@link ColumnarColumnBuffer} for the layout of a block.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    private final DataOutputStream m_outStream;
+
+    private final ColumnarColumnBuffer[] m_columns;
+
+    private final StringColumnBuffer m_rowKeys;
+
+    private final int m_rowsPerChunk;
+
+    private int m_rowsInChunk;
+
+    /**
+     * Constructs a writer for writing KNIME tables column-wise to disk.
+     *
+     * @param spec the specification of the KNIME table to write to disk
+     * @param outputStream the stream to write to
+     * @param writeRowKey whether to store the row keys
+     * @throws IOException any type of I/O problem
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey)
+        throws IOException {
+        super(spec, writeRowKey);
+        ColumnEncoding[] encodings = ColumnarTableStoreFormat.getEncodings(spec);
+        m_rowsPerChunk = ColumnarTableStoreFormat.getRowsPerChunk(encodings.length);
+        m_columns = new ColumnarColumnBuffer[encodings.length];
+        for (int i = 0; i < encodings.length; i++) {
+            m_columns[i] = ColumnarColumnBuffer.create(encodings[i], m_rowsPerChunk);
+        }
+        m_rowKeys = writeRowKey ? new StringColumnBuffer(m_rowsPerChunk, false) : null;
+        m_outStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+        m_outStream.writeInt(ColumnarTableStoreFormat.MAGIC_NUMBER);
+        m_outStream.writeInt(ColumnarTableStoreFormat.FILE_VERSION);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        if (m_rowKeys != null) {
+            m_rowKeys.addString(row.getKey().getString());
+        }
+        for (int i = 0; i < m_columns.length; i++) {
+            m_columns[i].add(row.getCell(i));
+        }
+        if (++m_rowsInChunk == m_rowsPerChunk) {
+            writeChunk();
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        if (m_rowsInChunk == 0) {
+            return;
+        }
+        m_outStream.writeInt(m_rowsInChunk);
+        if (m_rowKeys != null) {
+            m_rowKeys.writeTo(m_outStream);
+            m_rowKeys.clear();
+        }
+        for (ColumnarColumnBuffer c : m_columns) {
+            c.writeTo(m_outStream);
+            c.clear();
+        }
+        m_rowsInChunk = 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
+        settings.addInt(ColumnarTableStoreFormat.CFG_ROWS_PER_CHUNK, m_rowsPerChunk);
+        super.writeMetaInfoAfterWrite(settings);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeChunk();
+        } finally {
+            m_outStream.close();
+        }
+    }
+
+}
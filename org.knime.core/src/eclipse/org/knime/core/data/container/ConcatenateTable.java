@@ -51,6 +51,8 @@
 
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.append.AppendedRowsTable;
 import org.knime.core.data.append.AppendedRowsTable.DuplicatePolicy;
@@ -62,8 +64,9 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.workflow.WorkflowDataRepository;
-import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
+import org.knime.core.util.FingerprintDuplicateChecker;
+import org.knime.core.util.IDuplicateChecker;
 
 /**
  *
@@ -174,12 +177,35 @@ public DataTableSpec getDataTableSpec() {
     public CloseableRowIterator iterator() {
         // return MyIterator if all specs are the same indicated by m_tablesWrapper == null
         if(m_tablesWrapper == null) {
-            return new MyIterator();
+            return new MyIterator(null);
         } else {
             return m_tablesWrapper.iterator(null, -1);
         }
     }
 
+    /**
+     * {@inheritDoc} If all tables share the same spec, column filters are passed on to the concatenated tables.
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), m_spec) {
+
+            private int[] m_indices;
+
+            @Override
+            public RowIteratorBuilder<CloseableRowIterator> filterColumns(final int... indices) {
+                super.filterColumns(indices);
+                m_indices = indices.clone();
+                return this;
+            }
+
+            @Override
+            public CloseableRowIterator build() {
+                return m_indices == null || m_tablesWrapper != null ? super.build() : new MyIterator(m_indices);
+            }
+        };
+    }
+
     /** {@inheritDoc} */
     @Override
     public void putIntoTableRepository(final WorkflowDataRepository dataRepository) {
@@ -287,7 +313,7 @@ public static ConcatenateTable create(final ExecutionMonitor mon, final Buffered
 
     private static void checkForDuplicates(final ExecutionMonitor mon, final BufferedDataTable[] tables,
         final long rowCount) throws CanceledExecutionException {
-        DuplicateChecker check = new DuplicateChecker();
+        IDuplicateChecker check = new FingerprintDuplicateChecker();
         int r = 0;
         for (int i = 0; i < tables.length; i++) {
             for (DataRow row : tables[i]) {
@@ -323,11 +349,15 @@ private class MyIterator extends CloseableRowIterator {
         private int m_tableIndex;
         private CloseableRowIterator m_curIterator;
         private DataRow m_next;
+        /** Indices of the columns to materialize, null for all columns. */
+        private final int[] m_columnIndices;
 
-        /** Creates new iterator. */
-        public MyIterator() {
+        /** Creates new iterator.
+         * @param columnIndices indices of the columns to materialize or null for all columns */
+        public MyIterator(final int[] columnIndices) {
+            m_columnIndices = columnIndices;
             m_tableIndex = 0;
-            m_curIterator = m_tables[m_tableIndex].iterator();
+            m_curIterator = createIterator(m_tables[m_tableIndex]);
             m_next = internalNext();
         }
 
@@ -355,12 +385,19 @@ private DataRow internalNext() {
             }
             if (m_tableIndex < m_tables.length - 1) {
                 m_tableIndex++;
-                m_curIterator = m_tables[m_tableIndex].iterator();
+                m_curIterator = createIterator(m_tables[m_tableIndex]);
                 return internalNext();
             }
             return null;
         }
 
+        private CloseableRowIterator createIterator(final BufferedDataTable table) {
+            if (m_columnIndices == null) {
+                return table.iterator();
+            }
+            return table.iteratorBuilder().filterColumns(m_columnIndices).build();
+        }
+
         /** {@inheritDoc} */
         @Override
         public void close() {
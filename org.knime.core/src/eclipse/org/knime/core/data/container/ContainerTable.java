@@ -51,6 +51,7 @@
 import java.io.IOException;
 import java.util.zip.ZipOutputStream;
 
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
@@ -139,6 +140,47 @@ public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
         return m_buffer.iteratorBuilder();
     }
 
+    /**
+     * Returns an iterator whose first row is the row with the argument index. For tables written to disc this
+     * positions the stream directly at the row (as long as the table is not gzip compressed, see
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_TABLE_COMPRESSION_FORMAT}) rather than iterating over all
+     * leading rows.
+     *
+     * @param rowIndex the index of the first row, non-negative
+     * @return a new iterator, which is empty if the index is larger or equal to {@link #size()}
+     * @since 3.8
+     */
+    public CloseableRowIterator iteratorFrom(final long rowIndex) {
+        ensureBufferOpen();
+        return m_buffer.iteratorFrom(rowIndex);
+    }
+
+    /**
+     * Whether {@link #iteratorFrom(long)} positions the iterator without iterating over the leading rows. That's the
+     * case for tables held in memory and tables written to disc in a format that contains a row index (e.g. not gzip
+     * compressed). Note that the property may change when a table is moved from memory to disc.
+     *
+     * @return that property
+     * @since 3.8
+     */
+    public boolean isRandomAccessSupported() {
+        ensureBufferOpen();
+        return m_buffer.isRandomAccessSupported();
+    }
+
+    /**
+     * Returns the row with the argument index, see {@link #iteratorFrom(long)}.
+     *
+     * @param rowIndex the index of the row
+     * @return the row
+     * @throws IndexOutOfBoundsException if the index is negative or not smaller than {@link #size()}
+     * @since 3.8
+     */
+    public DataRow getRow(final long rowIndex) {
+        ensureBufferOpen();
+        return m_buffer.getRow(rowIndex);
+    }
+
     /**
      * {@inheritDoc}
      * @deprecated use {@link #size()} instead which supports more than {@link Integer#MAX_VALUE} rows
@@ -104,6 +104,12 @@ DataCell readDataCellPerKNIMESerializer(final DataCellSerializer<? extends DataC
         return serializer.deserialize(m_dataIn);
     }
 
+    /** Direct access to the underlying stream, used to read primitive values without a serializer.
+     * @return the stream passed to serializers */
+    DataCellDataInput getDataInput() {
+        return m_dataIn;
+    }
+
 
     /** Reads a data cell from the stream using java de-serialization.
      * @return A new data cell instance.
@@ -97,6 +97,12 @@ public void writeDataCellPerKNIMESerializer(
         serializer.serialize(cell, m_dataOut);
     }
 
+    /** Direct access to the underlying stream, used to write primitive values without a serializer.
+     * @return the stream passed to serializers */
+    DataCellDataOutput getDataOutput() {
+        return m_dataOut;
+    }
+
     /**
      * Saves an array of file store keys
      * @since 3.7
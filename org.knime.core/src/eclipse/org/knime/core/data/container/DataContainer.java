@@ -51,24 +51,21 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.ref.WeakReference;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
-import java.util.concurrent.Exchanger;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -97,9 +94,11 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.WorkflowDataRepository;
-import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
 import org.knime.core.util.FileUtil;
+import org.knime.core.util.FingerprintDuplicateChecker;
+import org.knime.core.util.IDuplicateChecker;
+import org.knime.core.util.VirtualThreadFactory;
 
 /**
  * Buffer that collects <code>DataRow</code> objects and creates a <code>DataTable</code> on request. This data
@@ -145,8 +144,8 @@ public class DataContainer implements RowAppender {
     public static final int DEF_MIN_FREE_DISC_SPACE_IN_TEMP_IN_MB = 100;
 
     /**
-     * For asynchronous table writing (default) the cache size. It's the number of rows that are kept in memory until
-     * handed off to the write routines.
+     * For asynchronous table writing (default) the cache size. It's the number of rows that are collected in one batch
+     * before the batch is handed off to the write routines.
      *
      * @see KNIMEConstants#PROPERTY_ASYNC_WRITE_CACHE_SIZE
      */
@@ -235,7 +234,7 @@ public class DataContainer implements RowAppender {
                     + ")", e);
             }
         }
-        ASYNC_CACHE_SIZE = asyncCacheSize;
+        ASYNC_CACHE_SIZE = Math.max(asyncCacheSize, 1);
         if (Boolean.getBoolean(KNIMEConstants.PROPERTY_SYNCHRONOUS_IO)) {
             LOGGER.debug("Using synchronous IO; " + KNIMEConstants.PROPERTY_SYNCHRONOUS_IO + " is set");
             SYNCHRONOUS_IO = true;
@@ -244,7 +243,13 @@ public class DataContainer implements RowAppender {
         }
 
         // enh 5835: Number of asynchronous write threads to have different limits on different architectures
-        MAX_ASYNC_WRITE_THREADS = Platform.ARCH_X86.equals(Platform.getOSArch()) ? 10 : 50;
+        if (Boolean.getBoolean(KNIMEConstants.PROPERTY_VIRTUAL_THREAD_IO) && VirtualThreadFactory.isSupported()) {
+            VIRTUAL_THREAD_IO = true;
+            MAX_ASYNC_WRITE_THREADS = VirtualThreadFactory.getMaxConcurrentTasks();
+        } else {
+            VIRTUAL_THREAD_IO = false;
+            MAX_ASYNC_WRITE_THREADS = Platform.ARCH_X86.equals(Platform.getOSArch()) ? 10 : 50;
+        }
     }
 
     /**
@@ -268,22 +273,14 @@ public class DataContainer implements RowAppender {
      */
     public static final int MAX_POSSIBLE_VALUES;
 
-    /** Size of buffers. */
+    /** Size of a row batch (number of rows), at least 1. */
     static final int ASYNC_CACHE_SIZE;
 
-    /** The executor, which runs the IO tasks. Currently used only while writing rows. */
-    static final ThreadPoolExecutor ASYNC_EXECUTORS =
-    // see also Executors.newCachedThreadPool(ThreadFactory)
-        new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
-            new ThreadFactory() {
-                private final AtomicInteger m_threadCount = new AtomicInteger();
-
-                /** {@inheritDoc} */
-                @Override
-                public Thread newThread(final Runnable r) {
-                    return new Thread(r, "KNIME-TableIO-" + m_threadCount.incrementAndGet());
-                }
-            });
+    /**
+     * Number of row batches that can be queued per container before {@link #addRowToTable(DataRow)} blocks until the
+     * write routines have caught up.
+     */
+    static final int ASYNC_QUEUE_BATCH_COUNT = 8;
 
     /**
      * Whether to use synchronous IO while adding rows to a buffer or reading from an file iterator. This is by default
@@ -292,18 +289,32 @@ public Thread newThread(final Runnable r) {
     static final boolean SYNCHRONOUS_IO;
 
     /**
-     * the maximum number of asynchronous write threads, each additional container will switch to synchronous mode.
+     * Whether the {@link #ASYNC_EXECUTORS} run on virtual threads, see
+     * {@link KNIMEConstants#PROPERTY_VIRTUAL_THREAD_IO}.
+     */
+    static final boolean VIRTUAL_THREAD_IO;
+
+    /**
+     * The maximum number of asynchronous write threads, i.e. the size of {@link #ASYNC_EXECUTORS}. Containers are not
+     * bound to a thread; if there are more containers with pending rows than threads, the containers take turns.
      */
     static final int MAX_ASYNC_WRITE_THREADS;
 
+    /** Set for the threads of {@link #ASYNC_EXECUTORS} (which may be virtual threads and can't be subclassed). */
+    private static final ThreadLocal<Boolean> IS_TABLE_IO_THREAD = new ThreadLocal<Boolean>();
+
+    /**
+     * The executor, which runs the IO tasks. Currently used only while writing rows. It's shared by all containers and
+     * bounded to {@link #MAX_ASYNC_WRITE_THREADS} threads, which time out when idle. Each container has at most one
+     * task queued or running.
+     */
+    static final ThreadPoolExecutor ASYNC_EXECUTORS = createAsyncExecutors();
+
     /** Put into write queue to signal end of writing process. */
     private static final Object CONTAINER_CLOSE = new Object();
 
     private static final Object FLUSH_CACHE = new Object();
 
-    /** Put into read queue to signal failure while writing a row. */
-    private static final Object CONTAINER_WRITE_FAILED = new Object();
-
     /**
      * The object that instantiates the buffer, may be set right after constructor call before any rows are added.
      */
@@ -318,32 +329,48 @@ public Thread newThread(final Runnable r) {
      */
     private int m_size;
 
-    /**
-     * The object that represent the pending task of adding a data rows to a table.
-     */
-    private Future<Void> m_asyncAddFuture;
-
     private AtomicReference<Throwable> m_writeThrowable;
 
     /**
      * Whether this container writes synchronously, i.e. when rows come in they get written immediately. If true the
-     * fields {@link #m_asyncAddFuture} and {@link #m_writeThrowable} are null. This field coincides most of times with
-     * the {@link #SYNCHRONOUS_IO}, but may be true if there are too many concurrent write threads (more than
-     * {@value #MAX_ASYNC_WRITE_THREADS}).
+     * fields {@link #m_writeQueue} and {@link #m_writeThrowable} are null. This field coincides most of times with the
+     * {@link #SYNCHRONOUS_IO}, but is also true for containers that are filled by a table IO thread itself.
      */
     private final boolean m_isSynchronousWrite;
 
-    /** The asynchronous queue holding the most recently added rows. */
-    private Exchanger<List<Object>> m_rowBufferExchanger;
+    /** The queue of row batches to be written by the {@link ASyncWriteTask}. */
+    private RowBatchRingBuffer m_writeQueue;
+
+    /** Whether an {@link ASyncWriteTask} is queued or running for this container. */
+    private AtomicBoolean m_isWriteTaskScheduled;
+
+    /** Counted down by the write task once it has processed the {@link #CONTAINER_CLOSE} marker (or failed). */
+    private CountDownLatch m_writeDoneLatch;
+
+    /** The thread blocked in {@link #publishBatch(Object[])}, if any, unparked by the write task. */
+    private volatile Thread m_waitingProducer;
 
-    private List<Object> m_fillingRowBuffer;
+    /** Context to be set while the write task is running. */
+    private NodeContext m_writeContext;
 
-    private List<Object> m_emptyingRowBuffer;
+    /** Rows of the batch currently being written, only accessed by the {@link ASyncWriteTask}. */
+    private DataRow[] m_writeRows;
+
+    /** The batch currently being filled by {@link #offerToAsynchronousQueue(Object)}. */
+    private Object[] m_fillingBatch;
+
+    private int m_fillingBatchSize;
+
+    /** Time (in nanoseconds) the producer was blocked because the write queue was full. */
+    private long m_asyncWriteWaitNanos;
+
+    /** Maximum number of batches that were queued at a time. */
+    private int m_maxAsyncWriteQueueDepth;
 
     private int m_maxRowsInMemory;
 
     /** Holds the keys of the added rows to check for duplicates. */
-    private DuplicateChecker m_duplicateChecker;
+    private IDuplicateChecker m_duplicateChecker;
 
     /** The tablespec of the return table. */
     private DataTableSpec m_spec;
@@ -429,26 +456,23 @@ protected DataContainer(final DataTableSpec spec, final boolean initDomain, fina
             throw new IllegalArgumentException("Spec must not be null!");
         }
         m_spec = spec;
-        m_duplicateChecker = new DuplicateChecker();
-        boolean isSynchronousWrite = forceSynchronousIO || SYNCHRONOUS_IO;
-        if (!isSynchronousWrite && ASYNC_EXECUTORS.getActiveCount() > MAX_ASYNC_WRITE_THREADS) {
-            LOGGER.debug("Number of Table IO write threads exceeds " + MAX_ASYNC_WRITE_THREADS
-                + " -- switching to synchronous write mode");
-            isSynchronousWrite = true;
-        }
-        m_isSynchronousWrite = isSynchronousWrite;
+        m_duplicateChecker = new FingerprintDuplicateChecker();
+        // a table IO thread must not block on another container's queue as that may starve the (bounded) executor
+        m_isSynchronousWrite =
+            forceSynchronousIO || SYNCHRONOUS_IO || IS_TABLE_IO_THREAD.get() != null;
         if (m_isSynchronousWrite) {
-            m_fillingRowBuffer = null;
-            m_emptyingRowBuffer = null;
-            m_asyncAddFuture = null;
-            m_rowBufferExchanger = null;
+            m_writeQueue = null;
+            m_isWriteTaskScheduled = null;
+            m_writeDoneLatch = null;
             m_writeThrowable = null;
         } else {
-            m_fillingRowBuffer = new ArrayList<Object>(ASYNC_CACHE_SIZE);
-            m_emptyingRowBuffer = new ArrayList<Object>(ASYNC_CACHE_SIZE);
-            m_rowBufferExchanger = new Exchanger<List<Object>>();
+            m_writeQueue = new RowBatchRingBuffer(ASYNC_QUEUE_BATCH_COUNT);
+            m_isWriteTaskScheduled = new AtomicBoolean();
+            m_writeDoneLatch = new CountDownLatch(1);
             m_writeThrowable = new AtomicReference<Throwable>();
-            m_asyncAddFuture = ASYNC_EXECUTORS.submit(new ASyncWriteCallable(this, NodeContext.getContext()));
+            m_writeContext = NodeContext.getContext();
+            m_fillingBatch = new Object[ASYNC_CACHE_SIZE];
+            m_writeRows = new DataRow[ASYNC_CACHE_SIZE];
         }
 
         m_domainCreator = new DataTableDomainCreator(m_spec, initDomain);
@@ -460,6 +484,30 @@ protected DataContainer(final DataTableSpec spec, final boolean initDomain, fina
     }
 
     private void addRowToTableWrite(final DataRow row) {
+        checkRowCompliance(row);
+        m_domainCreator.updateDomain(row);
+        addRowKeyForDuplicateCheck(row.getKey());
+        m_buffer.addRow(row, false, m_forceCopyOfBlobs);
+    }
+
+    /**
+     * Batch variant of {@link #addRowToTableWrite(DataRow)}, which updates the domain for all rows at once.
+     *
+     * @param rows the array containing the rows, only the first <code>count</code> elements are used
+     * @param count number of rows to add
+     */
+    private void addRowsToTableWrite(final DataRow[] rows, final int count) {
+        for (int i = 0; i < count; i++) {
+            checkRowCompliance(rows[i]);
+        }
+        m_domainCreator.updateDomain(rows, 0, count);
+        for (int i = 0; i < count; i++) {
+            addRowKeyForDuplicateCheck(rows[i].getKey());
+            m_buffer.addRow(rows[i], false, m_forceCopyOfBlobs);
+        }
+    }
+
+    private void checkRowCompliance(final DataRow row) {
         // let's do every possible sanity check
         int numCells = row.getNumCells();
         RowKey key = row.getKey();
@@ -496,9 +544,6 @@ private void addRowToTableWrite(final DataRow row) {
                     + "not comply with its supposed superclass " + columnClass.toString());
             }
         } // for all cells
-        m_domainCreator.updateDomain(row);
-        addRowKeyForDuplicateCheck(key);
-        m_buffer.addRow(row, false, m_forceCopyOfBlobs);
     }
 
     private void checkAsyncWriteThrowable() {
@@ -613,15 +658,22 @@ public void close() {
                 getDataRepository(), getLocalTableRepository(), getFileStoreHandler());
         }
         if (!m_isSynchronousWrite) {
+            offerToAsynchronousQueue(CONTAINER_CLOSE);
             try {
-                offerToAsynchronousQueue(CONTAINER_CLOSE);
-                m_asyncAddFuture.get();
-                checkAsyncWriteThrowable();
+                m_writeDoneLatch.await();
             } catch (InterruptedException e) {
+                m_writeThrowable.compareAndSet(null, e);
                 throw new DataContainerException("Adding rows to table was interrupted", e);
-            } catch (ExecutionException e) {
-                throw new DataContainerException("Adding rows to table threw exception", e);
             }
+            checkAsyncWriteThrowable();
+            if (m_asyncWriteWaitNanos >= TimeUnit.MILLISECONDS.toNanos(100)) {
+                LOGGER.debugWithFormat("Adding %d rows was blocked for %d ms in total waiting for table IO "
+                    + "(max. queue depth %d of %d batches)", m_size,
+                    TimeUnit.NANOSECONDS.toMillis(m_asyncWriteWaitNanos), m_maxAsyncWriteQueueDepth,
+                    m_writeQueue.capacity());
+            }
+            m_fillingBatch = null;
+            m_writeRows = null;
         }
         // create table spec _after_ all_ rows have been added (i.e. wait for
         // asynchronous write thread to finish)
@@ -646,39 +698,69 @@ public void close() {
     }
 
     /**
-     * Adds the argument object (which will be a DataRow unless when called from close()) to the filling data row queue.
-     * It will exchange the filling queue with the emptying queue from the write thread in case the queue is full.
+     * Adds the argument object (which will be a DataRow unless when called from close()) to the filling batch. It
+     * will hand the batch to the write task in case the batch is full or the argument is a control object.
      *
      * @param object the object to add.
      */
     private void offerToAsynchronousQueue(final Object object) {
-        m_fillingRowBuffer.add(object);
-        if (m_fillingRowBuffer.size() >= ASYNC_CACHE_SIZE || object == CONTAINER_CLOSE || object == FLUSH_CACHE) {
-            while (true) {
-                try {
-                    m_fillingRowBuffer = m_rowBufferExchanger.exchange(m_fillingRowBuffer, 30, TimeUnit.SECONDS);
-                    if (!m_fillingRowBuffer.isEmpty()) {
-                        Object ob = m_fillingRowBuffer.get(0);
-                        assert ob == CONTAINER_WRITE_FAILED : "Not expected element in write queue: " + ob;
-                        m_fillingRowBuffer.clear();
-                        checkAsyncWriteThrowable();
-                    }
-                    return;
-                } catch (TimeoutException e) {
-                    if (m_asyncAddFuture.isDone()) {
-                        checkAsyncWriteThrowable();
-                        // if we reach this code, the write process has not
-                        // thrown an exception (the above line will likely
-                        // throw an exc.)
-                        throw new DataContainerException("Writing to table has unexpectedly stopped");
+        m_fillingBatch[m_fillingBatchSize++] = object;
+        if (m_fillingBatchSize >= m_fillingBatch.length || object == CONTAINER_CLOSE || object == FLUSH_CACHE) {
+            final Object[] batch = m_fillingBatch;
+            m_fillingBatch = new Object[batch.length];
+            m_fillingBatchSize = 0;
+            publishBatch(batch);
+        }
+    }
+
+    /**
+     * Puts a batch into the write queue and makes sure a write task is scheduled. Blocks while the queue is full
+     * (back-pressure), which throttles fast producers to the speed of the table IO.
+     *
+     * @param batch the batch to write
+     */
+    private void publishBatch(final Object[] batch) {
+        if (!m_writeQueue.offer(batch)) {
+            final long start = System.nanoTime();
+            m_waitingProducer = Thread.currentThread();
+            try {
+                while (!m_writeQueue.offer(batch)) {
+                    // the write task keeps draining (and discarding) batches after a failure, so this terminates
+                    checkAsyncWriteThrowable();
+                    // timed as the write task may miss the waiting producer when it's just about to park
+                    LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(10));
+                    if (Thread.interrupted()) {
+                        InterruptedException e = new InterruptedException();
+                        m_writeThrowable.compareAndSet(null, e);
+                        throw new DataContainerException("Adding rows to buffer was interrupted", e);
                     }
-                    continue;
-                } catch (InterruptedException e) {
-                    m_asyncAddFuture.cancel(true);
-                    throw new DataContainerException("Adding rows to buffer was interrupted", e);
                 }
+            } finally {
+                m_waitingProducer = null;
+                m_asyncWriteWaitNanos += System.nanoTime() - start;
             }
         }
+        m_maxAsyncWriteQueueDepth = Math.max(m_maxAsyncWriteQueueDepth, m_writeQueue.size());
+        if (m_isWriteTaskScheduled.compareAndSet(false, true)) {
+            scheduleWriteTask(new ASyncWriteTask(this));
+        }
+    }
+
+    private static void scheduleWriteTask(final ASyncWriteTask task) {
+        try {
+            ASYNC_EXECUTORS.execute(task);
+        } catch (RejectedExecutionException e) {
+            // only if the executor was shut down (which it never is) -- write in the calling thread instead
+            task.run();
+        }
+    }
+
+    /**
+     * @return the maximum number of row batches that were queued for writing at a time. 0 for synchronous containers.
+     *         Only for debugging/test purposes.
+     */
+    int getMaxAsyncWriteQueueDepth() {
+        return m_maxAsyncWriteQueueDepth;
     }
 
     /**
@@ -830,9 +912,9 @@ protected int createInternalBufferID() {
      * duplicates being added whatsoever.
      *
      * @param key Key being added. This implementation extracts the string representation from it and adds it to an
-     *            internal {@link DuplicateChecker} instance.
+     *            internal {@link IDuplicateChecker} instance.
      * @throws DataContainerException This implementation may throw a <code>DataContainerException</code> when
-     *             {@link DuplicateChecker#addKey(String)} throws an {@link IOException}.
+     *             {@link IDuplicateChecker#addKey(String)} throws an {@link IOException}.
      * @throws DuplicateKeyException If a duplicate is encountered.
      */
     protected void addRowKeyForDuplicateCheck(final RowKey key) {
@@ -1184,91 +1266,123 @@ public static final boolean isContainerTable(final DataTable table) {
         return table instanceof ContainerTable;
     }
 
+    private static ThreadPoolExecutor createAsyncExecutors() {
+        final ThreadFactory threadFactory;
+        if (VIRTUAL_THREAD_IO) {
+            threadFactory = new VirtualThreadFactory("KNIME-TableIO-V-");
+        } else {
+            threadFactory = new ThreadFactory() {
+                private final AtomicInteger m_threadCount = new AtomicInteger();
+
+                /** {@inheritDoc} */
+                @Override
+                public Thread newThread(final Runnable r) {
+                    return new Thread(r, "KNIME-TableIO-" + m_threadCount.incrementAndGet());
+                }
+            };
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_ASYNC_WRITE_THREADS, MAX_ASYNC_WRITE_THREADS, 60L,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                /** {@inheritDoc} */
+                @Override
+                public Thread newThread(final Runnable r) {
+                    return threadFactory.newThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            IS_TABLE_IO_THREAD.set(Boolean.TRUE);
+                            r.run();
+                        }
+                    });
+                }
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /**
-     * Background task that will write the output data. This is kept as static inner class in order to allow for a
-     * garbage collection of the outer class (which indicates an early stopped buffer writing).
+     * Background task that will write the queued rows of a container. It runs until the queue is empty (or, in order
+     * to give other containers a turn, until it has written as many batches as the queue can hold) and is re-scheduled
+     * once new batches arrive. It keeps no reference to the container when not scheduled, so containers that are never
+     * closed can be garbage collected.
      */
-    private static final class ASyncWriteCallable implements Callable<Void> {
+    private static final class ASyncWriteTask implements Runnable {
 
-        private final WeakReference<DataContainer> m_containerRef;
-
-        private final NodeContext m_context;
+        private final DataContainer m_container;
 
         /**
          * @param cont The outer container.
-         * @param context owner node information, if any.
          */
-        ASyncWriteCallable(final DataContainer cont, final NodeContext context) {
-            m_context = context;
-            m_containerRef = new WeakReference<DataContainer>(cont);
+        ASyncWriteTask(final DataContainer cont) {
+            m_container = cont;
         }
 
         /** {@inheritDoc} */
         @Override
-        public Void call() throws Exception {
-            NodeContext.pushContext(m_context);
+        public void run() {
+            NodeContext.pushContext(m_container.m_writeContext);
             try {
-                return callWithContext();
+                runWithContext();
             } finally {
                 NodeContext.removeLastContext();
             }
         }
 
-        private Void callWithContext() throws Exception {
-            DataContainer d = m_containerRef.get();
-            if (d == null) {
-                // data container was already discarded (no rows added)
-                return null;
-            }
-            List<Object> queue = d.m_emptyingRowBuffer;
-            final AtomicReference<Throwable> throwable = d.m_writeThrowable;
-            final Exchanger<List<Object>> exchanger = d.m_rowBufferExchanger;
-            try {
-                do {
-                    final int size = queue.size();
-                    for (int i = 0; i < size; i++) {
-                        Object obj = queue.set(i, null);
-                        if (obj == CONTAINER_CLOSE) {
-                            assert i == size - 1;
-                            // table has been closed
-                            // (some non-DataRow was queued)
-                            return null;
-                        } else if (obj == FLUSH_CACHE) {
-                            assert i == size - 1;
-                            d.m_buffer.flushBuffer();
-                        } else {
-                            DataRow row = (DataRow)obj;
-                            d.addRowToTableWrite(row);
-                        }
+        private void runWithContext() {
+            final DataContainer d = m_container;
+            final RowBatchRingBuffer queue = d.m_writeQueue;
+            final AtomicBoolean isScheduled = d.m_isWriteTaskScheduled;
+            int batchCount = 0;
+            while (true) {
+                Object[] batch = queue.poll();
+                if (batch == null) {
+                    isScheduled.set(false);
+                    // re-check: the producer may have added a batch and seen this task still as scheduled
+                    if (queue.isEmpty() || !isScheduled.compareAndSet(false, true)) {
+                        return;
                     }
-                    queue.clear();
-                    d = null;
-                    try {
-                        queue = exchanger.exchange(queue, 30, TimeUnit.SECONDS);
-                    } catch (TimeoutException te) {
-                        // can be safely ignored, do another loop on the same
-                        // (empty!) queue (or don't if container is gc'ed)
+                    continue;
+                }
+                final Thread producer = d.m_waitingProducer;
+                if (producer != null) {
+                    LockSupport.unpark(producer);
+                }
+                writeBatch(d, batch);
+                if (++batchCount >= queue.capacity()) {
+                    // still scheduled, continue later
+                    scheduleWriteTask(this);
+                    return;
+                }
+            }
+        }
+
+        private static void writeBatch(final DataContainer d, final Object[] batch) {
+            // control objects are always the last element in a batch, null terminates partially filled batches
+            final DataRow[] rows = d.m_writeRows;
+            Object control = null;
+            int rowCount = 0;
+            for (int i = 0; i < batch.length && batch[i] != null; i++) {
+                if (batch[i] == CONTAINER_CLOSE || batch[i] == FLUSH_CACHE) {
+                    control = batch[i];
+                } else {
+                    rows[rowCount++] = (DataRow)batch[i];
+                }
+            }
+            // skip if writing failed or was interrupted before
+            if (d.m_writeThrowable.get() == null) {
+                try {
+                    if (rowCount > 0) {
+                        d.addRowsToTableWrite(rows, rowCount);
                     }
-                    d = m_containerRef.get();
-                } while (d != null);
-                // m_containerRef.get() returned null -> close() was never
-                // called on the container (which was garbage collected
-                // already); we can end this thread
-                LOGGER.debug("Ending DataContainer write thread since container was garbage collected");
-                return null;
-            } catch (Throwable t) {
-                throwable.compareAndSet(null, t);
-                boolean callExchange = !queue.contains(CONTAINER_CLOSE);
-                queue.clear();
-                queue.add(CONTAINER_WRITE_FAILED);
-                if (callExchange) {
-                    try {
-                        exchanger.exchange(queue, 30, TimeUnit.SECONDS);
-                    } catch (Exception e) {
-                        // ignore
+                    if (control == FLUSH_CACHE) {
+                        d.m_buffer.flushBuffer();
                     }
+                } catch (Throwable t) {
+                    d.m_writeThrowable.compareAndSet(null, t);
                 }
-                return null;
+            }
+            Arrays.fill(rows, 0, rowCount, null);
+            if (control == CONTAINER_CLOSE) {
+                d.m_writeDoneLatch.countDown();
             }
         }
     }
@@ -75,11 +75,26 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     /** Compression format. */
     static final String CFG_COMPRESSION = "container.compression";
 
+    /** Position of the row index in the (uncompressed) stream (long), not present if no index was written. */
+    static final String CFG_ROW_INDEX_POSITION = "container.rowindex.position";
+
+    /** Number of rows between two entries in the row index (int). */
+    static final String CFG_ROW_INDEX_STRIDE = "container.rowindex.stride";
+
+    /** Number of entries in the row index (int). */
+    static final String CFG_ROW_INDEX_SIZE = "container.rowindex.size";
+
     /**
      * Static field to enable/disable the usage of a GZipInput/OutpuStream when writing the binary data. This option
      * defaults to {@value DataContainer#DEF_GZIP_COMPRESSION}. */
     static final boolean IS_USE_GZIP;
 
+    /**
+     * The compression format used when writing the binary data, as per
+     * {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_FORMAT} or, if not set, {@link #IS_USE_GZIP}.
+     */
+    static final CompressionFormat COMPRESSION_FORMAT;
+
     static {
         // prefer this block over Boolean.getBoolean(...) to cover typos
         // on command line (warn on console)
@@ -102,11 +117,31 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
         if (debugLog) {
             LOGGER.debug("Setting table stream compression to " + IS_USE_GZIP);
         }
+        COMPRESSION_FORMAT = readCompressionFormatProperty();
+    }
+
+    private static CompressionFormat readCompressionFormatProperty() {
+        CompressionFormat fallback = IS_USE_GZIP ? CompressionFormat.Gzip : CompressionFormat.None;
+        String formatString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_FORMAT);
+        if (formatString == null) {
+            return fallback;
+        }
+        for (CompressionFormat f : CompressionFormat.values()) {
+            if (f.name().equalsIgnoreCase(formatString.trim())) {
+                LOGGER.debug("Setting table stream compression format to " + f);
+                return f;
+            }
+        }
+        LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION_FORMAT + " (\""
+            + formatString + "\"); defaulting to " + fallback);
+        return fallback;
     }
 
     /** Compression on the binary (main) file. */
     enum CompressionFormat {
             Gzip,
+            /** Block-wise compression, see {@link LZ4BlockOutputStream}. */
+            Lz4,
             None;
     }
 
@@ -47,8 +47,12 @@
  */
 package org.knime.core.data.container;
 
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.Buffer.CompressionFormat;
@@ -68,6 +72,17 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
     private final DataTableSpec m_spec;
     private final boolean m_isReadRowKey;
 
+    /** Position of the row index in the uncompressed stream or -1 if the file has no (usable) row index. */
+    private final long m_rowIndexPosition;
+    private final int m_rowIndexStride;
+    private final int m_rowIndexSize;
+
+    /** Lazily read row index and memory mapping, see {@link #openStreamAtRow(long)}. */
+    private long[] m_rowIndex;
+    private MappedTableFile m_mappedFile;
+    /** File offsets of the LZ4 blocks (only for LZ4 compressed files), lazily initialized. */
+    private long[] m_lz4BlockOffsets;
+
     /**
      * Constructs a reader for materializing serialized KNIME tables.
      *
@@ -111,15 +126,67 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader {
             cF = CompressionFormat.Gzip;
         }
         m_compressionFormat = cF;
+        // row index added in 3.8 - no increment of version number as the index is appended after the last row
+        if (cF != CompressionFormat.Gzip && settings.containsKey(DefaultTableStoreFormat.CFG_ROW_INDEX_POSITION)) {
+            m_rowIndexPosition = settings.getLong(DefaultTableStoreFormat.CFG_ROW_INDEX_POSITION);
+            m_rowIndexStride = settings.getInt(DefaultTableStoreFormat.CFG_ROW_INDEX_STRIDE);
+            m_rowIndexSize = settings.getInt(DefaultTableStoreFormat.CFG_ROW_INDEX_SIZE);
+            if (m_rowIndexStride <= 0 || m_rowIndexSize < 0) {
+                throw new InvalidSettingsException(String.format("Invalid row index (stride %d, size %d)",
+                    m_rowIndexStride, m_rowIndexSize));
+            }
+        } else {
+            m_rowIndexPosition = -1L;
+            m_rowIndexStride = 0;
+            m_rowIndexSize = 0;
+        }
     }
 
     @Override
     public TableStoreCloseableRowIterator iterator() {
+        return openIterator(null);
+    }
+
+    /**
+     * {@inheritDoc} Cells of unselected columns are skipped on the stream (up to their block end) without being
+     * deserialized. Not supported by files written with KNIME 2.0 tech preview and before.
+     */
+    @Override
+    protected TableStoreCloseableRowIterator iterator(final int[] materializedColumns) {
+        return openIterator(materializedColumns);
+    }
+
+    /**
+     * {@inheritDoc} If the file contains a row index (files not gzip compressed), the stream is positioned directly
+     * at (or shortly before) the argument row using a memory mapping of the file. Otherwise leading rows are skipped
+     * on the stream without being deserialized.
+     */
+    @Override
+    public TableStoreCloseableRowIterator iteratorFrom(final long rowIndex) {
+        if (getReadVersion() <= 5 || rowIndex <= 0) {
+            return super.iteratorFrom(rowIndex);
+        }
+        TableStoreCloseableRowIterator iterator = openIterator(null, rowIndex);
+        registerNewIteratorInstance(iterator);
+        return iterator;
+    }
+
+    /** {@inheritDoc} True if the file contains a row index, i.e. it's not gzip compressed. */
+    @Override
+    public boolean isRandomAccessSupported() {
+        return getReadVersion() > 5 && m_rowIndexPosition >= 0 && m_rowIndexSize > 0;
+    }
+
+    private TableStoreCloseableRowIterator openIterator(final int[] materializedColumns) {
+        return openIterator(materializedColumns, 0L);
+    }
+
+    private TableStoreCloseableRowIterator openIterator(final int[] materializedColumns, final long startRow) {
         try {
             if (getReadVersion() <= 5) { // 2.0 tech preview and before
                 return new BufferFromFileIteratorVersion1x(this);
             } else {
-                return new BufferFromFileIteratorVersion20(this);
+                return new BufferFromFileIteratorVersion20(this, materializedColumns, startRow);
             }
         } catch (IOException ioe) {
             StringBuilder b = new StringBuilder("Cannot read file \"");
@@ -130,6 +197,109 @@ public TableStoreCloseableRowIterator iterator() {
         }
     }
 
+    /**
+     * @param rowIndex index of a row in the table
+     * @return the largest row index not larger than the argument at which a stream can be opened via
+     *         {@link #openStreamAtRow(long)}; 0 if the file has no row index.
+     */
+    long getSeekableRow(final long rowIndex) {
+        if (m_rowIndexPosition < 0 || m_rowIndexSize == 0 || rowIndex <= 0) {
+            return 0L;
+        }
+        return Math.min(rowIndex / m_rowIndexStride, m_rowIndexSize - 1) * m_rowIndexStride;
+    }
+
+    /**
+     * Opens a (decompressed) stream on the binary file that is positioned at the start of the argument row. The file
+     * is memory mapped, hence this operation does not depend on the position of the row in the file.
+     *
+     * @param rowIndex the row to start at, must be a value returned by {@link #getSeekableRow(long)}
+     * @return a new stream
+     * @throws IOException if the file can't be read
+     */
+    synchronized InputStream openStreamAtRow(final long rowIndex) throws IOException {
+        assert getSeekableRow(rowIndex) == rowIndex : "Not a seekable row: " + rowIndex;
+        if (m_mappedFile == null) {
+            m_mappedFile = new MappedTableFile(m_binFile);
+        }
+        if (m_rowIndex == null) {
+            long[] index = new long[m_rowIndexSize];
+            try (DataInputStream in = new DataInputStream(openUncompressedStream(m_rowIndexPosition))) {
+                for (int i = 0; i < index.length; i++) {
+                    index[i] = in.readLong();
+                }
+            }
+            m_rowIndex = index;
+        }
+        return openUncompressedStream(m_rowIndex[(int)(rowIndex / m_rowIndexStride)]);
+    }
+
+    /**
+     * {@inheritDoc} Also releases the memory mapping of the file (once the streams of the iterators are closed) as
+     * the file is about to be deleted.
+     */
+    @Override
+    public void clearIteratorInstances() {
+        super.clearIteratorInstances();
+        synchronized (this) {
+            if (m_mappedFile != null) {
+                m_mappedFile.close();
+                m_mappedFile = null;
+            }
+        }
+    }
+
+    /** Opens the memory mapped file at the argument position of the uncompressed stream. */
+    private InputStream openUncompressedStream(final long position) throws IOException {
+        switch (m_compressionFormat) {
+            case None:
+                return m_mappedFile.openStream(position);
+            case Lz4:
+                // all blocks but the last one hold exactly BLOCK_SIZE bytes
+                if (m_lz4BlockOffsets == null) {
+                    m_lz4BlockOffsets = readLZ4BlockOffsets();
+                }
+                int block = (int)(position / LZ4BlockOutputStream.BLOCK_SIZE);
+                if (block >= m_lz4BlockOffsets.length) {
+                    throw new EOFException("Position " + position + " beyond end of stream");
+                }
+                InputStream in = new LZ4BlockInputStream(m_mappedFile.openStream(m_lz4BlockOffsets[block]));
+                long toSkip = position % LZ4BlockOutputStream.BLOCK_SIZE;
+                if (in.skip(toSkip) != toSkip) {
+                    in.close();
+                    throw new EOFException("Position " + position + " beyond end of stream");
+                }
+                return in;
+            default:
+                throw new IOException("Random access not supported for compression format " + m_compressionFormat);
+        }
+    }
+
+    /** Walks the block headers of the LZ4 stream and returns the file offsets of all blocks. */
+    private long[] readLZ4BlockOffsets() throws IOException {
+        long[] offsets = new long[(int)(m_mappedFile.size() / LZ4BlockOutputStream.BLOCK_SIZE) + 1];
+        int count = 0;
+        long offset = 0L;
+        try (DataInputStream in = new DataInputStream(m_mappedFile.openStream(0L))) {
+            while (true) {
+                int rawLength = in.readInt();
+                int storedLength = in.readInt();
+                if (rawLength == 0) {
+                    break;
+                }
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, 2 * count);
+                }
+                offsets[count++] = offset;
+                if (in.skip(storedLength) != storedLength) {
+                    throw new EOFException("Unexpected end of LZ4 compressed stream");
+                }
+                offset += 8 + storedLength;
+            }
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
     /** @return Whether stream is zipped. */
     CompressionFormat getBinFileCompressionFormat() {
         return m_compressionFormat;
@@ -48,8 +48,11 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.zip.GZIPOutputStream;
 
 import org.knime.core.data.DataCell;
@@ -62,13 +65,43 @@
 import org.knime.core.node.NodeSettingsWO;
 
 /**
+ * Writer for the {@link DefaultTableStoreFormat}. Unless the stream is gzip compressed, a row index is appended to
+ * the stream when the writer is closed; it holds the position of every {@link #INITIAL_ROW_INDEX_STRIDE}-th row
+ * (possibly more sparse for very large tables) in the uncompressed stream and is used for random access.
  *
  * @author wiswedel
  */
 final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements KNIMEStreamConstants {
 
+    /** Number of rows between two entries of the row index, doubled whenever the index gets too large. */
+    static final int INITIAL_ROW_INDEX_STRIDE = 32;
+
+    /** Maximum number of entries in the row index (limits the memory held while writing). */
+    static final int MAX_ROW_INDEX_SIZE = 1 << 20;
+
     private final CompressionFormat m_compressionFormat;
 
+    /** Maximum number of entries in the row index, a power of 2. */
+    private final int m_maxRowIndexSize;
+
+    /** Tracks the position in the uncompressed stream, null if no row index is written. */
+    private PositionOutputStream m_positionStream;
+
+    /** Positions of every m_rowIndexStride-th row. */
+    private long[] m_rowIndex;
+
+    private int m_rowIndexSize;
+
+    private int m_rowIndexStride = INITIAL_ROW_INDEX_STRIDE;
+
+    /** Position of the row index in the uncompressed stream, -1 if not (yet) written. */
+    private long m_rowIndexPosition = -1L;
+
+    /** Type identifiers of the cell classes of primitive values, indexed by kind ordinal; created lazily. */
+    private Byte[] m_primitiveTypeShortCuts;
+
+    private long m_rowCount;
+
     /**
      * the stream that writes to the file, it's a special object output stream, in which we can mark the end of an entry
      * (to figure out when a cell implementation reads too many or too few bytes).
@@ -85,8 +118,25 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      */
     public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey)
         throws IOException {
+        this(spec, outputStream, writeRowKey, DefaultTableStoreFormat.COMPRESSION_FORMAT, MAX_ROW_INDEX_SIZE);
+    }
+
+    /**
+     * Constructs a writer with the given compression instead of the configured one (see
+     * {@link DefaultTableStoreFormat#COMPRESSION_FORMAT}), used by tests.
+     *
+     * @param spec the specification of the KNIME table to write to disk
+     * @param outputStream the stream to write to
+     * @param writeRowKey whether to write the row keys
+     * @param compressionFormat the compression of the stream
+     * @param maxRowIndexSize the maximum number of entries in the row index, a power of 2
+     * @throws IOException any type of I/O problem
+     */
+    DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final CompressionFormat compressionFormat, final int maxRowIndexSize) throws IOException {
         super(spec, writeRowKey);
-        m_compressionFormat = DefaultTableStoreFormat.IS_USE_GZIP ? CompressionFormat.Gzip : CompressionFormat.None;
+        m_compressionFormat = compressionFormat;
+        m_maxRowIndexSize = maxRowIndexSize;
         m_outStream = initOutFile(new BufferedOutputStream(outputStream));
     }
 
@@ -97,17 +147,68 @@ public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outp
      */
     @Override
     public void writeRow(final DataRow row) throws IOException {
+        if (m_positionStream != null && m_rowCount % m_rowIndexStride == 0) {
+            addRowIndexEntry(m_positionStream.m_position);
+        }
+        m_rowCount++;
         RowKey id = row.getKey();
         writeRowKey(id, m_outStream);
+        final PrimitiveBlobSupportDataRow primitiveRow =
+            row instanceof PrimitiveBlobSupportDataRow ? (PrimitiveBlobSupportDataRow)row : null;
         for (int i = 0; i < row.getNumCells(); i++) {
-            DataCell cell =
-                row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
-            writeDataCell(cell, m_outStream);
+            if (primitiveRow != null && primitiveRow.isPrimitive(i)) {
+                writePrimitive(primitiveRow, i);
+            } else {
+                DataCell cell =
+                    row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(i) : row.getCell(i);
+                writeDataCell(cell, m_outStream);
+            }
             m_outStream.endBlock();
         }
         m_outStream.endRow();
     }
 
+    /** Writes a primitive value in the same way {@link #writeDataCell(DataCell, DCObjectOutputVersion2)} writes the
+     * corresponding cell, but without creating it. */
+    private void writePrimitive(final PrimitiveBlobSupportDataRow row, final int index) throws IOException {
+        if (row.isMissing(index)) {
+            m_outStream.writeControlByte(BYTE_TYPE_MISSING);
+            return;
+        }
+        final PrimitiveBlobSupportDataRow.Kind kind = row.getKind(index);
+        if (m_primitiveTypeShortCuts == null) {
+            m_primitiveTypeShortCuts = new Byte[PrimitiveBlobSupportDataRow.Kind.values().length];
+        }
+        Byte identifier = m_primitiveTypeShortCuts[kind.ordinal()];
+        if (identifier == null) {
+            final CellClassInfo cellClass = CellClassInfo.get(kind.getCellClass(), null);
+            // registers the type short cut
+            getSerializerForDataCell(cellClass);
+            identifier = getTypeShortCut(cellClass);
+            m_primitiveTypeShortCuts[kind.ordinal()] = identifier;
+        }
+        m_outStream.writeControlByte(identifier);
+        kind.write(m_outStream.getDataOutput(), row.getBits(index));
+    }
+
+    private void addRowIndexEntry(final long position) {
+        if (m_rowIndexSize == m_maxRowIndexSize) {
+            // drop every other entry
+            for (int i = 0; i < m_rowIndexSize / 2; i++) {
+                m_rowIndex[i] = m_rowIndex[2 * i];
+            }
+            m_rowIndexSize /= 2;
+            m_rowIndexStride *= 2;
+            if ((m_rowCount % m_rowIndexStride) != 0) {
+                return;
+            }
+        }
+        if (m_rowIndexSize == m_rowIndex.length) {
+            m_rowIndex = Arrays.copyOf(m_rowIndex, Math.min(2 * m_rowIndex.length, m_maxRowIndexSize));
+        }
+        m_rowIndex[m_rowIndexSize++] = position;
+    }
+
     /**
      * Writes the row key to the out stream. This method is overridden in {@link NoKeyBuffer} in order to skip the row
      * key.
@@ -138,12 +239,22 @@ private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream
                 // and ~30s with buffering)
                 wrap = new BufferedOutputStream(wrap);
                 break;
+            case Lz4:
+                // the LZ4 stream collects the data of an entire block, no extra buffering needed
+                wrap = new LZ4BlockOutputStream(outStream);
+                break;
             case None:
                 wrap = outStream;
                 break;
             default:
                 throw new IOException("Unsupported compression format: " + m_compressionFormat);
         }
+        if (m_compressionFormat != CompressionFormat.Gzip) {
+            // gzip streams can't be positioned, an index would be useless
+            m_positionStream = new PositionOutputStream(wrap);
+            m_rowIndex = new long[Math.min(1024, m_maxRowIndexSize)];
+            wrap = m_positionStream;
+        }
         return new BlockableDCObjectOutputVersion2(wrap, this);
     }
 
@@ -151,13 +262,51 @@ private BlockableDCObjectOutputVersion2 initOutFile(final OutputStream outStream
     @Override
     public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
         settings.addString(DefaultTableStoreFormat.CFG_COMPRESSION, m_compressionFormat.name());
+        if (m_rowIndexPosition >= 0) {
+            settings.addLong(DefaultTableStoreFormat.CFG_ROW_INDEX_POSITION, m_rowIndexPosition);
+            settings.addInt(DefaultTableStoreFormat.CFG_ROW_INDEX_STRIDE, m_rowIndexStride);
+            settings.addInt(DefaultTableStoreFormat.CFG_ROW_INDEX_SIZE, m_rowIndexSize);
+        }
         super.writeMetaInfoAfterWrite(settings);
     }
 
-    /** {@inheritDoc} */
+    /** Appends the row index (if any) and closes the stream. {@inheritDoc} */
     @Override
     public void close() throws IOException {
+        if (m_positionStream != null && m_rowIndexPosition < 0) {
+            // readers ignore any data following the last row, hence older versions can still read the file
+            m_outStream.flush();
+            m_rowIndexPosition = m_positionStream.m_position;
+            DataOutputStream indexOut = new DataOutputStream(m_positionStream);
+            for (int i = 0; i < m_rowIndexSize; i++) {
+                indexOut.writeLong(m_rowIndex[i]);
+            }
+            indexOut.flush();
+            m_rowIndex = null;
+        }
         m_outStream.close();
     }
 
+    /** Stream counting the bytes written to the (uncompressed) stream. */
+    private static final class PositionOutputStream extends FilterOutputStream {
+
+        private long m_position;
+
+        PositionOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            m_position++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            m_position += len;
+        }
+    }
+
 }
@@ -50,9 +50,12 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
@@ -126,6 +129,35 @@ public CloseableRowIterator iterator() {
                 m_rightTable.iterator(), m_map, m_flags);
     }
 
+    /**
+     * {@inheritDoc} Column filters are split and passed on to the left and right table.
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), m_spec) {
+
+            private int[] m_indices;
+
+            @Override
+            public RowIteratorBuilder<CloseableRowIterator> filterColumns(final int... indices) {
+                super.filterColumns(indices);
+                m_indices = indices.clone();
+                return this;
+            }
+
+            @Override
+            public CloseableRowIterator build() {
+                if (m_indices == null) {
+                    return super.build();
+                }
+                int[] leftIndices = IntStream.of(m_indices).filter(i -> m_flags[i]).map(i -> m_map[i]).toArray();
+                int[] rightIndices = IntStream.of(m_indices).filter(i -> !m_flags[i]).map(i -> m_map[i]).toArray();
+                return new JoinTableIterator(m_leftTable.iteratorBuilder().filterColumns(leftIndices).build(),
+                    m_rightTable.iteratorBuilder().filterColumns(rightIndices).build(), m_map, m_flags);
+            }
+        };
+    }
+
     /**
      * Does nothing.
      * {@inheritDoc}
@@ -0,0 +1,246 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Input stream reading data written by a {@link LZ4BlockOutputStream}. Blocks are decompressed one at a time as the
+ * data is consumed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see LZ4BlockOutputStream
+ */
+final class LZ4BlockInputStream extends InputStream {
+
+    private final InputStream m_in;
+
+    private final byte[] m_buffer;
+
+    private final byte[] m_compressed;
+
+    private final byte[] m_header = new byte[8];
+
+    private int m_pos;
+
+    private int m_limit;
+
+    private boolean m_isEOF;
+
+    /**
+     * Creates a new stream reading from the argument stream.
+     *
+     * @param in the stream containing the compressed blocks, not null.
+     */
+    LZ4BlockInputStream(final InputStream in) {
+        m_in = in;
+        m_buffer = new byte[LZ4BlockOutputStream.BLOCK_SIZE];
+        m_compressed = new byte[LZ4BlockOutputStream.maxCompressedLength(LZ4BlockOutputStream.BLOCK_SIZE)];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() throws IOException {
+        if (m_pos == m_limit && !readBlock()) {
+            return -1;
+        }
+        return m_buffer[m_pos++] & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (m_pos == m_limit && !readBlock()) {
+            return -1;
+        }
+        int l = Math.min(len, m_limit - m_pos);
+        System.arraycopy(m_buffer, m_pos, b, off, l);
+        m_pos += l;
+        return l;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && (m_pos < m_limit || readBlock())) {
+            int l = (int)Math.min(n - skipped, m_limit - m_pos);
+            m_pos += l;
+            skipped += l;
+        }
+        return skipped;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() throws IOException {
+        return m_limit - m_pos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        m_isEOF = true;
+        m_pos = m_limit = 0;
+        m_in.close();
+    }
+
+    /** Reads and decompresses the next block, returns false if the end of the stream is reached. */
+    private boolean readBlock() throws IOException {
+        if (m_isEOF) {
+            return false;
+        }
+        readFully(m_header, 8);
+        final int rawLength = readInt(m_header, 0);
+        final int storedLength = readInt(m_header, 4);
+        if (rawLength == 0) {
+            m_isEOF = true;
+            return false;
+        }
+        if (rawLength < 0 || rawLength > m_buffer.length || storedLength <= 0 || storedLength > rawLength) {
+            throw new IOException(
+                "Corrupt LZ4 block header (block size " + rawLength + ", stored size " + storedLength + ")");
+        }
+        if (storedLength == rawLength) {
+            readFully(m_buffer, rawLength);
+        } else {
+            readFully(m_compressed, storedLength);
+            decompress(m_compressed, storedLength, m_buffer, rawLength);
+        }
+        m_pos = 0;
+        m_limit = rawLength;
+        return true;
+    }
+
+    private void readFully(final byte[] b, final int len) throws IOException {
+        int read = 0;
+        while (read < len) {
+            int r = m_in.read(b, read, len - read);
+            if (r < 0) {
+                throw new EOFException("Unexpected end of LZ4 compressed stream");
+            }
+            read += r;
+        }
+    }
+
+    private static int readInt(final byte[] b, final int off) {
+        return (b[off] & 0xFF) << 24 | (b[off + 1] & 0xFF) << 16 | (b[off + 2] & 0xFF) << 8 | (b[off + 3] & 0xFF);
+    }
+
+    /**
+     * Decompresses a single LZ4 block.
+     *
+     * @param src the compressed data
+     * @param srcLength number of compressed bytes
+     * @param dest the array to decompress into
+     * @param destLength the expected number of decompressed bytes
+     * @throws IOException if the data is corrupt
+     */
+    static void decompress(final byte[] src, final int srcLength, final byte[] dest, final int destLength)
+        throws IOException {
+        int ip = 0;
+        int op = 0;
+        try {
+            while (true) {
+                final int token = src[ip++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                System.arraycopy(src, ip, dest, op, literalLength);
+                ip += literalLength;
+                op += literalLength;
+                if (ip >= srcLength) {
+                    break; // last sequence has no match part
+                }
+                final int offset = (src[ip] & 0xFF) | (src[ip + 1] & 0xFF) << 8;
+                ip += 2;
+                int matchLength = token & 0x0F;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[ip++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += LZ4BlockOutputStream.MIN_MATCH;
+                int ref = op - offset;
+                if (offset == 0 || ref < 0 || op + matchLength > destLength) {
+                    throw new IOException("Corrupt LZ4 block (invalid match at position " + op + ")");
+                }
+                if (offset >= matchLength) {
+                    System.arraycopy(dest, ref, dest, op, matchLength);
+                    op += matchLength;
+                } else {
+                    // overlapping copy (repeated pattern), must be done byte by byte
+                    for (int end = op + matchLength; op < end;) {
+                        dest[op++] = dest[ref++];
+                    }
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Corrupt LZ4 block: " + e.getMessage(), e);
+        }
+        if (op != destLength || ip != srcLength) {
+            throw new IOException("Corrupt LZ4 block (decompressed " + op + " bytes, expected " + destLength + ")");
+        }
+    }
+
+}
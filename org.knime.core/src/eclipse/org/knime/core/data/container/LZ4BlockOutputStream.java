@@ -0,0 +1,285 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Output stream that compresses its data in independent blocks using the LZ4 block format (pure Java
+ * implementation, no native code). Each block is written as
+ * <pre>
+ *   int   number of uncompressed bytes in the block (big endian, 0 marks the end of the stream)
+ *   int   number of bytes stored for the block (equal to the uncompressed size if the block is stored as is)
+ *   byte* the LZ4 compressed (or raw) block data
+ * </pre>
+ * As blocks don't share any state, each block can be decompressed on its own. Compression is much faster than
+ * GZIP, at the price of a lower compression ratio.
+ *
+ * <p>
+ * {@link #flush()} does not terminate the current block (same as for {@link java.util.zip.GZIPOutputStream}),
+ * data is only written once a block is full or the stream is closed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @see LZ4BlockInputStream
+ */
+final class LZ4BlockOutputStream extends OutputStream {
+
+    /** Default (and maximum) number of uncompressed bytes per block. */
+    static final int BLOCK_SIZE = 1 << 16;
+
+    static final int MIN_MATCH = 4;
+
+    /** The last match must start at least that many bytes before the end of the block. */
+    private static final int MF_LIMIT = 12;
+
+    /** The last that many bytes of a block are always encoded as literals. */
+    private static final int LAST_LITERALS = 5;
+
+    static final int MAX_DISTANCE = (1 << 16) - 1;
+
+    private static final int HASH_LOG = 12;
+
+    private final OutputStream m_out;
+
+    private final byte[] m_buffer;
+
+    private final byte[] m_compressed;
+
+    private final int[] m_hashTable = new int[1 << HASH_LOG];
+
+    private final byte[] m_header = new byte[8];
+
+    private int m_count;
+
+    private boolean m_isClosed;
+
+    /**
+     * Creates a new stream writing to the argument stream.
+     *
+     * @param out the stream to write the compressed blocks to, not null.
+     */
+    LZ4BlockOutputStream(final OutputStream out) {
+        m_out = out;
+        m_buffer = new byte[BLOCK_SIZE];
+        m_compressed = new byte[maxCompressedLength(BLOCK_SIZE)];
+    }
+
+    /**
+     * @param length the number of bytes to compress
+     * @return the maximum size of the compressed representation of the argument length
+     */
+    static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        if (m_count == m_buffer.length) {
+            writeBlock();
+        }
+        m_buffer[m_count++] = (byte)b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (off < 0 || len < 0 || off + len > b.length) {
+            throw new IndexOutOfBoundsException();
+        }
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (m_count == m_buffer.length) {
+                writeBlock();
+            }
+            int l = Math.min(remaining, m_buffer.length - m_count);
+            System.arraycopy(b, offset, m_buffer, m_count, l);
+            m_count += l;
+            offset += l;
+            remaining -= l;
+        }
+    }
+
+    /** Flushes the underlying stream, the current block is not terminated. {@inheritDoc} */
+    @Override
+    public void flush() throws IOException {
+        m_out.flush();
+    }
+
+    /** Writes the pending block and the end-of-stream marker and closes the underlying stream. {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        try {
+            writeBlock();
+            writeHeader(0, 0);
+        } finally {
+            m_out.close();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        if (m_count == 0) {
+            return;
+        }
+        int compressedLength = compress(m_buffer, m_count, m_compressed, m_hashTable);
+        if (compressedLength < m_count) {
+            writeHeader(m_count, compressedLength);
+            m_out.write(m_compressed, 0, compressedLength);
+        } else {
+            // incompressible data, store as is
+            writeHeader(m_count, m_count);
+            m_out.write(m_buffer, 0, m_count);
+        }
+        m_count = 0;
+    }
+
+    private void writeHeader(final int rawLength, final int storedLength) throws IOException {
+        writeInt(m_header, 0, rawLength);
+        writeInt(m_header, 4, storedLength);
+        m_out.write(m_header, 0, m_header.length);
+    }
+
+    private static void writeInt(final byte[] b, final int off, final int v) {
+        b[off] = (byte)(v >>> 24);
+        b[off + 1] = (byte)(v >>> 16);
+        b[off + 2] = (byte)(v >>> 8);
+        b[off + 3] = (byte)v;
+    }
+
+    private static int readIntLE(final byte[] b, final int off) {
+        return (b[off] & 0xFF) | (b[off + 1] & 0xFF) << 8 | (b[off + 2] & 0xFF) << 16 | (b[off + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(final int i) {
+        return (i * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    /**
+     * Compresses the argument bytes into a single LZ4 block (greedy matching, single hash probe).
+     *
+     * @param src the data to compress
+     * @param srcLength the number of bytes to compress, at most {@link #BLOCK_SIZE}
+     * @param dest the array to write to, must have at least {@link #maxCompressedLength(int)} bytes
+     * @param hashTable the hash table to use, overwritten
+     * @return the number of bytes written to <code>dest</code>
+     */
+    static int compress(final byte[] src, final int srcLength, final byte[] dest, final int[] hashTable) {
+        int op = 0;
+        int anchor = 0;
+        if (srcLength > MF_LIMIT) {
+            Arrays.fill(hashTable, -1);
+            final int limit = srcLength - MF_LIMIT;
+            final int matchLimit = srcLength - LAST_LITERALS;
+            int ip = 0;
+            while (ip < limit) {
+                final int sequence = readIntLE(src, ip);
+                final int h = hash(sequence);
+                int ref = hashTable[h];
+                hashTable[h] = ip;
+                if (ref < 0 || ip - ref > MAX_DISTANCE || readIntLE(src, ref) != sequence) {
+                    // skip faster over incompressible data
+                    ip += 1 + ((ip - anchor) >>> 6);
+                    continue;
+                }
+                // extend match backwards
+                while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+                int matchLength = MIN_MATCH;
+                while (ip + matchLength < matchLimit && src[ref + matchLength] == src[ip + matchLength]) {
+                    matchLength++;
+                }
+                op = writeSequence(src, anchor, ip - anchor, ip - ref, matchLength - MIN_MATCH, dest, op);
+                ip += matchLength;
+                anchor = ip;
+            }
+        }
+        // last literals
+        final int literalLength = srcLength - anchor;
+        final int tokenPos = op++;
+        op = writeLength(literalLength, dest, op);
+        dest[tokenPos] = (byte)(Math.min(literalLength, 15) << 4);
+        System.arraycopy(src, anchor, dest, op, literalLength);
+        return op + literalLength;
+    }
+
+    private static int writeSequence(final byte[] src, final int literalStart, final int literalLength,
+        final int offset, final int matchLengthMinusMin, final byte[] dest, final int destPos) {
+        int op = destPos;
+        dest[op++] = (byte)((Math.min(literalLength, 15) << 4) | Math.min(matchLengthMinusMin, 15));
+        op = writeLength(literalLength, dest, op);
+        System.arraycopy(src, literalStart, dest, op, literalLength);
+        op += literalLength;
+        dest[op++] = (byte)offset;
+        dest[op++] = (byte)(offset >>> 8);
+        return writeLength(matchLengthMinusMin, dest, op);
+    }
+
+    /** Writes the part of a literal or match length not covered by the 4 bit token field. */
+    private static int writeLength(final int length, final byte[] dest, final int destPos) {
+        int op = destPos;
+        if (length >= 15) {
+            int l = length - 15;
+            while (l >= 255) {
+                dest[op++] = (byte)255;
+                l -= 255;
+            }
+            dest[op++] = (byte)l;
+        }
+        return op;
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Read-only memory mapping of a (possibly large) file. The file is split into segments of at most
+ * {@link #SEGMENT_SIZE} bytes, which are mapped on demand and shared by all streams created via
+ * {@link #openStream(long)}. Mappings are released by {@link #close()} once all streams are closed (and otherwise by
+ * the garbage collector once this object is no longer referenced). That's important on Windows, where a mapped file
+ * can't be deleted.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class MappedTableFile {
+
+    /** Maximum size of a single mapped segment. */
+    static final int SEGMENT_SIZE = 1 << 30;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(MappedTableFile.class);
+
+    private final File m_file;
+
+    private final long m_size;
+
+    private final MappedByteBuffer[] m_segments;
+
+    /** Number of streams not closed yet, segments must not be unmapped while a stream may read them. */
+    private int m_openStreamCount;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param file the file to map, must exist.
+     */
+    MappedTableFile(final File file) {
+        m_file = file;
+        m_size = file.length();
+        m_segments = new MappedByteBuffer[(int)((m_size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+    }
+
+    /** @return the size of the file in bytes. */
+    long size() {
+        return m_size;
+    }
+
+    /**
+     * @param position the position in the file to start reading at
+     * @return a new stream reading the file content starting at the argument position
+     */
+    synchronized InputStream openStream(final long position) throws IOException {
+        if (position < 0 || position > m_size) {
+            throw new IndexOutOfBoundsException("Position " + position + " not in file of size " + m_size);
+        }
+        if (m_isClosed) {
+            throw new IOException("Memory mapping of \"" + m_file.getAbsolutePath() + "\" has been closed");
+        }
+        m_openStreamCount++;
+        return new SegmentInputStream(position);
+    }
+
+    /**
+     * Releases the mappings of all segments, immediately if no stream is open and otherwise once the last stream is
+     * closed. No new streams can be opened afterwards.
+     */
+    synchronized void close() {
+        m_isClosed = true;
+        if (m_openStreamCount == 0) {
+            unmapSegments();
+        }
+    }
+
+    private synchronized void streamClosed() {
+        m_openStreamCount--;
+        if (m_isClosed && m_openStreamCount == 0) {
+            unmapSegments();
+        }
+    }
+
+    private void unmapSegments() {
+        for (int i = 0; i < m_segments.length; i++) {
+            if (m_segments[i] != null) {
+                unmap(m_segments[i]);
+                m_segments[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Unmaps the argument buffer without waiting for its garbage collection. There is no API for that, hence
+     * {@code Unsafe#invokeCleaner} (Java 9+) or the buffer's cleaner (Java 8) is used. If neither is accessible the
+     * buffer is left to the garbage collector. The buffer must not be accessed afterwards.
+     */
+    private static void unmap(final MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                invokeCleaner = null;
+            }
+            if (invokeCleaner != null) {
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                invokeCleaner.invoke(theUnsafe.get(null), buffer);
+            } else {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.debug("Unable to unmap table file, relying on garbage collection: " + e.getMessage(), e);
+        }
+    }
+
+    /** @return a private view (own position) of the segment with the given index. */
+    private synchronized ByteBuffer getSegment(final int index) throws IOException {
+        if (m_segments[index] == null) {
+            long start = (long)index * SEGMENT_SIZE;
+            long length = Math.min(SEGMENT_SIZE, m_size - start);
+            // the mapping stays valid after the channel is closed
+            try (RandomAccessFile raf = new RandomAccessFile(m_file, "r");
+                    FileChannel channel = raf.getChannel()) {
+                m_segments[index] = channel.map(MapMode.READ_ONLY, start, length);
+            }
+        }
+        return m_segments[index].duplicate();
+    }
+
+    /** Stream reading from the mapped segments. */
+    private final class SegmentInputStream extends InputStream {
+
+        private ByteBuffer m_segment;
+
+        private long m_position;
+
+        private boolean m_isStreamClosed;
+
+        SegmentInputStream(final long position) {
+            m_position = position;
+        }
+
+        /** @return the current segment, positioned at m_position, or null if at end of file. */
+        private ByteBuffer ensureSegment() throws IOException {
+            if (m_segment == null || !m_segment.hasRemaining()) {
+                if (m_position >= m_size) {
+                    return null;
+                }
+                m_segment = getSegment((int)(m_position / SEGMENT_SIZE));
+                m_segment.position((int)(m_position % SEGMENT_SIZE));
+            }
+            return m_segment;
+        }
+
+        @Override
+        public int read() throws IOException {
+            ByteBuffer segment = ensureSegment();
+            if (segment == null) {
+                return -1;
+            }
+            m_position++;
+            return segment.get() & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (off < 0 || len < 0 || off + len > b.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer segment = ensureSegment();
+            if (segment == null) {
+                return -1;
+            }
+            int l = Math.min(len, segment.remaining());
+            segment.get(b, off, l);
+            m_position += l;
+            return l;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            long skip = Math.max(0, Math.min(n, m_size - m_position));
+            m_position += skip;
+            if (m_segment != null) {
+                long newPosInSegment = m_segment.position() + skip;
+                if (newPosInSegment < m_segment.limit()) {
+                    m_segment.position((int)newPosInSegment);
+                } else {
+                    m_segment = null;
+                }
+            }
+            return skip;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int)Math.min(Integer.MAX_VALUE, m_size - m_position);
+        }
+
+        @Override
+        public void close() {
+            m_segment = null;
+            m_position = m_size;
+            if (!m_isStreamClosed) {
+                m_isStreamClosed = true;
+                streamClosed();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,432 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.PrimitiveDataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * A {@link BlobSupportDataRow} that keeps the values of int, long, double and boolean columns in a long array (plus
+ * a bitmap for missing values) rather than as cell objects. Cells of all other columns, and cells of primitive
+ * columns that are not of the exact expected class (e.g. missing cells with error message), are kept in a sparse cell
+ * array. Cells for primitive values are created on access.
+ *
+ * <p>Rows are created via the {@link Builder} by the table store readers and by the {@link Buffer} for rows kept in
+ * memory, see {@link KNIMEConstants#PROPERTY_TABLE_PRIMITIVE_ROWS}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrimitiveBlobSupportDataRow extends BlobSupportDataRow implements PrimitiveDataRow {
+
+    /** Whether buffers and readers of the default format create rows of this class, see {@link #isEnabled()}. */
+    private static volatile boolean isEnabled = Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_PRIMITIVE_ROWS);
+
+    /**
+     * @return whether buffers and readers of the default format create rows of this class, initialized from
+     *         {@link KNIMEConstants#PROPERTY_TABLE_PRIMITIVE_ROWS}
+     */
+    static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Overrides the value of {@link KNIMEConstants#PROPERTY_TABLE_PRIMITIVE_ROWS}; affects buffers and iterators
+     * created afterwards. Used in tests.
+     *
+     * @param enabled whether to create rows of this class
+     */
+    static void setEnabled(final boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    /** How the values of a column are kept. */
+    enum Kind {
+        /** {@link IntCell} values. */
+        INT(IntCell.class),
+        /** {@link LongCell} values. */
+        LONG(LongCell.class),
+        /** {@link DoubleCell} values, kept as raw long bits. */
+        DOUBLE(DoubleCell.class),
+        /** {@link BooleanCell} values, kept as 1 or 0. */
+        BOOLEAN(BooleanCell.class),
+        /** All other columns, kept as cells. */
+        OBJECT(null);
+
+        private final Class<? extends DataCell> m_cellClass;
+
+        Kind(final Class<? extends DataCell> cellClass) {
+            m_cellClass = cellClass;
+        }
+
+        /** @return the class of cells whose values are kept as primitives, null for {@link #OBJECT} */
+        Class<? extends DataCell> getCellClass() {
+            return m_cellClass;
+        }
+
+        private long toBits(final DataCell cell) {
+            switch (this) {
+                case INT:
+                    return ((IntCell)cell).getIntValue();
+                case LONG:
+                    return ((LongCell)cell).getLongValue();
+                case DOUBLE:
+                    return Double.doubleToRawLongBits(((DoubleCell)cell).getDoubleValue());
+                case BOOLEAN:
+                    return ((BooleanCell)cell).getBooleanValue() ? 1L : 0L;
+                default:
+                    throw new IllegalStateException("No primitive kind: " + this);
+            }
+        }
+
+        private DataCell toCell(final long bits) {
+            switch (this) {
+                case INT:
+                    return new IntCell((int)bits);
+                case LONG:
+                    return new LongCell(bits);
+                case DOUBLE:
+                    return new DoubleCell(Double.longBitsToDouble(bits));
+                case BOOLEAN:
+                    return BooleanCell.get(bits != 0L);
+                default:
+                    throw new IllegalStateException("No primitive kind: " + this);
+            }
+        }
+
+        /**
+         * Reads a value as written by the serializer of the {@link #getCellClass() cell class}.
+         *
+         * @param in to read from
+         * @return the value bits
+         * @throws IOException if reading fails
+         */
+        long read(final DataInput in) throws IOException {
+            switch (this) {
+                case INT:
+                    return in.readInt();
+                case LONG:
+                    return in.readLong();
+                case DOUBLE:
+                    return Double.doubleToRawLongBits(in.readDouble());
+                case BOOLEAN:
+                    return in.readBoolean() ? 1L : 0L;
+                default:
+                    throw new IllegalStateException("No primitive kind: " + this);
+            }
+        }
+
+        /**
+         * Writes a value as the serializer of the {@link #getCellClass() cell class} does.
+         *
+         * @param out to write to
+         * @param bits the value bits
+         * @throws IOException if writing fails
+         */
+        void write(final DataOutput out, final long bits) throws IOException {
+            switch (this) {
+                case INT:
+                    out.writeInt((int)bits);
+                    break;
+                case LONG:
+                    out.writeLong(bits);
+                    break;
+                case DOUBLE:
+                    out.writeDouble(Double.longBitsToDouble(bits));
+                    break;
+                case BOOLEAN:
+                    out.writeBoolean(bits != 0L);
+                    break;
+                default:
+                    throw new IllegalStateException("No primitive kind: " + this);
+            }
+        }
+
+        /**
+         * @param spec a non-null spec
+         * @return the kind of each column or null if the spec has no primitive column
+         */
+        static Kind[] getKinds(final DataTableSpec spec) {
+            final Kind[] kinds = new Kind[spec.getNumColumns()];
+            boolean hasPrimitive = false;
+            for (int i = 0; i < kinds.length; i++) {
+                final DataType type = spec.getColumnSpec(i).getType();
+                kinds[i] = OBJECT;
+                for (Kind k : values()) {
+                    if (k != OBJECT && type.getCellClass() == k.m_cellClass) {
+                        kinds[i] = k;
+                        hasPrimitive = true;
+                    }
+                }
+            }
+            return hasPrimitive ? kinds : null;
+        }
+    }
+
+    private final Kind[] m_kinds;
+
+    private final long[] m_values;
+
+    /** Bitmap of missing primitive values, null if there are none. */
+    private final long[] m_missing;
+
+    /** Cells not kept as primitive (non-null elements take precedence over values), null if there are none. */
+    private final DataCell[] m_cells;
+
+    private PrimitiveBlobSupportDataRow(final RowKey key, final Kind[] kinds, final long[] values,
+        final long[] missing, final DataCell[] cells) {
+        super(key);
+        m_kinds = kinds;
+        m_values = values;
+        m_missing = missing;
+        m_cells = cells;
+    }
+
+    /**
+     * Converts a row to a primitive row, used for rows kept in memory.
+     *
+     * @param kinds the column kinds as per {@link Kind#getKinds(DataTableSpec)}
+     * @param row the row to convert
+     * @return the argument if it is already a primitive row, otherwise a new primitive row
+     */
+    static BlobSupportDataRow compact(final Kind[] kinds, final BlobSupportDataRow row) {
+        if (row instanceof PrimitiveBlobSupportDataRow) {
+            return row;
+        }
+        final Builder builder = new Builder(kinds);
+        for (int i = 0; i < kinds.length; i++) {
+            builder.setCell(i, row.getRawCell(i));
+        }
+        return builder.build(row.getKey());
+    }
+
+    /**
+     * @param index the column index
+     * @return the kind of the column
+     */
+    Kind getKind(final int index) {
+        return m_kinds[index];
+    }
+
+    /**
+     * @param index the column index of a {@link #isPrimitive(int) primitive} value
+     * @return the value bits (see {@link Kind})
+     */
+    long getBits(final int index) {
+        return m_values[index];
+    }
+
+    @Override
+    public boolean isPrimitive(final int index) {
+        return m_kinds[index] != Kind.OBJECT && (m_cells == null || m_cells[index] == null);
+    }
+
+    private boolean isMissingBit(final int index) {
+        return m_missing != null && (m_missing[index >>> 6] & (1L << index)) != 0L;
+    }
+
+    @Override
+    public boolean isMissing(final int index) {
+        return isPrimitive(index) ? isMissingBit(index) : m_cells[index].isMissing();
+    }
+
+    @Override
+    public double getDouble(final int index) {
+        if (!isPrimitive(index)) {
+            final DataCell cell = getCell(index);
+            return cell.isMissing() ? Double.NaN : ((DoubleValue)cell).getDoubleValue();
+        }
+        if (isMissingBit(index)) {
+            return Double.NaN;
+        }
+        final long bits = m_values[index];
+        return m_kinds[index] == Kind.DOUBLE ? Double.longBitsToDouble(bits) : bits;
+    }
+
+    @Override
+    public long getLong(final int index) {
+        if (!isPrimitive(index)) {
+            final DataCell cell = getCell(index);
+            return cell.isMissing() ? 0L : ((LongValue)cell).getLongValue();
+        }
+        if (isMissingBit(index)) {
+            return 0L;
+        }
+        if (m_kinds[index] == Kind.DOUBLE) {
+            throw new ClassCastException(String.format("Cell of class \"%s\" is not compatible to \"%s\"",
+                DoubleCell.class.getName(), LongValue.class.getSimpleName()));
+        }
+        return m_values[index];
+    }
+
+    @Override
+    public DataCell getCell(final int index) {
+        final DataCell c = getRawCell(index);
+        if (c instanceof BlobWrapperDataCell) {
+            return ((BlobWrapperDataCell)c).getCell();
+        }
+        return c;
+    }
+
+    @Override
+    public DataCell getRawCell(final int index) {
+        if (m_cells != null && m_cells[index] != null) {
+            return m_cells[index];
+        }
+        if (isMissingBit(index)) {
+            return DataType.getMissingCell();
+        }
+        return m_kinds[index].toCell(m_values[index]);
+    }
+
+    @Override
+    public int getNumCells() {
+        return m_kinds.length;
+    }
+
+    /** Collects the content of a row. A builder can be re-used, {@link #build(RowKey)} resets its content. */
+    static final class Builder {
+
+        private final Kind[] m_kinds;
+
+        private long[] m_values;
+
+        private long[] m_missing;
+
+        private DataCell[] m_cells;
+
+        /** @param kinds the column kinds as per {@link Kind#getKinds(DataTableSpec)} */
+        Builder(final Kind[] kinds) {
+            m_kinds = kinds;
+            m_values = new long[kinds.length];
+        }
+
+        /**
+         * @param index the column index
+         * @return the kind of the column
+         */
+        Kind getKind(final int index) {
+            return m_kinds[index];
+        }
+
+        /**
+         * Sets a primitive value.
+         *
+         * @param index the column index, must not be of kind {@link Kind#OBJECT}
+         * @param bits the value bits (see {@link Kind})
+         */
+        void setBits(final int index, final long bits) {
+            m_values[index] = bits;
+        }
+
+        /**
+         * Marks a primitive value as missing.
+         *
+         * @param index the column index, must not be of kind {@link Kind#OBJECT}
+         */
+        void setMissing(final int index) {
+            if (m_missing == null) {
+                m_missing = new long[(m_kinds.length + 63) >>> 6];
+            }
+            m_missing[index >>> 6] |= 1L << index;
+        }
+
+        /**
+         * Sets a cell, which is kept as primitive if possible.
+         *
+         * @param index the column index
+         * @param cell the cell, not null
+         */
+        void setCell(final int index, final DataCell cell) {
+            final Kind kind = m_kinds[index];
+            if (kind != Kind.OBJECT) {
+                if (cell == DataType.getMissingCell()) {
+                    setMissing(index);
+                    return;
+                }
+                if (cell.getClass() == kind.m_cellClass) {
+                    m_values[index] = kind.toBits(cell);
+                    return;
+                }
+            }
+            if (m_cells == null) {
+                m_cells = new DataCell[m_kinds.length];
+            }
+            m_cells[index] = cell;
+        }
+
+        /**
+         * Creates the row and resets the builder.
+         *
+         * @param key the row key
+         * @return a new row
+         */
+        PrimitiveBlobSupportDataRow build(final RowKey key) {
+            final PrimitiveBlobSupportDataRow row =
+                new PrimitiveBlobSupportDataRow(key, m_kinds, m_values, m_missing, m_cells);
+            m_values = new long[m_kinds.length];
+            m_missing = null;
+            m_cells = null;
+            return row;
+        }
+    }
+
+}
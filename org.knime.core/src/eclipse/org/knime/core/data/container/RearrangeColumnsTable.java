@@ -70,6 +70,8 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.ColumnRearranger.SpecAndFactoryObject;
 import org.knime.core.data.def.DefaultRow;
@@ -271,16 +273,47 @@ public DataTableSpec getDataTableSpec() {
      */
     @Override
     public CloseableRowIterator iterator() {
+        return iterator(IntStream.range(0, m_map.length).toArray());
+    }
+
+    /**
+     * {@inheritDoc} Column filters are passed on to the reference and the append table.
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> iterator(), m_spec) {
+
+            private int[] m_indices;
+
+            @Override
+            public RowIteratorBuilder<CloseableRowIterator> filterColumns(final int... indices) {
+                super.filterColumns(indices);
+                m_indices = indices.clone();
+                return this;
+            }
+
+            @Override
+            public CloseableRowIterator build() {
+                return m_indices == null ? super.build() : iterator(m_indices);
+            }
+        };
+    }
+
+    /**
+     * @param columns the (distinct) indices of the columns in this table to materialize
+     * @return an iterator that only materializes the argument columns from the underlying tables
+     */
+    private CloseableRowIterator iterator(final int[] columns) {
         CloseableRowIterator appendIt;
         if (m_appendTable != null) {
             int[] appendIndices =
-                IntStream.range(0, m_map.length).filter(i -> !m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
+                IntStream.of(columns).filter(i -> !m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
             appendIt = m_appendTable.iteratorBuilder().filterColumns(appendIndices).build();
         } else {
             appendIt = EMPTY_ITERATOR;
         }
         int[] refIndices =
-            IntStream.range(0, m_map.length).filter(i -> m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
+            IntStream.of(columns).filter(i -> m_isFromRefTable[i]).map(i -> m_map[i]).toArray();
         CloseableRowIterator refIt = m_reference.iteratorBuilder().filterColumns(refIndices).build();
         return new JoinTableIterator(refIt, appendIt, m_map, m_isFromRefTable);
     }
@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.container;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer/single-consumer ring buffer of row batches, used by {@link DataContainer} to hand rows
+ * from the thread calling <code>addRowToTable</code> to the table IO thread. A batch is an <code>Object[]</code> whose
+ * used entries are terminated by the first <code>null</code> element (or the end of the array).
+ *
+ * <p>
+ * Neither {@link #offer(Object[])} nor {@link #poll()} ever block or lock; the producer and the consumer only
+ * synchronize via the two volatile position counters. At most one thread may call {@link #offer(Object[])} and at
+ * most one thread may call {@link #poll()} at any given time, the hand-off of either role between threads must be
+ * guarded by the caller.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowBatchRingBuffer {
+
+    private final Object[][] m_slots;
+
+    private final int m_mask;
+
+    /** Index of the next batch to read, only modified by the consumer. */
+    private final AtomicLong m_head = new AtomicLong();
+
+    /** Index of the next free slot, only modified by the producer. */
+    private final AtomicLong m_tail = new AtomicLong();
+
+    /** Producer's (possibly stale) copy of {@link #m_head}, avoids reading the volatile on each offer. */
+    private long m_cachedHead;
+
+    /**
+     * @param capacity the minimum number of batches the buffer can hold, rounded up to the next power of two
+     * @throws IllegalArgumentException if capacity &lt; 1
+     */
+    RowBatchRingBuffer(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        m_slots = new Object[size][];
+        m_mask = size - 1;
+    }
+
+    /**
+     * Adds a batch if there is space left. Producer side only.
+     *
+     * @param batch the non-null batch
+     * @return true if the batch was added, false if the buffer is full
+     */
+    boolean offer(final Object[] batch) {
+        final long tail = m_tail.get();
+        if (tail - m_cachedHead >= m_slots.length) {
+            m_cachedHead = m_head.get();
+            if (tail - m_cachedHead >= m_slots.length) {
+                return false;
+            }
+        }
+        m_slots[(int)tail & m_mask] = batch;
+        m_tail.lazySet(tail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the oldest batch. Consumer side only.
+     *
+     * @return that batch or null if the buffer is empty
+     */
+    Object[] poll() {
+        final long head = m_head.get();
+        if (head >= m_tail.get()) {
+            return null;
+        }
+        final int index = (int)head & m_mask;
+        final Object[] batch = m_slots[index];
+        m_slots[index] = null;
+        m_head.set(head + 1);
+        return batch;
+    }
+
+    /** @return the number of batches currently queued (a snapshot, may be outdated when returned) */
+    int size() {
+        // read head first so that the result is never negative
+        final long head = m_head.get();
+        return (int)(m_tail.get() - head);
+    }
+
+    /** @return whether no batch is currently queued */
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** @return the number of batches the buffer can hold */
+    int capacity() {
+        return m_slots.length;
+    }
+}
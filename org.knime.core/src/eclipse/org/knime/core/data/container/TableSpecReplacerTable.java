@@ -56,6 +56,8 @@
 import java.util.zip.ZipFile;
 
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.RowIteratorBuilder;
+import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
 import org.knime.core.node.CanceledExecutionException;
@@ -207,6 +209,22 @@ public CloseableRowIterator iterator() {
         return m_reference.iterator();
     }
 
+    /**
+     * {@inheritDoc} Column filters are resolved against the new spec and passed on to the reference table.
+     */
+    @Override
+    public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
+        final RowIteratorBuilder<? extends CloseableRowIterator> refBuilder = m_reference.iteratorBuilder();
+        return new DefaultRowIteratorBuilder<CloseableRowIterator>(() -> refBuilder.build(), m_newSpec) {
+            @Override
+            public RowIteratorBuilder<CloseableRowIterator> filterColumns(final int... indices) {
+                super.filterColumns(indices);
+                refBuilder.filterColumns(indices);
+                return this;
+            }
+        };
+    }
+
     /**
      * {@inheritDoc}
      * @deprecated use {@link #size()} instead which supports more than {@link Integer#MAX_VALUE} rows
@@ -54,6 +54,7 @@
 import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -69,6 +70,7 @@
 import org.knime.core.data.IDataRepository;
 import org.knime.core.data.RowIteratorBuilder;
 import org.knime.core.data.RowIteratorBuilder.DefaultRowIteratorBuilder;
+import org.knime.core.data.UnmaterializedCell;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.BlobWrapperDataCell;
 import org.knime.core.data.container.Buffer;
@@ -190,9 +192,50 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      */
     public abstract TableStoreCloseableRowIterator iterator();
 
+    /**
+     * Returns a row iterator which only materializes the cells of the selected columns. Cells of all other columns
+     * are represented by {@link UnmaterializedCell} in the returned rows. The default implementation ignores the
+     * argument and returns {@link #iterator()}; formats that are able to skip the data of unselected columns without
+     * decoding it should override this method.
+     *
+     * @param materializedColumns the indices of the columns to materialize, sorted ascending and free of duplicates
+     * @return row iterator
+     * @since 3.8
+     */
+    protected TableStoreCloseableRowIterator iterator(final int[] materializedColumns) {
+        return iterator();
+    }
+
+    /**
+     * Returns a (registered) row iterator whose first row is the row with the given index. The default
+     * implementation iterates over the leading rows; formats that support random access should override this method.
+     *
+     * @param rowIndex the index of the first row to return, non-negative
+     * @return row iterator
+     * @since 3.8
+     */
+    public TableStoreCloseableRowIterator iteratorFrom(final long rowIndex) {
+        CheckUtils.checkArgument(rowIndex >= 0, "Row index must not be negative: %d", rowIndex);
+        TableStoreCloseableRowIterator iterator = iteratorBuilder().build();
+        for (long i = 0; i < rowIndex && iterator.hasNext(); i++) {
+            iterator.next();
+        }
+        return iterator;
+    }
+
+    /**
+     * @return whether {@link #iteratorFrom(long)} positions the iterator without iterating over the leading rows;
+     *         false unless overridden by formats that support random access
+     * @since 3.8
+     */
+    public boolean isRandomAccessSupported() {
+        return false;
+    }
+
     /**
      * Returns a {@link RowIteratorBuilder} that can be used to assemble more complex
-     * {@link TableStoreCloseableRowIterator}s that only iterate over parts of a table.
+     * {@link TableStoreCloseableRowIterator}s that only iterate over parts of a table. Column filters are passed on
+     * to {@link #iterator(int[])}.
      *
      * @return a {@link RowIteratorBuilder} that can be used to assemble complex {@link TableStoreCloseableRowIterator}s
      *
@@ -200,9 +243,23 @@ public final BlobWrapperDataCell createBlobWrapperCell(final BlobAddress address
      */
     public RowIteratorBuilder<? extends TableStoreCloseableRowIterator> iteratorBuilder() {
         return new DefaultRowIteratorBuilder<TableStoreCloseableRowIterator>(() -> iterator(), m_spec) {
+
+            /** Sorted indices of the columns to materialize, null if all columns are to be materialized. */
+            private int[] m_materializedColumns;
+
+            @Override
+            public RowIteratorBuilder<TableStoreCloseableRowIterator> filterColumns(final int... indices) {
+                super.filterColumns(indices);
+                m_materializedColumns = indices.clone();
+                Arrays.sort(m_materializedColumns);
+                return this;
+            }
+
             @Override
             public TableStoreCloseableRowIterator build() {
-                TableStoreCloseableRowIterator iterator = super.build();
+                TableStoreCloseableRowIterator iterator = m_materializedColumns == null
+                    || m_materializedColumns.length == m_spec.getNumColumns() ? super.build()
+                        : iterator(m_materializedColumns);
                 registerNewIteratorInstance(iterator);
                 return iterator;
             }
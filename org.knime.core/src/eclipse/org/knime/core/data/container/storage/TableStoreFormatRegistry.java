@@ -103,7 +103,7 @@ private static TableStoreFormatRegistry createInstance() {
                 .flatMap(ext -> Stream.of(ext.getConfigurationElements()))
                 .map(cfe -> readFormat(cfe))
                 .filter(f -> f != null)
-                .sorted(Comparator.comparing(f -> f.getClass().getSimpleName(), (a, b) -> {
+                .sorted(Comparator.comparing(f -> f.getClass().getName(), (a, b) -> {
                     // sort formats so that the "KNIME standard" format comes first.
                     if (Objects.equals(a, b)) {
                         return 0;
@@ -51,6 +51,7 @@
 import java.text.NumberFormat;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
@@ -62,6 +63,8 @@
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -73,12 +76,15 @@
 import org.knime.core.data.DataValueComparator;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.NormalizedKeyEncoder.KeyedRow;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
 
 /**
  * Class to sort a table. See <a href="package.html">package description</a> for details.
@@ -98,6 +104,12 @@ abstract class AbstractTableSorter {
      */
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /** Minimum number of rows sorted or written by a single task in parallel mode. */
+    private static final int MIN_ROWS_PER_TASK = 1000;
+
+    /** Number of rows read ahead per chunk in a single task when merging in parallel mode. */
+    private static final int READ_AHEAD_ROWS = 256;
+
     private MemoryAlertSystem m_memService = MemoryAlertSystem.getInstance();
 
     private final DataTable m_inputTable;
@@ -118,6 +130,15 @@ abstract class AbstractTableSorter {
 
     private boolean m_sortInMemory = false;
 
+    /** See {@link #setParallel(boolean)}. */
+    private boolean m_parallel = false;
+
+    /** Runs the tasks in parallel mode, created lazily. */
+    private ThreadPool m_executor;
+
+    /** See {@link #setUseNormalizedKeys(boolean)}. */
+    private boolean m_useNormalizedKeys = false;
+
     /** The RowComparator to compare two DataRows (inner class). */
     private Comparator<DataRow> m_rowComparator;
 
@@ -405,6 +426,97 @@ public void setSortInMemory(final boolean sortInMemory) {
         m_sortInMemory = sortInMemory;
     }
 
+    /**
+     * @return the parallel field, see {@link #setParallel(boolean)} for details.
+     * @since 3.8
+     */
+    public boolean isParallel() {
+        return m_parallel;
+    }
+
+    /**
+     * Enables the parallel mode. If enabled, the chunks of the table are sorted and written by multiple threads of
+     * the KNIME thread pool and the chunks are read ahead asynchronously during the merge phase, which is done using
+     * a tournament tree. The sort result is the same as in the sequential mode (i.e. the sort is stable).
+     *
+     * <p>
+     * The default value for this option is <b>false</b>.
+     *
+     * @param parallel <code>true</code> to sort using multiple threads
+     * @since 3.8
+     */
+    public void setParallel(final boolean parallel) {
+        m_parallel = parallel;
+    }
+
+    /**
+     * @return the useNormalizedKeys field, see {@link #setUseNormalizedKeys(boolean)} for details.
+     * @since 3.8
+     */
+    public boolean isUseNormalizedKeys() {
+        return m_useNormalizedKeys;
+    }
+
+    /**
+     * Enables the comparison of rows based on normalized keys. If enabled, the sort columns of each row are encoded
+     * once into a byte array whose order is consistent with the sort order. Rows are then compared by these byte
+     * arrays and only if they are equal using the full comparison of the cells. This is typically much faster when
+     * sorting numeric columns or short strings.
+     *
+     * <p>
+     * Only applies if the sort order is defined by {@link #setSortColumns(Collection, boolean[], boolean)} (not when
+     * using a custom row comparator) and only int, long, double and string columns (and the row key) are encoded. The
+     * sort result is the same as without normalized keys.
+     *
+     * <p>
+     * The default value for this option is <b>false</b>.
+     *
+     * @param useNormalizedKeys <code>true</code> to compare rows using normalized keys
+     * @since 3.8
+     */
+    public void setUseNormalizedKeys(final boolean useNormalizedKeys) {
+        m_useNormalizedKeys = useNormalizedKeys;
+    }
+
+    /** @return the key encoder if normalized keys are enabled and applicable, otherwise null */
+    private NormalizedKeyEncoder getKeyEncoder() {
+        if (m_useNormalizedKeys && m_rowComparator instanceof RowComparator) {
+            return ((RowComparator)m_rowComparator).getKeyEncoder();
+        }
+        return null;
+    }
+
+    /** Sorts the argument range of the array, using normalized keys if enabled. */
+    private void sortRange(final DataRow[] rows, final int from, final int to) {
+        NormalizedKeyEncoder encoder = getKeyEncoder();
+        if (encoder == null) {
+            Arrays.sort(rows, from, to, m_rowComparator);
+            return;
+        }
+        KeyedRow[] keyedRows = new KeyedRow[to - from];
+        for (int i = 0; i < keyedRows.length; i++) {
+            keyedRows[i] = encoder.encode(rows[from + i]);
+        }
+        Arrays.sort(keyedRows, NormalizedKeyEncoder.createComparator(m_rowComparator));
+        for (int i = 0; i < keyedRows.length; i++) {
+            rows[from + i] = keyedRows[i].getRow();
+        }
+    }
+
+    /** Merges the argument sorted iterators (stable), using normalized keys if enabled. */
+    private Iterator<DataRow> merge(final List<? extends Iterator<DataRow>> sources) {
+        NormalizedKeyEncoder encoder = getKeyEncoder();
+        if (encoder == null) {
+            return new LoserTree<>(sources, m_rowComparator);
+        }
+        List<Iterator<KeyedRow>> keyedSources = new ArrayList<>(sources.size());
+        for (Iterator<DataRow> source : sources) {
+            keyedSources.add(encoder.encode(source));
+        }
+        return NormalizedKeyEncoder
+            .decode(new LoserTree<>(keyedSources, NormalizedKeyEncoder.createComparator(m_rowComparator)));
+    }
+
     /**
      * Sorts the table passed in the constructor according to the settings and returns the sorted output table.
      *
@@ -451,7 +563,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortBuffer(rowList);
 
         exec.setMessage("Creating sorted table");
 
@@ -553,7 +665,15 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
                 containersToMerge.add(new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator));
             }
 
-            MergingIterator mergingIterator = new MergingIterator(containersToMerge);
+            Iterator<DataRow> mergingIterator;
+            if (m_parallel) {
+                for (MergeEntry entry : containersToMerge) {
+                    entry.open();
+                }
+                mergingIterator = merge(new ArrayList<>(containersToMerge));
+            } else {
+                mergingIterator = new MergingIterator(containersToMerge);
+            }
 
             if (m_chunksContainer.isEmpty() && (!mergeCompletely || containersToMerge.size() == 1)) {
                 return mergingIterator;
@@ -610,25 +730,35 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
                     m_incProgress = (0.5 - m_progress) / estimatedIncrements;
                 }
                 exec.setMessage("Sorting temporary buffer");
-                // sort buffer
-                Collections.sort(buffer, m_rowComparator);
-                // write buffer to disk
-                openChunk();
-                final int totalBufferSize = buffer.size();
-                for (int i = 0; i < totalBufferSize; i++) {
-                    exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
-                    // must not use Iterator#remove as it causes
-                    // array copies
-                    DataRow next = buffer.set(i, null);
-                    addRowToChunk(next);
-                    exec.checkCanceled();
+                if (m_parallel) {
+                    final int totalBufferSize = buffer.size();
+                    exec.setMessage("Writing temporary tables -- " + totalBufferSize + " rows");
+                    writeChunkInParallel(buffer, exec);
                     if (m_rowsInInputTable > 0) {
-                        m_progress += m_incProgress;
+                        m_progress += totalBufferSize * m_incProgress;
                         exec.setProgress(m_progress);
                     }
+                } else {
+                    // sort buffer
+                    sortBuffer(buffer);
+                    // write buffer to disk
+                    openChunk();
+                    final int totalBufferSize = buffer.size();
+                    for (int i = 0; i < totalBufferSize; i++) {
+                        exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
+                        // must not use Iterator#remove as it causes
+                        // array copies
+                        DataRow next = buffer.set(i, null);
+                        addRowToChunk(next);
+                        exec.checkCanceled();
+                        if (m_rowsInInputTable > 0) {
+                            m_progress += m_incProgress;
+                            exec.setProgress(m_progress);
+                        }
+                    }
+                    buffer.clear();
+                    closeChunk();
                 }
-                buffer.clear();
-                closeChunk();
 
                 LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
                 chunkStartRow = counter + 1;
@@ -638,13 +768,174 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortBuffer(buffer);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
         return outerCounter;
     }
 
+    /** Sorts the argument list, possibly in parallel. */
+    private void sortBuffer(final List<DataRow> buffer) throws CanceledExecutionException {
+        if (m_parallel && getTaskCount(buffer.size()) > 1) {
+            DataRow[] sorted = sortInParallel(buffer);
+            buffer.clear();
+            buffer.addAll(Arrays.asList(sorted));
+        } else if (getKeyEncoder() != null) {
+            DataRow[] rows = buffer.toArray(new DataRow[buffer.size()]);
+            sortRange(rows, 0, rows.length);
+            for (int i = 0; i < rows.length; i++) {
+                buffer.set(i, rows[i]);
+            }
+        } else {
+            Collections.sort(buffer, m_rowComparator);
+        }
+    }
+
+    /** Number of tasks to split the argument number of rows into in parallel mode. */
+    private int getTaskCount(final int rowCount) {
+        return Math.max(1, Math.min(getExecutor().getMaxThreads(), rowCount / MIN_ROWS_PER_TASK));
+    }
+
+    private synchronized ThreadPool getExecutor() {
+        if (m_executor == null) {
+            m_executor = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(Runtime.getRuntime().availableProcessors());
+        }
+        return m_executor;
+    }
+
+    /**
+     * Sorts the argument rows by sorting slices of it concurrently and merging the sorted slices.
+     *
+     * @param buffer The rows to sort, not modified
+     * @return The sorted rows
+     */
+    private DataRow[] sortInParallel(final List<DataRow> buffer) throws CanceledExecutionException {
+        final DataRow[] rows = buffer.toArray(new DataRow[buffer.size()]);
+        final int taskCount = getTaskCount(rows.length);
+        List<Future<Void>> futures = new ArrayList<>(taskCount);
+        for (int t = 0; t < taskCount; t++) {
+            final int from = sliceStart(rows.length, taskCount, t);
+            final int to = sliceStart(rows.length, taskCount, t + 1);
+            futures.add(getExecutor().enqueue(() -> {
+                sortRange(rows, from, to);
+                return null;
+            }));
+        }
+        waitForAll(futures);
+        if (taskCount == 1) {
+            return rows;
+        }
+        List<Iterator<DataRow>> slices = new ArrayList<>(taskCount);
+        for (int t = 0; t < taskCount; t++) {
+            slices.add(Arrays.asList(rows)
+                .subList(sliceStart(rows.length, taskCount, t), sliceStart(rows.length, taskCount, t + 1)).iterator());
+        }
+        DataRow[] result = new DataRow[rows.length];
+        Iterator<DataRow> merge = merge(slices);
+        for (int i = 0; merge.hasNext(); i++) {
+            result[i] = merge.next();
+        }
+        return result;
+    }
+
+    private static int sliceStart(final int length, final int sliceCount, final int slice) {
+        return (int)((long)length * slice / sliceCount);
+    }
+
+    /**
+     * Sorts the argument buffer in parallel and writes it to multiple containers concurrently. The containers hold
+     * consecutive ranges of the sorted rows and are added as one (concatenated) chunk to the chunk list. The buffer is
+     * cleared afterwards.
+     */
+    private void writeChunkInParallel(final List<DataRow> buffer, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final DataRow[] rows = sortInParallel(buffer);
+        buffer.clear();
+        final int taskCount = getTaskCount(rows.length);
+        // containers are created and closed by this thread as the table repository isn't thread-safe
+        List<DataContainer> containers = new ArrayList<>(taskCount);
+        List<Future<Void>> futures = new ArrayList<>(taskCount);
+        try {
+            for (int t = 0; t < taskCount; t++) {
+                final int from = sliceStart(rows.length, taskCount, t);
+                final int to = sliceStart(rows.length, taskCount, t + 1);
+                final DataContainer container = createDataContainer(m_dataTableSpec, true);
+                container.setMaxPossibleValues(0);
+                containers.add(container);
+                futures.add(getExecutor().enqueue(() -> {
+                    for (int i = from; i < to; i++) {
+                        container.addRowToTable(rows[i]);
+                        rows[i] = null;
+                        exec.checkCanceled();
+                    }
+                    return null;
+                }));
+            }
+            waitForAll(futures);
+        } finally {
+            for (DataContainer container : containers) {
+                container.close();
+            }
+        }
+        List<DataTable> tables = new ArrayList<>(taskCount);
+        for (DataContainer container : containers) {
+            tables.add(container.getTable());
+        }
+        m_chunksContainer.offer(tables.size() == 1 ? tables.get(0) : new ConcatenatedChunk(tables));
+    }
+
+    /**
+     * Waits for all argument futures. If any of them fails, the remaining ones are canceled and the exception is
+     * rethrown.
+     */
+    private static <T> List<T> waitForAll(final List<Future<T>> futures) throws CanceledExecutionException {
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(waitFor(future));
+            }
+        } catch (CanceledExecutionException | RuntimeException e) {
+            futures.stream().forEach(f -> f.cancel(true));
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Waits for the argument future. If the current thread is a thread pool thread, it is not counted as running
+     * while waiting (otherwise it may block the pool that is to execute the future).
+     *
+     * @throws CanceledExecutionException If the task was canceled (or interrupted)
+     */
+    private static <T> T waitFor(final Future<T> future) throws CanceledExecutionException {
+        ThreadPool currentPool = ThreadPool.currentPool();
+        try {
+            return currentPool != null ? currentPool.runInvisible(future::get) : future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while waiting for sort task");
+        } catch (ExecutionException e) {
+            Throwable cause = e;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            }
+            if (cause instanceof InterruptedException) {
+                throw new CanceledExecutionException("Interrupted while waiting for sort task");
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw new RuntimeException("Sort task failed: " + cause.getMessage(), cause);
+        }
+    }
+
     /**
      * Opens a chunk data container to accept rows using {@link #addRowToChunk(DataRow)}, {@link #closeChunk()} closes
      * the current container and adds it to the chunk list.
@@ -704,6 +995,13 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
 
         private Comparator<DataRow> m_comparator;
 
+        /** Normalized key of the current row, only used if normalized keys are enabled. */
+        private KeyedRow m_keyedRow;
+
+        private final NormalizedKeyEncoder m_keyEncoder;
+
+        private final Comparator<KeyedRow> m_keyComparator;
+
         /**
          * @param iterator
          * @param index
@@ -713,13 +1011,26 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
             m_iterable = iterable;
             m_index = index;
             m_comparator = comparator;
+            // in parallel mode the keys are computed while merging, see #merge(List)
+            m_keyEncoder = m_parallel ? null : getKeyEncoder();
+            m_keyComparator = m_keyEncoder == null ? null : NormalizedKeyEncoder.createComparator(comparator);
+        }
+
+        private void setRow(final DataRow row) {
+            m_row = row;
+            if (m_keyEncoder != null) {
+                m_keyedRow = row == null ? null : m_keyEncoder.encode(row);
+            }
         }
 
         private void open() {
             if (m_iterator == null) {
                 m_iterator = m_iterable.iterator();
+                if (m_parallel && !(m_iterable instanceof List)) {
+                    m_iterator = new ReadAheadIterator(m_iterator);
+                }
                 if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+                    setRow(m_iterator.next());
                 }
             }
         }
@@ -733,6 +1044,8 @@ public boolean hasNext() {
             if (m_row == null) {
                 if (m_iterable instanceof DataTable) {
                     clearTable((DataTable)m_iterable);
+                } else if (m_iterable instanceof ConcatenatedChunk) {
+                    ((ConcatenatedChunk)m_iterable).m_tables.forEach(t -> clearTable(t));
                 }
                 return false;
             }
@@ -749,7 +1062,7 @@ public DataRow next() {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             return toReturn;
         }
 
@@ -766,7 +1079,12 @@ public void remove() {
          */
         @Override
         public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
+            int value;
+            if (m_keyedRow != null && that.m_keyedRow != null) {
+                value = m_keyComparator.compare(this.m_keyedRow, that.m_keyedRow);
+            } else {
+                value = m_comparator.compare(this.m_row, that.m_row);
+            }
             if (value == 0) {
                 return this.m_index - that.m_index;
             } else {
@@ -805,6 +1123,102 @@ public boolean equals(final Object obj) {
         }
     }
 
+    /** A sorted chunk that consists of multiple tables, see {@link #writeChunkInParallel(List, ExecutionMonitor)}. */
+    private static final class ConcatenatedChunk implements Iterable<DataRow> {
+
+        private final List<DataTable> m_tables;
+
+        ConcatenatedChunk(final List<DataTable> tables) {
+            m_tables = tables;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Iterator<DataRow> iterator() {
+            return new Iterator<DataRow>() {
+
+                private final Iterator<DataTable> m_tableIterator = m_tables.iterator();
+
+                private Iterator<DataRow> m_current = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!m_current.hasNext() && m_tableIterator.hasNext()) {
+                        m_current = m_tableIterator.next().iterator();
+                    }
+                    return m_current.hasNext();
+                }
+
+                @Override
+                public DataRow next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return m_current.next();
+                }
+            };
+        }
+    }
+
+    /**
+     * Reads the rows of a chunk in batches on the thread pool. The next batch is read while the current batch is
+     * consumed; the source iterator is only accessed by one task at a time.
+     */
+    private final class ReadAheadIterator implements Iterator<DataRow> {
+
+        private final Iterator<DataRow> m_source;
+
+        private Iterator<DataRow> m_currentBatch = Collections.emptyIterator();
+
+        /** The pending batch, null if the source is exhausted. */
+        private Future<List<DataRow>> m_nextBatch;
+
+        ReadAheadIterator(final Iterator<DataRow> source) {
+            m_source = source;
+            m_nextBatch = readNextBatch();
+        }
+
+        private Future<List<DataRow>> readNextBatch() {
+            return getExecutor().enqueue(() -> {
+                List<DataRow> batch = new ArrayList<>();
+                // read less if memory gets low, at least one row
+                while (m_source.hasNext() && batch.size() < READ_AHEAD_ROWS
+                    && (batch.isEmpty() || !m_memService.isMemoryLow())) {
+                    batch.add(m_source.next());
+                }
+                return batch;
+            });
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            while (!m_currentBatch.hasNext()) {
+                if (m_nextBatch == null) {
+                    return false;
+                }
+                List<DataRow> batch;
+                try {
+                    batch = waitFor(m_nextBatch);
+                } catch (CanceledExecutionException e) {
+                    throw new RuntimeException("Execution has been interrupted!", e);
+                }
+                m_nextBatch = batch.isEmpty() ? null : readNextBatch();
+                m_currentBatch = batch.iterator();
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public DataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return m_currentBatch.next();
+        }
+    }
+
     /**
      * Lazily opens the given MergeEntry's (The runs of this merging step) and returns the rows.
      *
@@ -893,6 +1307,9 @@ private static final class RowComparator implements Comparator<DataRow> {
          */
         private final boolean m_sortMissingsToEnd;
 
+        /** Encoder for normalized keys consistent with this comparator, null if not applicable. */
+        private final NormalizedKeyEncoder m_keyEncoder;
+
         /**
          * @param indices Array of sort column indices.
          * @param sortAscending Sort order.
@@ -914,6 +1331,12 @@ private static final class RowComparator implements Comparator<DataRow> {
             }
             m_sortAscending = sortAscending;
             m_sortMissingsToEnd = sortMissingsToEnd;
+            m_keyEncoder = NormalizedKeyEncoder.create(indices, sortAscending, sortMissingsToEnd, spec);
+        }
+
+        /** @return the encoder for normalized keys or null if the first sort column can't be encoded */
+        NormalizedKeyEncoder getKeyEncoder() {
+            return m_keyEncoder;
         }
 
         /** {@inheritDoc} */
@@ -0,0 +1,158 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * k-way merge of sorted iterators using a tournament tree of losers. Each returned element costs at most
+ * log<sub>2</sub>(k) comparisons (a binary heap needs up to twice as many). Ties are resolved by the position of
+ * the source in the argument list, i.e. the merge is stable. The sources must not return <code>null</code>.
+ *
+ * @param <T> The element type
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LoserTree<T> implements Iterator<T> {
+
+    private final Iterator<? extends T>[] m_sources;
+
+    /** The current head of each source, null if the source is exhausted. */
+    private final Object[] m_heads;
+
+    /** Node 0 holds the index of the overall winner, the other nodes the index of the loser of that match. */
+    private final int[] m_tree;
+
+    private final Comparator<? super T> m_comparator;
+
+    /**
+     * @param sources The sorted sources, each is traversed once
+     * @param comparator The comparator the sources are sorted by
+     */
+    @SuppressWarnings("unchecked")
+    LoserTree(final List<? extends Iterator<? extends T>> sources, final Comparator<? super T> comparator) {
+        m_sources = sources.toArray(new Iterator[sources.size()]);
+        m_comparator = comparator;
+        final int k = m_sources.length;
+        m_heads = new Object[k];
+        m_tree = new int[Math.max(k, 1)];
+        for (int i = 0; i < k; i++) {
+            m_heads[i] = m_sources[i].hasNext() ? m_sources[i].next() : null;
+        }
+        if (k == 0) {
+            m_tree[0] = -1;
+            return;
+        }
+        // -1 wins against all sources; it is pushed out of the tree by replaying all leaves
+        for (int i = 0; i < k; i++) {
+            m_tree[i] = -1;
+        }
+        for (int i = k - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+
+    /** Replays the matches from the leaf of the argument source up to the root. */
+    private void replay(final int source) {
+        int winner = source;
+        for (int node = (source + m_tree.length) / 2; node > 0; node /= 2) {
+            if (beats(m_tree[node], winner)) {
+                int loser = winner;
+                winner = m_tree[node];
+                m_tree[node] = loser;
+            }
+        }
+        m_tree[0] = winner;
+    }
+
+    /** Whether source a wins the match against source b. */
+    @SuppressWarnings("unchecked")
+    private boolean beats(final int a, final int b) {
+        if (a < 0) {
+            return true;
+        }
+        if (b < 0) {
+            return false;
+        }
+        final Object headA = m_heads[a];
+        final Object headB = m_heads[b];
+        if (headA == null) {
+            return false;
+        }
+        if (headB == null) {
+            return true;
+        }
+        int comparison = m_comparator.compare((T)headA, (T)headB);
+        return comparison != 0 ? comparison < 0 : a < b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        final int winner = m_tree[0];
+        return winner >= 0 && m_heads[winner] != null;
+    }
+
+    /** {@inheritDoc} */
+    @SuppressWarnings("unchecked")
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final int winner = m_tree[0];
+        T result = (T)m_heads[winner];
+        Iterator<? extends T> source = m_sources[winner];
+        m_heads[winner] = source.hasNext() ? source.next() : null;
+        replay(winner);
+        return result;
+    }
+
+}
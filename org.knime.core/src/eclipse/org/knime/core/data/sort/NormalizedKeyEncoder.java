@@ -0,0 +1,361 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.DoubleValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.IntValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.LongValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.StringValueComparator;
+
+/**
+ * Encodes the sort columns of a row into a normalized key, a byte array whose unsigned lexicographical order is
+ * consistent with the order defined by the row comparator of the {@link AbstractTableSorter}. Comparing two keys is a
+ * plain byte loop (no virtual dispatch, no missing value checks); only if two keys are equal and not complete the full
+ * row comparator needs to be consulted.
+ *
+ * <p>
+ * Supported are columns whose comparator is the {@link IntValueComparator}, {@link LongValueComparator},
+ * {@link DoubleValueComparator} or {@link StringValueComparator} and the row key. Strings are encoded by their first
+ * {@value #STRING_PREFIX_CHARS} characters. Encoding stops at the first column that is not supported, a truncated
+ * string or if the key length limit is reached.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NormalizedKeyEncoder {
+
+    /** Number of characters of a string (or row key) encoded in the key. */
+    static final int STRING_PREFIX_CHARS = 8;
+
+    /** Maximum length of a key. */
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private static final byte MISSING_FIRST = 0x00;
+
+    private static final byte NOT_MISSING = 0x01;
+
+    private static final byte MISSING_LAST = 0x02;
+
+    /** Marker following a string which is fully contained in the key. */
+    private static final byte STRING_COMPLETE = 0x00;
+
+    /** Marker following a string which is truncated or contains a '\u0000' character. */
+    private static final byte STRING_TRUNCATED = 0x01;
+
+    private enum Encoding {
+            INT(1 + 4), LONG(1 + 8), DOUBLE(1 + 8), STRING(1 + 2 * STRING_PREFIX_CHARS + 1),
+            ROWKEY(2 * STRING_PREFIX_CHARS + 1);
+
+        private final int m_length;
+
+        Encoding(final int length) {
+            m_length = length;
+        }
+    }
+
+    private final int[] m_indices;
+
+    private final Encoding[] m_encodings;
+
+    private final boolean[] m_sortAscending;
+
+    private final boolean[] m_missingLast;
+
+    /** Whether all sort columns are encoded (if no string is truncated). */
+    private final boolean m_allColumnsEncoded;
+
+    private final int m_maxKeyLength;
+
+    private NormalizedKeyEncoder(final int[] indices, final Encoding[] encodings, final boolean[] sortAscending,
+        final boolean[] missingLast, final boolean allColumnsEncoded) {
+        m_indices = indices;
+        m_encodings = encodings;
+        m_sortAscending = sortAscending;
+        m_missingLast = missingLast;
+        m_allColumnsEncoded = allColumnsEncoded;
+        int length = 0;
+        for (Encoding e : encodings) {
+            length += e.m_length;
+        }
+        m_maxKeyLength = length;
+    }
+
+    /**
+     * Creates an encoder for the sort order defined by the arguments (same arguments as for the row comparator).
+     *
+     * @param indices The sort column indices, -1 for the row key
+     * @param sortAscending The sort order per sort column
+     * @param sortMissingsToEnd Whether missing values are always sorted last
+     * @param spec The spec of the table
+     * @return a new encoder or null if the first sort column is not supported
+     */
+    static NormalizedKeyEncoder create(final int[] indices, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd, final DataTableSpec spec) {
+        int count = 0;
+        int length = 0;
+        Encoding[] encodings = new Encoding[indices.length];
+        for (; count < indices.length; count++) {
+            Encoding e = indices[count] < 0 ? Encoding.ROWKEY
+                : getEncoding(spec.getColumnSpec(indices[count]).getType().getComparator());
+            if (e == null || length + e.m_length > MAX_KEY_LENGTH) {
+                break;
+            }
+            encodings[count] = e;
+            length += e.m_length;
+        }
+        if (count == 0) {
+            return null;
+        }
+        boolean[] missingLast = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            // missing cells are smaller than any other cell unless explicitly sorted to the end
+            missingLast[i] = sortMissingsToEnd || !sortAscending[i];
+        }
+        int[] encodedIndices = new int[count];
+        Encoding[] encodedTypes = new Encoding[count];
+        boolean[] encodedAscending = new boolean[count];
+        System.arraycopy(indices, 0, encodedIndices, 0, count);
+        System.arraycopy(encodings, 0, encodedTypes, 0, count);
+        System.arraycopy(sortAscending, 0, encodedAscending, 0, count);
+        return new NormalizedKeyEncoder(encodedIndices, encodedTypes, encodedAscending, missingLast,
+            count == indices.length);
+    }
+
+    private static Encoding getEncoding(final DataValueComparator comparator) {
+        // exact class match, sub classes may define a different order
+        Class<?> cl = comparator.getClass();
+        if (cl == IntValueComparator.class) {
+            return Encoding.INT;
+        } else if (cl == LongValueComparator.class) {
+            return Encoding.LONG;
+        } else if (cl == DoubleValueComparator.class) {
+            return Encoding.DOUBLE;
+        } else if (cl == StringValueComparator.class) {
+            return Encoding.STRING;
+        }
+        return null;
+    }
+
+    /**
+     * @param row The row to encode
+     * @return the row along with its key
+     */
+    KeyedRow encode(final DataRow row) {
+        byte[] buffer = new byte[m_maxKeyLength];
+        int pos = 0;
+        boolean complete = m_allColumnsEncoded;
+        for (int i = 0; i < m_indices.length; i++) {
+            final int start;
+            if (m_encodings[i] == Encoding.ROWKEY) {
+                start = pos;
+                pos = putString(buffer, pos, row.getKey().getString());
+            } else {
+                DataCell cell = row.getCell(m_indices[i]);
+                if (cell.isMissing()) {
+                    buffer[pos++] = m_missingLast[i] ? MISSING_LAST : MISSING_FIRST;
+                    continue;
+                }
+                buffer[pos++] = NOT_MISSING;
+                start = pos;
+                switch (m_encodings[i]) {
+                    case INT:
+                        pos = putInt(buffer, pos, ((IntValue)cell).getIntValue() ^ Integer.MIN_VALUE);
+                        break;
+                    case LONG:
+                        pos = putLong(buffer, pos, ((LongValue)cell).getLongValue() ^ Long.MIN_VALUE);
+                        break;
+                    case DOUBLE:
+                        // same order as Double#compare (-0.0 < 0.0, NaN largest)
+                        long bits = Double.doubleToLongBits(((DoubleValue)cell).getDoubleValue());
+                        pos = putLong(buffer, pos, bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+                        break;
+                    default:
+                        pos = putString(buffer, pos, ((StringValue)cell).getStringValue());
+                }
+            }
+            final boolean truncated = (m_encodings[i] == Encoding.STRING || m_encodings[i] == Encoding.ROWKEY)
+                && buffer[pos - 1] == STRING_TRUNCATED;
+            if (!m_sortAscending[i]) {
+                for (int j = start; j < pos; j++) {
+                    buffer[j] = (byte)~buffer[j];
+                }
+            }
+            if (truncated) {
+                // the order of any subsequent column is not defined by the key
+                complete = false;
+                break;
+            }
+        }
+        byte[] key = pos == buffer.length ? buffer : Arrays.copyOf(buffer, pos);
+        return new KeyedRow(key, row, complete);
+    }
+
+    /**
+     * Puts the first {@link #STRING_PREFIX_CHARS} characters (padded with 0) followed by a marker whether the string
+     * is fully represented. Strings with equal padded prefixes are ordered by the marker consistent with
+     * {@link String#compareTo(String)} as the shorter one is then a prefix of the other one.
+     */
+    private static int putString(final byte[] buffer, final int offset, final String s) {
+        int pos = offset;
+        boolean complete = s.length() <= STRING_PREFIX_CHARS;
+        for (int i = 0; i < STRING_PREFIX_CHARS; i++) {
+            char c = i < s.length() ? s.charAt(i) : 0;
+            complete &= c != 0 || i >= s.length();
+            buffer[pos++] = (byte)(c >>> 8);
+            buffer[pos++] = (byte)c;
+        }
+        buffer[pos++] = complete ? STRING_COMPLETE : STRING_TRUNCATED;
+        return pos;
+    }
+
+    private static int putInt(final byte[] buffer, final int offset, final int value) {
+        buffer[offset] = (byte)(value >>> 24);
+        buffer[offset + 1] = (byte)(value >>> 16);
+        buffer[offset + 2] = (byte)(value >>> 8);
+        buffer[offset + 3] = (byte)value;
+        return offset + 4;
+    }
+
+    private static int putLong(final byte[] buffer, final int offset, final long value) {
+        putInt(buffer, offset, (int)(value >>> 32));
+        return putInt(buffer, offset + 4, (int)value);
+    }
+
+    /**
+     * @param rows Rows to encode
+     * @return An iterator encoding the argument rows lazily
+     */
+    Iterator<KeyedRow> encode(final Iterator<? extends DataRow> rows) {
+        return new Iterator<KeyedRow>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public KeyedRow next() {
+                return encode(rows.next());
+            }
+        };
+    }
+
+    /**
+     * @param keyedRows Encoded rows
+     * @return An iterator on the rows of the argument iterator
+     */
+    static Iterator<DataRow> decode(final Iterator<KeyedRow> keyedRows) {
+        return new Iterator<DataRow>() {
+            @Override
+            public boolean hasNext() {
+                return keyedRows.hasNext();
+            }
+
+            @Override
+            public DataRow next() {
+                return keyedRows.next().m_row;
+            }
+        };
+    }
+
+    /**
+     * Creates the comparator for encoded rows.
+     *
+     * @param rowComparator The comparator whose order is encoded, used if keys are equal but not complete
+     * @return a new comparator
+     */
+    static Comparator<KeyedRow> createComparator(final Comparator<DataRow> rowComparator) {
+        return (r1, r2) -> {
+            final byte[] k1 = r1.m_key;
+            final byte[] k2 = r2.m_key;
+            final int length = Math.min(k1.length, k2.length);
+            for (int i = 0; i < length; i++) {
+                if (k1[i] != k2[i]) {
+                    return (k1[i] & 0xFF) - (k2[i] & 0xFF);
+                }
+            }
+            if (k1.length != k2.length) {
+                // can't happen with keys from the same encoder, for safety
+                return rowComparator.compare(r1.m_row, r2.m_row);
+            }
+            return r1.m_complete && r2.m_complete ? 0 : rowComparator.compare(r1.m_row, r2.m_row);
+        };
+    }
+
+    /** A row along with its normalized key. */
+    static final class KeyedRow {
+
+        private final byte[] m_key;
+
+        private final DataRow m_row;
+
+        private final boolean m_complete;
+
+        private KeyedRow(final byte[] key, final DataRow row, final boolean complete) {
+            m_key = key;
+            m_row = row;
+            m_complete = complete;
+        }
+
+        /** @return the row */
+        DataRow getRow() {
+            return m_row;
+        }
+    }
+
+}
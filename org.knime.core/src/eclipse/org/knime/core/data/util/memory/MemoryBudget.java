@@ -0,0 +1,384 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.data.util.memory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+import org.apache.commons.io.FileUtils;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeProgressMonitor;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Global budget of heap memory that is shared by executing nodes. Before a node starts, the job manager reserves the
+ * node's estimated memory usage; if the budget is exhausted (or the {@link MemoryAlertSystem} reports low memory) the
+ * start is delayed until other nodes release their reservations. This prevents many memory hungry nodes from starting
+ * at the same time, e.g. when parallel branches converge. Nodes may additionally reserve memory during execution via
+ * {@link org.knime.core.node.ExecutionContext#reserveMemory(long)}.
+ *
+ * <p>Estimates are learned from previous executions of nodes of the same type (the increase of the used heap memory
+ * during execution, smoothed over several executions). As the used heap is not specific to a node, only executions
+ * that held the only reservation throughout (see {@link Reservation#isExclusive()}) should be recorded. A single reservation is always granted if nothing else is
+ * reserved, so that nodes whose estimate exceeds the budget can still run, one at a time.
+ *
+ * <p>The budget is only active if {@link KNIMEConstants#PROPERTY_MEMORY_BUDGET} is set.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class MemoryBudget {
+
+    /** Estimate used for nodes that have not been executed before. */
+    static final long DEFAULT_ESTIMATE = 64L << 20;
+
+    /** Milliseconds {@link #reserveOrOvercommit(long, NodeProgressMonitor)} waits before it overcommits the budget. */
+    static final long MAX_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    /** Weight of the latest observation in the learned estimate. */
+    private static final double LEARNING_RATE = 0.5;
+
+    private static final MemoryBudget INSTANCE = createInstance();
+
+    private final long m_budget;
+
+    private final BooleanSupplier m_memoryLow;
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    private final Condition m_releasedCondition = m_lock.newCondition();
+
+    private final Map<String, Long> m_estimates = new ConcurrentHashMap<>();
+
+    private long m_reserved;
+
+    private int m_reservationCount;
+
+    /** Number of reservations granted so far, used to detect overlapping reservations. */
+    private long m_grantCount;
+
+    /**
+     * Reserved memory, which must be released by calling {@link #close()}.
+     */
+    public final class Reservation implements AutoCloseable {
+
+        private final long m_bytes;
+
+        /** Value of {@link MemoryBudget#m_grantCount} after this reservation was granted, or -1 if other reservations
+         * were held at that time. */
+        private final long m_grantIndex;
+
+        private boolean m_released;
+
+        private boolean m_exclusive;
+
+        private Reservation(final long bytes, final long grantIndex) {
+            m_bytes = bytes;
+            m_grantIndex = grantIndex;
+        }
+
+        /**
+         * @return the number of reserved bytes
+         */
+        public long getBytes() {
+            return m_bytes;
+        }
+
+        /**
+         * @return whether no other reservation was held at any time while this one was held (only determined when
+         *         the reservation is {@link #close() released}, false before)
+         */
+        public boolean isExclusive() {
+            m_lock.lock();
+            try {
+                return m_exclusive;
+            } finally {
+                m_lock.unlock();
+            }
+        }
+
+        /**
+         * Releases the reservation; subsequent calls have no effect.
+         */
+        @Override
+        public void close() {
+            m_lock.lock();
+            try {
+                if (!m_released) {
+                    m_released = true;
+                    m_exclusive = m_grantIndex == m_grantCount;
+                    m_reserved -= m_bytes;
+                    m_reservationCount--;
+                    m_releasedCondition.signalAll();
+                }
+            } finally {
+                m_lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * @param budget the number of bytes that may be reserved
+     * @param memoryLow tells if memory is currently low, in which case only a first reservation is granted
+     */
+    MemoryBudget(final long budget, final BooleanSupplier memoryLow) {
+        m_budget = budget;
+        m_memoryLow = memoryLow;
+    }
+
+    private static MemoryBudget createInstance() {
+        final String value = System.getProperty(KNIMEConstants.PROPERTY_MEMORY_BUDGET);
+        if (value != null) {
+            try {
+                final double fraction = Double.parseDouble(value.trim());
+                if (fraction > 0 && fraction <= 1) {
+                    final long budget = (long)(fraction * MemoryAlertSystem.getMaximumMemory());
+                    NodeLogger.getLogger(MemoryBudget.class).debug(
+                        "Memory budget for executing nodes is " + FileUtils.byteCountToDisplaySize(budget));
+                    return new MemoryBudget(budget, () -> MemoryAlertSystem.getInstance().isMemoryLow());
+                }
+            } catch (NumberFormatException e) {
+                // warning below
+            }
+            NodeLogger.getLogger(MemoryBudget.class).warn("Invalid value for property "
+                + KNIMEConstants.PROPERTY_MEMORY_BUDGET + " (must be between 0 and 1): " + value);
+        }
+        return new MemoryBudget(Long.MAX_VALUE, () -> false);
+    }
+
+    /**
+     * @return the singleton instance
+     */
+    public static MemoryBudget getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return <code>true</code> if the budget is limited, <code>false</code> if all reservations are granted
+     */
+    public boolean isEnabled() {
+        return m_budget != Long.MAX_VALUE;
+    }
+
+    /**
+     * @return the number of bytes that may be reserved
+     */
+    public long getBudget() {
+        return m_budget;
+    }
+
+    /**
+     * @return the number of currently reserved bytes
+     */
+    public long getReservedBytes() {
+        m_lock.lock();
+        try {
+            return m_reserved;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Reserves memory if it is available immediately.
+     *
+     * @param bytes the number of bytes to reserve
+     * @return the reservation or <code>null</code> if the budget is exhausted
+     */
+    public Reservation tryReserve(final long bytes) {
+        m_lock.lock();
+        try {
+            return canReserve(bytes) ? add(bytes) : null;
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Reserves memory, waits until it becomes available.
+     *
+     * @param bytes the number of bytes to reserve
+     * @param timeout the maximum time to wait in milliseconds
+     * @return the reservation or <code>null</code> if the timeout elapsed before the memory became available
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public Reservation reserve(final long bytes, final long timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        m_lock.lock();
+        try {
+            while (!canReserve(bytes)) {
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                // low memory is not signaled, therefore check again after a while
+                m_releasedCondition.awaitNanos(Math.min(remaining, TimeUnit.SECONDS.toNanos(1)));
+            }
+            return add(bytes);
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Reserves memory without waiting even if this exceeds the budget. This is used by nodes that already hold a
+     * reservation and would otherwise possibly wait for each other.
+     *
+     * @param bytes the number of bytes to reserve
+     * @return the reservation
+     */
+    public Reservation forceReserve(final long bytes) {
+        m_lock.lock();
+        try {
+            return add(bytes);
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Reserves memory, waits until it becomes available but at most half a minute. Afterwards the memory is reserved
+     * even if this exceeds the budget (as in {@link #forceReserve(long)}) so that nodes never wait indefinitely, e.g.
+     * for reservations of nodes that are themselves waiting. If the current thread is a {@link ThreadPool} thread, it
+     * is not counted as running while waiting so that it does not block the execution of other jobs.
+     *
+     * @param bytes the number of bytes to reserve
+     * @param progress checked for cancellation while waiting, not null
+     * @return the reservation, not null
+     * @throws CanceledExecutionException if the execution was canceled while waiting
+     * @throws InterruptedException if the thread was interrupted while waiting
+     */
+    public Reservation reserveOrOvercommit(final long bytes, final NodeProgressMonitor progress)
+        throws CanceledExecutionException, InterruptedException {
+        return reserveOrOvercommit(bytes, progress, MAX_WAIT_MILLIS);
+    }
+
+    /** {@link #reserveOrOvercommit(long, NodeProgressMonitor)} with a configurable wait time (used in tests). */
+    Reservation reserveOrOvercommit(final long bytes, final NodeProgressMonitor progress, final long maxWaitMillis)
+        throws CanceledExecutionException, InterruptedException {
+        final Reservation reservation = tryReserve(bytes);
+        if (reservation != null) {
+            return reservation;
+        }
+        final ThreadPool currentPool = ThreadPool.currentPool();
+        if (currentPool == null) {
+            return waitOrOvercommit(bytes, progress, maxWaitMillis);
+        }
+        try {
+            return currentPool.runInvisible(() -> waitOrOvercommit(bytes, progress, maxWaitMillis));
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            }
+            throw new IllegalStateException("Unexpected error while waiting for free memory", cause);
+        }
+    }
+
+    private Reservation waitOrOvercommit(final long bytes, final NodeProgressMonitor progress,
+        final long maxWaitMillis) throws CanceledExecutionException, InterruptedException {
+        final long deadline = System.currentTimeMillis() + maxWaitMillis;
+        for (long remaining = maxWaitMillis; remaining > 0; remaining = deadline - System.currentTimeMillis()) {
+            progress.checkCanceled();
+            final Reservation reservation = reserve(bytes, Math.min(remaining, 1000));
+            if (reservation != null) {
+                return reservation;
+            }
+        }
+        NodeLogger.getLogger(MemoryBudget.class).debugWithFormat(
+            "No memory available after %d seconds, exceeding the budget by reserving %s", maxWaitMillis / 1000,
+            FileUtils.byteCountToDisplaySize(bytes));
+        return forceReserve(bytes);
+    }
+
+    private boolean canReserve(final long bytes) {
+        return m_reservationCount == 0
+            || (m_reserved + bytes <= m_budget && !m_memoryLow.getAsBoolean());
+    }
+
+    private Reservation add(final long bytes) {
+        final boolean isFirst = m_reservationCount == 0;
+        m_reserved += bytes;
+        m_reservationCount++;
+        m_grantCount++;
+        return new Reservation(bytes, isFirst ? m_grantCount : -1);
+    }
+
+    /**
+     * Returns the estimated memory usage of nodes of the given type.
+     *
+     * @param key identifies the type of node, e.g. the class name of the node factory
+     * @return the estimated number of bytes
+     */
+    public long getEstimate(final String key) {
+        return m_estimates.getOrDefault(key, DEFAULT_ESTIMATE);
+    }
+
+    /**
+     * Records the observed memory usage of a node in order to improve the estimate for future executions. The value
+     * is clamped to the range between zero and the budget.
+     *
+     * @param key identifies the type of node, e.g. the class name of the node factory
+     * @param bytes the observed number of bytes
+     */
+    public void recordUsage(final String key, final long bytes) {
+        final long observed = Math.max(0, Math.min(m_budget, bytes));
+        m_estimates.merge(key, observed,
+            (old, value) -> (long)((1 - LEARNING_RATE) * old + LEARNING_RATE * value));
+    }
+}
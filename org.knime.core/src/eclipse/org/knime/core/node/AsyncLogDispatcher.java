@@ -0,0 +1,220 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Category;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.helpers.LogLog;
+import org.apache.log4j.spi.LoggingEvent;
+
+/**
+ * Passes log events to the Log4J appenders in a background thread. Events are kept in a bounded lock-free ring
+ * buffer (multiple producers, the dispatcher thread being the only consumer). Logging threads only block if the
+ * buffer is full, in which case they wait for the dispatcher to catch up so that no event is lost and the order of
+ * events is retained.
+ *
+ * <p>Used by {@link NodeLogger} if {@link KNIMEConstants#PROPERTY_ASYNC_LOGGING} is set.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AsyncLogDispatcher {
+
+    /** Number of events the buffer can hold, must be a power of two. */
+    static final int DEFAULT_CAPACITY = 8192;
+
+    private static final String FQCN = Category.class.getName();
+
+    /** Maximum time the dispatcher sleeps if there is nothing to do (new events wake it up earlier). */
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicReferenceArray<Entry> m_slots;
+
+    private final int m_mask;
+
+    /** Sequence of the next slot to be claimed by a producer. */
+    private final AtomicLong m_tail = new AtomicLong();
+
+    /** Sequence of the next slot to be read by the dispatcher thread; only written by that thread. */
+    private volatile long m_head;
+
+    /** Set by the dispatcher thread before it parks, producers need to unpark it. */
+    private volatile boolean m_idle;
+
+    private final Thread m_thread;
+
+    /**
+     * Creates and starts a new dispatcher.
+     *
+     * @param capacity the buffer size, a power of two
+     */
+    AsyncLogDispatcher(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        m_slots = new AtomicReferenceArray<>(capacity);
+        m_mask = capacity - 1;
+        m_thread = new Thread(this::run, "KNIME Log Dispatcher");
+        m_thread.setDaemon(true);
+        m_thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "KNIME Log Dispatcher Shutdown"));
+    }
+
+    /**
+     * Creates the log event in the caller's thread (capturing thread name, NDC and MDC) and queues it for the
+     * dispatcher thread. Events logged by the dispatcher thread itself (e.g. by an appender) are passed on directly.
+     *
+     * @param logger the logger the event is logged to
+     * @param level the event level
+     * @param message the message
+     * @param t an optional throwable
+     */
+    void log(final Logger logger, final Level level, final Object message, final Throwable t) {
+        final LoggingEvent event = new LoggingEvent(FQCN, logger, level, message, t);
+        if (Thread.currentThread() == m_thread) {
+            logger.callAppenders(event);
+            return;
+        }
+        // same as log4j's AsyncAppender: capture the thread dependent properties and render the message now
+        event.getThreadName();
+        event.getNDC();
+        event.getMDCCopy();
+        event.getRenderedMessage();
+        event.getThrowableStrRep();
+        enqueue(new Entry(logger, event));
+    }
+
+    private void enqueue(final Entry entry) {
+        final int capacity = m_mask + 1;
+        long seq;
+        while (true) {
+            seq = m_tail.get();
+            if (seq - m_head >= capacity) {
+                // buffer full - wake the dispatcher and wait until it has freed a slot
+                LockSupport.unpark(m_thread);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+            } else if (m_tail.compareAndSet(seq, seq + 1)) {
+                break;
+            }
+        }
+        m_slots.set((int)seq & m_mask, entry);
+        if (m_idle) {
+            LockSupport.unpark(m_thread);
+        }
+    }
+
+    /** @return the next entry or <code>null</code> if there is none (yet); only called by one thread at a time */
+    private Entry poll() {
+        final long head = m_head;
+        final int index = (int)head & m_mask;
+        final Entry entry = m_slots.get(index);
+        if (entry != null) {
+            m_slots.set(index, null);
+            m_head = head + 1;
+        }
+        return entry;
+    }
+
+    private void run() {
+        while (true) {
+            final Entry entry = poll();
+            if (entry != null) {
+                dispatch(entry);
+            } else {
+                m_idle = true;
+                // re-check to not miss an event queued before the flag was visible to the producer
+                if (m_slots.get((int)m_head & m_mask) == null) {
+                    LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                }
+                m_idle = false;
+            }
+        }
+    }
+
+    private static void dispatch(final Entry entry) {
+        try {
+            entry.m_logger.callAppenders(entry.m_event);
+        } catch (RuntimeException e) {
+            LogLog.error("Unable to dispatch log event", e);
+        }
+    }
+
+    /**
+     * Waits (at most a few seconds) until all events queued so far are passed to the appenders. Called on shutdown.
+     */
+    void flush() {
+        final long target = m_tail.get();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (m_head < target && m_thread.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(m_thread);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /** @return the number of queued events that have not been dispatched yet (approximate) */
+    int getPendingCount() {
+        return (int)Math.max(0, m_tail.get() - m_head);
+    }
+
+    private static final class Entry {
+
+        private final Logger m_logger;
+
+        private final LoggingEvent m_event;
+
+        private Entry(final Logger logger, final LoggingEvent event) {
+            m_logger = logger;
+            m_event = event;
+        }
+    }
+}
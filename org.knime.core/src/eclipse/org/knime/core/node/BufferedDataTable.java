@@ -354,6 +354,38 @@ public RowIteratorBuilder<? extends CloseableRowIterator> iteratorBuilder() {
         return m_delegate.iteratorBuilder();
     }
 
+    /**
+     * Returns an iterator whose first row is the row with the argument index. Tables backed by a
+     * {@link ContainerTable} position the iterator directly (see {@link ContainerTable#iteratorFrom(long)}), all
+     * other tables skip the leading rows.
+     *
+     * @param rowIndex the index of the first row, non-negative
+     * @return a new iterator, which is empty if the index is larger or equal to {@link #size()}
+     * @since 3.8
+     */
+    public CloseableRowIterator iteratorFrom(final long rowIndex) {
+        CheckUtils.checkArgument(rowIndex >= 0, "Row index must not be negative: %d", rowIndex);
+        if (m_delegate instanceof ContainerTable) {
+            return ((ContainerTable)m_delegate).iteratorFrom(rowIndex);
+        }
+        CloseableRowIterator it = m_delegate.iterator();
+        for (long i = 0; i < rowIndex && it.hasNext(); i++) {
+            it.next();
+        }
+        return it;
+    }
+
+    /**
+     * Whether {@link #iteratorFrom(long)} positions the iterator without iterating over the leading rows, see
+     * {@link ContainerTable#isRandomAccessSupported()}. False for tables not backed by a {@link ContainerTable}.
+     *
+     * @return that property
+     * @since 3.8
+     */
+    public boolean isRandomAccessSupported() {
+        return m_delegate instanceof ContainerTable && ((ContainerTable)m_delegate).isRandomAccessSupported();
+    }
+
     /**
      * Get an iterator instance that will return missing values when the table
      * is cleared as part of a node reset.
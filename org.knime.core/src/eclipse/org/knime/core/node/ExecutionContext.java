@@ -65,6 +65,7 @@
 import org.knime.core.data.container.TableSpecReplacerTable;
 import org.knime.core.data.container.VoidTable;
 import org.knime.core.data.container.WrappedTable;
+import org.knime.core.data.util.memory.MemoryBudget;
 import org.knime.core.data.filestore.FileStore;
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
@@ -615,6 +616,28 @@ public void clearTable(final BufferedDataTable table) {
         m_localTableRepository.remove(id);
     }
 
+    /**
+     * Reserves heap memory from the global {@link MemoryBudget} for memory intensive parts of the execution, e.g. an
+     * in-memory sort. The caller must close the returned reservation when the memory is no longer needed, preferably
+     * in a try-with-resources block. If the budget is exhausted this method waits until other nodes release their
+     * memory. Since the waiting node itself already holds a reservation for its execution, the memory is granted
+     * anyway after half a minute to avoid nodes waiting for each other indefinitely.
+     * If the budget is not enabled, the reservation is granted immediately.
+     *
+     * @param bytes the number of bytes to reserve
+     * @return the reservation, not null
+     * @throws CanceledExecutionException if the execution was canceled while waiting
+     * @since 3.8
+     */
+    public MemoryBudget.Reservation reserveMemory(final long bytes) throws CanceledExecutionException {
+        try {
+            return MemoryBudget.getInstance().reserveOrOvercommit(bytes, getProgressMonitor());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while waiting for free memory");
+        }
+    }
+
     /**
      * Creates a new execution context with a different max progress value.
      * This method is the counterpart to {@link #createSubProgress(double)}
@@ -72,6 +72,7 @@
 import org.knime.core.internal.ConfigurationAreaChecker;
 import org.knime.core.internal.KNIMEPath;
 import org.knime.core.util.ThreadPool;
+import org.knime.core.util.WorkStealingThreadPool;
 import org.osgi.framework.Bundle;
 
 /**
@@ -106,6 +107,56 @@ public final class KNIMEConstants {
     public static final String PROPERTY_MAX_THREAD_COUNT =
         "org.knime.core.maxThreads";
 
+    /** Java property to use a work-stealing scheduler for the {@link #GLOBAL_THREAD_POOL} (see
+     * {@link org.knime.core.util.WorkStealingThreadPool}). Waiting for nested parallel jobs then doesn't block
+     * worker threads; the thread quotas of sub pools are retained. Default is <code>false</code>.
+     * @since 3.8
+     */
+    public static final String PROPERTY_THREAD_POOL_WORK_STEALING = "knime.threadpool.workstealing";
+
+    /** Java property to let nodes executed by the default (thread) job manager wait in a priority queue instead of
+     * the FIFO queue of the {@link #GLOBAL_THREAD_POOL}. Nodes starting the longest remaining chain of nodes
+     * (estimated from previous execution times) are executed first. Default is <code>false</code>.
+     * @since 3.8
+     */
+    public static final String PROPERTY_CRITICAL_PATH_SCHEDULING = "knime.scheduler.criticalpath";
+
+    /** Java property with a comma separated list of node factory class names whose nodes are considered memory
+     * heavy, e.g. sorters or joiners. Only applies if {@link #PROPERTY_CRITICAL_PATH_SCHEDULING} is set; the number
+     * of concurrently running memory heavy nodes is limited by {@link #PROPERTY_MAX_MEMORY_HEAVY_NODES}.
+     * @since 3.8
+     */
+    public static final String PROPERTY_MEMORY_HEAVY_NODES = "knime.scheduler.memoryheavy.nodes";
+
+    /** Java property to set the maximum number of memory heavy nodes (see {@link #PROPERTY_MEMORY_HEAVY_NODES})
+     * that are executed concurrently. Default is half the number of available processors, at least 1.
+     * @since 3.8
+     */
+    public static final String PROPERTY_MAX_MEMORY_HEAVY_NODES = "knime.scheduler.memoryheavy.max";
+
+    /** Java property to set the fraction (between 0 and 1) of the maximum heap memory that nodes may reserve. If
+     * set, nodes only start executing if their estimated memory usage (learned from previous executions) fits into
+     * the remaining budget, see {@link org.knime.core.data.util.memory.MemoryBudget}. Not set by default, i.e. nodes
+     * start regardless of their memory usage.
+     * @since 3.8
+     */
+    public static final String PROPERTY_MEMORY_BUDGET = "knime.memory.budget";
+
+    /** Java property to run the asynchronous table writers on virtual threads if the JVM supports them (Java 21 or
+     * later). Virtual threads don't occupy an operating system thread while blocked in IO; the number of concurrent
+     * writers is then bounded by {@link #PROPERTY_VIRTUAL_THREAD_MAX_TASKS}. Default is <code>false</code>.
+     * @since 3.8
+     */
+    public static final String PROPERTY_VIRTUAL_THREAD_IO = "knime.virtualthreads.io";
+
+    /** Java property to set the maximum number of tasks (node executions of the virtual thread job manager or table
+     * writers, see {@link #PROPERTY_VIRTUAL_THREAD_IO}) that run concurrently on virtual threads. This limit is
+     * independent of {@link #PROPERTY_MAX_THREAD_COUNT}. Default is {@value
+     * org.knime.core.util.VirtualThreadFactory#DEF_MAX_TASKS}.
+     * @since 3.8
+     */
+    public static final String PROPERTY_VIRTUAL_THREAD_MAX_TASKS = "knime.virtualthreads.maxtasks";
+
     /** Java property name to specify the default temp directory for
      * KNIME temp files (such as data files). This can be changed in the
      * preference pages and is by default the same as the java.io.tmpdir */
@@ -165,6 +216,29 @@ public final class KNIMEConstants {
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION =
         "knime.compress.io";
 
+    /** Java property to select the compression format of table streams, one of "gzip", "lz4" or "none". LZ4 is a
+     * fast block compression, which compresses less than gzip but is considerably faster, in particular when writing.
+     * If set, this property takes precedence over {@link #PROPERTY_TABLE_GZIP_COMPRESSION}. The format is stored
+     * with each table, i.e. tables written with a different format can still be read.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_FORMAT = "knime.compress.io.format";
+
+    /** Java property to set the size (in MB) of the cache for blob cells (e.g. images) read from tables. The cache is
+     * shared by all tables; it's emptied when the memory is low. The default is 5% of the maximum heap size, 0
+     * disables the cache.
+     * @since 3.8
+     */
+    public static final String PROPERTY_BLOB_CACHE_SIZE_MB = "knime.blob.cache.size";
+
+    /** Java property to keep the values of int, long, double and boolean columns of table rows in primitive arrays
+     * rather than in individual cell objects when rows are held in memory or read from table files. This reduces the
+     * heap usage of numeric tables; cells are then created on access (see
+     * {@link org.knime.core.data.PrimitiveDataRow}). Default is <code>false</code>.
+     * @since 3.8
+     */
+    public static final String PROPERTY_TABLE_PRIMITIVE_ROWS = "knime.table.primitiverows";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -263,6 +337,64 @@ public final class KNIMEConstants {
      * @since 2.8 */
     public static final String PROPERTY_DATABASE_CONCURRENCY = "knime.database.enable.concurrency";
 
+    /** Java property to enable connection pooling and set the maximum number of pooled connections that are opened
+     * to the same database (same URL and user). Pooling is opt-in: only if this property is set, statements executed
+     * via <code>DatabaseConnectionSettings#execute</code> (as used by the database reader and writer) run on a
+     * borrowed connection of the pool, each connection being used by one node at a time, so that statements of
+     * parallel branches run on separate connections. Connections returned by
+     * <code>DBConnectionFactory#getConnection</code> (e.g. for row iterators and metadata) are never pooled; all
+     * callers share a separate connection as before. If the property is not set, all statements use that shared
+     * connection.
+     * Pooling should only be enabled if nodes don't depend on session state (e.g. temporary tables) created by a
+     * previous node or via the shared connection.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_MAX_SIZE = "knime.database.pool.maxsize";
+
+    /** Java property to set the number of connections of a database connection pool that are kept open even if they
+     * are idle. Only relevant if pooling is enabled via {@link #PROPERTY_DATABASE_POOL_MAX_SIZE}. Default is 1.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_MIN_SIZE = "knime.database.pool.minsize";
+
+    /** Java property to set the time (in seconds) after which idle database connections exceeding the minimum pool
+     * size are closed. 0 disables the eviction. Default is 600.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_IDLE_TIMEOUT = "knime.database.pool.idletimeout";
+
+    /** Java property to set the time (in seconds) after which a database connection that hasn't been returned to its
+     * pool is logged as possibly leaked, together with the stack trace of the code that borrowed it. 0 (the default)
+     * disables leak detection.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_LEAK_THRESHOLD = "knime.database.pool.leakthreshold";
+
+    /** Java property with an SQL statement used to validate idle pooled database connections before they are
+     * re-used. If not set, {@link java.sql.Connection#isValid(int)} (or <code>SELECT 1</code>) is used.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_POOL_VALIDATION_QUERY = "knime.database.pool.validationquery";
+
+    /** Java property to enable multi-row <code>INSERT ... VALUES (...), (...)</code> statements when writing data
+     * in batches into databases that support them. Default is false.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_MULTI_ROW_INSERT = "knime.database.write.multirowinsert";
+
+    /** Java property to adapt the batch write size to the measured round-trip time of the database. The configured
+     * batch size is used as start value. Default is false.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_ADAPTIVE_BATCH_SIZE = "knime.database.write.adaptivebatchsize";
+
+    /** Java property to read database results asynchronously: a separate thread fetches the rows from the driver in
+     * batches of {@link #PROPERTY_DATABASE_FETCHSIZE} rows (default 1000) while the rows of the previous batches are
+     * converted and written. Default is false.
+     * @since 3.8
+     */
+    public static final String PROPERTY_DATABASE_PREFETCH = "knime.database.prefetch";
+
     /** @deprecated Use #PROPERTY_DATABASE_FETCHSIZE instead. */
     @Deprecated
     // obsolete as of v2.3
@@ -301,6 +433,15 @@ public final class KNIMEConstants {
    public static final String PROPERTY_DISABLE_LOG4J_CONFIG =
        "knime.log4j.config.disabled";
 
+    /**
+     * Java property to enable asynchronous logging. If <code>true</code> log events are put into a bounded queue and
+     * passed to the Log4J appenders by a background thread, which decouples (parallel) node execution from the
+     * appender locks. The value should be <code>true</code> or <code>false</code> (which is the default).
+     *
+     * @since 3.8
+     */
+    public static final String PROPERTY_ASYNC_LOGGING = "knime.log4j.async";
+
    /**
     * Java property for doing all dialog operations automatically in the
     * AWT event dispatch thread.
@@ -450,7 +591,11 @@ private static int getWorkflowEditorConnectionTimeout() {
                     + "\"org.knime.core.maxThreads\" (\"" + maxThreadsString
                     + "\") as number: " + nfe.getMessage());
         }
-        GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        if (Boolean.getBoolean(PROPERTY_THREAD_POOL_WORK_STEALING)) {
+            GLOBAL_THREAD_POOL = new WorkStealingThreadPool(maxThreads);
+        } else {
+            GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        }
         boolean flag;
         try {
             assert false;
@@ -53,12 +53,14 @@
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Writer;
+import java.lang.ref.WeakReference;
 import java.net.InetAddress;
 import java.util.Date;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Appender;
 import org.apache.log4j.FileAppender;
@@ -222,6 +224,13 @@ public void workflowChanged(final WorkflowEvent event) {
         }
     }
 
+    /** Last node context seen by a thread and the workflow it belongs to, see {@link NodeLogger#getWorkflowDir()}.
+     * Weak references as the cache must not keep closed workflows in memory. */
+    private static final class WorkflowResolution {
+        private WeakReference<NodeContext> m_context = new WeakReference<>(null);
+        private WeakReference<WorkflowManager> m_workflowManager = new WeakReference<>(null);
+    }
+
     /**
      * Name of the default appender to System.out.
      *
@@ -261,7 +270,15 @@ public void workflowChanged(final WorkflowEvent event) {
     private static final Map<Writer, WriterAppender> WRITER =
             new HashMap<Writer, WriterAppender>();
 
-    private static final Map<String, Appender> WF_APPENDER = new HashMap<>();
+    private static final Map<String, Appender> WF_APPENDER = new ConcurrentHashMap<>();
+
+    /** Dispatcher thread used for asynchronous logging, <code>null</code> if logging is synchronous (default). */
+    private static final AsyncLogDispatcher ASYNC_DISPATCHER = Boolean.getBoolean(
+        KNIMEConstants.PROPERTY_ASYNC_LOGGING) ? new AsyncLogDispatcher(AsyncLogDispatcher.DEFAULT_CAPACITY) : null;
+
+    /** Per thread cache of the last resolved node context and its workflow, see {@link #getWorkflowDir()}. */
+    private static final ThreadLocal<WorkflowResolution> WORKFLOW_RESOLUTION =
+        ThreadLocal.withInitial(WorkflowResolution::new);
 
     /**
      * Maximum number of chars (10000) printed on <code>System.out</code> and
@@ -497,6 +514,10 @@ private static void copyrightMessage() {
     /**Listens to workflow changes e.g. when a workflow is closed to unregister all related workflow directory logger.*/
     private MyWorkflowListener m_listener;
 
+    /** The workflow directory appenders already added to {@link #m_logger}, by workflow directory path. Used to
+     * avoid the (synchronized) registration on the Log4J logger for every log event. */
+    private final Map<String, Appender> m_attachedWfAppenders = new ConcurrentHashMap<>();
+
     /**
      * Hidden default constructor, logger created by
      * <code>java.lang.Class</code>.
@@ -560,7 +581,7 @@ public static NodeLogger getLogger(final String s) {
      * @param o The object to print.
      */
     public void warn(final Object o) {
-        getLoggerInternal().warn(getLogObject(o));
+        log(Level.WARN, o, null);
     }
 
     /**
@@ -569,7 +590,7 @@ public void warn(final Object o) {
      * @param o The object to print.
      */
     public void debug(final Object o) {
-        getLoggerInternal().debug(getLogObject(o));
+        log(Level.DEBUG, o, null);
     }
 
 
@@ -581,7 +602,7 @@ public void debug(final Object o) {
      * @since 3.1
      */
     public void debugWithoutContext(final Object o) {
-        m_logger.debug(o);
+        logInternal(m_logger, Level.DEBUG, o, null);
     }
 
 
@@ -631,18 +652,70 @@ private Object getLogObject(final Object message) {
                 }
             }
             if (LOG_IN_WF_DIR || LOG_WF_DIR) {
-                final WorkflowManager workflowManager = context.getWorkflowManager();
-                if (workflowManager != null) {
-                    final WorkflowContext workflowContext = workflowManager.getContext();
-                    if (workflowContext != null) {
-                        workflowDir = workflowContext.getCurrentLocation();
-                    }
-                }
+                workflowDir = getWorkflowDir();
             }
         }
         return new KNIMELogMessage(nodeID, nodeName, workflowDir, message);
     }
 
+    /**
+     * Returns the location of the workflow the current node context belongs to. The workflow manager is cached per
+     * thread as long as the node context doesn't change as resolving it requires walking up the node hierarchy.
+     *
+     * @return the workflow directory or <code>null</code> if there is no node context or workflow context
+     */
+    private static File getWorkflowDir() {
+        final NodeContext context = NodeContext.getContext();
+        if (context == null) {
+            return null;
+        }
+        final WorkflowResolution resolution = WORKFLOW_RESOLUTION.get();
+        WorkflowManager workflowManager = resolution.m_workflowManager.get();
+        if (resolution.m_context.get() != context || workflowManager == null) {
+            workflowManager = context.getWorkflowManager();
+            resolution.m_context = new WeakReference<>(context);
+            resolution.m_workflowManager = new WeakReference<>(workflowManager);
+        }
+        if (workflowManager != null) {
+            // the context is not cached, its location changes when the workflow is saved to a different location
+            final WorkflowContext workflowContext = workflowManager.getContext();
+            if (workflowContext != null) {
+                return workflowContext.getCurrentLocation();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Logs a message at the given level. The level check is done upfront so that disabled events don't cause any
+     * node context lookup.
+     *
+     * @param level the level
+     * @param o the message
+     * @param t an optional throwable
+     */
+    private void log(final Level level, final Object o, final Throwable t) {
+        if (isEnabled(level)) {
+            logInternal(getLoggerInternal(), level, getLogObject(o), t);
+        }
+    }
+
+    /** Passes the event to the Log4J logger, either directly or via the {@link #ASYNC_DISPATCHER}. */
+    private static void logInternal(final Logger logger, final Level level, final Object o, final Throwable t) {
+        if (ASYNC_DISPATCHER != null) {
+            if (logger.isEnabledFor(level)) {
+                ASYNC_DISPATCHER.log(logger, level, o, t);
+            }
+        } else {
+            logger.log(level, o, t);
+        }
+    }
+
+    /** Same check as in {@link Logger#isEnabledFor(org.apache.log4j.Priority)} but without the context lookup. */
+    private boolean isEnabled(final Level level) {
+        return m_logger.isEnabledFor(level);
+    }
+
     /**
      * Use this method whenever you want to log a message. It ensures that the right logger is used and that all
      * required appenders are added to it e.g. workflow directory appender.
@@ -651,16 +724,7 @@ private Object getLogObject(final Object message) {
      */
     private Logger getLoggerInternal() {
         if (LOG_IN_WF_DIR) {
-            final NodeContext context = NodeContext.getContext();
-            if (context != null) {
-                final WorkflowManager workflowManager = context.getWorkflowManager();
-                if (workflowManager != null) {
-                    final WorkflowContext workflowContext = workflowManager.getContext();
-                    if (workflowContext != null) {
-                        addWorkflowDirAppender(workflowContext.getCurrentLocation());
-                    }
-                }
-            }
+            addWorkflowDirAppender(getWorkflowDir());
         }
         return m_logger;
     }
@@ -682,7 +746,10 @@ private void addWorkflowDirAppender(final File workflowDir) {
         }
         Appender wfAppender = WF_APPENDER.get(workflowDirPath);
         if (wfAppender != null) {
-            logger.addAppender(wfAppender);
+            if (m_attachedWfAppenders.get(workflowDirPath) != wfAppender) {
+                logger.addAppender(wfAppender);
+                m_attachedWfAppenders.put(workflowDirPath, wfAppender);
+            }
         } else {
             //we do the getAppender twice to prevent the synchronize block on subsequent calls!!!
             synchronized (WF_APPENDER) {
@@ -719,6 +786,7 @@ public int decide(final LoggingEvent event) {
                     //we have to call this function to activate the writer!!!
                     fileAppender.activateOptions();
                     logger.addAppender(fileAppender);
+                    m_attachedWfAppenders.put(workflowDirPath, fileAppender);
                     WF_APPENDER.put(workflowDirPath, fileAppender);
                     if (m_listener == null) {
                         m_listener = new MyWorkflowListener();
@@ -750,6 +818,11 @@ private void removeWorkflowDirAppender(final File workflowDir) {
                     while (allLoggers.hasMoreElements()) {
                         allLoggers.nextElement().removeAppender(appender);
                     }
+                    synchronized (LOGGERS) {
+                        for (NodeLogger nodeLogger : LOGGERS.values()) {
+                            nodeLogger.m_attachedWfAppenders.remove(workflowDirPath, appender);
+                        }
+                    }
                 }
             }
         }
@@ -761,7 +834,7 @@ private void removeWorkflowDirAppender(final File workflowDir) {
      * @param o The object to print.
      */
     public void info(final Object o) {
-        getLoggerInternal().info(getLogObject(o));
+        log(Level.INFO, o, null);
     }
 
     /**
@@ -770,7 +843,7 @@ public void info(final Object o) {
      * @param o The object to print.
      */
     public void error(final Object o) {
-        getLoggerInternal().error(getLogObject(o));
+        log(Level.ERROR, o, null);
     }
 
     /**
@@ -779,7 +852,7 @@ public void error(final Object o) {
      * @param o The object to print.
      */
     public void fatal(final Object o) {
-        getLoggerInternal().fatal(getLogObject(o));
+        log(Level.FATAL, o, null);
     }
 
     /**
@@ -802,7 +875,7 @@ public void warn(final Object o, final Throwable t) {
      * @param t The exception to log, including its stack trace.
      */
     public void debug(final Object o, final Throwable t) {
-        getLoggerInternal().debug(getLogObject(o), t);
+        log(Level.DEBUG, o, t);
     }
 
     /**
@@ -839,7 +912,7 @@ public void error(final Object o, final Throwable t) {
      */
     public void assertLog(final boolean b, final String m) {
         if (KNIMEConstants.ASSERTIONS_ENABLED && !b) {
-            getLoggerInternal().error("ASSERT " + m, new AssertionError(m));
+            logInternal(getLoggerInternal(), Level.ERROR, "ASSERT " + m, new AssertionError(m));
         }
     }
 
@@ -853,10 +926,12 @@ public void assertLog(final boolean b, final String m) {
     public void assertLog(final boolean b, final String m,
             final AssertionError e) {
         if (KNIMEConstants.ASSERTIONS_ENABLED) {
-            getLoggerInternal().assertLog(b, "ASSERT " + m);
+            if (!b) {
+                logInternal(getLoggerInternal(), Level.ERROR, "ASSERT " + m, null);
+            }
             // for stacktrace
             if (!b & e != null) {
-                getLoggerInternal().debug("ASSERT\t " + m, e);
+                logInternal(getLoggerInternal(), Level.DEBUG, "ASSERT\t " + m, e);
             }
         }
     }
@@ -869,7 +944,7 @@ public void assertLog(final boolean b, final String m,
      */
     public void coding(final Object o) {
         if (KNIMEConstants.ASSERTIONS_ENABLED || EclipseUtil.isRunFromSDK()) {
-            getLoggerInternal().error("CODING PROBLEM\t" + o);
+            logInternal(getLoggerInternal(), Level.ERROR, "CODING PROBLEM\t" + o, null);
         }
     }
 
@@ -1119,7 +1194,7 @@ public static void setLevel(final LEVEL level) {
      * @return minimum logging level
      */
     public LEVEL getLevel() {
-        return transLevel(getLoggerInternal().getLevel());
+        return transLevel(m_logger.getLevel());
     }
 
     /**
@@ -1129,7 +1204,7 @@ public LEVEL getLevel() {
      *         <code>false</code>
      */
     public boolean isDebugEnabled() {
-        return getLoggerInternal().isDebugEnabled();
+        return isEnabled(Level.DEBUG);
     }
 
     /**
@@ -1139,7 +1214,7 @@ public boolean isDebugEnabled() {
      *         <code>false</code>
      */
     public boolean isInfoEnabled() {
-        return getLoggerInternal().isInfoEnabled();
+        return isEnabled(Level.INFO);
     }
 
     /**
@@ -1151,7 +1226,7 @@ public boolean isInfoEnabled() {
      *         <code>false</code>
      */
     public boolean isEnabledFor(final LEVEL level) {
-        return getLoggerInternal().isEnabledFor(transLEVEL(level));
+        return isEnabled(transLEVEL(level));
     }
 
     /**
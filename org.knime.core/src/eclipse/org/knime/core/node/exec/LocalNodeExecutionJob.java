@@ -49,7 +49,14 @@
 
 import java.util.concurrent.Future;
 
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryBudget;
+import org.knime.core.data.util.memory.MemoryBudget.Reservation;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeProgressMonitor;
 import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.NodeExecutionJob;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
@@ -60,6 +67,8 @@
  */
 public class LocalNodeExecutionJob extends NodeExecutionJob {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LocalNodeExecutionJob.class);
+
     private Future<?> m_future;
 
     /** Creates new local job.
@@ -92,7 +101,52 @@ void setFuture(final Future<?> future) {
     @Override
     public NodeContainerExecutionStatus mainExecute() {
         SingleNodeContainer snc = (SingleNodeContainer)getNodeContainer();
-        return snc.performExecuteNode(getPortObjects());
+        MemoryBudget budget = MemoryBudget.getInstance();
+        if (!budget.isEnabled() || !(snc instanceof NativeNodeContainer)) {
+            return snc.performExecuteNode(getPortObjects());
+        }
+        String key = ((NativeNodeContainer)snc).getNode().getFactory().getClass().getName();
+        Reservation reservation;
+        try {
+            reservation = reserveMemory(snc, budget, budget.getEstimate(key));
+        } catch (CanceledExecutionException e) {
+            LOGGER.debug("Execution of " + snc.getNameWithID() + " canceled while waiting for free memory");
+            return NodeContainerExecutionStatus.FAILURE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.debug("Execution of " + snc.getNameWithID() + " canceled while waiting for free memory");
+            return NodeContainerExecutionStatus.FAILURE;
+        }
+        long usedBefore = MemoryAlertSystem.getUsedMemory();
+        NodeContainerExecutionStatus status = null;
+        try {
+            status = snc.performExecuteNode(getPortObjects());
+            return status;
+        } finally {
+            reservation.close();
+            // the used heap is global, it's only attributable to this node if no other node held a reservation
+            if (status != null && status.isSuccess() && reservation.isExclusive()) {
+                budget.recordUsage(key, MemoryAlertSystem.getUsedMemory() - usedBefore);
+            }
+        }
+    }
+
+    /** Reserves the estimated memory of the node, delays the execution if the memory budget is exhausted (but no
+     * longer than {@link MemoryBudget#reserveOrOvercommit(long, NodeProgressMonitor)} allows). */
+    private static Reservation reserveMemory(final SingleNodeContainer snc, final MemoryBudget budget,
+        final long bytes) throws CanceledExecutionException, InterruptedException {
+        Reservation reservation = budget.tryReserve(bytes);
+        if (reservation == null) {
+            LOGGER.debug("Delaying execution of " + snc.getNameWithID() + " until memory is available");
+            final NodeProgressMonitor progress = snc.getProgressMonitor();
+            progress.setMessage("Waiting for free memory...");
+            try {
+                reservation = budget.reserveOrOvercommit(bytes, progress);
+            } finally {
+                progress.setMessage((String)null);
+            }
+        }
+        return reservation;
     }
 
     /**
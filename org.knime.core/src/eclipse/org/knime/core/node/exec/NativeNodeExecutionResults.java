@@ -0,0 +1,147 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.knime.core.node.BufferedDataTableHolder;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectHolder;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObjectSpec;
+import org.knime.core.node.workflow.FlowObjectStack;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeExecutionResult;
+
+/**
+ * Creates execution results for native nodes whose model was run by a job manager outside of
+ * {@link Node#execute(PortObject[], org.knime.core.node.workflow.ExecutionEnvironment,
+ * org.knime.core.node.ExecutionContext) Node#execute}, e.g. via the streaming API. The result is then loaded into
+ * the node container, similar to the result of a remote execution.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NativeNodeExecutionResults {
+
+    private NativeNodeExecutionResults() {
+    }
+
+    /**
+     * Creates the result of a successful run.
+     *
+     * @param nnc The executed node.
+     * @param outObjects The output of the node model (excluding flow variable port).
+     * @return A new result, which is marked as failed if any of the outputs is null.
+     */
+    static NativeNodeContainerExecutionResult createSuccess(final NativeNodeContainer nnc,
+        final PortObject[] outObjects) {
+        Node node = nnc.getNode();
+        NodeExecutionResult nodeResult = new NodeExecutionResult();
+        PortObject[] pos = new PortObject[outObjects.length + 1];
+        PortObjectSpec[] specs = new PortObjectSpec[pos.length];
+        pos[0] = FlowVariablePortObject.INSTANCE;
+        specs[0] = FlowVariablePortObjectSpec.INSTANCE;
+        for (int i = 0; i < outObjects.length; i++) {
+            pos[i + 1] = outObjects[i];
+            specs[i + 1] = outObjects[i] == null ? null : outObjects[i].getSpec();
+        }
+        nodeResult.setPortObjects(pos);
+        nodeResult.setPortObjectSpecs(specs);
+        NodeModel model = nnc.getNodeModel();
+        if (model instanceof PortObjectHolder) {
+            nodeResult.setInternalHeldPortObjects(((PortObjectHolder)model).getInternalPortObjects());
+        } else if (model instanceof BufferedDataTableHolder) {
+            nodeResult.setInternalHeldPortObjects(((BufferedDataTableHolder)model).getInternalTables());
+        }
+        String warning = node.getWarningMessageFromModel();
+        nodeResult.setWarningMessage(warning);
+        FlowObjectStack outgoingStack = node.getOutgoingFlowObjectStack();
+        if (outgoingStack != null) {
+            // same as Node#createNodeExecutionResult
+            List<FlowVariable> flowVars = outgoingStack.getAvailableFlowVariables().values().stream()
+                .filter(f -> f.getScope().equals(FlowVariable.Scope.Flow)).collect(Collectors.toList());
+            Collections.reverse(flowVars);
+            nodeResult.setFlowVariables(flowVars);
+        }
+        NativeNodeContainerExecutionResult result = new NativeNodeContainerExecutionResult();
+        result.setNodeExecutionResult(nodeResult);
+        result.setSuccess(!Arrays.asList(pos).contains(null));
+        if (warning != null) {
+            result.setMessage(new NodeMessage(NodeMessage.Type.WARNING, warning));
+        }
+        return result;
+    }
+
+    /**
+     * Creates the result of a failed (or not started) run.
+     *
+     * @param failure The cause of the failure, null if the node didn't run at all (no message is set then).
+     * @return A new result.
+     */
+    static NativeNodeContainerExecutionResult createFailure(final Throwable failure) {
+        NativeNodeContainerExecutionResult result = new NativeNodeContainerExecutionResult();
+        result.setNodeExecutionResult(new NodeExecutionResult());
+        result.setSuccess(false);
+        if (failure != null) {
+            String message = failure.getMessage() != null ? failure.getMessage()
+                : "Execute failed: " + failure.getClass().getSimpleName();
+            result.setMessage(new NodeMessage(NodeMessage.Type.ERROR, message));
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.concurrent.Future;
+
+import org.knime.core.data.filestore.internal.IFileStoreHandler;
+import org.knime.core.data.filestore.internal.IWriteFileStoreHandler;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.streamable.PartitionedStreamableExecutor;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+
+/**
+ * Job that runs a native node via {@link PartitionedStreamableExecutor}, i.e. one streamable operator per row range
+ * of the input, if the node qualifies. Other nodes are executed as usual.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PartitionedNodeExecutionJob extends NodeExecutionJob {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PartitionedNodeExecutionJob.class);
+
+    private final int m_maxPartitionCount;
+
+    private Future<?> m_future;
+
+    /**
+     * @param nnc The node to execute.
+     * @param data Its input data.
+     * @param maxPartitionCount The maximum number of partitions processed in parallel.
+     */
+    PartitionedNodeExecutionJob(final NativeNodeContainer nnc, final PortObject[] data, final int maxPartitionCount) {
+        super(nnc, data);
+        m_maxPartitionCount = maxPartitionCount;
+    }
+
+    /**
+     * Set the future that represents the pending execution.
+     * @param future the future to set
+     */
+    void setFuture(final Future<?> future) {
+        m_future = future;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean cancel() {
+        if (m_future == null) {
+            throw new IllegalStateException("Future that represents the execution has not been set.");
+        }
+        return m_future.cancel(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isReConnecting() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeContainerExecutionStatus mainExecute() {
+        NativeNodeContainer nnc = (NativeNodeContainer)getNodeContainer();
+        NodeModel model = nnc.getNodeModel();
+        if (!PartitionedStreamableExecutor.isPartitionable(model)) {
+            return nnc.performExecuteNode(getPortObjects());
+        }
+        ExecutionContext exec = nnc.createExecutionContext();
+        nnc.getNode().openFileStoreHandler(exec);
+        NativeNodeContainerExecutionResult result;
+        try {
+            exec.checkCanceled();
+            PortObject[] outData = new PartitionedStreamableExecutor(m_maxPartitionCount)
+                .execute(model, getPortObjectsExcludeFlowVariablePort(), exec);
+            result = NativeNodeExecutionResults.createSuccess(nnc, outData);
+        } catch (Exception e) {
+            LOGGER.error("Partitioned execution of " + nnc.getNameWithID() + " failed: " + e.getMessage(), e);
+            result = NativeNodeExecutionResults.createFailure(e);
+        } finally {
+            // all file stores have been created, same as NativeNodeContainer#closeFileStoreHandlerAfterExecute
+            IFileStoreHandler fsh = nnc.getNode().getFileStoreHandler();
+            if (fsh instanceof IWriteFileStoreHandler) {
+                ((IWriteFileStoreHandler)fsh).close();
+            }
+        }
+        LoadResult loadResult = new LoadResult("load partitioned result into node");
+        nnc.loadExecutionResult(result, new ExecutionMonitor(), loadResult);
+        if (loadResult.hasErrors()) {
+            LOGGER.error("Errors loading partitioned result into node:\n"
+                + loadResult.getFilteredError("", LoadResultEntryType.Warning));
+        } else if (result.isSuccess()) {
+            // keeps track of the partition tables not referenced by the output (e.g. split inputs) as temp tables
+            nnc.putOutputTablesIntoGlobalRepository(exec);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.net.URL;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.streamable.PartitionedStreamableExecutor;
+import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Job manager for native nodes that declare distributable inputs (see
+ * {@link PartitionedStreamableExecutor#isPartitionable(org.knime.core.node.NodeModel)}). The input tables are split
+ * into row ranges, which are processed in parallel by separate streamable operators; the partial results are
+ * concatenated without copying. Nodes that don't qualify are executed as with the default job manager.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class PartitionedNodeExecutionJobManager extends AbstractNodeExecutionJobManager {
+
+    /** Default instance, using as many partitions as there are available processors. */
+    public static final PartitionedNodeExecutionJobManager INSTANCE = new PartitionedNodeExecutionJobManager();
+
+    private final ThreadPool m_pool;
+
+    private final int m_maxPartitionCount;
+
+    /** Creates new instance using the global thread pool and one partition per available processor. */
+    public PartitionedNodeExecutionJobManager() {
+        this(KNIMEConstants.GLOBAL_THREAD_POOL, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param pool The pool running the job (the partitions are run in the same pool).
+     * @param maxPartitionCount The maximum number of partitions processed in parallel, at least 1.
+     */
+    public PartitionedNodeExecutionJobManager(final ThreadPool pool, final int maxPartitionCount) {
+        if (pool == null) {
+            throw new NullPointerException("arg must not be null");
+        }
+        if (maxPartitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be at least 1: " + maxPartitionCount);
+        }
+        m_pool = pool;
+        m_maxPartitionCount = maxPartitionCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof NativeNodeContainer)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                + " is not able to execute a metanode or component: " + nc.getNameWithID());
+        }
+        PartitionedNodeExecutionJob job =
+            new PartitionedNodeExecutionJob((NativeNodeContainer)nc, data, m_maxPartitionCount);
+        Future<?> future = m_pool.enqueue(job);
+        job.setFuture(future);
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canExecute(final NodeContainer nc) {
+        return nc instanceof NativeNodeContainer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return PartitionedNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return PartitionedNodeExecutionJobManagerFactory.INSTANCE.getLabel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+
+}
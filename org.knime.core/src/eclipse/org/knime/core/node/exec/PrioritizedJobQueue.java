@@ -0,0 +1,257 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeExecutionPriority;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Queue used by the {@link ThreadNodeExecutionJobManager} if {@link KNIMEConstants#PROPERTY_CRITICAL_PATH_SCHEDULING}
+ * is set. Jobs are kept in a priority queue ordered by {@link NodeExecutionPriority}; for each job a dispatcher is
+ * put into the thread pool, which runs the most urgent job once it gets a thread. Jobs of memory heavy nodes (see
+ * {@link KNIMEConstants#PROPERTY_MEMORY_HEAVY_NODES}) are only started if fewer than the configured maximum of them
+ * are running, other jobs overtake them in the meantime.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrioritizedJobQueue {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(PrioritizedJobQueue.class);
+
+    /** A queued job; it's also the future returned to the job. */
+    private static final class Entry extends FutureTask<Void> implements Comparable<Entry> {
+        private final NodeExecutionPriority m_priority;
+
+        private final boolean m_memoryHeavy;
+
+        private final long m_sequence;
+
+        Entry(final Runnable job, final NodeExecutionPriority priority, final boolean memoryHeavy,
+            final long sequence) {
+            super(job, null);
+            m_priority = priority;
+            m_memoryHeavy = memoryHeavy;
+            m_sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(final Entry o) {
+            int c = m_priority.compareTo(o.m_priority);
+            return c != 0 ? c : Long.compare(m_sequence, o.m_sequence);
+        }
+    }
+
+    private final ThreadPool m_pool;
+
+    private final Set<String> m_memoryHeavyFactories;
+
+    private final int m_maxMemoryHeavy;
+
+    private final Runnable m_dispatcher = new Runnable() {
+        @Override
+        public void run() {
+            dispatch();
+        }
+    };
+
+    private final PriorityQueue<Entry> m_lightJobs = new PriorityQueue<Entry>();
+
+    private final PriorityQueue<Entry> m_heavyJobs = new PriorityQueue<Entry>();
+
+    /** all fields below guarded by 'this' */
+    private long m_sequence;
+
+    private int m_runningHeavyJobs;
+
+    /** Number of dispatchers that returned without a job because only heavy jobs were queued. */
+    private int m_deferredDispatchers;
+
+    /**
+     * @param pool the pool executing the jobs
+     */
+    PrioritizedJobQueue(final ThreadPool pool) {
+        this(pool, readMemoryHeavyFactories(), readMaxMemoryHeavy());
+    }
+
+    /**
+     * @param pool the pool executing the jobs
+     * @param memoryHeavyFactories class names of the factories of memory heavy nodes
+     * @param maxMemoryHeavy maximum number of memory heavy jobs running at the same time, at least 1
+     */
+    PrioritizedJobQueue(final ThreadPool pool, final Set<String> memoryHeavyFactories, final int maxMemoryHeavy) {
+        m_pool = pool;
+        m_memoryHeavyFactories = Collections.unmodifiableSet(new HashSet<String>(memoryHeavyFactories));
+        m_maxMemoryHeavy = maxMemoryHeavy;
+    }
+
+    private static Set<String> readMemoryHeavyFactories() {
+        String factories = System.getProperty(KNIMEConstants.PROPERTY_MEMORY_HEAVY_NODES, "");
+        Set<String> set = new HashSet<String>();
+        for (String f : Arrays.asList(factories.split(","))) {
+            if (!f.trim().isEmpty()) {
+                set.add(f.trim());
+            }
+        }
+        return set;
+    }
+
+    private static int readMaxMemoryHeavy() {
+        int defMax = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        int max = Integer.getInteger(KNIMEConstants.PROPERTY_MAX_MEMORY_HEAVY_NODES, defMax);
+        if (max < 1) {
+            LOGGER.warnWithFormat("Invalid value for property \"%s\": %d, using %d instead",
+                KNIMEConstants.PROPERTY_MAX_MEMORY_HEAVY_NODES, max, defMax);
+            max = defMax;
+        }
+        return max;
+    }
+
+    /** @return whether critical path scheduling is enabled via system property */
+    static boolean isEnabled() {
+        return Boolean.getBoolean(KNIMEConstants.PROPERTY_CRITICAL_PATH_SCHEDULING);
+    }
+
+    /**
+     * Queues the job. Must be called in the thread that submits the job as the current node context is attached to
+     * it.
+     *
+     * @param job the job to run
+     * @param snc the node the job executes
+     * @return a future representing the pending execution
+     */
+    Future<?> submit(final LocalNodeExecutionJob job, final SingleNodeContainer snc) {
+        NodeExecutionPriority priority = NodeExecutionPriority.of(snc);
+        boolean memoryHeavy = isMemoryHeavy(snc);
+        LOGGER.debugWithFormat("Queuing %s (%s%s)", snc.getNameWithID(), priority,
+            memoryHeavy ? ", memory heavy" : "");
+        return submit(ThreadUtils.runnableWithContext(job, false), priority, memoryHeavy);
+    }
+
+    /**
+     * Queues the job with the given priority (also used by tests).
+     *
+     * @param job the job to run
+     * @param priority its priority
+     * @param memoryHeavy whether the job counts towards the maximum of concurrently running memory heavy jobs
+     * @return a future representing the pending execution
+     */
+    Future<?> submit(final Runnable job, final NodeExecutionPriority priority, final boolean memoryHeavy) {
+        Entry entry;
+        synchronized (this) {
+            entry = new Entry(job, priority, memoryHeavy, m_sequence++);
+            (memoryHeavy ? m_heavyJobs : m_lightJobs).add(entry);
+        }
+        m_pool.enqueue(m_dispatcher);
+        return entry;
+    }
+
+    private boolean isMemoryHeavy(final SingleNodeContainer snc) {
+        if (m_memoryHeavyFactories.isEmpty() || !(snc instanceof NativeNodeContainer)) {
+            return false;
+        }
+        NativeNodeContainer nnc = (NativeNodeContainer)snc;
+        return m_memoryHeavyFactories.contains(nnc.getNode().getFactory().getClass().getName());
+    }
+
+    /** Runs the most urgent job that may currently be started, called by a pool thread. */
+    private void dispatch() {
+        Entry entry = pollNext();
+        if (entry == null) {
+            return;
+        }
+        try {
+            entry.run(); // no-op if canceled
+        } finally {
+            if (entry.m_memoryHeavy) {
+                heavyJobFinished();
+            }
+        }
+    }
+
+    private synchronized Entry pollNext() {
+        Entry light = m_lightJobs.peek();
+        Entry heavy = m_runningHeavyJobs < m_maxMemoryHeavy ? m_heavyJobs.peek() : null;
+        if ((heavy != null) && ((light == null) || (heavy.compareTo(light) < 0))) {
+            m_runningHeavyJobs++;
+            return m_heavyJobs.poll();
+        } else if (light != null) {
+            return m_lightJobs.poll();
+        } else {
+            // only heavy jobs are left and the maximum is reached -- re-dispatch when one of them finishes
+            m_deferredDispatchers++;
+            return null;
+        }
+    }
+
+    private void heavyJobFinished() {
+        boolean redispatch = false;
+        synchronized (this) {
+            m_runningHeavyJobs--;
+            if (m_deferredDispatchers > 0) {
+                m_deferredDispatchers--;
+                redispatch = true;
+            }
+        }
+        if (redispatch) {
+            m_pool.enqueue(m_dispatcher);
+        }
+    }
+}
@@ -0,0 +1,644 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.filestore.FileStore;
+import org.knime.core.data.filestore.internal.ROWriteFileStoreHandler;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortObjectOutput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+import org.knime.core.node.workflow.execresult.SubnodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.WorkflowExecutionResult;
+
+/**
+ * Executes the content of a {@link SubNodeContainer} in-process, whereby all inner nodes run concurrently and
+ * adjacent nodes exchange data tables through bounded row queues rather than fully materialized tables.
+ *
+ * <p>A connection is streamed if it carries a data table, the downstream node declares the input as
+ * {@linkplain InputPortRole#isStreamable() streamable}, doesn't require iterative access on its input and the
+ * upstream node doesn't also reach the downstream node via another path (which could otherwise dead-lock on the
+ * bounded queues). All other connections are materialized, i.e. the downstream node waits for the upstream node to
+ * finish and reads the table as is. Output tables that are only consumed as a stream are not kept; the executed inner
+ * nodes show an empty table with the correct spec at those ports.
+ *
+ * <p>Inner nodes are driven through the streaming API ({@link StreamableOperator}), not {@link NodeModel#execute},
+ * hence node internals and file stores can't be retained. Components containing nodes with views are rejected when
+ * the job is submitted (see {@link #checkSupported(SubNodeContainer)}), nodes that attempt to create file stores fail.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamingNodeExecutionJob extends NodeExecutionJob {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamingNodeExecutionJob.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final int m_queueCapacity;
+
+    private volatile List<StreamedNode> m_streamedNodes = Collections.emptyList();
+
+    private volatile boolean m_isAborted;
+
+    private Future<?> m_future;
+
+    /**
+     * @param snc The component to execute.
+     * @param data Its input data.
+     * @param queueCapacity Number of rows buffered per streamed connection.
+     */
+    StreamingNodeExecutionJob(final SubNodeContainer snc, final PortObject[] data, final int queueCapacity) {
+        super(snc, data);
+        m_queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Set the future that represents the pending execution.
+     * @param future the future to set
+     */
+    void setFuture(final Future<?> future) {
+        m_future = future;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean cancel() {
+        if (m_future == null) {
+            throw new IllegalStateException("Future that represents the execution has not been set.");
+        }
+        abort();
+        return m_future.cancel(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isReConnecting() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeContainerExecutionStatus mainExecute() {
+        SubNodeContainer snc = (SubNodeContainer)getNodeContainer();
+        WorkflowManager wfm = snc.getWorkflowManager();
+        try {
+            checkSupported(snc);
+        } catch (IllegalStateException e) {
+            // content changed after submission
+            return NodeContainerExecutionStatus.newFailure(e.getMessage());
+        }
+        List<NodeContainer> sortedNodes = sortTopologically(wfm);
+        Map<NodeID, StreamedNode> streamedNodes = createStreamedNodes(wfm, sortedNodes);
+        m_streamedNodes = new ArrayList<>(streamedNodes.values());
+        String threadPrefix = "KNIME-Streaming-" + THREAD_COUNTER.incrementAndGet() + "-";
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, threadPrefix + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            for (StreamedNode n : m_streamedNodes) {
+                if (m_isAborted) {
+                    n.m_done.completeExceptionally(new CancellationException());
+                } else {
+                    n.start(executor);
+                }
+            }
+            awaitTermination();
+        } finally {
+            executor.shutdown();
+            for (StreamedNode n : m_streamedNodes) {
+                n.releaseFileStoreHandler();
+            }
+        }
+        return createAndLoadResult(snc, wfm, sortedNodes, streamedNodes);
+    }
+
+    /**
+     * Checks whether the content of the argument component can be executed by this job. Nested metanodes and
+     * components are not supported, neither are nodes with views as their content (node internals) is not retained.
+     *
+     * @param snc the component to check
+     * @throws IllegalStateException if the component contains a node that can't be executed
+     */
+    static void checkSupported(final SubNodeContainer snc) {
+        for (NodeContainer nc : snc.getWorkflowManager().getNodeContainers()) {
+            if (!(nc instanceof NativeNodeContainer)) {
+                throw new IllegalStateException("Streaming execution does not support nested metanodes or components: "
+                    + nc.getNameWithID());
+            }
+            if (nc.getNrNodeViews() > 0 || nc.hasInteractiveView()) {
+                throw new IllegalStateException("Streaming execution does not support nodes with views, their content "
+                    + "would not be retained: " + nc.getNameWithID());
+            }
+        }
+    }
+
+    /** Waits for all nodes to finish (successfully or not). */
+    private void awaitTermination() {
+        boolean isInterrupted = false;
+        for (StreamedNode n : m_streamedNodes) {
+            while (true) {
+                try {
+                    n.m_done.get();
+                    break;
+                } catch (InterruptedException ie) {
+                    // canceled -- stop the nodes but wait for them to release their resources
+                    isInterrupted = true;
+                    abort();
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Stops all running nodes, called on cancel or if any node fails. */
+    private void abort() {
+        m_isAborted = true;
+        for (StreamedNode n : m_streamedNodes) {
+            n.abort();
+        }
+    }
+
+    /** @return all nodes in the workflow, sorted so that each node comes after all its predecessors. */
+    private static List<NodeContainer> sortTopologically(final WorkflowManager wfm) {
+        Map<NodeID, Integer> inDegrees = new HashMap<>();
+        Deque<NodeID> ready = new ArrayDeque<>();
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            int degree = (int)wfm.getIncomingConnectionsFor(nc.getID()).stream()
+                .filter(cc -> !cc.getSource().equals(wfm.getID())).count();
+            inDegrees.put(nc.getID(), degree);
+            if (degree == 0) {
+                ready.add(nc.getID());
+            }
+        }
+        List<NodeContainer> result = new ArrayList<>(inDegrees.size());
+        while (!ready.isEmpty()) {
+            NodeID id = ready.poll();
+            result.add(wfm.getNodeContainer(id));
+            for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(id)) {
+                Integer degree = inDegrees.get(cc.getDest());
+                if (degree != null) {
+                    inDegrees.put(cc.getDest(), degree - 1);
+                    if (degree == 1) {
+                        ready.add(cc.getDest());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /** Creates the execution plan for all nodes that are not executed yet, in topological order. */
+    private Map<NodeID, StreamedNode> createStreamedNodes(final WorkflowManager wfm,
+        final List<NodeContainer> sortedNodes) {
+        Map<NodeID, StreamedNode> streamedNodes = new LinkedHashMap<>();
+        for (NodeContainer nc : sortedNodes) {
+            if (!nc.getNodeContainerState().isExecuted()) {
+                streamedNodes.put(nc.getID(), new StreamedNode((NativeNodeContainer)nc));
+            }
+        }
+        Map<NodeID, Set<NodeID>> ancestors = new HashMap<>();
+        // consumers of each output port: streamed inputs and whether a table is needed
+        Map<NodeID, List<List<StreamingRowInput>>> streamedConsumers = new HashMap<>();
+        Map<NodeID, boolean[]> materializedPorts = new HashMap<>();
+        for (StreamedNode n : streamedNodes.values()) {
+            streamedConsumers.put(n.m_nnc.getID(), new ArrayList<>());
+            for (int i = 0; i < n.m_nnc.getNrOutPorts(); i++) {
+                streamedConsumers.get(n.m_nnc.getID()).add(new ArrayList<>());
+            }
+            materializedPorts.put(n.m_nnc.getID(), new boolean[n.m_nnc.getNrOutPorts()]);
+        }
+        for (StreamedNode n : streamedNodes.values()) {
+            NodeID id = n.m_nnc.getID();
+            for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(id)) {
+                StreamedNode source = streamedNodes.get(cc.getSource());
+                int destPort = cc.getDestPort();
+                if (source == null) {
+                    // upstream node is executed, data is available already
+                    if (destPort > 0) {
+                        n.m_executedSourceObjects[destPort - 1] =
+                            wfm.getNodeContainer(cc.getSource()).getOutPort(cc.getSourcePort()).getPortObject();
+                    }
+                    continue;
+                }
+                int sourcePort = cc.getSourcePort();
+                PortObjectSpec sourceSpec = source.m_nnc.getOutPort(sourcePort).getPortObjectSpec();
+                boolean isStream = destPort > 0 && sourceSpec instanceof DataTableSpec
+                    && n.m_inputRoles[destPort - 1].isStreamable() && !n.m_isRequiringIteration
+                    && !isReachableViaOtherPath(wfm, cc, ancestors);
+                if (isStream) {
+                    StreamingRowInput input = new StreamingRowInput((DataTableSpec)sourceSpec, m_queueCapacity);
+                    streamedConsumers.get(source.m_nnc.getID()).get(sourcePort).add(input);
+                    n.m_inputs[destPort - 1] = input;
+                } else {
+                    materializedPorts.get(source.m_nnc.getID())[sourcePort] = true;
+                    n.m_dependencies.add(source);
+                    if (destPort > 0) {
+                        n.m_materializedSources[destPort - 1] = source;
+                        n.m_materializedSourcePorts[destPort - 1] = sourcePort;
+                    }
+                }
+            }
+        }
+        for (StreamedNode n : streamedNodes.values()) {
+            NodeID id = n.m_nnc.getID();
+            n.createOutputs(streamedConsumers.get(id), materializedPorts.get(id));
+        }
+        return streamedNodes;
+    }
+
+    /**
+     * Whether the source of the argument connection is also an ancestor of (or identical to) the source of any other
+     * connection into the same destination node. Streaming such a connection could dead-lock as the destination may
+     * wait for the other input while the source is blocked on the full queue.
+     */
+    private static boolean isReachableViaOtherPath(final WorkflowManager wfm, final ConnectionContainer cc,
+        final Map<NodeID, Set<NodeID>> ancestorCache) {
+        for (ConnectionContainer other : wfm.getIncomingConnectionsFor(cc.getDest())) {
+            if (other.equals(cc)) {
+                continue;
+            }
+            if (other.getSource().equals(cc.getSource())
+                || getAncestors(wfm, other.getSource(), ancestorCache).contains(cc.getSource())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<NodeID> getAncestors(final WorkflowManager wfm, final NodeID id,
+        final Map<NodeID, Set<NodeID>> ancestorCache) {
+        Set<NodeID> result = ancestorCache.get(id);
+        if (result == null) {
+            result = new HashSet<>();
+            if (!id.equals(wfm.getID())) {
+                for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(id)) {
+                    result.add(cc.getSource());
+                    result.addAll(getAncestors(wfm, cc.getSource(), ancestorCache));
+                }
+            }
+            ancestorCache.put(id, result);
+        }
+        return result;
+    }
+
+    /** Assembles the execution result for the component, loads it and returns it as status. */
+    private NodeContainerExecutionStatus createAndLoadResult(final SubNodeContainer snc, final WorkflowManager wfm,
+        final List<NodeContainer> sortedNodes, final Map<NodeID, StreamedNode> streamedNodes) {
+        WorkflowExecutionResult wfmResult = new WorkflowExecutionResult(wfm.getID());
+        boolean isSuccess = !m_isAborted;
+        for (NodeContainer nc : sortedNodes) {
+            StreamedNode n = streamedNodes.get(nc.getID());
+            NodeContainerExecutionResult ncResult;
+            try {
+                ncResult = n != null ? n.createExecutionResult() : nc.createExecutionResult(new ExecutionMonitor());
+            } catch (Exception e) {
+                LOGGER.error("Unable to create execution result for " + nc.getNameWithID() + ": " + e.getMessage(),
+                    e);
+                ncResult = NativeNodeExecutionResults.createFailure(e);
+            }
+            isSuccess &= ncResult.isSuccess();
+            wfmResult.addNodeExecutionResult(nc.getID(), ncResult);
+        }
+        wfmResult.setSuccess(isSuccess);
+        SubnodeContainerExecutionResult result = new SubnodeContainerExecutionResult(snc.getID());
+        result.setWorkflowExecutionResult(wfmResult);
+        result.setSuccess(isSuccess);
+        LoadResult loadResult = new LoadResult("load streamed result into component");
+        snc.loadExecutionResult(result, new ExecutionMonitor(), loadResult);
+        if (loadResult.hasErrors()) {
+            LOGGER.error("Errors loading streamed data into component:\n"
+                + loadResult.getFilteredError("", LoadResultEntryType.Warning));
+        }
+        return result;
+    }
+
+    /** Execution state of a single (not yet executed) node in the component. */
+    private final class StreamedNode implements Runnable {
+
+        private final NativeNodeContainer m_nnc;
+
+        private final InputPortRole[] m_inputRoles;
+
+        private final boolean m_isRequiringIteration;
+
+        /** Inputs of the node model (excluding flow variable port); materialized ones are set on start. */
+        private final PortInput[] m_inputs;
+
+        private final StreamedNode[] m_materializedSources;
+
+        private final int[] m_materializedSourcePorts;
+
+        /** Inputs provided by nodes that were executed prior to this job. */
+        private final PortObject[] m_executedSourceObjects;
+
+        /** Nodes that need to finish before this node can start. */
+        private final List<StreamedNode> m_dependencies = new ArrayList<>();
+
+        private final CompletableFuture<Void> m_done = new CompletableFuture<>();
+
+        private final ExecutionContext m_exec;
+
+        private PortOutput[] m_outputs;
+
+        private volatile Thread m_thread;
+
+        private volatile Throwable m_failure;
+
+        StreamedNode(final NativeNodeContainer nnc) {
+            m_nnc = nnc;
+            NodeModel model = nnc.getNodeModel();
+            int nrInputs = nnc.getNrInPorts() - 1;
+            m_inputRoles = model.getInputPortRoles();
+            StreamableOperatorInternals initialInternals = model.createInitialStreamableOperatorInternals();
+            m_isRequiringIteration = initialInternals != null && model.iterate(initialInternals);
+            m_inputs = new PortInput[nrInputs];
+            m_materializedSources = new StreamedNode[nrInputs];
+            m_materializedSourcePorts = new int[nrInputs];
+            m_executedSourceObjects = new PortObject[nrInputs];
+            // file stores created by the node would not be retained, the handler refuses to create any
+            nnc.getNode().setFileStoreHandler(new NoFileStoresHandler(nnc));
+            m_exec = nnc.createExecutionContext();
+        }
+
+        /** Removes the handler set in the constructor, called once the node is done. */
+        void releaseFileStoreHandler() {
+            if (m_nnc.getNode().getFileStoreHandler() instanceof NoFileStoresHandler) {
+                m_nnc.getNode().setFileStoreHandler(null);
+            }
+        }
+
+        /** Creates the outputs given the streaming consumers and whether a table is needed per (node) port. */
+        void createOutputs(final List<List<StreamingRowInput>> consumers, final boolean[] isMaterialize) {
+            m_outputs = new PortOutput[m_nnc.getNrOutPorts() - 1];
+            for (int i = 0; i < m_outputs.length; i++) {
+                if (BufferedDataTable.TYPE.equals(m_nnc.getOutPort(i + 1).getPortType())) {
+                    PortObjectSpec spec = m_nnc.getOutPort(i + 1).getPortObjectSpec();
+                    m_outputs[i] = new StreamingRowOutput(spec instanceof DataTableSpec ? (DataTableSpec)spec : null,
+                        consumers.get(i + 1), isMaterialize[i + 1], m_exec);
+                } else {
+                    m_outputs[i] = new PortObjectOutput();
+                }
+            }
+        }
+
+        private PortInput createMaterializedInput(final int index, final PortObject po) {
+            if (po instanceof BufferedDataTable && m_inputRoles[index].isStreamable()) {
+                return new DataTableRowInput((BufferedDataTable)po);
+            }
+            return new PortObjectInput(po);
+        }
+
+        void start(final ExecutorService executor) {
+            CompletableFuture<?>[] deps = m_dependencies.stream().map(d -> d.m_done).toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(deps).whenComplete((v, t) -> {
+                if (t != null) {
+                    // upstream node failed, this node won't run
+                    m_done.completeExceptionally(t);
+                } else {
+                    try {
+                        executor.execute(this);
+                    } catch (Exception e) {
+                        m_failure = e;
+                        m_done.completeExceptionally(e);
+                    }
+                }
+            });
+        }
+
+        void abort() {
+            Thread thread = m_thread;
+            if (thread != null) {
+                m_nnc.getProgressMonitor().setExecuteCanceled();
+                thread.interrupt();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void run() {
+            m_thread = Thread.currentThread();
+            NodeContext.pushContext(m_nnc);
+            try {
+                if (m_isAborted) {
+                    throw new CancellationException();
+                }
+                execute();
+                m_done.complete(null);
+            } catch (Throwable t) {
+                if (!m_isAborted) {
+                    LOGGER.debug("Streamed execution of " + m_nnc.getNameWithID() + " failed: " + t.getMessage(), t);
+                }
+                m_failure = t;
+                StreamingNodeExecutionJob.this.abort();
+                m_done.completeExceptionally(t);
+            } finally {
+                NodeContext.removeLastContext();
+                m_thread = null;
+                // clear interrupted flag before thread is reused
+                Thread.interrupted();
+            }
+        }
+
+        private void execute() throws Exception {
+            NodeModel model = m_nnc.getNodeModel();
+            resolveMaterializedInputs();
+            PortObjectSpec[] inSpecs = new PortObjectSpec[m_inputs.length];
+            for (int i = 0; i < m_inputs.length; i++) {
+                if (m_inputs[i] instanceof RowInput) {
+                    inSpecs[i] = ((RowInput)m_inputs[i]).getDataTableSpec();
+                } else if (m_inputs[i] instanceof PortObjectInput) {
+                    PortObject po = ((PortObjectInput)m_inputs[i]).getPortObject();
+                    inSpecs[i] = po == null ? null : po.getSpec();
+                }
+            }
+            StreamableOperator operator = model.createStreamableOperator(new PartitionInfo(0, 1), inSpecs);
+            MergeOperator mergeOperator = model.createMergeOperator();
+            StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+            if (m_isRequiringIteration) {
+                while (model.iterate(internals)) {
+                    operator.loadInternals(internals);
+                    operator.runIntermediate(m_inputs, m_exec);
+                    internals = operator.saveInternals();
+                    if (mergeOperator != null) {
+                        internals = mergeOperator.mergeIntermediate(new StreamableOperatorInternals[]{internals});
+                    }
+                    // all inputs are materialized, re-open them for the next pass
+                    resolveMaterializedInputs();
+                }
+            }
+            if (internals != null) {
+                operator.loadInternals(internals);
+            }
+            operator.runFinal(m_inputs, m_outputs, m_exec);
+            if (mergeOperator != null) {
+                internals = mergeOperator.mergeFinal(new StreamableOperatorInternals[]{operator.saveInternals()});
+                model.finishStreamableExecution(internals, m_exec, m_outputs);
+            }
+            for (PortInput input : m_inputs) {
+                if (input instanceof RowInput) {
+                    ((RowInput)input).close();
+                }
+            }
+            for (PortOutput output : m_outputs) {
+                if (output instanceof StreamingRowOutput) {
+                    ((StreamingRowOutput)output).close();
+                }
+            }
+        }
+
+        private void resolveMaterializedInputs() {
+            for (int i = 0; i < m_inputs.length; i++) {
+                StreamedNode source = m_materializedSources[i];
+                if (source != null) {
+                    m_inputs[i] = createMaterializedInput(i, source.getOutputObject(m_materializedSourcePorts[i]));
+                } else if (m_executedSourceObjects[i] != null) {
+                    m_inputs[i] = createMaterializedInput(i, m_executedSourceObjects[i]);
+                }
+            }
+        }
+
+        /** @return the output object at the given node port (including flow variable port at 0). */
+        PortObject getOutputObject(final int port) {
+            if (port == 0) {
+                return FlowVariablePortObject.INSTANCE;
+            }
+            PortOutput output = m_outputs[port - 1];
+            if (output instanceof StreamingRowOutput) {
+                return ((StreamingRowOutput)output).getTable();
+            }
+            return ((PortObjectOutput)output).getPortObject();
+        }
+
+        NativeNodeContainerExecutionResult createExecutionResult() {
+            if (!m_done.isDone() || m_done.isCompletedExceptionally()) {
+                Throwable failure = m_failure;
+                return NativeNodeExecutionResults.createFailure(
+                    failure instanceof CancellationException ? null : failure);
+            }
+            PortObject[] outObjects = new PortObject[m_outputs.length];
+            for (int i = 0; i < outObjects.length; i++) {
+                outObjects[i] = getOutputObject(i + 1);
+            }
+            return NativeNodeExecutionResults.createSuccess(m_nnc, outObjects);
+        }
+
+    }
+
+    /** File store handler of streamed nodes, failing the node if it attempts to create a file store. */
+    private static final class NoFileStoresHandler extends ROWriteFileStoreHandler {
+
+        private final String m_nodeName;
+
+        NoFileStoresHandler(final NativeNodeContainer nnc) {
+            super(nnc.getParent().getWorkflowDataRepository());
+            m_nodeName = nnc.getNameWithID();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public FileStore createFileStore(final String name) throws IOException {
+            throw new IOException("Streaming execution does not support nodes creating file stores: " + m_nodeName);
+        }
+    }
+
+}
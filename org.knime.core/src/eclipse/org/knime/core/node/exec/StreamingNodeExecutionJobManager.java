@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.net.URL;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Job manager for components ({@link SubNodeContainer}) that executes all contained nodes concurrently and streams
+ * data tables between adjacent streamable nodes. Tables are only materialized where a downstream node can't consume
+ * its input as a stream. Components containing nested metanodes or components or nodes with views are rejected on
+ * submission, inner nodes can't create file stores. See {@link StreamingNodeExecutionJob} for details.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class StreamingNodeExecutionJobManager extends AbstractNodeExecutionJobManager {
+
+    /** Number of rows buffered per streamed connection before the upstream node is blocked. */
+    static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    /** Default instance, submitting jobs to the global thread pool. */
+    public static final StreamingNodeExecutionJobManager INSTANCE = new StreamingNodeExecutionJobManager();
+
+    private final ThreadPool m_pool;
+
+    /** Creates new instance using the global thread pool. */
+    public StreamingNodeExecutionJobManager() {
+        this(KNIMEConstants.GLOBAL_THREAD_POOL);
+    }
+
+    /**
+     * @param pool The pool running the job. The contained nodes run in separate (non-pooled) threads as all nodes
+     *            connected by a stream need to run at the same time.
+     */
+    public StreamingNodeExecutionJobManager(final ThreadPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("arg must not be null");
+        }
+        m_pool = pool;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof SubNodeContainer)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                + " is only able to execute components: " + nc.getNameWithID());
+        }
+        StreamingNodeExecutionJob.checkSupported((SubNodeContainer)nc);
+        StreamingNodeExecutionJob job =
+            new StreamingNodeExecutionJob((SubNodeContainer)nc, data, DEFAULT_QUEUE_CAPACITY);
+        Future<?> future = m_pool.enqueue(job);
+        job.setFuture(future);
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canExecute(final NodeContainer nc) {
+        return nc instanceof SubNodeContainer;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return StreamingNodeExecutionJobManagerFactory.INSTANCE.getLabel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.streamable.RowInput;
+
+/**
+ * A {@link RowInput} that is fed by a {@link StreamingRowOutput} of an upstream node running concurrently. Rows are
+ * exchanged through a bounded queue, i.e. a fast producer is blocked until the consumer catches up.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamingRowInput extends RowInput {
+
+    /** Marker put into the queue by the producer after the last row. */
+    private static final DataRow END_OF_STREAM = new DefaultRow("<end-of-stream>", new DataCell[0]);
+
+    /** Interval in which a blocked producer checks whether the consumer has closed this input. */
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+
+    private final DataTableSpec m_spec;
+
+    private final BlockingQueue<DataRow> m_queue;
+
+    private volatile boolean m_isClosed;
+
+    private boolean m_isEndOfStreamReached;
+
+    /**
+     * @param spec The spec of the stream, not null.
+     * @param capacity The number of rows that can be buffered before the producer blocks.
+     */
+    StreamingRowInput(final DataTableSpec spec, final int capacity) {
+        m_spec = spec;
+        m_queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataTableSpec getDataTableSpec() {
+        return m_spec;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow poll() throws InterruptedException {
+        if (m_isEndOfStreamReached || m_isClosed) {
+            return null;
+        }
+        DataRow row = m_queue.take();
+        if (row == END_OF_STREAM) {
+            m_isEndOfStreamReached = true;
+            return null;
+        }
+        return row;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        m_isClosed = true;
+        m_queue.clear();
+    }
+
+    /** @return true if the consumer has signaled that it doesn't need any more rows. */
+    boolean isClosed() {
+        return m_isClosed;
+    }
+
+    /**
+     * Called by the producer to hand over the next row. Blocks while the queue is full.
+     *
+     * @param row The row to add.
+     * @return true if the row was accepted, false if the consumer has closed this input in the meantime.
+     * @throws InterruptedException If interrupted while waiting for the consumer.
+     */
+    boolean offer(final DataRow row) throws InterruptedException {
+        while (!m_isClosed) {
+            if (m_queue.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Called by the producer after the last row has been offered.
+     *
+     * @throws InterruptedException If interrupted while waiting for the consumer.
+     */
+    void offerEndOfStream() throws InterruptedException {
+        offer(END_OF_STREAM);
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.List;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * A {@link RowOutput} that hands every row to a list of {@link StreamingRowInput} (one for each streaming downstream
+ * node) and, if requested, also collects the rows into a {@link BufferedDataTable}. The table is only materialized if
+ * at least one downstream node cannot consume the data as a stream; otherwise {@link #getTable()} returns an empty
+ * table with the output spec.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamingRowOutput extends RowOutput {
+
+    private final DataTableSpec m_spec;
+
+    private final List<StreamingRowInput> m_consumers;
+
+    private final boolean m_isMaterialize;
+
+    private final ExecutionContext m_exec;
+
+    private BufferedDataContainer m_container;
+
+    private BufferedDataTable m_table;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param spec The spec of the output, may be null if not known prior execution (in which case no streaming
+     *            consumers are allowed and the table must be set via {@link #setFully(BufferedDataTable)}).
+     * @param consumers The inputs of the downstream nodes that consume this output as a stream.
+     * @param isMaterialize Whether the output needs to be available as a table once the node has finished.
+     * @param exec The context of the producing node, used to create the table.
+     */
+    StreamingRowOutput(final DataTableSpec spec, final List<StreamingRowInput> consumers,
+        final boolean isMaterialize, final ExecutionContext exec) {
+        if (spec == null && !consumers.isEmpty()) {
+            throw new IllegalArgumentException("Output spec required for streaming consumers");
+        }
+        m_spec = spec;
+        m_consumers = consumers;
+        m_isMaterialize = isMaterialize;
+        m_exec = exec;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(final DataRow row) throws InterruptedException {
+        if (m_isClosed) {
+            throw new IllegalStateException("Output has been closed");
+        }
+        boolean isConsumed = false;
+        for (StreamingRowInput consumer : m_consumers) {
+            if (consumer.offer(row)) {
+                isConsumed = true;
+            }
+        }
+        if (m_isMaterialize) {
+            if (m_container == null) {
+                if (m_spec == null) {
+                    throw new IllegalStateException("Output spec not known prior execution");
+                }
+                m_container = m_exec.createDataContainer(m_spec);
+            }
+            m_container.addRowToTable(row);
+            isConsumed = true;
+        }
+        if (!isConsumed) {
+            throw new OutputClosedException();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setFully(final BufferedDataTable table) throws InterruptedException {
+        if (m_isClosed || m_container != null) {
+            throw new IllegalStateException("Rows have been added previously");
+        }
+        if (!m_consumers.isEmpty()) {
+            try (CloseableRowIterator it = table.iterator()) {
+                while (it.hasNext() && !areAllConsumersClosed()) {
+                    DataRow row = it.next();
+                    for (StreamingRowInput consumer : m_consumers) {
+                        consumer.offer(row);
+                    }
+                }
+            }
+        }
+        if (m_isMaterialize) {
+            // no need to copy, downstream nodes can read the table as is
+            m_table = table;
+        }
+        close();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws InterruptedException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        for (StreamingRowInput consumer : m_consumers) {
+            consumer.offerEndOfStream();
+        }
+        if (m_container != null) {
+            m_container.close();
+            m_table = m_container.getTable();
+            m_container = null;
+        }
+    }
+
+    private boolean areAllConsumersClosed() {
+        for (StreamingRowInput consumer : m_consumers) {
+            if (!consumer.isClosed()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the output table once the producing node has finished. That is the materialized table or, if no
+     * downstream node required a table, an empty table with the output spec.
+     *
+     * @return The output table, not null.
+     * @throws IllegalStateException If the output has not been closed or its spec is unknown.
+     */
+    BufferedDataTable getTable() {
+        if (!m_isClosed) {
+            throw new IllegalStateException("Output has not been closed");
+        }
+        if (m_table == null) {
+            if (m_spec == null) {
+                throw new IllegalStateException("No table set on output with unknown spec");
+            }
+            BufferedDataContainer empty = m_exec.createDataContainer(m_spec);
+            empty.close();
+            m_table = empty.getTable();
+        }
+        return m_table;
+    }
+
+}
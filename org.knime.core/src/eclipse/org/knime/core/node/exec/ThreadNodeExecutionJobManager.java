@@ -69,6 +69,9 @@ public class ThreadNodeExecutionJobManager extends AbstractNodeExecutionJobManag
 
     private final ThreadPool m_pool;
 
+    /** Non-null if nodes are scheduled by priority, see {@link KNIMEConstants#PROPERTY_CRITICAL_PATH_SCHEDULING}. */
+    private final PrioritizedJobQueue m_prioritizedQueue;
+
     public ThreadNodeExecutionJobManager() {
         this(KNIMEConstants.GLOBAL_THREAD_POOL);
     }
@@ -78,6 +81,7 @@ public ThreadNodeExecutionJobManager(final ThreadPool pool) {
             throw new NullPointerException("arg must not be null");
         }
         m_pool = pool;
+        m_prioritizedQueue = PrioritizedJobQueue.isEnabled() ? new PrioritizedJobQueue(pool) : null;
     }
 
     /** {@inheritDoc} */
@@ -88,7 +92,12 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
-        Future<?> future = m_pool.enqueue(job);
+        Future<?> future;
+        if (m_prioritizedQueue != null) {
+            future = m_prioritizedQueue.submit(job, (SingleNodeContainer)nc);
+        } else {
+            future = m_pool.enqueue(job);
+        }
         job.setFuture(future);
         return job;
     }
@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.exec;
+
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.util.ThreadUtils;
+import org.knime.core.util.VirtualThreadFactory;
+
+/**
+ * Job manager executing nodes locally on virtual threads (if the JVM supports them, otherwise on platform threads).
+ * Nodes don't occupy a thread of the {@link KNIMEConstants#GLOBAL_THREAD_POOL} and are therefore not limited by
+ * {@link KNIMEConstants#PROPERTY_MAX_THREAD_COUNT}, which makes this job manager suitable for IO-bound nodes such as
+ * database readers or file downloads, of which many can be in flight at the same time. The number of concurrently
+ * executing nodes is bounded by {@link KNIMEConstants#PROPERTY_VIRTUAL_THREAD_MAX_TASKS}; the {@link
+ * org.knime.core.node.workflow.NodeContext} is propagated to the executing thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class VirtualThreadNodeExecutionJobManager extends ThreadNodeExecutionJobManager {
+
+    /** Default instance. */
+    public static final VirtualThreadNodeExecutionJobManager INSTANCE = new VirtualThreadNodeExecutionJobManager();
+
+    private final ExecutorService m_executor;
+
+    /** Creates new instance bounded by {@link KNIMEConstants#PROPERTY_VIRTUAL_THREAD_MAX_TASKS}. */
+    public VirtualThreadNodeExecutionJobManager() {
+        this(VirtualThreadFactory.getMaxConcurrentTasks());
+    }
+
+    /**
+     * @param maxConcurrentJobs the maximum number of nodes executing at the same time, at least 1
+     */
+    public VirtualThreadNodeExecutionJobManager(final int maxConcurrentJobs) {
+        if (maxConcurrentJobs < 1) {
+            throw new IllegalArgumentException("Job count must be at least 1: " + maxConcurrentJobs);
+        }
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 60L,
+            TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new VirtualThreadFactory("KNIME-VWorker-"));
+        executor.allowCoreThreadTimeOut(true);
+        m_executor = ThreadUtils.executorServiceWithContext(executor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] data) {
+        if (!(nc instanceof SingleNodeContainer)) {
+            throw new IllegalStateException(getClass().getSimpleName()
+                    + " is not able to execute a metanode: " + nc.getNameWithID());
+        }
+        LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
+        Future<?> future = m_executor.submit(job);
+        job.setFuture(future);
+        return job;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID() {
+        return VirtualThreadNodeExecutionJobManagerFactory.INSTANCE.getID();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return VirtualThreadNodeExecutionJobManagerFactory.INSTANCE.getLabel();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public URL getIcon() {
+        return null;
+    }
+
+}
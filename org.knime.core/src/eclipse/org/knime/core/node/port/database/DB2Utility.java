@@ -68,6 +68,15 @@ public DB2StatementManipulator() {
            super(true);
        }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getMaxInsertRows(final int parametersPerRow) {
+            // DB2 allows at most 32767 parameters per statement
+            return limitInsertRows(32767, 1000, parametersPerRow);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -68,6 +68,8 @@
 import org.knime.core.node.config.ConfigWO;
 import org.knime.core.node.port.database.connection.CachedConnectionFactory;
 import org.knime.core.node.port.database.connection.CachedConnectionFactory.ConnectionKey;
+import org.knime.core.node.port.database.connection.ConnectionPool;
+import org.knime.core.node.port.database.connection.DBConnectionFactory;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.util.StringHistory;
 import org.knime.core.node.workflow.CredentialsProvider;
@@ -257,6 +259,29 @@ private static int initBatchWriteSize() {
         return 1;
     }
 
+    /** Properties defines if multi-row INSERT statements are used for batch writes (if supported by the database).
+     * @since 3.8 */
+    public static final boolean MULTI_ROW_INSERT = initBooleanProperty(
+        KNIMEConstants.PROPERTY_DATABASE_MULTI_ROW_INSERT, "Database multi-row insert");
+
+    /** Properties defines if the batch write size is adapted to the round-trip time of the database.
+     * @since 3.8 */
+    public static final boolean ADAPTIVE_BATCH_SIZE = initBooleanProperty(
+        KNIMEConstants.PROPERTY_DATABASE_ADAPTIVE_BATCH_SIZE, "Database adaptive batch write size");
+
+    /** Properties defines if database results are fetched by a separate thread while the rows are processed.
+     * @since 3.8 */
+    public static final boolean PREFETCH = initBooleanProperty(
+        KNIMEConstants.PROPERTY_DATABASE_PREFETCH, "Database asynchronous prefetch");
+
+    private static boolean initBooleanProperty(final String property, final String label) {
+        final boolean enabled = Boolean.getBoolean(property);
+        if (enabled) {
+            LOGGER.debug(label + " is enabled.");
+        }
+        return enabled;
+    }
+
     private String m_driver;
     private String m_credName = null;
 
@@ -652,7 +677,10 @@ private boolean loadConnection(final ConfigRO settings,
 
     /**
      * Executes a block of SQL commands using a valid connection. The method makes sure that the connection
-     * passed into the {@link ExecuteStatement} is valid and synchronized if required.
+     * passed into the {@link ExecuteStatement} is valid and synchronized if required. If connection pooling is
+     * enabled (see {@link CachedConnectionFactory#isPoolingEnabled()}), the statement runs on a connection borrowed
+     * exclusively from the pool, otherwise on the shared connection returned by {@link #createConnection(
+     * CredentialsProvider)}.
      *
      * @param cp {@link CredentialsProvider} to use
      * @param stmt the {@link ExecuteStatement} implementation that can use the {@link Connection}
@@ -663,6 +691,16 @@ private boolean loadConnection(final ConfigRO settings,
     @SuppressWarnings("resource")
     public <T> T execute(final CredentialsProvider cp, final ExecuteStatement<T> stmt) throws SQLException {
         try {
+            final DBConnectionFactory connectionFactory = getUtility().getConnectionFactory();
+            if (CachedConnectionFactory.isPoolingEnabled() && connectionFactory instanceof CachedConnectionFactory) {
+                // exclusive use of a pooled (and validated) connection replaces the synchronization on the key
+                CheckUtils.checkSettingNotNull(m_driver, "No settings available to create database connection.");
+                CheckUtils.checkSettingNotNull(m_jdbcUrl, "No JDBC URL set.");
+                try (ConnectionPool.Lease lease =
+                        ((CachedConnectionFactory)connectionFactory).borrowConnection(cp, this)) {
+                    return stmt.apply(lease.getConnection());
+                }
+            }
             for (int i = 1; i <= MAX_CONNECTION_TRIES; i++) {
                 final Connection conn = createConnection(cp);
                 final ConnectionKey databaseConnKey = CachedConnectionFactory.getConnectionKey(cp, this);
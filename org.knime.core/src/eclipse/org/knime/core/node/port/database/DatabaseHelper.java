@@ -342,6 +342,125 @@ protected void fillStatement(final PreparedStatement stmt, final int dbIdx, fina
         }
     }
 
+    /**
+     * Sets the value of a cell of one column into an SQL statement. Setters are created once per column by
+     * {@link DatabaseHelper#createValueSetter(DataColumnSpec, int, TimeZone, Map)} in order to avoid the type checks of
+     * {@link DatabaseHelper#fillStatement(PreparedStatement, int, DataColumnSpec, DataCell, TimeZone, Map)} per cell.
+     *
+     * @since 3.8
+     */
+    @FunctionalInterface
+    protected interface ValueSetter {
+        /**
+         * @param stmt statement used
+         * @param dbIdx parameter index in the statement
+         * @param cell the data cell to write into the statement
+         * @throws SQLException if the value can't be set
+         */
+        void setValue(PreparedStatement stmt, int dbIdx, DataCell cell) throws SQLException;
+    }
+
+    /**
+     * Creates the setter for the values of a column, which behaves like
+     * {@link #fillStatement(PreparedStatement, int, DataColumnSpec, DataCell, TimeZone, Map)}. If a subclass overrides
+     * <code>fillStatement</code> the returned setter delegates to it.
+     *
+     * @param cspec column spec to check type
+     * @param dbColumnIdx the index of the column in the database table used to look up the column type
+     * @param tz the {@link TimeZone} to use
+     * @param columnTypes the column types of the table or <code>null</code>
+     * @return the setter for the column
+     * @since 3.8
+     */
+    protected ValueSetter createValueSetter(final DataColumnSpec cspec, final int dbColumnIdx, final TimeZone tz,
+        final Map<Integer, Integer> columnTypes) {
+        final DataType type = cspec.getType();
+        if (isFillStatementOverridden()) {
+            return (stmt, dbIdx, cell) -> fillStatement(stmt, dbIdx, cspec, cell, tz, columnTypes);
+        } else if (type.isCompatible(BooleanValue.class)) {
+            return (stmt, dbIdx, cell) -> {
+                if (cell.isMissing()) {
+                    stmt.setNull(dbIdx, Types.BOOLEAN);
+                } else {
+                    stmt.setBoolean(dbIdx, ((BooleanValue)cell).getBooleanValue());
+                }
+            };
+        } else if (type.isCompatible(IntValue.class)) {
+            return (stmt, dbIdx, cell) -> {
+                if (cell.isMissing()) {
+                    stmt.setNull(dbIdx, Types.INTEGER);
+                } else {
+                    stmt.setInt(dbIdx, ((IntValue)cell).getIntValue());
+                }
+            };
+        } else if (type.isCompatible(LongValue.class)) {
+            return (stmt, dbIdx, cell) -> {
+                if (cell.isMissing()) {
+                    stmt.setNull(dbIdx, Types.BIGINT);
+                } else {
+                    stmt.setLong(dbIdx, ((LongValue)cell).getLongValue());
+                }
+            };
+        } else if (type.isCompatible(DoubleValue.class)) {
+            return (stmt, dbIdx, cell) -> {
+                final double dbl = cell.isMissing() ? Double.NaN : ((DoubleValue)cell).getDoubleValue();
+                if (Double.isNaN(dbl)) {
+                    stmt.setNull(dbIdx, Types.DOUBLE);
+                } else {
+                    stmt.setDouble(dbIdx, dbl);
+                }
+            };
+        } else if (type.isCompatible(StringValue.class) && !type.isCompatible(DateAndTimeValue.class)
+            && !type.isCompatible(BinaryObjectDataValue.class) && !type.isCompatible(CollectionDataValue.class)) {
+            return (stmt, dbIdx, cell) -> {
+                if (cell.isMissing()) {
+                    stmt.setNull(dbIdx, Types.VARCHAR);
+                } else {
+                    stmt.setString(dbIdx, cell.toString());
+                }
+            };
+        } else if (columnTypes != null && !type.isCompatible(DateAndTimeValue.class)
+            && !type.isCompatible(BinaryObjectDataValue.class) && !type.isCompatible(CollectionDataValue.class)) {
+            final Integer columnType = columnTypes.get(dbColumnIdx);
+            final int sqlType = columnType == null ? Types.VARCHAR : columnType;
+            return (stmt, dbIdx, cell) -> {
+                if (cell.isMissing()) {
+                    stmt.setNull(dbIdx, sqlType);
+                } else {
+                    stmt.setObject(dbIdx, cell.toString(), sqlType);
+                }
+            };
+        }
+        // date, binary and collection values (and plain strings without column types) use the generic code
+        return (stmt, dbIdx, cell) -> fillStatement(stmt, dbIdx, cspec, cell, tz, null);
+    }
+
+    /**
+     * Whether rows can be written with multi-row INSERT statements, in which the parameter index of a value differs
+     * from the index of its column. That's not the case if a subclass overrides
+     * {@link #fillStatement(PreparedStatement, int, DataColumnSpec, DataCell, TimeZone, Map)} because its index
+     * argument is also used as column index (e.g. to look up the column type).
+     *
+     * @return that property
+     * @since 3.8
+     */
+    protected boolean isMultiRowInsertSupported() {
+        return !isFillStatementOverridden();
+    }
+
+    private boolean isFillStatementOverridden() {
+        for (Class<?> c = getClass(); c != DatabaseHelper.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("fillStatement", PreparedStatement.class, int.class, DataColumnSpec.class,
+                    DataCell.class, TimeZone.class, Map.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not declared in this class
+            }
+        }
+        return false;
+    }
+
     /**
      * @param stmt
      * @param dbIdx
@@ -437,6 +556,32 @@ protected String createUpdateStatement(final String table, final String[] setCol
      */
     protected String createInsertStatment(final String table, final String columnNames, final int[] mapping,
         final boolean insertNullForMissingCols) {
+        // create table meta data with empty column information
+        final String query = "INSERT INTO " + table + " " + columnNames + " VALUES "
+            + createInsertWildcard(mapping, insertNullForMissingCols);
+        return query;
+    }
+
+    /**
+     * @param table the name of the table
+     * @param columnNames the column list in parentheses
+     * @param mapping mapping from database to input columns, negative values denote missing columns
+     * @param insertNullForMissingCols <code>true</code> if <code>null</code> should be inserted for missing columns
+     * @param rowCount the number of rows inserted by the statement
+     * @return the (multi-row) insert statement
+     * @since 3.8
+     * @see StatementManipulator#insertRows(String, String, String, int)
+     */
+    protected String createInsertStatement(final String table, final String columnNames, final int[] mapping,
+        final boolean insertNullForMissingCols, final int rowCount) {
+        if (rowCount == 1) {
+            return createInsertStatment(table, columnNames, mapping, insertNullForMissingCols);
+        }
+        return m_conn.getUtility().getStatementManipulator().insertRows(table, columnNames,
+            createInsertWildcard(mapping, insertNullForMissingCols), rowCount);
+    }
+
+    private static String createInsertWildcard(final int[] mapping, final boolean insertNullForMissingCols) {
         // // creates the wild card string based on the number of columns
         // this string it used every time an new row is inserted into the db
         final StringBuilder wildcard = new StringBuilder("(");
@@ -454,9 +599,7 @@ protected String createInsertStatment(final String table, final String columnNam
             }
         }
         wildcard.append(")");
-        // create table meta data with empty column information
-        final String query = "INSERT INTO " + table + " " + columnNames + " VALUES " + wildcard;
-        return query;
+        return wildcard.toString();
     }
 
 
@@ -85,6 +85,9 @@
  *
  * <p>No public API.</p>
  *
+ * <p>Only kept for backward compatibility, it doesn't use the multi-row INSERT statements and adaptive batch sizes
+ * of {@link org.knime.core.node.port.database.writer.DBWriterImpl}.</p>
+ *
  * @author Thomas Gabriel, University of Konstanz
  * @deprecated use {@link DatabaseUtility#getWriter(DatabaseConnectionSettings)} instead
  */
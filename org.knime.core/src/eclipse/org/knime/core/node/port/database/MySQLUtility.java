@@ -86,6 +86,15 @@ public MySQLStatementManipulator () {
            super(true);
        }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getMaxInsertRows(final int parametersPerRow) {
+            // MySQL allows at most 65535 parameters per statement
+            return limitInsertRows(65535, 1000, parametersPerRow);
+        }
+
 
         /**
          * {@inheritDoc}
@@ -94,6 +94,15 @@ private static class PostgreSQLStatementManipulator extends StatementManipulator
         public PostgreSQLStatementManipulator() {
             super(true);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getMaxInsertRows(final int parametersPerRow) {
+            // PostgreSQL allows at most 32767 parameters per statement
+            return limitInsertRows(32767, 1000, parametersPerRow);
+        }
         /**
          * {@inheritDoc}
          */
@@ -70,6 +70,15 @@ public SQLServerStatementManipulator () {
            super(true);
        }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getMaxInsertRows(final int parametersPerRow) {
+            // SQL Server allows at most 2100 parameters and 1000 rows per statement
+            return limitInsertRows(2099, 1000, parametersPerRow);
+        }
+
 
         /**
          * {@inheritDoc}
@@ -73,6 +73,15 @@ public SQLiteStatementManipulator() {
             super(false);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getMaxInsertRows(final int parametersPerRow) {
+            // older SQLite versions allow at most 999 parameters and 500 rows per statement
+            return limitInsertRows(999, 500, parametersPerRow);
+        }
+
         /**
          * {@inheritDoc}
          */
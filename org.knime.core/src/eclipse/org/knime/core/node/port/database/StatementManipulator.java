@@ -162,6 +162,94 @@ public String forMetadataOnly(final String sql) {
         return "SELECT * FROM (" + sql + ") " + getTempTableName() + " WHERE (1 = 0)";
     }
 
+    /**
+     * Modifies the query so that it returns the minimum and the maximum value of the given column in a single row.
+     * This is used for splitting a query into partitions that are read in parallel.
+     *
+     * @param sql any valid SQL query
+     * @param column the (already quoted) name of a numeric or date column
+     * @return an SQL query returning two columns, the minimum and the maximum
+     * @since 3.8
+     */
+    public String forColumnRange(final String sql, final String column) {
+        return "SELECT MIN(" + column + "), MAX(" + column + ") FROM (" + sql + ") " + getTempTableName();
+    }
+
+    /**
+     * Modifies the query so that it only returns the rows of one partition. The returned query contains two
+     * parameters, the (inclusive) lower and the upper bound of the partition which is exclusive unless it's the last
+     * partition. Rows with a missing value in the partition column belong to the first partition. Databases that
+     * prefer a different split (e.g. a hash or <code>MOD</code> predicate) may override this method as long as all
+     * partitions together return each row exactly once.
+     *
+     * @param sql any valid SQL query
+     * @param column the (already quoted) name of the partition column
+     * @param first <code>true</code> if this is the first partition
+     * @param last <code>true</code> if this is the last partition
+     * @return an SQL query with two parameters for the lower and upper bound
+     * @since 3.8
+     */
+    public String forPartition(final String sql, final String column, final boolean first, final boolean last) {
+        final StringBuilder buf = new StringBuilder("SELECT * FROM (");
+        buf.append(sql).append(") ").append(getTempTableName()).append(" WHERE ");
+        if (first) {
+            buf.append("(").append(column).append(" IS NULL) OR ");
+        }
+        buf.append("(").append(column).append(" >= ? AND ").append(column).append(last ? " <= ?)" : " < ?)");
+        return buf.toString();
+    }
+
+    /**
+     * Returns the maximum number of rows that can be inserted with a single multi-row INSERT statement (see
+     * {@link #insertRows(String, String, String, int)}). The default implementation returns 0 because not all
+     * databases support multi-row <code>VALUES</code> lists.
+     *
+     * @param parametersPerRow the number of statement parameters per row
+     * @return the maximum number of rows per INSERT statement, a value smaller than 2 if multi-row INSERT statements
+     *         are not supported
+     * @since 3.8
+     */
+    public int getMaxInsertRows(final int parametersPerRow) {
+        return 0;
+    }
+
+    /**
+     * Creates an INSERT statement that inserts several rows at once.
+     *
+     * @param table the name of the table
+     * @param columnNames the column list in parentheses, e.g. <code>(a, b)</code>
+     * @param rowWildcard the parameter list of one row in parentheses, e.g. <code>(?, ?)</code>
+     * @param rowCount the number of rows
+     * @return an SQL statement with the parameters of all rows
+     * @since 3.8
+     */
+    public String insertRows(final String table, final String columnNames, final String rowWildcard,
+        final int rowCount) {
+        final StringBuilder buf = new StringBuilder("INSERT INTO ");
+        buf.append(table).append(' ').append(columnNames).append(" VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(rowWildcard);
+        }
+        return buf.toString();
+    }
+
+    /**
+     * Helper for {@link #getMaxInsertRows(int)} that respects the maximum number of parameters per statement and
+     * the maximum number of rows in a <code>VALUES</code> list of a database.
+     *
+     * @param maxParameters the maximum number of parameters per statement
+     * @param maxRows the maximum number of rows per statement
+     * @param parametersPerRow the number of statement parameters per row
+     * @return the maximum number of rows per INSERT statement
+     * @since 3.8
+     */
+    protected static int limitInsertRows(final int maxParameters, final int maxRows, final int parametersPerRow) {
+        return Math.min(maxRows, maxParameters / Math.max(parametersPerRow, 1));
+    }
+
     /**
      * @param tableName the name of the table to create
      * @param query the select statement
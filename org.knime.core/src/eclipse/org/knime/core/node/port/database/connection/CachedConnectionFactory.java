@@ -52,6 +52,7 @@
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -66,6 +67,7 @@
 import java.util.concurrent.TimeoutException;
 
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.RegisteredDriversConnectionFactory;
@@ -81,8 +83,21 @@
 public class CachedConnectionFactory implements DBConnectionFactory {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(RegisteredDriversConnectionFactory.class);
-    /** Map the keeps database connection based on the user and URL. */
-    private static final Map<ConnectionKey, Connection> CONNECTION_MAP = Collections.synchronizedMap(new HashMap<ConnectionKey, Connection>());
+    /** Map the keeps the pool of database connections based on the user and URL. */
+    private static final Map<ConnectionKey, ConnectionPool> CONNECTION_POOLS =
+        Collections.synchronizedMap(new HashMap<ConnectionKey, ConnectionPool>());
+    /** Whether statements are executed on pooled connections, see {@link #isPoolingEnabled()}. */
+    private static final boolean POOLING_ENABLED =
+        System.getProperty(KNIMEConstants.PROPERTY_DATABASE_POOL_MAX_SIZE) != null;
+    private static final int POOL_MAX_SIZE = readIntProperty(KNIMEConstants.PROPERTY_DATABASE_POOL_MAX_SIZE, 1, 1);
+    private static final int POOL_MIN_SIZE =
+        Math.min(POOL_MAX_SIZE, readIntProperty(KNIMEConstants.PROPERTY_DATABASE_POOL_MIN_SIZE, 1, 0));
+    private static final int POOL_IDLE_TIMEOUT =
+        readIntProperty(KNIMEConstants.PROPERTY_DATABASE_POOL_IDLE_TIMEOUT, 600, 0);
+    private static final int POOL_LEAK_THRESHOLD =
+        readIntProperty(KNIMEConstants.PROPERTY_DATABASE_POOL_LEAK_THRESHOLD, 0, 0);
+    private static final String POOL_VALIDATION_QUERY =
+        System.getProperty(KNIMEConstants.PROPERTY_DATABASE_POOL_VALIDATION_QUERY);
     /** Holding the database connection keys used to sync the open connection
      * process. */
     private static final Map<ConnectionKey, ConnectionKey> CONNECTION_KEYS = new HashMap<ConnectionKey, ConnectionKey>();
@@ -168,19 +183,73 @@ public DBDriverFactory getDriverFactory() {
 
     /**
      * {@inheritDoc}
+     *
+     * <p>The returned connection is shared with all other callers. It is kept separate from the pooled connections
+     * handed out by {@link #borrowConnection(CredentialsProvider, DatabaseConnectionSettings)}, i.e. it is never
+     * borrowed by another thread.
      * @throws IOException
      */
     @Override
     public Connection getConnection(final CredentialsProvider cp, final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
-        final String jdbcUrl = settings.getJDBCUrl();
-        final String user = settings.getUserName(cp);
-        final String pass = settings.getPassword(cp);
-        final boolean kerberos = settings.useKerberos();
+        final ConnectionKey databaseConnKey = getCanonicalConnectionKey(cp, settings);
+        final ConnectionPool pool = getOrCreatePool(databaseConnKey);
+        return pool.getSharedConnection(createConnectionCreator(cp, settings, databaseConnKey),
+            conn -> isOpenAndValid(settings, conn, databaseConnKey));
+    }
 
-        ConnectionKey databaseConnKey = createConnectionKey(cp, settings);
+    /**
+     * Returns whether connection pooling is enabled, i.e. whether
+     * {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE} is set. Only then {@link DatabaseConnectionSettings#execute(CredentialsProvider,
+     * org.knime.core.node.port.database.ExecuteStatement)} runs statements on connections borrowed via
+     * {@link #borrowConnection(CredentialsProvider, DatabaseConnectionSettings)}; otherwise all statements use the
+     * shared connection returned by {@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)}.
+     *
+     * @return <code>true</code> if pooling has been enabled
+     * @since 3.8
+     */
+    public static boolean isPoolingEnabled() {
+        return POOLING_ENABLED;
+    }
 
+    /**
+     * Borrows a connection from the pool of the database for exclusive use. The pool is bounded by
+     * {@link KNIMEConstants#PROPERTY_DATABASE_POOL_MAX_SIZE} (1 if not set); if all connections are in use, the method
+     * waits until one is returned. A thread that already holds a connection of the pool gets the same connection
+     * again. Borrowed connections are never the shared connection returned by
+     * {@link #getConnection(CredentialsProvider, DatabaseConnectionSettings)}, i.e. session state (e.g. temporary
+     * tables) is not shared between the two.
+     *
+     * @param cp {@link CredentialsProvider}
+     * @param settings {@link DatabaseConnectionSettings}
+     * @return the lease, which must be closed in order to return the connection to the pool
+     * @throws InvalidSettingsException if the driver is not available or doesn't accept the URL
+     * @throws SQLException if the connection could not be opened or the thread was interrupted while waiting
+     * @throws IOException if opening the connection timed out
+     * @since 3.8
+     */
+    public ConnectionPool.Lease borrowConnection(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) throws InvalidSettingsException, SQLException, IOException {
+        final ConnectionKey databaseConnKey = getCanonicalConnectionKey(cp, settings);
+        final ConnectionPool pool = getOrCreatePool(databaseConnKey);
+        return pool.borrow(createConnectionCreator(cp, settings, databaseConnKey),
+            conn -> isOpenAndValid(settings, conn, databaseConnKey));
+    }
+
+    /**
+     * @param key a connection key as returned by {@link #getConnectionKey(CredentialsProvider,
+     *            DatabaseConnectionSettings)}
+     * @return the connection pool for the key (giving access to its metrics) or <code>null</code> if no connection
+     *         has been opened yet
+     * @since 3.8
+     */
+    public static ConnectionPool getConnectionPool(final ConnectionKey key) {
+        return key == null ? null : CONNECTION_POOLS.get(key);
+    }
+
+    private static ConnectionKey getCanonicalConnectionKey(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings) {
+        ConnectionKey databaseConnKey = createConnectionKey(cp, settings);
         // retrieve original key and/or modify connection key map
-        Connection conn = null;
         synchronized (CONNECTION_KEYS) {
             if (CONNECTION_KEYS.containsKey(databaseConnKey)) {
                 databaseConnKey = CONNECTION_KEYS.get(databaseConnKey);
@@ -188,33 +257,40 @@ public Connection getConnection(final CredentialsProvider cp, final DatabaseConn
                 CONNECTION_KEYS.put(databaseConnKey, databaseConnKey);
             }
         }
+        return databaseConnKey;
+    }
 
-        //synchronize on the connection key only
-        LOGGER.debug("Try to lock key to obtain connection: " + databaseConnKey);
-        synchronized (databaseConnKey) {
-            conn = CONNECTION_MAP.get(databaseConnKey);
-            if (conn != null) {
-                LOGGER.debug("Connection found for key: " + databaseConnKey);
-                if (isOpenAndValid(settings, conn, databaseConnKey)) {
-                    return conn;
-                }
-                //close invalid connection if it is not already closed
-                closeSafely(databaseConnKey, conn);
-                //remove the connection from the cache also if an exception occurs during closing
-                LOGGER.debug("Removing closed connection from cache with key: " + databaseConnKey);
-                CONNECTION_MAP.remove(databaseConnKey);
+    private static ConnectionPool getOrCreatePool(final ConnectionKey databaseConnKey) {
+        synchronized (CONNECTION_POOLS) {
+            ConnectionPool pool = CONNECTION_POOLS.get(databaseConnKey);
+            if (pool == null) {
+                LOGGER.debug("Create connection pool for key: " + databaseConnKey);
+                pool = new ConnectionPool(databaseConnKey.toString(), POOL_MIN_SIZE, POOL_MAX_SIZE,
+                    TimeUnit.SECONDS.toMillis(POOL_IDLE_TIMEOUT), TimeUnit.SECONDS.toMillis(POOL_LEAK_THRESHOLD));
+                CONNECTION_POOLS.put(databaseConnKey, pool);
             }
+            return pool;
+        }
+    }
+
+    private ConnectionPool.ConnectionCreator createConnectionCreator(final CredentialsProvider cp,
+        final DatabaseConnectionSettings settings, final ConnectionKey databaseConnKey)
+        throws InvalidSettingsException, SQLException {
+        final String jdbcUrl = settings.getJDBCUrl();
+        final String user = settings.getUserName(cp);
+        final String pass = settings.getPassword(cp);
+        final boolean kerberos = settings.useKerberos();
+        final Driver d;
+        try {
+            d = getDriverFactory().getDriver(settings);
+        } catch (Exception ex1) {
+            throw new InvalidSettingsException(ex1);
+        }
+        if (!d.acceptsURL(jdbcUrl)) {
+            throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
+        }
+        return () -> {
             LOGGER.debug("Create new connection for key: " + databaseConnKey);
-            final Driver d;
-            try {
-                d = getDriverFactory().getDriver(settings);
-            } catch (Exception ex1) {
-                throw new InvalidSettingsException(ex1);
-            }
-            if (!d.acceptsURL(jdbcUrl)) {
-                throw new InvalidSettingsException("Driver \"" + d + "\" does not accept URL: " + jdbcUrl);
-            }
-            // if a connection is not available
             Callable<Connection> callable = new Callable<Connection>() {
                 /** {@inheritDoc} */
                 @Override
@@ -228,10 +304,7 @@ public Connection call() throws Exception {
             //alive for ages
             Future<Connection> task = CONNECTION_CREATOR_EXECUTOR.submit(callable);
             try {
-                conn = task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
-                LOGGER.debug("Add connection to map for key: " + databaseConnKey);
-                CONNECTION_MAP.put(databaseConnKey, conn);
-                return conn;
+                return task.get(DatabaseConnectionSettings.getDatabaseTimeout() + 1, TimeUnit.SECONDS);
             } catch (ExecutionException ee) {
                 if (ee.getCause() instanceof SQLException) {
                     throw (SQLException) ee.getCause();
@@ -243,7 +316,7 @@ public Connection call() throws Exception {
             } catch (TimeoutException ex) {
                 throw new IOException("Connection to database '" + jdbcUrl + "' timed out");
             }
-        }
+        };
     }
 
     private static ConnectionKey createConnectionKey(final CredentialsProvider cp, final DatabaseConnectionSettings settings) {
@@ -256,6 +329,23 @@ private static ConnectionKey createConnectionKey(final CredentialsProvider cp, f
         return databaseConnKey;
     }
 
+    private static int readIntProperty(final String property, final int defaultValue, final int minValue) {
+        String value = System.getProperty(property);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int i = Integer.parseInt(value.trim());
+            if (i >= minValue) {
+                return i;
+            }
+        } catch (NumberFormatException ex) {
+            // handled below
+        }
+        LOGGER.warn("Invalid value for property " + property + ": \"" + value + "\", using default " + defaultValue);
+        return defaultValue;
+    }
+
     /**
      * @param cp {@link CredentialsProvider}
      * @param settings {@link DatabaseConnectionSettings}
@@ -274,6 +364,14 @@ private static boolean isOpenAndValid(final DatabaseConnectionSettings settings,
         try {
             if (conn.isClosed()) {
                 LOGGER.debug("Closed connection found in cache with key: " + databaseConnKey);
+            } else if (POOL_VALIDATION_QUERY != null && !POOL_VALIDATION_QUERY.trim().isEmpty()) {
+                try (Statement st = conn.createStatement()) {
+                    st.setQueryTimeout(DatabaseConnectionSettings.getDatabaseTimeout());
+                    st.execute(POOL_VALIDATION_QUERY);
+                }
+                LOGGER.debug("Valid connection found in cache with key: " + databaseConnKey);
+                conn.clearWarnings();
+                return true;
             } else if (!settings.getUtility().isValid(conn)) {
                 LOGGER.debug("Invalid connection found in cache with key: " + databaseConnKey);
             } else {
@@ -287,17 +385,6 @@ private static boolean isOpenAndValid(final DatabaseConnectionSettings settings,
         return false;
     }
 
-    private static void closeSafely(final ConnectionKey databaseConnKey, final Connection conn) {
-        try {
-            if (!conn.isClosed()) {
-                LOGGER.debug("Closing connection with key: " + databaseConnKey);
-                conn.close();
-            }
-        } catch (Exception ex) {
-            LOGGER.debug("Error closing connection:" + ex.getMessage(), ex);
-        }
-    }
-
     /**
      * @param user the user name. Might be <code>null</code>.
      * @param pass the password. Might be <code>null</code>.
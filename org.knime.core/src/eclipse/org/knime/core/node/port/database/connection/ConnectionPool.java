@@ -0,0 +1,527 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.connection;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A bounded pool of JDBC connections to the same database (as identified by a
+ * {@link CachedConnectionFactory.ConnectionKey}). Connections are handed out exclusively via
+ * {@link #borrow(ConnectionCreator, ConnectionValidator)}; a thread borrowing again before it has released its
+ * connection gets the same connection (leases are reentrant). Idle connections are validated before they are handed
+ * out and closed once they have been idle for longer than the idle timeout (but the pool keeps its minimum size).
+ * Connections that are borrowed for longer than the leak threshold are reported together with the stack trace of
+ * the borrowing code.
+ *
+ * <p>
+ * In addition, the pool holds a single shared connection for the legacy {@link DBConnectionFactory} API (see
+ * {@link #getSharedConnection(ConnectionCreator, ConnectionValidator)}). It is kept strictly separate from the
+ * borrowable connections, i.e. it is never lent out and a lease never hands out a connection that is also used via
+ * the shared API. It does not count towards the maximum size.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ConnectionPool {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ConnectionPool.class);
+
+    /** Interval in which idle connections are evicted and leaks are checked. */
+    private static final long MAINTENANCE_INTERVAL_SECONDS = 30;
+
+    /** All pools for the maintenance task. */
+    private static final Set<ConnectionPool> POOLS =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<ConnectionPool, Boolean>()));
+
+    static {
+        startMaintenance();
+    }
+
+    /** Opens a new connection. */
+    @FunctionalInterface
+    public interface ConnectionCreator {
+        /**
+         * @return a new connection, not <code>null</code>
+         * @throws SQLException if the connection could not be opened
+         * @throws IOException if the database did not respond in time
+         */
+        Connection create() throws SQLException, IOException;
+    }
+
+    /** Checks whether an idle connection may still be used. */
+    @FunctionalInterface
+    public interface ConnectionValidator {
+        /**
+         * @param conn an idle connection of the pool
+         * @return <code>true</code> if the connection can be handed out, <code>false</code> if it needs to be closed
+         */
+        boolean isValid(Connection conn);
+    }
+
+    /** A borrowed connection, which is returned to the pool by {@link #close()}. */
+    public final class Lease implements AutoCloseable {
+        private final Connection m_connection;
+
+        private final Thread m_thread;
+
+        private final long m_borrowTime = System.currentTimeMillis();
+
+        /** Only set if leak detection is enabled. */
+        private final Throwable m_borrowStack;
+
+        private int m_holdCount = 1;
+
+        private boolean m_leakReported;
+
+        private Lease(final Connection connection, final Thread thread) {
+            m_connection = connection;
+            m_thread = thread;
+            m_borrowStack = m_leakThresholdMillis > 0
+                ? new Throwable("Connection borrowed by thread \"" + thread.getName() + "\"") : null;
+        }
+
+        /**
+         * @return the borrowed connection, must not be closed by the caller
+         */
+        public Connection getConnection() {
+            return m_connection;
+        }
+
+        /** Returns the connection to the pool (once the outermost lease of the thread is closed). */
+        @Override
+        public void close() {
+            release(this);
+        }
+    }
+
+    private final String m_name;
+
+    private final int m_maxSize;
+
+    private final int m_minSize;
+
+    private final long m_idleTimeoutMillis;
+
+    private final long m_leakThresholdMillis;
+
+    /** Idle connections, most recently used first; guarded by 'this'. */
+    private final Deque<Connection> m_idleConnections = new ArrayDeque<Connection>();
+
+    /** Time each idle connection was returned; guarded by 'this'. */
+    private final Map<Connection, Long> m_idleSince = new HashMap<Connection, Long>();
+
+    /** Active leases by borrowing thread; guarded by 'this'. */
+    private final Map<Thread, Lease> m_leases = new HashMap<Thread, Lease>();
+
+    /** Number of open connections including those being opened; guarded by 'this'. */
+    private int m_size;
+
+    /** Serializes opening and validating the shared connection; acquired before 'this'. */
+    private final Object m_sharedConnectionLock = new Object();
+
+    /** The connection returned by {@link #getSharedConnection(ConnectionCreator, ConnectionValidator)}, not part of
+     * the idle or borrowed connections; guarded by {@link #m_sharedConnectionLock}. */
+    private Connection m_sharedConnection;
+
+    private boolean m_closed;
+
+    private long m_borrowCount;
+
+    private long m_waitNanos;
+
+    private long m_maxWaitNanos;
+
+    private int m_peakActiveCount;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param name the name used in log messages, e.g. the connection key
+     * @param minSize the number of connections that are kept open even if they are idle, at least 0
+     * @param maxSize the maximum number of connections, at least 1
+     * @param idleTimeoutMillis the time after which idle connections (beyond the minimum size) are closed, 0 for never
+     * @param leakThresholdMillis the time after which a borrowed connection is reported as possibly leaked, 0 to
+     *            disable leak detection
+     */
+    public ConnectionPool(final String name, final int minSize, final int maxSize, final long idleTimeoutMillis,
+        final long leakThresholdMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum pool size must be at least 1: " + maxSize);
+        }
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Invalid minimum pool size: " + minSize);
+        }
+        m_name = name;
+        m_minSize = minSize;
+        m_maxSize = maxSize;
+        m_idleTimeoutMillis = idleTimeoutMillis;
+        m_leakThresholdMillis = leakThresholdMillis;
+        POOLS.add(this);
+    }
+
+    /**
+     * Borrows a connection for exclusive use, waiting until one is available. If the current thread already holds a
+     * lease of this pool, the same connection is returned.
+     *
+     * @param creator used if a new connection needs to be opened
+     * @param validator used to check idle connections before handing them out
+     * @return a lease, which must be closed after use
+     * @throws SQLException if the connection could not be opened or the thread was interrupted while waiting
+     * @throws IOException if opening the connection timed out
+     */
+    public Lease borrow(final ConnectionCreator creator, final ConnectionValidator validator)
+        throws SQLException, IOException {
+        final Thread thread = Thread.currentThread();
+        final long start = System.nanoTime();
+        while (true) {
+            Connection conn = null;
+            synchronized (this) {
+                Lease existing = m_leases.get(thread);
+                if (existing != null) {
+                    existing.m_holdCount++;
+                    return existing;
+                }
+                while (conn == null) {
+                    if (m_closed) {
+                        throw new SQLException("Connection pool has been closed: " + m_name);
+                    }
+                    if (!m_idleConnections.isEmpty()) {
+                        conn = m_idleConnections.pollFirst();
+                        m_idleSince.remove(conn);
+                    } else if (m_size < m_maxSize) {
+                        m_size++;
+                        break;
+                    } else {
+                        LOGGER.debug("Waiting for free connection of pool " + m_name + " (" + m_maxSize
+                            + " connection(s) in use)");
+                        try {
+                            wait();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            throw new SQLException("Thread was interrupted while waiting for a free database "
+                                + "connection");
+                        }
+                    }
+                }
+            }
+            if (conn == null) {
+                conn = openConnection(creator);
+            } else if (!validator.isValid(conn)) {
+                LOGGER.debug("Closing invalid connection of pool " + m_name);
+                discard(conn);
+                continue;
+            }
+            synchronized (this) {
+                Lease lease = new Lease(conn, thread);
+                m_leases.put(thread, lease);
+                long waited = System.nanoTime() - start;
+                m_borrowCount++;
+                m_waitNanos += waited;
+                m_maxWaitNanos = Math.max(m_maxWaitNanos, waited);
+                m_peakActiveCount = Math.max(m_peakActiveCount, m_leases.size());
+                return lease;
+            }
+        }
+    }
+
+    /**
+     * Returns the shared connection of the pool, opening it if necessary. This serves the legacy
+     * {@link DBConnectionFactory} API, where all callers share a single cached connection (and synchronize on it if
+     * required). The shared connection is never handed out by {@link #borrow(ConnectionCreator, ConnectionValidator)}.
+     *
+     * @param creator used if the connection needs to be opened
+     * @param validator used to check an existing connection
+     * @return the shared connection, not to be closed by the caller
+     * @throws SQLException if the connection could not be opened or the pool has been closed
+     * @throws IOException if opening the connection timed out
+     */
+    public Connection getSharedConnection(final ConnectionCreator creator, final ConnectionValidator validator)
+        throws SQLException, IOException {
+        synchronized (m_sharedConnectionLock) {
+            checkNotClosed();
+            Connection conn = m_sharedConnection;
+            if (conn != null) {
+                if (validator.isValid(conn)) {
+                    return conn;
+                }
+                LOGGER.debug("Closing invalid shared connection of pool " + m_name);
+                m_sharedConnection = null;
+                closeQuietly(conn);
+            }
+            conn = creator.create();
+            if (conn == null) {
+                throw new SQLException("No connection returned by driver for pool " + m_name);
+            }
+            m_sharedConnection = conn;
+            return conn;
+        }
+    }
+
+    private synchronized void checkNotClosed() throws SQLException {
+        if (m_closed) {
+            throw new SQLException("Connection pool has been closed: " + m_name);
+        }
+    }
+
+    private Connection openConnection(final ConnectionCreator creator) throws SQLException, IOException {
+        boolean success = false;
+        try {
+            Connection conn = creator.create();
+            if (conn == null) {
+                throw new SQLException("No connection returned by driver for pool " + m_name);
+            }
+            success = true;
+            return conn;
+        } finally {
+            if (!success) {
+                synchronized (this) {
+                    m_size--;
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    private void release(final Lease lease) {
+        boolean close = false;
+        synchronized (this) {
+            if (lease.m_holdCount == 0) {
+                return; // already released
+            }
+            if (--lease.m_holdCount > 0) {
+                return;
+            }
+            m_leases.remove(lease.m_thread);
+            if (m_closed) {
+                m_size--;
+                close = true;
+            } else {
+                m_idleConnections.addFirst(lease.m_connection);
+                m_idleSince.put(lease.m_connection, System.currentTimeMillis());
+            }
+            notifyAll();
+        }
+        if (close) {
+            closeQuietly(lease.m_connection);
+        }
+    }
+
+    private void discard(final Connection conn) {
+        closeQuietly(conn);
+        synchronized (this) {
+            m_size--;
+            notifyAll();
+        }
+    }
+
+    private void closeQuietly(final Connection conn) {
+        try {
+            if (!conn.isClosed()) {
+                conn.close();
+            }
+        } catch (Exception ex) {
+            LOGGER.debug("Error closing connection of pool " + m_name + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /** Closes connections that have been idle for too long and reports leases held longer than the threshold. */
+    void maintain() {
+        final long now = System.currentTimeMillis();
+        final List<Connection> toClose = new ArrayList<Connection>();
+        final List<Lease> leaks = new ArrayList<Lease>();
+        synchronized (this) {
+            if (m_idleTimeoutMillis > 0) {
+                // least recently used connections are at the end
+                for (Iterator<Connection> it = m_idleConnections.descendingIterator();
+                        it.hasNext() && m_size - toClose.size() > m_minSize;) {
+                    Connection conn = it.next();
+                    if (now - m_idleSince.get(conn) > m_idleTimeoutMillis) {
+                        it.remove();
+                        m_idleSince.remove(conn);
+                        toClose.add(conn);
+                    }
+                }
+                m_size -= toClose.size();
+            }
+            if (m_leakThresholdMillis > 0) {
+                for (Lease lease : m_leases.values()) {
+                    if (!lease.m_leakReported && now - lease.m_borrowTime > m_leakThresholdMillis) {
+                        lease.m_leakReported = true;
+                        leaks.add(lease);
+                    }
+                }
+            }
+        }
+        for (Connection conn : toClose) {
+            LOGGER.debug("Closing idle connection of pool " + m_name);
+            closeQuietly(conn);
+        }
+        for (Lease lease : leaks) {
+            LOGGER.warn("Database connection of pool " + m_name + " has been borrowed for "
+                + (now - lease.m_borrowTime) / 1000 + "s, it may have been leaked", lease.m_borrowStack);
+        }
+    }
+
+    /** Closes all idle connections and the shared connection; borrowed connections are closed when they are
+     * returned. */
+    public void close() {
+        final List<Connection> toClose;
+        synchronized (this) {
+            m_closed = true;
+            toClose = new ArrayList<Connection>(m_idleConnections);
+            m_idleConnections.clear();
+            m_idleSince.clear();
+            m_size -= toClose.size();
+            notifyAll();
+        }
+        synchronized (m_sharedConnectionLock) {
+            if (m_sharedConnection != null) {
+                toClose.add(m_sharedConnection);
+                m_sharedConnection = null;
+            }
+        }
+        POOLS.remove(this);
+        for (Connection conn : toClose) {
+            closeQuietly(conn);
+        }
+    }
+
+    /** @return the maximum number of connections */
+    public int getMaxSize() {
+        return m_maxSize;
+    }
+
+    /** @return the number of currently borrowed connections */
+    public synchronized int getActiveCount() {
+        return m_leases.size();
+    }
+
+    /** @return the highest number of connections that have been borrowed at the same time */
+    public synchronized int getPeakActiveCount() {
+        return m_peakActiveCount;
+    }
+
+    /** @return the number of idle connections */
+    public synchronized int getIdleCount() {
+        return m_idleConnections.size();
+    }
+
+    /** @return the number of open borrowable connections (idle and borrowed, not including the shared connection) */
+    public synchronized int getSize() {
+        return m_size;
+    }
+
+    /** @return the number of (non-reentrant) borrow operations so far */
+    public synchronized long getBorrowCount() {
+        return m_borrowCount;
+    }
+
+    /** @return the accumulated time (in ms) threads spent in {@link #borrow(ConnectionCreator, ConnectionValidator)} */
+    public synchronized long getTotalWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(m_waitNanos);
+    }
+
+    /** @return the longest time (in ms) a thread spent in {@link #borrow(ConnectionCreator, ConnectionValidator)} */
+    public synchronized long getMaxWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(m_maxWaitNanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized String toString() {
+        return "ConnectionPool [" + m_name + ", active=" + m_leases.size() + ", idle=" + m_idleConnections.size()
+            + ", max=" + m_maxSize + ", borrowed=" + m_borrowCount + ", wait="
+            + TimeUnit.NANOSECONDS.toMillis(m_waitNanos) + "ms]";
+    }
+
+    private static void startMaintenance() {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable r) {
+                Thread t = new Thread(r, "KNIME-DB-Connection-Pool-Maintenance");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                final List<ConnectionPool> pools;
+                synchronized (POOLS) {
+                    pools = new ArrayList<ConnectionPool>(POOLS);
+                }
+                for (ConnectionPool pool : pools) {
+                    try {
+                        pool.maintain();
+                    } catch (Exception ex) {
+                        LOGGER.debug("Error maintaining connection pool: " + ex.getMessage(), ex);
+                    }
+                }
+            }
+        }, MAINTENANCE_INTERVAL_SECONDS, MAINTENANCE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+}
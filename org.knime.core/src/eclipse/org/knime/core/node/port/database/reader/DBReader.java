@@ -155,6 +155,31 @@ default BufferedDataTable createTable(final ExecutionContext exec, final Credent
         return exec.createBufferedDataTable(table, exec);
     }
 
+    /**
+     * Read data from database by splitting the query into partitions based on the value range of a numeric or date
+     * column. The partitions are read concurrently, each on its own connection if the connection pool permits it. The
+     * order of the rows in the result follows the partitions and may differ from the order of the plain query, as do
+     * the generated row keys. Queries containing statements before the select statement are read sequentially as
+     * these statements must only run once. The default implementation ignores the partitioning and reads the table
+     * sequentially.
+     *
+     * @param exec used for progress info
+     * @param cp {@link CredentialsProvider} providing user/password
+     * @param useDbRowId <code>true</code> if the row id returned by the database should be used to generate the
+     * KNIME row id
+     * @param partitionColumn the name of the numeric or date column used to split the query
+     * @param partitionCount the maximum number of partitions
+     * @return buffered data table read from database
+     * @throws CanceledExecutionException if canceled in between
+     * @throws SQLException if the connection could not be opened
+     * @since 3.8
+     */
+    default BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final String partitionColumn, final int partitionCount)
+        throws CanceledExecutionException, SQLException {
+        return createTable(exec, cp, useDbRowId);
+    }
+
     /**
      * Read data from database.
      * @param exec used for progress info
@@ -44,14 +44,26 @@
  */
 package org.knime.core.node.port.database.reader;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.knime.core.data.DataCell;
@@ -64,6 +76,7 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.append.AppendedColumnRow;
 import org.knime.core.data.blob.BinaryObjectCellFactory;
+import org.knime.core.data.container.BlobSupportDataRow;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.JoinedRow;
@@ -73,13 +86,17 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.database.DatabaseConnectionSettings;
 import org.knime.core.node.port.database.DatabaseHelper;
 import org.knime.core.node.port.database.DatabaseQueryConnectionSettings;
+import org.knime.core.node.port.database.StatementManipulator;
 import org.knime.core.node.streamable.BufferedDataTableRowOutput;
 import org.knime.core.node.streamable.RowInput;
 import org.knime.core.node.workflow.CredentialsProvider;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.ThreadPool;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -256,6 +273,253 @@ public RowIterator iterator() {
         });
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.8
+     */
+    @Override
+    public BufferedDataTable createPartitionedTable(final ExecutionContext exec, final CredentialsProvider cp,
+        final boolean useDbRowId, final String partitionColumn, final int partitionCount)
+        throws CanceledExecutionException, SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final StatementManipulator manipulator = dbConn.getUtility().getStatementManipulator();
+        final String selectQuery = getPartitionableQuery(dbConn.getQuery());
+        if (selectQuery == null) {
+            LOGGER.debug("Query contains statements before the select statement, reading sequentially");
+            return createTable(exec, cp, useDbRowId);
+        }
+        final String column = manipulator.quoteIdentifier(partitionColumn);
+        final Object[] bounds = partitionCount > 1
+            ? readPartitionBounds(cp, manipulator.forColumnRange(selectQuery, column), partitionCount)
+            : null;
+        if (bounds == null) {
+            LOGGER.debug("Query can't be partitioned by column '" + partitionColumn + "', reading sequentially");
+            return createTable(exec, cp, useDbRowId);
+        }
+        final DataTableSpec spec = getDataTableSpec(cp);
+        final int nrPartitions = bounds.length - 1;
+        LOGGER.debug("Reading query in " + nrPartitions + " partitions of column '" + partitionColumn + "'");
+        exec.setMessage("Reading " + nrPartitions + " partitions from database...");
+        final BufferedDataTable[] tables = new BufferedDataTable[nrPartitions];
+        final ThreadPool currentPool = ThreadPool.currentPool();
+        final ThreadPool pool = currentPool != null ? currentPool : KNIMEConstants.GLOBAL_THREAD_POOL;
+        final NodeContext context = NodeContext.getContext();
+        final List<Future<BufferedDataTable>> futures = new ArrayList<>(nrPartitions - 1);
+        for (int p = 1; p < nrPartitions; p++) {
+            final String query = manipulator.forPartition(selectQuery, column, false, p == nrPartitions - 1);
+            final ExecutionContext partitionExec = exec.createSubExecutionContext(1.0 / nrPartitions);
+            final int partition = p;
+            final Object lower = bounds[p];
+            final Object upper = bounds[p + 1];
+            futures.add(pool.enqueue(() -> {
+                NodeContext.pushContext(context);
+                try {
+                    return readPartition(partitionExec, cp, spec, partition, query, lower, upper, useDbRowId);
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            }));
+        }
+        try {
+            tables[0] = readPartition(exec.createSubExecutionContext(1.0 / nrPartitions), cp, spec, 0,
+                manipulator.forPartition(selectQuery, column, true, nrPartitions == 1), bounds[0], bounds[1],
+                useDbRowId);
+            final Callable<Void> waitForOthers = () -> {
+                for (int p = 1; p < nrPartitions; p++) {
+                    tables[p] = futures.get(p - 1).get();
+                }
+                return null;
+            };
+            if (currentPool != null) {
+                currentPool.runInvisible(waitForOthers);
+            } else {
+                waitForOthers.call();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while reading database partitions");
+        } catch (Exception e) {
+            throw unwrapPartitionException(e);
+        } finally {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+        }
+        // row keys are unique unless the database row ids are used (which may be duplicates, as in sequential read)
+        return exec.createConcatenateTable(exec, useDbRowId ? Optional.of("_dup") : Optional.empty(), false, tables);
+    }
+
+    /**
+     * Returns the select statement if the query can be read in partitions. That's not the case if it contains
+     * statements that are executed before the select statement: they may have side effects (inserts, temporary
+     * tables) and must run exactly once on the connection that reads the result.
+     *
+     * @return the select statement or <code>null</code> if the query contains other statements
+     */
+    static String getPartitionableQuery(final String query) {
+        final String[] queries = query.split(SQL_QUERY_SEPARATOR);
+        return queries.length == 1 ? queries[0] : null;
+    }
+
+    /** @return the key of a row in a partition, unique across partitions, used unless database row ids are used */
+    static RowKey createPartitionRowKey(final int partition, final long rowIndex) {
+        return new RowKey("Row" + partition + "_" + rowIndex);
+    }
+
+    /** Rethrows a cancellation from any partition or the first SQL or runtime exception. */
+    private static SQLException unwrapPartitionException(final Exception e) throws CanceledExecutionException {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)t;
+            }
+        }
+        Throwable cause = e;
+        while (cause instanceof ExecutionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof SQLException) {
+            return (SQLException)cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException)cause;
+        }
+        return new SQLException(cause.getMessage(), cause);
+    }
+
+    /**
+     * Reads minimum and maximum of the partition column and splits the range into (at most) the given number of
+     * partitions.
+     *
+     * @return the bounds of the partitions (one more than there are partitions) or <code>null</code> if the column
+     *         type is not supported or the column contains less than two distinct values
+     */
+    private Object[] readPartitionBounds(final CredentialsProvider cp, final String rangeQuery,
+        final int partitionCount) throws SQLException {
+        return getQueryConnection().execute(cp, conn -> {
+            final Statement stmt = initStatement(cp, conn);
+            try {
+                LOGGER.debug("Executing SQL statement as executeQuery: " + rangeQuery);
+                try (ResultSet result = stmt.executeQuery(rangeQuery)) {
+                    return result.next() ? splitRange(result.getObject(1), result.getObject(2), partitionCount)
+                        : null;
+                }
+            } finally {
+                stmt.close();
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+            }
+        });
+    }
+
+    /**
+     * Splits the value range into equally sized partitions. Bounds are returned as objects of the same kind as the
+     * minimum and maximum in order to be used as statement parameters.
+     *
+     * @return the bounds of the partitions or <code>null</code> if the range can't be split
+     */
+    static Object[] splitRange(final Object min, final Object max, final int partitionCount) {
+        final BigDecimal lower = toDecimal(min);
+        final BigDecimal upper = toDecimal(max);
+        if (lower == null || upper == null || lower.compareTo(upper) >= 0) {
+            return null;
+        }
+        final BigDecimal range = upper.subtract(lower);
+        final List<Object> bounds = new ArrayList<>(partitionCount + 1);
+        bounds.add(min);
+        BigDecimal previous = lower;
+        for (int i = 1; i < partitionCount; i++) {
+            final Object bound = toBound(lower.add(range.multiply(BigDecimal.valueOf(i))
+                .divide(BigDecimal.valueOf(partitionCount), MathContext.DECIMAL64)), min);
+            final BigDecimal value = toDecimal(bound);
+            // skip empty partitions, e.g. for small integer ranges
+            if (value.compareTo(previous) > 0 && value.compareTo(upper) < 0) {
+                bounds.add(bound);
+                previous = value;
+            }
+        }
+        bounds.add(max);
+        return bounds.toArray();
+    }
+
+    private static BigDecimal toDecimal(final Object value) {
+        if (value instanceof java.util.Date) {
+            return BigDecimal.valueOf(((java.util.Date)value).getTime());
+        } else if (value instanceof BigDecimal) {
+            return (BigDecimal)value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger)value);
+        } else if (value instanceof Double || value instanceof Float) {
+            final double d = ((Number)value).doubleValue();
+            return Double.isNaN(d) || Double.isInfinite(d) ? null : BigDecimal.valueOf(d);
+        } else if (value instanceof Number) {
+            return BigDecimal.valueOf(((Number)value).longValue());
+        }
+        return null;
+    }
+
+    private static Object toBound(final BigDecimal value, final Object template) {
+        if (template instanceof java.sql.Date) {
+            return new java.sql.Date(value.longValue());
+        } else if (template instanceof Time) {
+            return new Time(value.longValue());
+        } else if (template instanceof java.util.Date) {
+            return new Timestamp(value.longValue());
+        } else if (template instanceof BigDecimal) {
+            return value.setScale(((BigDecimal)template).scale(), RoundingMode.CEILING);
+        } else if (template instanceof BigInteger) {
+            return value.setScale(0, RoundingMode.CEILING).toBigInteger();
+        } else if (template instanceof Double || template instanceof Float) {
+            return value.doubleValue();
+        }
+        return value.setScale(0, RoundingMode.CEILING).longValue();
+    }
+
+    /**
+     * Reads a single partition on its own (pooled) connection into a table. Unless the database row ids are used, the
+     * rows get keys unique across partitions (see {@link #createPartitionRowKey(int, long)}) so that the partitions
+     * can be concatenated without copying.
+     */
+    private BufferedDataTable readPartition(final ExecutionContext exec, final CredentialsProvider cp,
+        final DataTableSpec spec, final int partition, final String query, final Object lower,
+        final Object upper, final boolean useDbRowId) throws SQLException {
+        final DatabaseQueryConnectionSettings dbConn = getQueryConnection();
+        final BinaryObjectCellFactory blobFactory = new BinaryObjectCellFactory(exec);
+        return dbConn.execute(cp, conn -> {
+            final boolean autoCommit = conn.getAutoCommit();
+            try (PreparedStatement partitionStmt = conn.prepareStatement(query)) {
+                int fetchsize =
+                    (DatabaseConnectionSettings.FETCH_SIZE != null) ? DatabaseConnectionSettings.FETCH_SIZE : -1;
+                dbConn.getUtility().getStatementManipulator().setFetchSize(partitionStmt, fetchsize);
+                partitionStmt.setObject(1, lower);
+                partitionStmt.setObject(2, upper);
+                LOGGER.debug("Executing SQL statement as executeQuery: " + query + " [" + lower + ", " + upper + "]");
+                try (ResultSet result = partitionStmt.executeQuery()) {
+                    final RowIterator it = createDBRowIterator(spec, dbConn, blobFactory, useDbRowId, result);
+                    try {
+                        final BufferedDataContainer buf = exec.createDataContainer(spec);
+                        long rowIndex = 0;
+                        while (it.hasNext()) {
+                            exec.checkCanceled();
+                            final DataRow row = it.next();
+                            buf.addRowToTable(useDbRowId ? row
+                                : new BlobSupportDataRow(createPartitionRowKey(partition, rowIndex++), row));
+                        }
+                        buf.close();
+                        return buf.getTable();
+                    } finally {
+                        PrefetchingDBRowIterator.closeIfPrefetching(it);
+                    }
+                }
+            } finally {
+                if (!conn.getAutoCommit()) {
+                    conn.commit();
+                }
+                DatabaseConnectionSettings.setAutoCommit(conn, autoCommit);
+            }
+        });
+    }
+
+
 
 
     /**
@@ -327,6 +591,7 @@ DataTable createTable(final boolean useDbRowId, final int cachedNoRows, final Cr
             // remember auto-commit flag
             final boolean autoCommit = conn.getAutoCommit();
             final Statement stmt = initStatement(cp, conn);
+            RowIterator it = null;
             try {
                 final String[] oQueries = dbConn.getQuery().split(SQL_QUERY_SEPARATOR);
                 if (cachedNoRows < 0) {
@@ -362,7 +627,7 @@ DataTable createTable(final boolean useDbRowId, final int cachedNoRows, final Cr
                 m_spec = createTableSpec(result.getMetaData());
                 LOGGER.debug("Parsing database ResultSet...");
 //                final DBRowIterator dbIt = createRowIterator(useDbRowId, result);
-                final RowIterator it = createDBRowIterator(m_spec, dbConn, m_blobFactory, useDbRowId, result);
+                it = createDBRowIterator(m_spec, dbConn, m_blobFactory, useDbRowId, result);
                 DataContainer buf = new DataContainer(m_spec);
                 while (it.hasNext()) {
                     buf.addRowToTable(it.next());
@@ -370,6 +635,8 @@ DataTable createTable(final boolean useDbRowId, final int cachedNoRows, final Cr
                 buf.close();
                 return buf.getTable();
             } finally {
+                // the fetching thread must not read from the result set anymore when the statement is closed
+                PrefetchingDBRowIterator.closeIfPrefetching(it);
                 if (stmt != null) {
                     if (!conn.getAutoCommit()) {
                         conn.commit();
@@ -394,6 +661,9 @@ protected RowIterator createDBRowIterator(final DataTableSpec spec, final Databa
     protected RowIterator createDBRowIterator(final DataTableSpec spec, final DatabaseConnectionSettings conn,
         final BinaryObjectCellFactory blobFactory, final boolean useDbRowId, final ResultSet result,
         final long startCounter) throws SQLException {
+        if (DatabaseConnectionSettings.PREFETCH) {
+            return new PrefetchingDBRowIterator(spec, conn, blobFactory, result, useDbRowId, startCounter);
+        }
         return new DBRowIteratorImpl(spec, conn, blobFactory, result, useDbRowId, startCounter);
     }
 
@@ -501,24 +771,28 @@ public BufferedDataTableRowOutput loopTable(final ExecutionContext exec, final C
                         final RowIterator dbRowIterator = createDBRowIterator(
                             dbSpec, dbConn, m_blobFactory, false, result, rowIdCounter);
                         boolean hasDbRow = false;
-                        while (dbRowIterator.hasNext()) {
-                            hasDbRow = true;
-                            final DataRow dbRow = dbRowIterator.next();
-
-                            if(appendInputColumns) {
-                                final DataRow inRow;
-                                if(retainAllColumns) {
-                                    inRow = new DefaultRow(dbRow.getKey(), row);
+                        try {
+                            while (dbRowIterator.hasNext()) {
+                                hasDbRow = true;
+                                final DataRow dbRow = dbRowIterator.next();
+
+                                if(appendInputColumns) {
+                                    final DataRow inRow;
+                                    if(retainAllColumns) {
+                                        inRow = new DefaultRow(dbRow.getKey(), row);
+                                    } else {
+                                        inRow = new DefaultRow(dbRow.getKey(), inCells);
+                                    }
+                                    final JoinedRow joinedRow = new JoinedRow(inRow, dbRow);
+                                    output.push(joinedRow);
                                 } else {
-                                    inRow = new DefaultRow(dbRow.getKey(), inCells);
+                                    output.push(dbRow);
                                 }
-                                final JoinedRow joinedRow = new JoinedRow(inRow, dbRow);
-                                output.push(joinedRow);
-                            } else {
-                                output.push(dbRow);
-                            }
 
-                            rowIdCounter++;
+                                rowIdCounter++;
+                            }
+                        } finally {
+                            PrefetchingDBRowIterator.closeIfPrefetching(dbRowIterator);
                         }
 
                         /* Append columns using MissingCell if no result is returned */
@@ -193,111 +193,10 @@ public DataRow next() {
         for (int i = 0; i < cells.length; i++) {
             DataType type = m_spec.getColumnSpec(i).getType();
             int dbType = Types.NULL;
-            final DataCell cell;
             try {
                 dbType = m_result.getMetaData().getColumnType(i + 1);
-                if (type.isCompatible(BooleanValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as boolean
-                        case Types.BIT:
-                        case Types.BOOLEAN:
-                            cell = readBoolean(i);
-                            break;
-                        default: cell = readBoolean(i);
-                    }
-                } else if (type.isCompatible(IntValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as integer
-                        case Types.TINYINT:
-                            cell = readByte(i);
-                            break;
-                        case Types.SMALLINT:
-                            cell = readShort(i);
-                            break;
-                        case Types.INTEGER:
-                            cell = readInt(i);
-                            break;
-                        default: cell = readInt(i);
-                    }
-                } else if (type.isCompatible(LongValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as long
-                        case Types.BIGINT:
-                            cell = readLong(i);
-                            break;
-                        default: cell = readLong(i);
-                    }
-                } else if (type.isCompatible(DoubleValue.class)) {
-                    switch (dbType) {
-                        // all types that can be interpreted as double
-                        case Types.REAL:
-                            cell = readFloat(i);
-                            break;
-                        default: cell = readDouble(i);
-                    }
-                } else if (type.isCompatible(DateAndTimeValue.class)) {
-                    switch (dbType) {
-                        case Types.DATE:
-                            cell = readDate(i); break;
-                        case Types.TIME:
-                            cell = readTime(i); break;
-                        case Types.TIMESTAMP:
-                            cell = readTimestamp(i); break;
-                        default: cell = readString(i);
-                    }
-                } else if (type.isCompatible(BinaryObjectDataValue.class)) {
-                    switch (dbType) {
-                        case Types.BLOB:
-                            DataCell c = null;
-                            try {
-                                c = readBlob(i);
-                            } catch (SQLException ex) {
-                                // probably not supported (e.g. SQLite), therefore try another method
-                                c = readBytesAsBLOB(i);
-                            }
-                            cell = c;
-                            break;
-                        case Types.LONGVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readAsciiStream(i); break;
-                        case Types.BINARY:
-                        case Types.LONGVARBINARY:
-                        case Types.VARBINARY:
-                            cell = readBinaryStream(i); break;
-                        default: cell = readString(i);
-                    }
-                } else {
-                    switch (dbType) {
-                        case Types.CLOB:
-                            cell = readClob(i); break;
-                        case Types.ARRAY:
-                            cell = readArray(i); break;
-                        case Types.CHAR:
-                        case Types.VARCHAR:
-                        case Types.LONGVARCHAR:
-                            cell = readString(i); break;
-                        case Types.VARBINARY:
-                            cell = readBytesAsString(i); break;
-                        case Types.REF:
-                            cell = readRef(i); break;
-                        case Types.NCHAR:
-                        case Types.NVARCHAR:
-                        case Types.LONGNVARCHAR:
-                            cell = readNString(i); break;
-                        case Types.NCLOB:
-                            cell = readNClob(i); break;
-                        case Types.DATALINK:
-                            cell = readURL(i); break;
-                        case Types.STRUCT:
-                        case Types.JAVA_OBJECT:
-                            cell = readObject(i); break;
-                        default:
-                            cell = readObject(i); break;
-
-                    }
-                }
                 // finally set the new cell into the array of cells
-                cells[i] = cell;
+                cells[i] = readCell(i, type, dbType);
             } catch (SQLException sqle) {
                 handlerException("SQL Exception reading Object of type \"" + dbType + "\": ", sqle);
                 cells[i] = new MissingCell(sqle.getMessage());
@@ -306,6 +205,133 @@ public DataRow next() {
                 cells[i] = new MissingCell(ioe.getMessage());
             }
         }
+        return new DefaultRow(RowKey.createRowKey(readRowId()), cells);
+    }
+
+    /**
+     * Reads the value of a column of the current row of the result set.
+     *
+     * @param i the index of the column
+     * @param type the KNIME type of the column
+     * @param dbType the SQL type of the column
+     * @return the cell
+     * @throws SQLException if the value can't be read
+     * @throws IOException if a stream can't be read
+     * @since 3.8
+     */
+    protected DataCell readCell(final int i, final DataType type, final int dbType)
+        throws SQLException, IOException {
+        final DataCell cell;
+        if (type.isCompatible(BooleanValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as boolean
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    cell = readBoolean(i);
+                    break;
+                default: cell = readBoolean(i);
+            }
+        } else if (type.isCompatible(IntValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as integer
+                case Types.TINYINT:
+                    cell = readByte(i);
+                    break;
+                case Types.SMALLINT:
+                    cell = readShort(i);
+                    break;
+                case Types.INTEGER:
+                    cell = readInt(i);
+                    break;
+                default: cell = readInt(i);
+            }
+        } else if (type.isCompatible(LongValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as long
+                case Types.BIGINT:
+                    cell = readLong(i);
+                    break;
+                default: cell = readLong(i);
+            }
+        } else if (type.isCompatible(DoubleValue.class)) {
+            switch (dbType) {
+                // all types that can be interpreted as double
+                case Types.REAL:
+                    cell = readFloat(i);
+                    break;
+                default: cell = readDouble(i);
+            }
+        } else if (type.isCompatible(DateAndTimeValue.class)) {
+            switch (dbType) {
+                case Types.DATE:
+                    cell = readDate(i); break;
+                case Types.TIME:
+                    cell = readTime(i); break;
+                case Types.TIMESTAMP:
+                    cell = readTimestamp(i); break;
+                default: cell = readString(i);
+            }
+        } else if (type.isCompatible(BinaryObjectDataValue.class)) {
+            switch (dbType) {
+                case Types.BLOB:
+                    DataCell c = null;
+                    try {
+                        c = readBlob(i);
+                    } catch (SQLException ex) {
+                        // probably not supported (e.g. SQLite), therefore try another method
+                        c = readBytesAsBLOB(i);
+                    }
+                    cell = c;
+                    break;
+                case Types.LONGVARCHAR:
+                case Types.LONGNVARCHAR:
+                    cell = readAsciiStream(i); break;
+                case Types.BINARY:
+                case Types.LONGVARBINARY:
+                case Types.VARBINARY:
+                    cell = readBinaryStream(i); break;
+                default: cell = readString(i);
+            }
+        } else {
+            switch (dbType) {
+                case Types.CLOB:
+                    cell = readClob(i); break;
+                case Types.ARRAY:
+                    cell = readArray(i); break;
+                case Types.CHAR:
+                case Types.VARCHAR:
+                case Types.LONGVARCHAR:
+                    cell = readString(i); break;
+                case Types.VARBINARY:
+                    cell = readBytesAsString(i); break;
+                case Types.REF:
+                    cell = readRef(i); break;
+                case Types.NCHAR:
+                case Types.NVARCHAR:
+                case Types.LONGNVARCHAR:
+                    cell = readNString(i); break;
+                case Types.NCLOB:
+                    cell = readNClob(i); break;
+                case Types.DATALINK:
+                    cell = readURL(i); break;
+                case Types.STRUCT:
+                case Types.JAVA_OBJECT:
+                    cell = readObject(i); break;
+                default:
+                    cell = readObject(i); break;
+
+            }
+        }
+        return cell;
+    }
+
+    /**
+     * Determines the row id of the current row of the result set and increments the row counter.
+     *
+     * @return the id used for the KNIME row key
+     * @since 3.8
+     */
+    protected long readRowId() {
         long rowId;
         try {
             rowId = m_result.getRow();
@@ -321,7 +347,7 @@ public DataRow next() {
             rowId = m_rowCounter;
         }
         m_rowCounter++;
-        return new DefaultRow(RowKey.createRowKey(rowId), cells);
+        return rowId;
     }
 
     protected DataCell readClob(final int i)
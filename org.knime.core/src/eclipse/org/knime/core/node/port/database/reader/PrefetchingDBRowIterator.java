@@ -0,0 +1,513 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.reader;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.BooleanValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.blob.BinaryObjectCellFactory;
+import org.knime.core.data.blob.BinaryObjectDataValue;
+import org.knime.core.data.date.DateAndTimeValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.port.database.DatabaseConnectionSettings;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * {@link DBRowIteratorImpl} that fetches the rows of the result set in a separate thread. The fetching thread drains
+ * the result set into batches that store numeric, boolean and string columns as plain arrays, the iterator creates
+ * the cells and rows from these arrays. This way the network round-trips of the driver overlap with the conversion
+ * into KNIME rows and the writing of the table. Columns of other types (dates, blobs, arrays, ...) are converted by
+ * the fetching thread because their values can only be read while the cursor is on the row.
+ *
+ * <p>The result set must not be accessed by other threads while the iterator is in use. The fetching thread stops
+ * if the result set is exhausted or the iterator is {@linkplain #close() closed}. Users must close the iterator before
+ * they close the statement or commit (see {@link #closeIfPrefetching(org.knime.core.data.RowIterator)}), otherwise
+ * the fetching thread may still be reading from the result set.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrefetchingDBRowIterator extends DBRowIteratorImpl {
+
+    /** Number of rows per batch if no fetch size is set. */
+    static final int DEF_BATCH_SIZE = 1000;
+
+    /** Number of batches that may be fetched ahead. */
+    static final int QUEUE_CAPACITY = 4;
+
+    private enum ColumnKind {
+            BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, STRING, NSTRING, CELL
+    }
+
+    /** Rows fetched from the result set, values are stored per column. */
+    private static final class Batch {
+
+        private final int m_size;
+
+        private final long[] m_rowIds;
+
+        /** int[], long[], double[], boolean[], String[] or DataCell[] per column. */
+        private final Object[] m_values;
+
+        /** Missing value flags of primitive columns. */
+        private final boolean[][] m_missing;
+
+        /** Cells for values that couldn't be read, allocated on demand. */
+        private final DataCell[][] m_errorCells;
+
+        private final RuntimeException m_error;
+
+        private Batch(final ColumnKind[] kinds, final int size) {
+            m_size = size;
+            m_rowIds = new long[size];
+            m_values = new Object[kinds.length];
+            m_missing = new boolean[kinds.length][];
+            m_errorCells = new DataCell[kinds.length][];
+            for (int c = 0; c < kinds.length; c++) {
+                switch (kinds[c]) {
+                    case BOOLEAN:
+                        m_values[c] = new boolean[size];
+                        break;
+                    case BYTE:
+                    case SHORT:
+                    case INT:
+                        m_values[c] = new int[size];
+                        break;
+                    case LONG:
+                        m_values[c] = new long[size];
+                        break;
+                    case FLOAT:
+                    case DOUBLE:
+                        m_values[c] = new double[size];
+                        break;
+                    case STRING:
+                    case NSTRING:
+                        m_values[c] = new String[size];
+                        break;
+                    default:
+                        m_values[c] = new DataCell[size];
+                }
+                if (!(m_values[c] instanceof Object[])) {
+                    m_missing[c] = new boolean[size];
+                }
+            }
+            m_error = null;
+        }
+
+        /** Creates the marker for the end of the result set or an error. */
+        private Batch(final RuntimeException error) {
+            m_size = 0;
+            m_rowIds = null;
+            m_values = null;
+            m_missing = null;
+            m_errorCells = null;
+            m_error = error;
+        }
+
+        private DataCell getCell(final int c, final int r, final ColumnKind kind) {
+            if (m_errorCells[c] != null && m_errorCells[c][r] != null) {
+                return m_errorCells[c][r];
+            }
+            if (m_missing[c] != null && m_missing[c][r]) {
+                return DataType.getMissingCell();
+            }
+            switch (kind) {
+                case BOOLEAN:
+                    return ((boolean[])m_values[c])[r] ? BooleanCell.TRUE : BooleanCell.FALSE;
+                case BYTE:
+                case SHORT:
+                case INT:
+                    return new IntCell(((int[])m_values[c])[r]);
+                case LONG:
+                    return new LongCell(((long[])m_values[c])[r]);
+                case FLOAT:
+                case DOUBLE:
+                    return new DoubleCell(((double[])m_values[c])[r]);
+                case STRING:
+                case NSTRING:
+                    final String s = ((String[])m_values[c])[r];
+                    return s == null ? DataType.getMissingCell() : new StringCell(s);
+                default:
+                    return ((DataCell[])m_values[c])[r];
+            }
+        }
+    }
+
+    private final int m_batchSize;
+
+    private final BlockingQueue<Batch> m_queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private ColumnKind[] m_kinds;
+
+    private int[] m_dbTypes;
+
+    private Thread m_fetcher;
+
+    private volatile boolean m_closed;
+
+    private Batch m_current;
+
+    private int m_index;
+
+    private boolean m_finished;
+
+    /**
+     * @param spec {@link DataTableSpec}
+     * @param conn {@link DatabaseConnectionSettings}
+     * @param blobFactory {@link BinaryObjectCellFactory}
+     * @param result {@link ResultSet}
+     * @param useDbRowId <code>true</code> if the db row id should be used
+     * @param startRowId the first row id
+     */
+    PrefetchingDBRowIterator(final DataTableSpec spec, final DatabaseConnectionSettings conn,
+        final BinaryObjectCellFactory blobFactory, final ResultSet result, final boolean useDbRowId,
+        final long startRowId) {
+        super(spec, conn, blobFactory, result, useDbRowId, startRowId);
+        final Integer fetchSize = DatabaseConnectionSettings.FETCH_SIZE;
+        m_batchSize = fetchSize != null && fetchSize > 0 ? fetchSize : DEF_BATCH_SIZE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        while (m_current == null || m_index >= m_current.m_size) {
+            if (m_finished) {
+                return false;
+            }
+            if (m_fetcher == null) {
+                m_fetcher = ThreadUtils.threadWithContext(this::fetch, "KNIME-DB-Prefetch");
+                m_fetcher.setDaemon(true);
+                m_fetcher.start();
+            }
+            try {
+                m_current = m_queue.take();
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for database rows", e);
+            }
+            m_index = 0;
+            if (m_current.m_size == 0) {
+                m_finished = true;
+                if (m_current.m_error != null) {
+                    throw m_current.m_error;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows in database result set");
+        }
+        final Batch batch = m_current;
+        final int r = m_index++;
+        final DataCell[] cells = new DataCell[m_kinds.length];
+        for (int c = 0; c < cells.length; c++) {
+            cells[c] = batch.getCell(c, r, m_kinds[c]);
+        }
+        return new DefaultRow(RowKey.createRowKey(batch.m_rowIds[r]), cells);
+    }
+
+    /**
+     * Stops fetching further rows and waits for the fetching thread to end, which closes the result set. Once this
+     * method returns the result set isn't accessed anymore, hence the statement can be closed. Safe to call more
+     * than once.
+     */
+    void close() {
+        m_closed = true;
+        m_finished = true;
+        m_current = null;
+        final Thread fetcher = m_fetcher;
+        if (fetcher == null) {
+            closeResult();
+            return;
+        }
+        boolean interrupted = false;
+        while (fetcher.isAlive()) {
+            // makes room for a pending batch, the fetcher then notices that the iterator is closed
+            m_queue.clear();
+            try {
+                fetcher.join(100);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        m_queue.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Closes the argument iterator if it's a {@link PrefetchingDBRowIterator}, see {@link #close()}. To be called on
+     * all exit paths before the statement of the result set is closed.
+     *
+     * @param iterator the iterator, may be <code>null</code>
+     */
+    static void closeIfPrefetching(final RowIterator iterator) {
+        if (iterator instanceof PrefetchingDBRowIterator) {
+            ((PrefetchingDBRowIterator)iterator).close();
+        }
+    }
+
+    /** Body of the fetching thread. */
+    private void fetch() {
+        RuntimeException error = null;
+        try {
+            initColumns();
+            Batch batch = new Batch(m_kinds, m_batchSize);
+            int size = 0;
+            while (!m_closed && nextResultRow()) {
+                readRow(batch, size++);
+                if (size == m_batchSize) {
+                    if (!offer(batch)) {
+                        return;
+                    }
+                    batch = new Batch(m_kinds, m_batchSize);
+                    size = 0;
+                }
+            }
+            if (size > 0 && !offer(shrink(batch, size))) {
+                return;
+            }
+        } catch (SQLException e) {
+            error = new IllegalStateException("Unable to read database result: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            error = e;
+        } finally {
+            closeResult();
+        }
+        offer(new Batch(error));
+    }
+
+    /** Puts the batch into the queue, gives up if the iterator or the result set was closed meanwhile. */
+    private boolean offer(final Batch batch) {
+        try {
+            while (!m_closed) {
+                if (m_queue.offer(batch, 1, TimeUnit.SECONDS)) {
+                    return true;
+                }
+                if (m_result.isClosed()) {
+                    // the consumer gave up (e.g. canceled) and closed the statement
+                    m_closed = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (SQLException e) {
+            m_closed = true;
+        }
+        return false;
+    }
+
+    private boolean nextResultRow() {
+        try {
+            return m_result.next();
+        } catch (SQLException sql) {
+            // same as DBRowIteratorImpl#hasNext: a failing cursor ends the result
+            DBReaderImpl.LOGGER.debug("SQL Exception while moving to the next row: " + sql.getMessage(), sql);
+            return false;
+        }
+    }
+
+    private void closeResult() {
+        try {
+            m_result.close();
+        } catch (SQLException ex) {
+            DBReaderImpl.LOGGER.error("SQL Exception while closing result set: " + ex.getMessage(), ex);
+        }
+    }
+
+    private void initColumns() throws SQLException {
+        final ResultSetMetaData meta = m_result.getMetaData();
+        final int nrColumns = m_spec.getNumColumns();
+        m_kinds = new ColumnKind[nrColumns];
+        m_dbTypes = new int[nrColumns];
+        for (int c = 0; c < nrColumns; c++) {
+            m_dbTypes[c] = meta.getColumnType(c + 1);
+            m_kinds[c] = getKind(m_spec.getColumnSpec(c).getType(), m_dbTypes[c]);
+        }
+    }
+
+    /** Mirrors the type dispatch of {@link DBRowIteratorImpl#readCell(int, DataType, int)}. */
+    private static ColumnKind getKind(final DataType type, final int dbType) {
+        if (type.isCompatible(BooleanValue.class)) {
+            return ColumnKind.BOOLEAN;
+        } else if (type.isCompatible(IntValue.class)) {
+            switch (dbType) {
+                case Types.TINYINT:
+                    return ColumnKind.BYTE;
+                case Types.SMALLINT:
+                    return ColumnKind.SHORT;
+                default:
+                    return ColumnKind.INT;
+            }
+        } else if (type.isCompatible(LongValue.class)) {
+            return ColumnKind.LONG;
+        } else if (type.isCompatible(DoubleValue.class)) {
+            return dbType == Types.REAL ? ColumnKind.FLOAT : ColumnKind.DOUBLE;
+        } else if (type.isCompatible(DateAndTimeValue.class) || type.isCompatible(BinaryObjectDataValue.class)) {
+            return ColumnKind.CELL;
+        }
+        switch (dbType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return ColumnKind.STRING;
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return ColumnKind.NSTRING;
+            default:
+                return ColumnKind.CELL;
+        }
+    }
+
+    private void readRow(final Batch batch, final int r) {
+        for (int c = 0; c < m_kinds.length; c++) {
+            try {
+                switch (m_kinds[c]) {
+                    case BOOLEAN:
+                        ((boolean[])batch.m_values[c])[r] = m_result.getBoolean(c + 1);
+                        batch.m_missing[c][r] = wasNull();
+                        break;
+                    case BYTE:
+                        ((int[])batch.m_values[c])[r] = m_result.getByte(c + 1);
+                        batch.m_missing[c][r] = wasNull();
+                        break;
+                    case SHORT:
+                        ((int[])batch.m_values[c])[r] = m_result.getShort(c + 1);
+                        batch.m_missing[c][r] = wasNull();
+                        break;
+                    case INT:
+                        ((int[])batch.m_values[c])[r] = m_result.getInt(c + 1);
+                        batch.m_missing[c][r] = wasNull();
+                        break;
+                    case LONG:
+                        ((long[])batch.m_values[c])[r] = m_result.getLong(c + 1);
+                        batch.m_missing[c][r] = wasNull();
+                        break;
+                    case FLOAT:
+                        ((double[])batch.m_values[c])[r] = m_result.getFloat(c + 1);
+                        batch.m_missing[c][r] = wasNull();
+                        break;
+                    case DOUBLE:
+                        ((double[])batch.m_values[c])[r] = m_result.getDouble(c + 1);
+                        batch.m_missing[c][r] = wasNull();
+                        break;
+                    case STRING:
+                        final String s = m_result.getString(c + 1);
+                        ((String[])batch.m_values[c])[r] = wasNull() ? null : s;
+                        break;
+                    case NSTRING:
+                        final String ns = m_result.getNString(c + 1);
+                        ((String[])batch.m_values[c])[r] = wasNull() ? null : ns;
+                        break;
+                    default:
+                        ((DataCell[])batch.m_values[c])[r] =
+                            readCell(c, m_spec.getColumnSpec(c).getType(), m_dbTypes[c]);
+                }
+            } catch (SQLException | IOException ex) {
+                handlerException((ex instanceof SQLException ? "SQL" : "I/O")
+                    + " Exception reading Object of type \"" + m_dbTypes[c] + "\": ", ex);
+                if (batch.m_errorCells[c] == null) {
+                    batch.m_errorCells[c] = new DataCell[batch.m_size];
+                }
+                batch.m_errorCells[c][r] = new MissingCell(ex.getMessage());
+            }
+        }
+        batch.m_rowIds[r] = readRowId();
+    }
+
+    /** Copies the first rows of a batch into a batch of that size. */
+    private Batch shrink(final Batch batch, final int size) {
+        final Batch result = new Batch(m_kinds, size);
+        System.arraycopy(batch.m_rowIds, 0, result.m_rowIds, 0, size);
+        for (int c = 0; c < m_kinds.length; c++) {
+            System.arraycopy(batch.m_values[c], 0, result.m_values[c], 0, size);
+            if (batch.m_missing[c] != null) {
+                System.arraycopy(batch.m_missing[c], 0, result.m_missing[c], 0, size);
+            }
+            if (batch.m_errorCells[c] != null) {
+                result.m_errorCells[c] = new DataCell[size];
+                System.arraycopy(batch.m_errorCells[c], 0, result.m_errorCells[c], 0, size);
+            }
+        }
+        return result;
+    }
+}
@@ -113,6 +113,7 @@ public DataTableSpec getDataTableSpec() {
      */
     @Override
     public void close() throws SQLException {
+        PrefetchingDBRowIterator.closeIfPrefetching(m_iterator);
         if (m_stmt != null) {
             if (!m_conn2.getAutoCommit()) {
                 m_conn2.commit();
@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.port.database.writer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapts the number of rows written in one batch to the measured round-trip time of the database. The batch size is
+ * doubled as long as a batch takes less than half of the target time and halved if it takes more than twice the
+ * target time, so that the per-statement latency is amortized over as many rows as possible without building huge
+ * batches on slow connections.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class AdaptiveBatchSize {
+
+    /** Upper bound for the batch size if not restricted otherwise. */
+    static final int MAX_BATCH_SIZE = 50000;
+
+    /** Target duration of a single batch (round-trip). */
+    static final long TARGET_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private final int m_maxSize;
+
+    private final boolean m_adaptive;
+
+    private int m_size;
+
+    /**
+     * @param initialSize the initial (or fixed) batch size
+     * @param maxSize the maximum batch size
+     * @param adaptive <code>true</code> if the batch size should be adapted, <code>false</code> if the initial size
+     *            should be used throughout
+     */
+    AdaptiveBatchSize(final int initialSize, final int maxSize, final boolean adaptive) {
+        m_maxSize = Math.max(1, maxSize);
+        m_size = Math.max(1, Math.min(initialSize, m_maxSize));
+        m_adaptive = adaptive;
+    }
+
+    /** @return the current batch size */
+    int get() {
+        return m_size;
+    }
+
+    /**
+     * Updates the batch size based on the duration of the last batch.
+     *
+     * @param rows the number of rows in the last batch
+     * @param elapsedNanos the time it took to write the batch
+     */
+    void update(final int rows, final long elapsedNanos) {
+        if (!m_adaptive || rows < m_size) {
+            // the last (incomplete) batch says nothing about the latency
+            return;
+        }
+        if (elapsedNanos < TARGET_NANOS / 2 && m_size < m_maxSize) {
+            m_size = (int)Math.min(m_maxSize, 2L * m_size);
+        } else if (elapsedNanos > 2 * TARGET_NANOS && m_size > 1) {
+            m_size = m_size / 2;
+        }
+    }
+}
@@ -52,6 +52,7 @@
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
 
@@ -308,8 +309,34 @@ public String writeData(final String table, final RowInput input, final long row
                 }
             }
 
+            final TimeZone timezone = conSettings.getTimeZone();
+            // resolve the type specific setter of each column once instead of for each cell
+            final ValueSetter[] setters = new ValueSetter[mapping.length];
+            int parametersPerRow = 0;
+            for (int i = 0; i < mapping.length; i++) {
+                if (mapping[i] >= 0) {
+                    parametersPerRow++;
+                    setters[i] = createValueSetter(spec.getColumnSpec(mapping[i]), parametersPerRow, timezone,
+                        columnTypes);
+                } else if (insertNullForMissingCols) {
+                    parametersPerRow++;
+                }
+            }
+
+            // multi-row INSERT statements replace JDBC batches if enabled and supported by the database
+            final int maxInsertRows =
+                DatabaseConnectionSettings.MULTI_ROW_INSERT && batchSize > 1 && isMultiRowInsertSupported()
+                ? conSettings.getUtility().getStatementManipulator().getMaxInsertRows(parametersPerRow) : 0;
+            final boolean multiRowInsert = maxInsertRows > 1;
+            final AdaptiveBatchSize adaptiveBatchSize = new AdaptiveBatchSize(batchSize,
+                multiRowInsert ? maxInsertRows : AdaptiveBatchSize.MAX_BATCH_SIZE,
+                DatabaseConnectionSettings.ADAPTIVE_BATCH_SIZE && batchSize > 1);
+            final boolean batchMode = batchSize > 1 && !multiRowInsert;
+            final List<DataRow> pendingRows = new ArrayList<>();
+            int rowsPerStatement = multiRowInsert ? adaptiveBatchSize.get() : 1;
+            final String columnNames = columnNamesForInsertStatement.toString();
             final String insertStamtement =
-                    createInsertStatment(table, columnNamesForInsertStatement.toString(), mapping, insertNullForMissingCols);
+                    createInsertStatement(table, columnNames, mapping, insertNullForMissingCols, rowsPerStatement);
 
             // problems writing more than 13 columns. the prepare statement
             // ensures that we can set the columns directly row-by-row, the
@@ -322,12 +349,11 @@ public String writeData(final String table, final RowInput input, final long row
             int curBatchSize = 0;
 
             LOGGER.debug("Executing SQL statement as prepareStatement: " + insertStamtement);
-            final PreparedStatement stmt = conn.prepareStatement(insertStamtement);
+            PreparedStatement stmt = conn.prepareStatement(insertStamtement);
             // remember auto-commit flag
             final boolean autoCommit = conn.getAutoCommit();
             DatabaseConnectionSettings.setAutoCommit(conn, false);
             try {
-                final TimeZone timezone = conSettings.getTimeZone();
                 DataRow row; //get the first row
                 DataRow nextRow = input.poll();
                 //iterate over all incoming data rows
@@ -341,21 +367,14 @@ public String writeData(final String table, final RowInput input, final long row
                             exec.setProgress("Writing Row#" + cnt);
                         }
 
-                    int dbIdx = 1;
-                    for (int i = 0; i < mapping.length; i++) {
-                        if (mapping[i] < 0) {
-                            if (insertNullForMissingCols) {
-                                //insert only null if the insert null for missing col option is enabled
-                                stmt.setNull(dbIdx++, Types.NULL);
-                            }
-                        } else {
-                            final DataColumnSpec cspec = spec.getColumnSpec(mapping[i]);
-                            final DataCell cell = row.getCell(mapping[i]);
-                            fillStatement(stmt, dbIdx++, cspec, cell, timezone, columnTypes);
-                        }
+                    if (multiRowInsert) {
+                        // rows are set when the statement for the number of rows in the batch is known
+                        pendingRows.add(row);
+                    } else {
+                        fillRow(stmt, 1, row, mapping, setters, insertNullForMissingCols);
                     }
                     // if batch mode
-                    if (batchSize > 1) {
+                    if (batchMode) {
                         // a new row will be added
                         stmt.addBatch();
                     }
@@ -365,20 +384,37 @@ public String writeData(final String table, final RowInput input, final long row
 
                     curBatchSize++;
                     // if batch size equals number of row in batch or input table at end
-                        if ((curBatchSize == batchSize) || nextRow == null) {
+                        if ((curBatchSize >= adaptiveBatchSize.get()) || nextRow == null) {
+                            final int rowsInBatch = curBatchSize;
                             curBatchSize = 0;
+                        if (multiRowInsert) {
+                            if (rowsPerStatement != rowsInBatch) {
+                                stmt.close();
+                                rowsPerStatement = rowsInBatch;
+                                final String query = createInsertStatement(table, columnNames, mapping,
+                                    insertNullForMissingCols, rowsPerStatement);
+                                LOGGER.debug("Preparing INSERT statement for " + rowsPerStatement + " rows");
+                                stmt = conn.prepareStatement(query);
+                            }
+                            int dbIdx = 1;
+                            for (DataRow pendingRow : pendingRows) {
+                                dbIdx = fillRow(stmt, dbIdx, pendingRow, mapping, setters, insertNullForMissingCols);
+                            }
+                        }
+                        final long start = System.nanoTime();
                         try {
                             // write batch
-                            if (batchSize > 1) {
+                            if (batchMode) {
                                 stmt.executeBatch();
-                            } else { // or write single row
+                            } else { // or write single (multi-row) statement
                                 stmt.execute();
                             }
+                            adaptiveBatchSize.update(rowsInBatch, System.nanoTime() - start);
                         } catch (Throwable t) {
 
                             final String errorMsg;
                             if (batchSize > 1) {
-                                errorMsg = "Error while adding rows #" + (cnt - batchSize) + " - #" + cnt
+                                errorMsg = "Error while adding rows #" + (cnt - rowsInBatch) + " - #" + cnt
                                     + ", reason: " + t.getMessage();
                             } else {
                                 errorMsg = "Error while adding row #" + cnt + " (" + row.getKey() + "), reason: "
@@ -418,9 +454,10 @@ public String writeData(final String table, final RowInput input, final long row
                             }
                         } finally {
                             // clear batch if in batch mode
-                            if (batchSize > 1) {
+                            if (batchMode) {
                                 stmt.clearBatch();
                             }
+                            pendingRows.clear();
                         }
                         }
                     }
@@ -439,6 +476,27 @@ public String writeData(final String table, final RowInput input, final long row
         });
     }
 
+    /**
+     * Sets the values of a row into the statement.
+     *
+     * @return the parameter index following the last value of the row
+     */
+    static int fillRow(final PreparedStatement stmt, final int firstDbIdx, final DataRow row,
+        final int[] mapping, final ValueSetter[] setters, final boolean insertNullForMissingCols) throws SQLException {
+        int dbIdx = firstDbIdx;
+        for (int i = 0; i < mapping.length; i++) {
+            if (mapping[i] < 0) {
+                if (insertNullForMissingCols) {
+                    //insert only null if the insert null for missing col option is enabled
+                    stmt.setNull(dbIdx++, Types.NULL);
+                }
+            } else {
+                setters[i].setValue(stmt, dbIdx++, row.getCell(mapping[i]));
+            }
+        }
+        return dbIdx;
+    }
+
     /** Create connection to update table in database.
      * @param data The data to write.
      * @param setColumns columns part of the SET clause
@@ -45,10 +45,15 @@
 package org.knime.core.node.property.hilite;
 
 import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 import org.knime.core.data.RowKey;
 import org.knime.core.node.NodeLogger;
@@ -63,6 +68,14 @@
  * The list of hilite keys is modified (delete or add keys) before the actual
  * event is send.
  * <p>
+ * For large tables the hilite status can also be kept and changed based on row
+ * indices (see {@link RowKeyIndex} and {@link RowIndexBitmap}). For each
+ * row key index registered via {@link #addRowKeyIndex(RowKeyIndex)} the hilit
+ * rows of that table are kept as compressed bitmap instead of a set of row
+ * keys, and the events fired for index based changes ({@link IndexedKeyEvent})
+ * provide the keys as lazy view only. Index based changes for indices that are
+ * not registered are applied to the set of row keys.
+ * <p>
  * Do NOT derive this class which intended to be final but can't due to the
  * historical <code>DefaultHiLiteHandler</code> class.
  *
@@ -101,9 +114,12 @@ public class HiLiteHandler {
     /** List of registered <code>HiLiteListener</code>s to fire event to. */
     private final CopyOnWriteArrayList<HiLiteListener> m_listenerList;
 
-    /** Set of non-<code>null</code> hilit items. */
+    /** Set of non-<code>null</code> hilit items that are not part of any of the registered row key indices. */
     private Set<RowKey> m_hiLitKeys;
 
+    /** Hilit rows of the registered row key indices (by identity), see {@link #addRowKeyIndex(RowKeyIndex)}. */
+    private final Map<RowKeyIndex, RowIndexBitmap> m_indexBitmaps;
+
     /** Not-null if this {@link HiLiteHandler} is associated with one or more {@link HiLiteTranslator}s */
     private Set<HiLiteTranslator> m_hiliteTranslators;
 
@@ -119,6 +135,7 @@ public HiLiteHandler() {
         m_listenerList = new CopyOnWriteArrayList<>();
         // initialize item list
         m_hiLitKeys = new LinkedHashSet<>();
+        m_indexBitmaps = new LinkedHashMap<>();
         m_hiliteTranslators = new LinkedHashSet<>();
         m_hiliteManagers = new LinkedHashSet<>();
     }
@@ -243,7 +260,7 @@ final boolean removeHiLiteManager(final HiLiteManager hiliteManager) {
      * @throws IllegalArgumentException if this array or one of its elements is
      *         <code>null</code>.
      */
-    public boolean isHiLit(final RowKey... ids) {
+    public synchronized boolean isHiLit(final RowKey... ids) {
         if (ids == null) {
             throw new IllegalArgumentException("Key array must not be null.");
         }
@@ -252,13 +269,164 @@ public boolean isHiLit(final RowKey... ids) {
                 throw new IllegalArgumentException(
                         "Key array must not contain null elements.");
             }
-            if (!m_hiLitKeys.contains(c)) {
+            if (!isHiLitInternal(c)) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns <code>true</code> if the row with the given index is hilit.
+     *
+     * @param index the row key index of the table
+     * @param row the row index
+     * @return whether the row is hilit
+     * @since 3.8
+     */
+    public synchronized boolean isHiLit(final RowKeyIndex index, final int row) {
+        final RowIndexBitmap bitmap = m_indexBitmaps.get(index);
+        if (bitmap != null) {
+            return bitmap.contains(row);
+        }
+        return isHiLitInternal(index.getKey(row));
+    }
+
+    /**
+     * Returns the indices of the hilit rows of a table.
+     *
+     * @param index the row key index of the table
+     * @return a new bitmap containing the indices of all hilit rows
+     * @since 3.8
+     */
+    public synchronized RowIndexBitmap getHiLitIndices(final RowKeyIndex index) {
+        final RowIndexBitmap bitmap = m_indexBitmaps.get(index);
+        if (bitmap != null) {
+            return new RowIndexBitmap(bitmap);
+        }
+        return index.getIndices(getHiLitKeys());
+    }
+
+    /**
+     * Registers a row key index so that the hilite status of the rows of its table is kept as bitmap. Views on
+     * large tables should register the index of the displayed table before firing index based events and
+     * {@linkplain #removeRowKeyIndex(RowKeyIndex) remove} it when closed; the handler keeps a reference to the
+     * index until then.
+     *
+     * @param index the index to register
+     * @since 3.8
+     */
+    public synchronized void addRowKeyIndex(final RowKeyIndex index) {
+        if (m_indexBitmaps.containsKey(index)) {
+            return;
+        }
+        final RowIndexBitmap bitmap = new RowIndexBitmap();
+        for (Iterator<RowKey> it = m_hiLitKeys.iterator(); it.hasNext();) {
+            final int row = index.getIndex(it.next());
+            if (row >= 0) {
+                bitmap.add(row);
+                it.remove();
+            }
+        }
+        for (Map.Entry<RowKeyIndex, RowIndexBitmap> e : m_indexBitmaps.entrySet()) {
+            for (PrimitiveIterator.OfInt it = e.getValue().iterator(); it.hasNext();) {
+                final int row = index.getIndex(e.getKey().getKey(it.nextInt()));
+                if (row >= 0) {
+                    bitmap.add(row);
+                }
+            }
+        }
+        m_indexBitmaps.put(index, bitmap);
+    }
+
+    /**
+     * Unregisters a row key index; the hilite status of its rows is retained.
+     *
+     * @param index the index to unregister
+     * @since 3.8
+     */
+    public synchronized void removeRowKeyIndex(final RowKeyIndex index) {
+        final RowIndexBitmap bitmap = m_indexBitmaps.remove(index);
+        if (bitmap != null) {
+            for (PrimitiveIterator.OfInt it = bitmap.iterator(); it.hasNext();) {
+                final RowKey key = index.getKey(it.nextInt());
+                if (!isHiLitInternal(key)) {
+                    m_hiLitKeys.add(key);
+                }
+            }
+        }
+    }
+
+    /** @return whether the key is hilit, considering the key set and the bitmaps of the registered indices */
+    private boolean isHiLitInternal(final RowKey key) {
+        if (m_hiLitKeys.contains(key)) {
+            return true;
+        }
+        for (Map.Entry<RowKeyIndex, RowIndexBitmap> e : m_indexBitmaps.entrySet()) {
+            final int row = e.getKey().getIndex(key);
+            if (row >= 0) {
+                // if part of one registered index the key is part of the bitmap of all indices containing it
+                return e.getValue().contains(row);
+            }
+        }
+        return false;
+    }
+
+    /** Sets a key hilit in the bitmaps of all indices containing it, or in the key set if there is none.
+     * @return <code>true</code> if the key was not hilit before */
+    private boolean hiLiteInternal(final RowKey key) {
+        if (isHiLitInternal(key)) {
+            return false;
+        }
+        boolean isIndexed = false;
+        for (Map.Entry<RowKeyIndex, RowIndexBitmap> e : m_indexBitmaps.entrySet()) {
+            final int row = e.getKey().getIndex(key);
+            if (row >= 0) {
+                e.getValue().add(row);
+                isIndexed = true;
+            }
+        }
+        if (!isIndexed) {
+            m_hiLitKeys.add(key);
+        }
+        return true;
+    }
+
+    /** Removes the key from the key set and the bitmaps of all indices.
+     * @return <code>true</code> if the key was hilit before */
+    private boolean unHiLiteInternal(final RowKey key) {
+        boolean changed = m_hiLitKeys.remove(key);
+        for (Map.Entry<RowKeyIndex, RowIndexBitmap> e : m_indexBitmaps.entrySet()) {
+            final int row = e.getKey().getIndex(key);
+            if (row >= 0) {
+                changed |= e.getValue().remove(row);
+            }
+        }
+        return changed;
+    }
+
+    /** Applies the change of the argument rows of one index to the bitmaps of the other registered indices. */
+    private void updateOtherIndices(final RowKeyIndex index, final RowIndexBitmap rows, final boolean hilite) {
+        if (m_indexBitmaps.size() < 2) {
+            return;
+        }
+        for (PrimitiveIterator.OfInt it = rows.iterator(); it.hasNext();) {
+            final RowKey key = index.getKey(it.nextInt());
+            for (Map.Entry<RowKeyIndex, RowIndexBitmap> e : m_indexBitmaps.entrySet()) {
+                if (e.getKey() != index) {
+                    final int row = e.getKey().getIndex(key);
+                    if (row >= 0) {
+                        if (hilite) {
+                            e.getValue().add(row);
+                        } else {
+                            e.getValue().remove(row);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Sets the status of the specified row IDs to 'hilit'. It will send a
      * hilite event to all registered listeners - only if the keys were not
@@ -324,11 +492,72 @@ public synchronized void fireUnHiLiteEvent(final Set<RowKey> ids) {
      * by this call.
      */
     public synchronized void fireClearHiLiteEvent() {
-        if (!m_hiLitKeys.isEmpty()) {
+        if (!isEmpty()) {
             fireClearHiLiteEvent(new KeyEvent(this));
         }
     }
 
+    /**
+     * Sets the status of the given rows of a table to 'hilit'. It will send an {@link IndexedKeyEvent} to all
+     * registered listeners - only for the rows that were not hilit before. If the row key index is not
+     * {@linkplain #addRowKeyIndex(RowKeyIndex) registered} the rows are hilit by their keys and a plain
+     * {@link KeyEvent} is sent.
+     *
+     * @param index the row key index of the table
+     * @param rows the indices of the rows to hilite
+     * @throws IllegalArgumentException if any of the rows is not smaller than the size of the index
+     * @since 3.8
+     */
+    public synchronized void fireHiLiteEvent(final RowKeyIndex index, final RowIndexBitmap rows) {
+        fireHiLiteEvent(new IndexedKeyEvent(this, index, rows));
+    }
+
+    /**
+     * Sets the status of the given rows of a table to 'unhilit'. It will send an {@link IndexedKeyEvent} to all
+     * registered listeners - only for the rows that were hilit before. If the row key index is not
+     * {@linkplain #addRowKeyIndex(RowKeyIndex) registered} the rows are unhilit by their keys and a plain
+     * {@link KeyEvent} is sent.
+     *
+     * @param index the row key index of the table
+     * @param rows the indices of the rows to unhilite
+     * @throws IllegalArgumentException if any of the rows is not smaller than the size of the index
+     * @since 3.8
+     */
+    public synchronized void fireUnHiLiteEvent(final RowKeyIndex index, final RowIndexBitmap rows) {
+        fireUnHiLiteEvent(new IndexedKeyEvent(this, index, rows));
+    }
+
+    /** @throws IllegalArgumentException if any of the event's rows is out of range of its index */
+    private static void checkIndices(final IndexedKeyEvent event) {
+        final int size = event.getIndex().size();
+        final int invalid = event.getIndices().nextSetIndex(size);
+        if (invalid >= 0) {
+            throw new IllegalArgumentException(
+                "Row index " + invalid + " out of range, the table has " + size + " row(s)");
+        }
+    }
+
+    /** @return the bitmap of the event's index if it's an index based event for a registered index, otherwise null */
+    private RowIndexBitmap getRegisteredBitmap(final KeyEvent event) {
+        if (event instanceof IndexedKeyEvent) {
+            return m_indexBitmaps.get(((IndexedKeyEvent)event).getIndex());
+        }
+        return null;
+    }
+
+    /** @return whether no key is hilit */
+    private boolean isEmpty() {
+        if (!m_hiLitKeys.isEmpty()) {
+            return false;
+        }
+        for (RowIndexBitmap bitmap : m_indexBitmaps.values()) {
+            if (!bitmap.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Informs all registered hilite listener to hilite the row keys contained
      * in the key event.
@@ -351,8 +580,22 @@ public synchronized void fireHiLiteEvent(final KeyEvent event) {
         if (event == null) {
             throw new NullPointerException("KeyEvent must not be null");
         }
-
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
+        if (event instanceof IndexedKeyEvent) {
+            checkIndices((IndexedKeyEvent)event);
+        }
+        final RowIndexBitmap bitmap = getRegisteredBitmap(event);
+        if (bitmap != null) {
+            final IndexedKeyEvent indexedEvent = (IndexedKeyEvent)event;
+            final RowIndexBitmap changedRows = new RowIndexBitmap(indexedEvent.getIndices());
+            changedRows.removeAll(bitmap);
+            if (!changedRows.isEmpty()) {
+                bitmap.addAll(changedRows);
+                updateOtherIndices(indexedEvent.getIndex(), changedRows, true);
+                notifyListeners(new IndexedKeyEvent(event.getSource(), indexedEvent.getIndex(), changedRows),
+                    HiLiteListener::hiLite);
+            }
+            return;
+        }
 
         /*
          * Do not change this implementation, unless you are aware of the
@@ -380,31 +623,14 @@ public synchronized void fireHiLiteEvent(final KeyEvent event) {
                         "Key array must not contains null elements.");
             }
             // if the key is already hilit, do not add it
-            if (newHilitKeys.add(id)) {
+            if (hiLiteInternal(id)) {
                 changedIDs.add(id);
             }
         }
 
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
-            m_hiLitKeys = newHilitKeys;
-            final KeyEvent fireEvent =
-                new KeyEvent(event.getSource(), changedIDs);
-            final Runnable r = new Runnable() {
-                @Override
-                public void run() {
-                    for (final HiLiteListener l : m_listenerList) {
-                        try {
-                            l.hiLite(fireEvent);
-                        } catch (final Throwable t) {
-                            LOGGER.coding(
-                                    "Exception while notifying listeners, "
-                                        + "reason: " + t.getMessage(), t);
-                        }
-                    }
-                }
-            };
-            ViewUtils.runOrInvokeLaterInEDT(r);
+            notifyListeners(new KeyEvent(event.getSource(), changedIDs), HiLiteListener::hiLite);
         }
     }
 
@@ -434,14 +660,28 @@ public synchronized void fireUnHiLiteEvent(final KeyEvent event) {
          * Do not change this implementation, see #fireHiLiteEvent for
          * more details.
          */
+        if (event instanceof IndexedKeyEvent) {
+            checkIndices((IndexedKeyEvent)event);
+        }
+        final RowIndexBitmap bitmap = getRegisteredBitmap(event);
+        if (bitmap != null) {
+            final IndexedKeyEvent indexedEvent = (IndexedKeyEvent)event;
+            final RowIndexBitmap changedRows = new RowIndexBitmap(indexedEvent.getIndices());
+            changedRows.retainAll(bitmap);
+            if (!changedRows.isEmpty()) {
+                bitmap.removeAll(changedRows);
+                updateOtherIndices(indexedEvent.getIndex(), changedRows, false);
+                notifyListeners(new IndexedKeyEvent(event.getSource(), indexedEvent.getIndex(), changedRows),
+                    HiLiteListener::unHiLite);
+            }
+            return;
+        }
         final Set<RowKey> ids = event.keys();
         // check if at least one id is present
         if (ids.isEmpty()) {
             return;
         }
 
-        Set<RowKey> newHilitKeys = new LinkedHashSet<RowKey>(m_hiLitKeys);
-
         // create list of row keys from input key array
         final Set<RowKey> changedIDs = new LinkedHashSet<RowKey>();
         // iterate over all keys and removes all not hilit ones
@@ -450,31 +690,14 @@ public synchronized void fireUnHiLiteEvent(final KeyEvent event) {
                 throw new IllegalArgumentException(
                         "Key array must not contains null elements.");
             }
-            if (newHilitKeys.remove(id)) {
+            if (unHiLiteInternal(id)) {
                 changedIDs.add(id);
             }
         }
         // if at least on key changed
         if (!changedIDs.isEmpty()) {
-            m_hiLitKeys = newHilitKeys;
             // throw unhilite event
-            final KeyEvent fireEvent = new KeyEvent(
-                    event.getSource(), changedIDs);
-            final Runnable r = new Runnable() {
-                @Override
-                public void run() {
-                    for (final HiLiteListener l : m_listenerList) {
-                        try {
-                            l.unHiLite(fireEvent);
-                        } catch (final Throwable t) {
-                            LOGGER.coding(
-                                 "Exception while notifying listeners, reason: "
-                                        + t.getMessage(), t);
-                        }
-                    }
-                }
-            };
-            ViewUtils.runOrInvokeLaterInEDT(r);
+            notifyListeners(new KeyEvent(event.getSource(), changedIDs), HiLiteListener::unHiLite);
         }
     }
 
@@ -500,24 +723,35 @@ public synchronized void fireClearHiLiteEvent(final KeyEvent event) {
          * Do not change this implementation, see #fireHiLiteEvent for
          * more details.
          */
-        if (!m_hiLitKeys.isEmpty()) {
+        if (!isEmpty()) {
             m_hiLitKeys = new LinkedHashSet<RowKey>();
-            final Runnable r = new Runnable() {
-                @Override
-                public void run() {
-                    for (final HiLiteListener l : m_listenerList) {
-                        try {
-                            l.unHiLiteAll(event);
-                        } catch (final Throwable t) {
-                            LOGGER.coding(
-                                "Exception while notifying listeners, reason: "
-                                    + t.getMessage(), t);
-                        }
+            m_indexBitmaps.values().forEach(RowIndexBitmap::clear);
+            notifyListeners(event, HiLiteListener::unHiLiteAll);
+        }
+    }
+
+    /**
+     * Notifies all registered listeners in the EDT.
+     *
+     * @param event the event to send
+     * @param method the listener method to call
+     */
+    private void notifyListeners(final KeyEvent event, final BiConsumer<HiLiteListener, KeyEvent> method) {
+        final Runnable r = new Runnable() {
+            @Override
+            public void run() {
+                for (final HiLiteListener l : m_listenerList) {
+                    try {
+                        method.accept(l, event);
+                    } catch (final Throwable t) {
+                        LOGGER.coding(
+                            "Exception while notifying listeners, reason: "
+                                + t.getMessage(), t);
                     }
                 }
-            };
-            ViewUtils.runOrInvokeLaterInEDT(r);
-        }
+            }
+        };
+        ViewUtils.runOrInvokeLaterInEDT(r);
     }
 
     /**
@@ -525,7 +759,11 @@ public void run() {
      * @return a set of hilit row keys
      * @see HiLiteHandler#getHiLitKeys()
      */
-    public Set<RowKey> getHiLitKeys() {
-        return new LinkedHashSet<RowKey>(m_hiLitKeys);
+    public synchronized Set<RowKey> getHiLitKeys() {
+        final Set<RowKey> keys = new LinkedHashSet<RowKey>(m_hiLitKeys);
+        for (Map.Entry<RowKeyIndex, RowIndexBitmap> e : m_indexBitmaps.entrySet()) {
+            keys.addAll(e.getKey().asKeySet(e.getValue()));
+        }
+        return keys;
     }
 }
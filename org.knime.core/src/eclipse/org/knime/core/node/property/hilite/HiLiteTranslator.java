@@ -167,22 +167,24 @@ public void hiLite(final KeyEvent event) {
                 return;
             }
             if (m_mapper != null) {
-                // add all hilite keys from the event and all hilite keys
-                // from the target hilite handlers
-                final Set<RowKey> all = new LinkedHashSet<RowKey>(
-                        event.keys());
-                for (HiLiteHandler hdl : m_targetHandlers) {
-                    all.addAll(hdl.getHiLitKeys());
-                }
+                // keys of the event are looked up in the event, all other keys in the target hilite handlers
+                // (no copy of the hilit keys as that is expensive for large tables)
+                final Set<RowKey> eventKeys = event.keys();
+                final Set<RowKey> fireSet = new LinkedHashSet<RowKey>();
                 // check overlap with all mappings
                 for (RowKey key : m_mapper.keySet()) {
+                    if (m_sourceHandler.isHiLit(key)) {
+                        continue;
+                    }
                     final Set<RowKey> keys = m_mapper.getKeys(key);
                     // if all mapped keys are hilite then fire event
-                    if (all.containsAll(keys)) {
-                        m_sourceHandler.fireHiLiteEvent(
-                            new KeyEvent(m_eventSource, key));
+                    if (isHiLit(keys, eventKeys)) {
+                        fireSet.add(key);
                     }
                 }
+                if (!fireSet.isEmpty()) {
+                    m_sourceHandler.fireHiLiteEvent(new KeyEvent(m_eventSource, fireSet));
+                }
             }
         }
         /**
@@ -194,18 +196,22 @@ public void unHiLite(final KeyEvent event) {
                 return;
             }
             if (m_mapper != null) {
+                final Set<RowKey> eventKeys = event.keys();
+                final Set<RowKey> fireSet = new LinkedHashSet<RowKey>();
                 // check all mappings
                 for (RowKey key : m_mapper.keySet()) {
+                    if (!m_sourceHandler.isHiLit(key)) {
+                        continue;
+                    }
                     final Set<RowKey> keys = m_mapper.getKeys(key);
                     // if at least one item is unhilite then fire event
-                    for (RowKey hilite : event.keys()) {
-                        if (keys.contains(hilite)) {
-                            m_sourceHandler.fireUnHiLiteEvent(
-                                new KeyEvent(m_eventSource, key));
-                            break;
-                        }
+                    if (keys != null && intersects(keys, eventKeys)) {
+                        fireSet.add(key);
                     }
                 }
+                if (!fireSet.isEmpty()) {
+                    m_sourceHandler.fireUnHiLiteEvent(new KeyEvent(m_eventSource, fireSet));
+                }
             }
         }
         /**
@@ -220,6 +226,41 @@ public void unHiLiteAll(final KeyEvent event) {
         }
     };
 
+    /**
+     * @param keys the mapped keys
+     * @param eventKeys the keys of the current hilite event (not yet necessarily hilit in the target handlers)
+     * @return whether all mapped keys are either part of the event or hilit in one of the target handlers
+     */
+    private boolean isHiLit(final Set<RowKey> keys, final Set<RowKey> eventKeys) {
+        for (RowKey key : keys) {
+            if (!eventKeys.contains(key) && !isHiLitInTargets(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isHiLitInTargets(final RowKey key) {
+        for (HiLiteHandler hdl : m_targetHandlers) {
+            if (hdl.isHiLit(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return whether the two sets have at least one element in common; iterates the smaller set */
+    private static boolean intersects(final Set<RowKey> s1, final Set<RowKey> s2) {
+        final Set<RowKey> small = s1.size() <= s2.size() ? s1 : s2;
+        final Set<RowKey> large = small == s1 ? s2 : s1;
+        for (RowKey key : small) {
+            if (large.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Creates a translator with an empty mapping and a default hilite
      * handler.
@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.property.hilite;
+
+import java.util.Set;
+
+import org.knime.core.data.RowKey;
+
+/**
+ * A {@link KeyEvent} whose keys are given as row indices of a table, see {@link RowKeyIndex}. Fired by the
+ * {@link HiLiteHandler} for index based hilite changes. The event contains only the delta, i.e. the rows whose
+ * status actually changed.
+ *
+ * <p>
+ * Listeners that know the table (index) can use {@link #getIndices()} directly. For all other listeners
+ * {@link #keys()} provides the row keys as (lazy) set view so that the existing {@link HiLiteListener} API keeps
+ * working without copying the keys.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class IndexedKeyEvent extends KeyEvent {
+
+    private static final long serialVersionUID = 4616425436585458305L;
+
+    private final transient RowKeyIndex m_index;
+
+    private final transient RowIndexBitmap m_indices;
+
+    private final transient Set<RowKey> m_keys;
+
+    /**
+     * Creates a new event.
+     *
+     * @param src the object on which the event initially occurred
+     * @param index the row key index the indices refer to, not <code>null</code>
+     * @param indices the row indices, not <code>null</code>; must not be modified afterwards
+     */
+    public IndexedKeyEvent(final Object src, final RowKeyIndex index, final RowIndexBitmap indices) {
+        super(src);
+        if (index == null || indices == null) {
+            throw new NullPointerException("Index and indices must not be null");
+        }
+        m_index = index;
+        m_indices = indices;
+        m_keys = index.asKeySet(indices);
+    }
+
+    /** @return the row key index the {@link #getIndices() indices} refer to */
+    public RowKeyIndex getIndex() {
+        return m_index;
+    }
+
+    /** @return the row indices of this event, must not be modified */
+    public RowIndexBitmap getIndices() {
+        return m_indices;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<RowKey> keys() {
+        return m_keys;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return m_indices.isEmpty();
+    }
+}
@@ -0,0 +1,534 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.property.hilite;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A compressed set of non-negative row indices, used to represent the hilite status of (large) tables, see
+ * {@link RowKeyIndex} and {@link HiLiteHandler#fireHiLiteEvent(RowKeyIndex, RowIndexBitmap)}.
+ *
+ * <p>
+ * The index range is split into blocks of 65536 indices. A block with only few set indices is stored as sorted
+ * <code>char</code> array, a dense block as plain bit set (8kB); empty blocks are not stored at all. The memory
+ * footprint is therefore proportional to the number of set indices and never exceeds one bit per index (plus a
+ * small constant per block).
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class RowIndexBitmap {
+
+    private static final int BLOCK_SHIFT = 16;
+
+    private static final int BLOCK_MASK = (1 << BLOCK_SHIFT) - 1;
+
+    private static final int WORDS_PER_BLOCK = (1 << BLOCK_SHIFT) / Long.SIZE;
+
+    /** Maximum number of entries kept in the array representation of a block (equals size of a bit set block). */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    /** The blocks, each either <code>null</code> (empty), a <code>char[]</code> or a <code>long[]</code>. */
+    private Object[] m_blocks;
+
+    /** Number of set indices per block; for array blocks also the number of used array entries. */
+    private int[] m_counts;
+
+    private long m_cardinality;
+
+    /** Creates an empty bitmap. */
+    public RowIndexBitmap() {
+        m_blocks = new Object[0];
+        m_counts = new int[0];
+    }
+
+    /**
+     * Creates a copy of the argument bitmap.
+     *
+     * @param bitmap the bitmap to copy, not <code>null</code>
+     */
+    public RowIndexBitmap(final RowIndexBitmap bitmap) {
+        m_blocks = new Object[bitmap.m_blocks.length];
+        m_counts = bitmap.m_counts.clone();
+        m_cardinality = bitmap.m_cardinality;
+        for (int b = 0; b < m_blocks.length; b++) {
+            final Object block = bitmap.m_blocks[b];
+            if (block instanceof char[]) {
+                m_blocks[b] = Arrays.copyOf((char[])block, m_counts[b]);
+            } else if (block != null) {
+                m_blocks[b] = ((long[])block).clone();
+            }
+        }
+    }
+
+    /**
+     * Creates a bitmap containing the argument indices.
+     *
+     * @param indices the indices to set
+     * @return a new bitmap
+     * @throws IllegalArgumentException if an index is negative
+     */
+    public static RowIndexBitmap of(final int... indices) {
+        final RowIndexBitmap bitmap = new RowIndexBitmap();
+        for (int i : indices) {
+            bitmap.add(i);
+        }
+        return bitmap;
+    }
+
+    /**
+     * @param index the index to test
+     * @return whether the index is contained in this set
+     */
+    public boolean contains(final int index) {
+        if (index < 0) {
+            return false;
+        }
+        final int b = index >>> BLOCK_SHIFT;
+        if (b >= m_blocks.length) {
+            return false;
+        }
+        final Object block = m_blocks[b];
+        final int low = index & BLOCK_MASK;
+        if (block instanceof char[]) {
+            return Arrays.binarySearch((char[])block, 0, m_counts[b], (char)low) >= 0;
+        } else if (block != null) {
+            return (((long[])block)[low >>> 6] & (1L << low)) != 0;
+        }
+        return false;
+    }
+
+    /**
+     * Adds an index.
+     *
+     * @param index the index, not negative
+     * @return <code>true</code> if the index was not contained before
+     * @throws IllegalArgumentException if the index is negative
+     */
+    public boolean add(final int index) {
+        checkIndex(index);
+        final int b = index >>> BLOCK_SHIFT;
+        ensureBlockCapacity(b);
+        final Object block = m_blocks[b];
+        final int low = index & BLOCK_MASK;
+        if (block == null) {
+            m_blocks[b] = new char[]{(char)low};
+        } else if (block instanceof char[]) {
+            char[] array = (char[])block;
+            final int count = m_counts[b];
+            final int pos = Arrays.binarySearch(array, 0, count, (char)low);
+            if (pos >= 0) {
+                return false;
+            }
+            if (count >= MAX_ARRAY_SIZE) {
+                final long[] bits = toBits(array, count);
+                bits[low >>> 6] |= 1L << low;
+                m_blocks[b] = bits;
+            } else {
+                final int insert = -pos - 1;
+                if (count == array.length) {
+                    array = Arrays.copyOf(array, Math.min(MAX_ARRAY_SIZE, Math.max(4, 2 * count)));
+                    m_blocks[b] = array;
+                }
+                System.arraycopy(array, insert, array, insert + 1, count - insert);
+                array[insert] = (char)low;
+            }
+        } else {
+            final long[] bits = (long[])block;
+            final long mask = 1L << low;
+            if ((bits[low >>> 6] & mask) != 0) {
+                return false;
+            }
+            bits[low >>> 6] |= mask;
+        }
+        m_counts[b]++;
+        m_cardinality++;
+        return true;
+    }
+
+    /**
+     * Adds all indices in the given range.
+     *
+     * @param from the first index (inclusive), not negative
+     * @param to the last index (exclusive)
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public void addRange(final int from, final int to) {
+        checkIndex(from);
+        if (to < from) {
+            throw new IllegalArgumentException("Invalid range: " + from + " - " + to);
+        }
+        final RowIndexBitmap range = new RowIndexBitmap();
+        int start = from;
+        while (start < to) {
+            final int b = start >>> BLOCK_SHIFT;
+            final int blockEnd = (int)Math.min(to, ((long)b + 1) << BLOCK_SHIFT);
+            final long[] bits = new long[WORDS_PER_BLOCK];
+            final int lowFrom = start & BLOCK_MASK;
+            final int lowTo = lowFrom + (blockEnd - start);
+            for (int w = lowFrom >>> 6; w <= (lowTo - 1) >>> 6; w++) {
+                long word = -1L;
+                if (w == lowFrom >>> 6) {
+                    word &= -1L << lowFrom;
+                }
+                if (w == (lowTo - 1) >>> 6) {
+                    word &= -1L >>> (63 - ((lowTo - 1) & 63));
+                }
+                bits[w] = word;
+            }
+            range.ensureBlockCapacity(b);
+            range.setBlock(b, bits, blockEnd - start);
+            start = blockEnd;
+        }
+        addAll(range);
+    }
+
+    /**
+     * Removes an index.
+     *
+     * @param index the index
+     * @return <code>true</code> if the index was contained before
+     */
+    public boolean remove(final int index) {
+        if (!contains(index)) {
+            return false;
+        }
+        final int b = index >>> BLOCK_SHIFT;
+        final Object block = m_blocks[b];
+        final int low = index & BLOCK_MASK;
+        if (block instanceof char[]) {
+            final char[] array = (char[])block;
+            final int pos = Arrays.binarySearch(array, 0, m_counts[b], (char)low);
+            System.arraycopy(array, pos + 1, array, pos, m_counts[b] - pos - 1);
+            m_counts[b]--;
+            if (m_counts[b] == 0) {
+                m_blocks[b] = null;
+            }
+        } else {
+            final long[] bits = (long[])block;
+            bits[low >>> 6] &= ~(1L << low);
+            m_counts[b]--;
+            if (m_counts[b] <= MAX_ARRAY_SIZE) {
+                setBlock(b, bits, m_counts[b]);
+            }
+        }
+        m_cardinality--;
+        return true;
+    }
+
+    /**
+     * Adds all indices of the argument bitmap.
+     *
+     * @param other the indices to add
+     */
+    public void addAll(final RowIndexBitmap other) {
+        ensureBlockCapacity(other.m_blocks.length - 1);
+        for (int b = 0; b < other.m_blocks.length; b++) {
+            final Object otherBlock = other.m_blocks[b];
+            if (otherBlock == null) {
+                continue;
+            }
+            final Object block = m_blocks[b];
+            if (block == null) {
+                setBlock(b, other.getBits(b), other.m_counts[b]);
+            } else {
+                final long[] bits = getBits(b);
+                final long[] otherBits = other.getBits(b);
+                int count = 0;
+                for (int w = 0; w < WORDS_PER_BLOCK; w++) {
+                    bits[w] |= otherBits[w];
+                    count += Long.bitCount(bits[w]);
+                }
+                setBlock(b, bits, count);
+            }
+        }
+    }
+
+    /**
+     * Removes all indices that are contained in the argument bitmap.
+     *
+     * @param other the indices to remove
+     */
+    public void removeAll(final RowIndexBitmap other) {
+        retain(other, false);
+    }
+
+    /**
+     * Removes all indices that are not contained in the argument bitmap.
+     *
+     * @param other the indices to keep
+     */
+    public void retainAll(final RowIndexBitmap other) {
+        retain(other, true);
+    }
+
+    private void retain(final RowIndexBitmap other, final boolean keepContained) {
+        for (int b = 0; b < m_blocks.length; b++) {
+            if (m_blocks[b] == null) {
+                continue;
+            }
+            final Object otherBlock = b < other.m_blocks.length ? other.m_blocks[b] : null;
+            if (otherBlock == null) {
+                if (keepContained) {
+                    setBlock(b, null, 0);
+                }
+                continue;
+            }
+            final long[] bits = getBits(b);
+            final long[] otherBits = other.getBits(b);
+            int count = 0;
+            for (int w = 0; w < WORDS_PER_BLOCK; w++) {
+                bits[w] &= keepContained ? otherBits[w] : ~otherBits[w];
+                count += Long.bitCount(bits[w]);
+            }
+            setBlock(b, bits, count);
+        }
+    }
+
+    /** Removes all indices. */
+    public void clear() {
+        m_blocks = new Object[0];
+        m_counts = new int[0];
+        m_cardinality = 0;
+    }
+
+    /** @return the number of indices in this set */
+    public long cardinality() {
+        return m_cardinality;
+    }
+
+    /** @return <code>true</code> if no index is set */
+    public boolean isEmpty() {
+        return m_cardinality == 0;
+    }
+
+    /**
+     * @return an iterator over the set indices in ascending order; the bitmap must not be modified while iterating
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int m_next = nextSetIndex(0);
+
+            @Override
+            public boolean hasNext() {
+                return m_next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (m_next < 0) {
+                    throw new NoSuchElementException();
+                }
+                final int result = m_next;
+                m_next = result == Integer.MAX_VALUE ? -1 : nextSetIndex(result + 1);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * @param from the index to start the search from (inclusive)
+     * @return the first set index that is larger or equal to the argument or -1 if there is none
+     */
+    public int nextSetIndex(final int from) {
+        checkIndex(from);
+        for (int b = from >>> BLOCK_SHIFT; b < m_blocks.length; b++) {
+            final Object block = m_blocks[b];
+            final int low = b == from >>> BLOCK_SHIFT ? from & BLOCK_MASK : 0;
+            if (block instanceof char[]) {
+                final int pos = Arrays.binarySearch((char[])block, 0, m_counts[b], (char)low);
+                final int insert = pos >= 0 ? pos : -pos - 1;
+                if (insert < m_counts[b]) {
+                    return (b << BLOCK_SHIFT) | ((char[])block)[insert];
+                }
+            } else if (block != null) {
+                final long[] bits = (long[])block;
+                int w = low >>> 6;
+                long word = bits[w] & (-1L << low);
+                while (true) {
+                    if (word != 0) {
+                        return (b << BLOCK_SHIFT) | (w << 6) | Long.numberOfTrailingZeros(word);
+                    }
+                    if (++w == WORDS_PER_BLOCK) {
+                        break;
+                    }
+                    word = bits[w];
+                }
+            }
+        }
+        return -1;
+    }
+
+    /** @return the set indices in ascending order */
+    public int[] toArray() {
+        final int[] result = new int[(int)Math.min(Integer.MAX_VALUE, m_cardinality)];
+        int i = 0;
+        for (PrimitiveIterator.OfInt it = iterator(); it.hasNext();) {
+            result[i++] = it.nextInt();
+        }
+        return result;
+    }
+
+    private static void checkIndex(final int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Row index must not be negative: " + index);
+        }
+    }
+
+    private void ensureBlockCapacity(final int block) {
+        if (block >= m_blocks.length) {
+            m_blocks = Arrays.copyOf(m_blocks, block + 1);
+            m_counts = Arrays.copyOf(m_counts, block + 1);
+        }
+    }
+
+    /** @return a bit set copy of the block (all zero if empty) */
+    private long[] getBits(final int b) {
+        final Object block = m_blocks[b];
+        if (block instanceof char[]) {
+            return toBits((char[])block, m_counts[b]);
+        } else if (block != null) {
+            return ((long[])block).clone();
+        }
+        return new long[WORDS_PER_BLOCK];
+    }
+
+    /** Sets a block from its bit set representation, choosing the compact representation if applicable. */
+    private void setBlock(final int b, final long[] bits, final int count) {
+        m_cardinality += count - m_counts[b];
+        m_counts[b] = count;
+        if (count == 0) {
+            m_blocks[b] = null;
+        } else if (count <= MAX_ARRAY_SIZE) {
+            final char[] array = new char[count];
+            int i = 0;
+            for (int w = 0; w < WORDS_PER_BLOCK; w++) {
+                long word = bits[w];
+                while (word != 0) {
+                    array[i++] = (char)((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            m_blocks[b] = array;
+        } else {
+            m_blocks[b] = bits;
+        }
+    }
+
+    private static long[] toBits(final char[] array, final int count) {
+        final long[] bits = new long[WORDS_PER_BLOCK];
+        for (int i = 0; i < count; i++) {
+            bits[array[i] >>> 6] |= 1L << array[i];
+        }
+        return bits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RowIndexBitmap)) {
+            return false;
+        }
+        final RowIndexBitmap other = (RowIndexBitmap)obj;
+        if (other.m_cardinality != m_cardinality) {
+            return false;
+        }
+        final int blockCount = Math.max(m_blocks.length, other.m_blocks.length);
+        for (int b = 0; b < blockCount; b++) {
+            final int count = b < m_counts.length ? m_counts[b] : 0;
+            final int otherCount = b < other.m_counts.length ? other.m_counts[b] : 0;
+            if (count != otherCount) {
+                return false;
+            }
+            if (count > 0 && !Arrays.equals(getBits(b), other.getBits(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int hash = Long.hashCode(m_cardinality);
+        for (int b = 0; b < m_counts.length; b++) {
+            if (m_counts[b] != 0) {
+                hash = 31 * hash + (b << BLOCK_SHIFT) + m_counts[b];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder b = new StringBuilder("{");
+        int i = 0;
+        for (PrimitiveIterator.OfInt it = iterator(); it.hasNext() && i < 100; i++) {
+            b.append(i > 0 ? ", " : "").append(it.nextInt());
+        }
+        if (i < m_cardinality) {
+            b.append(", ... (").append(m_cardinality).append(" total)");
+        }
+        return b.append('}').toString();
+    }
+}
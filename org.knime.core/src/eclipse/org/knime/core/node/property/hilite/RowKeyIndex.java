@@ -0,0 +1,249 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.property.hilite;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataTable;
+
+/**
+ * Maps the row keys of a table to their (zero-based) row index and vice versa. Used in combination with
+ * {@link RowIndexBitmap} to represent the hilite status of large tables without keeping sets of row keys; views
+ * typically create one instance per displayed table and register it with the hilite handler, see
+ * {@link HiLiteHandler#fireHiLiteEvent(RowKeyIndex, RowIndexBitmap)}.
+ *
+ * <p>
+ * The index keeps all row keys of the table in memory plus a hash table of one <code>int</code> per key (at a
+ * maximum load factor of 0.5). Instances are immutable and hence thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class RowKeyIndex {
+
+    private final RowKey[] m_keys;
+
+    /** Open addressing hash table containing row index + 1, 0 denotes an empty slot. */
+    private final int[] m_table;
+
+    private final int m_mask;
+
+    private RowKeyIndex(final RowKey[] keys) {
+        m_keys = keys;
+        int capacity = Integer.highestOneBit(Math.max(2, keys.length) - 1) << 2;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Too many rows to index: " + keys.length);
+        }
+        m_table = new int[capacity];
+        m_mask = capacity - 1;
+        for (int i = 0; i < keys.length; i++) {
+            final RowKey key = keys[i];
+            if (key == null) {
+                throw new IllegalArgumentException("Row key must not be null (row " + i + ")");
+            }
+            int slot = spread(key.hashCode()) & m_mask;
+            while (m_table[slot] != 0) {
+                if (m_keys[m_table[slot] - 1].equals(key)) {
+                    throw new IllegalArgumentException("Duplicate row key \"" + key + "\" (row " + i + ")");
+                }
+                slot = (slot + 1) & m_mask;
+            }
+            m_table[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Creates the index for the given row keys.
+     *
+     * @param keys the row keys in table order, not <code>null</code> and without duplicates
+     * @return a new index
+     * @throws IllegalArgumentException if the keys contain <code>null</code> or duplicates
+     */
+    public static RowKeyIndex create(final Collection<RowKey> keys) {
+        return new RowKeyIndex(keys.toArray(new RowKey[keys.size()]));
+    }
+
+    /**
+     * Creates the index for the given table by iterating it once. For a {@link BufferedDataTable} no cells are
+     * materialized.
+     *
+     * @param table the table to index
+     * @return a new index
+     * @throws IllegalArgumentException if the table has more rows than can be indexed
+     */
+    public static RowKeyIndex create(final DataTable table) {
+        final List<RowKey> keys;
+        if (table instanceof BufferedDataTable) {
+            final BufferedDataTable bdt = (BufferedDataTable)table;
+            if (bdt.size() >= Integer.MAX_VALUE / 4) {
+                throw new IllegalArgumentException("Too many rows to index: " + bdt.size());
+            }
+            keys = new ArrayList<>((int)bdt.size());
+            try (CloseableRowIterator it = bdt.iteratorBuilder().filterColumns(new int[0]).build()) {
+                while (it.hasNext()) {
+                    keys.add(it.next().getKey());
+                }
+            }
+        } else {
+            keys = new ArrayList<>();
+            for (RowIterator it = table.iterator(); it.hasNext();) {
+                final DataRow row = it.next();
+                keys.add(row.getKey());
+            }
+        }
+        return create(keys);
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /** @return the number of rows */
+    public int size() {
+        return m_keys.length;
+    }
+
+    /**
+     * @param key the key to look up
+     * @return the row index of the key or -1 if it's not part of the table
+     */
+    public int getIndex(final RowKey key) {
+        if (key == null) {
+            return -1;
+        }
+        int slot = spread(key.hashCode()) & m_mask;
+        int entry;
+        while ((entry = m_table[slot]) != 0) {
+            if (m_keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & m_mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @param index a row index
+     * @return the key of that row
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public RowKey getKey(final int index) {
+        return m_keys[index];
+    }
+
+    /**
+     * Resolves the row indices of the given keys; keys that are not part of the table are ignored.
+     *
+     * @param keys the keys to look up
+     * @return a new bitmap containing the row indices of the keys
+     */
+    public RowIndexBitmap getIndices(final Iterable<RowKey> keys) {
+        final RowIndexBitmap bitmap = new RowIndexBitmap();
+        for (RowKey key : keys) {
+            final int index = getIndex(key);
+            if (index >= 0) {
+                bitmap.add(index);
+            }
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns an unmodifiable view on the row keys of the given row indices. The view is backed by the bitmap,
+     * which must therefore not be modified while the view is in use. No keys are copied; <code>contains</code> is a
+     * hash lookup followed by a bitmap test.
+     *
+     * @param indices the row indices, all less than {@link #size()}
+     * @return a set view on the keys
+     */
+    public Set<RowKey> asKeySet(final RowIndexBitmap indices) {
+        return new AbstractSet<RowKey>() {
+            @Override
+            public Iterator<RowKey> iterator() {
+                final PrimitiveIterator.OfInt it = indices.iterator();
+                return new Iterator<RowKey>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+
+                    @Override
+                    public RowKey next() {
+                        return m_keys[it.nextInt()];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return o instanceof RowKey && indices.contains(getIndex((RowKey)o));
+            }
+
+            @Override
+            public int size() {
+                return (int)Math.min(Integer.MAX_VALUE, indices.cardinality());
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return indices.isEmpty();
+            }
+        };
+    }
+}
@@ -65,6 +65,7 @@ public class DataTableRowInput extends RowInput {
     private final DataTableSpec m_tableSpec;
     private final RowIterator m_iterator;
     private final long m_rowCount;
+    private long m_rowsLeft;
 
     /** Initialize with table.
      * @param table The table to read from. */
@@ -76,6 +77,19 @@ public DataTableRowInput(final DataTable table) {
         } else {
             m_rowCount = -1;
         }
+        m_rowsLeft = Long.MAX_VALUE;
+    }
+
+    /** Initialize with a contiguous range of rows of a table, used to read a partition of the table.
+     * @param table The table to read from.
+     * @param fromRowIndex The index of the first row to read.
+     * @param rowCount The number of rows to read (fewer if the table ends before).
+     * @since 3.8 */
+    public DataTableRowInput(final BufferedDataTable table, final long fromRowIndex, final long rowCount) {
+        m_tableSpec = table.getDataTableSpec();
+        m_iterator = table.iteratorFrom(fromRowIndex);
+        m_rowCount = Math.max(0, Math.min(rowCount, table.size() - fromRowIndex));
+        m_rowsLeft = m_rowCount;
     }
 
     /** {@inheritDoc} */
@@ -87,7 +101,8 @@ public DataTableSpec getDataTableSpec() {
     /** {@inheritDoc} */
     @Override
     public DataRow poll() throws InterruptedException {
-        if (m_iterator.hasNext()) {
+        if (m_rowsLeft > 0 && m_iterator.hasNext()) {
+            m_rowsLeft--;
             return m_iterator.next();
         }
         return null;
@@ -102,8 +117,8 @@ public void close() {
     }
 
     /**
-     * Returns the row count if the table passed during construction was a {@link BufferedDataTable}. Otherwise -1 is
-     * returned.
+     * Returns the row count if the table passed during construction was a {@link BufferedDataTable} (or the number of
+     * rows in the range if constructed with a row range). Otherwise -1 is returned.
      *
      * @return the number of rows in the table - or -1 if the underlying table is not a buffered data table.
      * @since 2.12
@@ -0,0 +1,379 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.streamable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Executes a node on fully available input data by splitting its distributable table inputs into contiguous row
+ * ranges and running one {@link StreamableOperator} per range in parallel. The partial output tables are concatenated
+ * without copying (see {@link ExecutionContext#createConcatenateTable(org.knime.core.node.ExecutionMonitor,
+ * BufferedDataTable...)}).
+ *
+ * <p>Tables that can't be positioned directly (see {@link BufferedDataTable#isRandomAccessSupported()}, e.g. gzip
+ * compressed tables) are split into one table per partition in a single pass beforehand, otherwise each partition
+ * would need to skip the rows of all preceding partitions.
+ *
+ * <p>A node qualifies if all its inputs are {@linkplain PortRole#isDistributable() distributable} and all its outputs
+ * are distributed data tables (see {@link #isPartitionable(NodeModel)}). Nodes requiring iterative access on the data
+ * also need to provide a {@link MergeOperator}; intermediate and final internals of the partitions are merged and
+ * passed to {@link NodeModel#finishStreamableExecution(StreamableOperatorInternals, ExecutionContext, PortOutput[])}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class PartitionedStreamableExecutor {
+
+    /** Tables with fewer rows per partition are split into fewer partitions. */
+    static final long MIN_ROWS_PER_PARTITION = 1000;
+
+    private final int m_maxPartitionCount;
+
+    /**
+     * @param maxPartitionCount The maximum number of partitions (= concurrently running operators), at least 1.
+     */
+    public PartitionedStreamableExecutor(final int maxPartitionCount) {
+        if (maxPartitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be at least 1: " + maxPartitionCount);
+        }
+        m_maxPartitionCount = maxPartitionCount;
+    }
+
+    /**
+     * Whether the argument model declares all its inputs as distributable and all its outputs as distributed. Note
+     * that the actual port objects are only checked during {@link #execute(NodeModel, PortObject[],
+     * ExecutionContext)}.
+     *
+     * @param model The model in question.
+     * @return that property.
+     */
+    public static boolean isPartitionable(final NodeModel model) {
+        InputPortRole[] inRoles = model.getInputPortRoles();
+        OutputPortRole[] outRoles = model.getOutputPortRoles();
+        if (inRoles.length == 0) {
+            return false;
+        }
+        for (InputPortRole role : inRoles) {
+            if (!role.isDistributable()) {
+                return false;
+            }
+        }
+        for (OutputPortRole role : outRoles) {
+            if (!role.isDistributable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the node partitioned and returns the concatenated output tables.
+     *
+     * @param model The model to execute, must be {@link #isPartitionable(NodeModel) partitionable}.
+     * @param inData The input data, excluding the flow variable port. Optional inputs may be null.
+     * @param exec For progress, cancellation and table creation.
+     * @return The output tables (excluding flow variable port).
+     * @throws Exception As thrown by the operators or the model.
+     */
+    public PortObject[] execute(final NodeModel model, final PortObject[] inData, final ExecutionContext exec)
+        throws Exception {
+        if (!isPartitionable(model)) {
+            throw new IllegalArgumentException("Node is not partitionable: " + model.getClass().getSimpleName());
+        }
+        PortObjectSpec[] inSpecs = new PortObjectSpec[inData.length];
+        long maxRowCount = 0;
+        for (int i = 0; i < inData.length; i++) {
+            inSpecs[i] = inData[i] == null ? null : inData[i].getSpec();
+            if (inData[i] instanceof BufferedDataTable) {
+                maxRowCount = Math.max(maxRowCount, ((BufferedDataTable)inData[i]).size());
+            }
+        }
+        MergeOperator mergeOperator = model.createMergeOperator();
+        StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+        final boolean isIterating = internals != null && model.iterate(internals);
+        int partitionCount = (int)Math.max(1, Math.min(m_maxPartitionCount, maxRowCount / MIN_ROWS_PER_PARTITION));
+        if (isIterating && mergeOperator == null) {
+            // intermediate results of different partitions can't be combined
+            partitionCount = 1;
+        }
+        final int nrPartitions = partitionCount;
+        final boolean isSplitting = isSplitRequired(inData, nrPartitions);
+        final double execShare = isSplitting ? 0.8 : 1.0;
+        ExecutionContext splitExec = exec.createSubExecutionContext(isSplitting ? 0.2 : 0.0);
+        ExecutionContext iterationExec = exec.createSubExecutionContext(isIterating ? execShare / 2 : 0.0);
+        ExecutionContext finalExec = exec.createSubExecutionContext(isIterating ? execShare / 2 : execShare);
+        final BufferedDataTable[][] splitData = isSplitting ? splitInputs(inData, nrPartitions, splitExec) : null;
+
+        boolean isNextIteration = isIterating;
+        while (isNextIteration) {
+            final StreamableOperatorInternals iterationInternals = internals;
+            StreamableOperatorInternals[] partials = runPartitions(nrPartitions, p -> {
+                ExecutionContext partExec = iterationExec.createSilentSubExecutionContext(0.0);
+                return () -> {
+                    StreamableOperator operator =
+                        model.createStreamableOperator(new PartitionInfo(p, nrPartitions), inSpecs);
+                    operator.loadInternals(iterationInternals);
+                    operator.runIntermediate(createInputs(inData, splitData, p, nrPartitions), partExec);
+                    return operator.saveInternals();
+                };
+            });
+            internals = mergeOperator != null ? mergeOperator.mergeIntermediate(partials) : partials[0];
+            isNextIteration = model.iterate(internals);
+        }
+        iterationExec.setProgress(1.0);
+
+        final StreamableOperatorInternals finalInternals = internals;
+        PortObjectSpec[] outSpecs = model.computeFinalOutputSpecs(finalInternals, inSpecs);
+        CheckUtils.checkState(outSpecs != null, "Node \"%s\" did not provide output specs for partitioned execution",
+            model.getClass().getSimpleName());
+        for (int o = 0; o < outSpecs.length; o++) {
+            // the output containers of the partitions need to be created upfront
+            CheckUtils.checkState(outSpecs[o] instanceof DataTableSpec,
+                "Node \"%s\" did not provide a table spec for output %d, which is required for partitioned execution",
+                model.getClass().getSimpleName(), o);
+        }
+        final BufferedDataTable[][] partTables = new BufferedDataTable[nrPartitions][];
+        StreamableOperatorInternals[] partials = runPartitions(nrPartitions, p -> {
+            // progress contexts are created by the calling thread, only the task runs concurrently
+            ExecutionContext partExec = finalExec.createSubExecutionContext(1.0 / nrPartitions);
+            return () -> {
+                StreamableOperator operator =
+                    model.createStreamableOperator(new PartitionInfo(p, nrPartitions), inSpecs);
+                if (finalInternals != null) {
+                    operator.loadInternals(finalInternals);
+                }
+                BufferedDataTableRowOutput[] outputs = new BufferedDataTableRowOutput[outSpecs.length];
+                for (int o = 0; o < outputs.length; o++) {
+                    BufferedDataContainer container = partExec.createDataContainer((DataTableSpec)outSpecs[o]);
+                    outputs[o] = new BufferedDataTableRowOutput(container);
+                }
+                operator.runFinal(createInputs(inData, splitData, p, nrPartitions), outputs, partExec);
+                partTables[p] = new BufferedDataTable[outputs.length];
+                for (int o = 0; o < outputs.length; o++) {
+                    outputs[o].close();
+                    partTables[p][o] = outputs[o].getDataTable();
+                }
+                partExec.setProgress(1.0);
+                return operator.saveInternals();
+            };
+        });
+
+        PortObject[] result = new PortObject[outSpecs.length];
+        for (int o = 0; o < result.length; o++) {
+            BufferedDataTable[] tables = new BufferedDataTable[nrPartitions];
+            for (int p = 0; p < nrPartitions; p++) {
+                tables[p] = partTables[p][o];
+            }
+            result[o] =
+                nrPartitions == 1 ? tables[0] : exec.createConcatenateTable(exec.createSubProgress(0.0), tables);
+        }
+        if (mergeOperator != null) {
+            PortObjectOutput[] finalOutputs = new PortObjectOutput[result.length];
+            for (int o = 0; o < result.length; o++) {
+                finalOutputs[o] = new PortObjectOutput();
+                finalOutputs[o].setPortObject(result[o]);
+            }
+            model.finishStreamableExecution(mergeOperator.mergeFinal(partials), exec, finalOutputs);
+        }
+        return result;
+    }
+
+    /** Whether any of the input tables can't be positioned directly and needs to be split by {@link #splitInputs}. */
+    private static boolean isSplitRequired(final PortObject[] inData, final int nrPartitions) {
+        if (nrPartitions == 1) {
+            return false;
+        }
+        for (PortObject po : inData) {
+            if (po instanceof BufferedDataTable && !((BufferedDataTable)po).isRandomAccessSupported()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits the input tables that can't be positioned directly into one table per partition, iterating each of them
+     * only once.
+     *
+     * @return per input the partition tables, <code>null</code> elements for inputs that are read directly
+     */
+    private static BufferedDataTable[][] splitInputs(final PortObject[] inData, final int nrPartitions,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        BufferedDataTable[][] splitData = new BufferedDataTable[inData.length][];
+        long totalRowCount = 0;
+        for (PortObject po : inData) {
+            if (po instanceof BufferedDataTable && !((BufferedDataTable)po).isRandomAccessSupported()) {
+                totalRowCount += ((BufferedDataTable)po).size();
+            }
+        }
+        long rowsDone = 0;
+        for (int i = 0; i < inData.length; i++) {
+            if (!(inData[i] instanceof BufferedDataTable) || ((BufferedDataTable)inData[i]).isRandomAccessSupported()) {
+                continue;
+            }
+            BufferedDataTable table = (BufferedDataTable)inData[i];
+            splitData[i] = new BufferedDataTable[nrPartitions];
+            try (CloseableRowIterator it = table.iterator()) {
+                for (int p = 0; p < nrPartitions; p++) {
+                    long to = table.size() * (p + 1) / nrPartitions;
+                    long from = table.size() * p / nrPartitions;
+                    BufferedDataContainer container = exec.createDataContainer(table.getDataTableSpec());
+                    for (long r = from; r < to && it.hasNext(); r++) {
+                        exec.checkCanceled();
+                        container.addRowToTable(it.next());
+                        exec.setProgress(++rowsDone / (double)totalRowCount);
+                    }
+                    container.close();
+                    splitData[i][p] = container.getTable();
+                }
+            }
+        }
+        return splitData;
+    }
+
+    /**
+     * Creates the inputs for a partition: row ranges of tables on distributed ports (or the partition's table if the
+     * input has been split), the full object otherwise.
+     */
+    private static PortInput[] createInputs(final PortObject[] inData, final BufferedDataTable[][] splitData,
+        final int partition, final int nrPartitions) {
+        PortInput[] inputs = new PortInput[inData.length];
+        for (int i = 0; i < inData.length; i++) {
+            if (splitData != null && splitData[i] != null) {
+                inputs[i] = new DataTableRowInput(splitData[i][partition]);
+            } else if (inData[i] instanceof BufferedDataTable) {
+                BufferedDataTable table = (BufferedDataTable)inData[i];
+                long from = table.size() * partition / nrPartitions;
+                long to = table.size() * (partition + 1) / nrPartitions;
+                inputs[i] = new DataTableRowInput(table, from, to - from);
+            } else if (inData[i] != null) {
+                inputs[i] = new PortObjectInput(inData[i]);
+            }
+        }
+        return inputs;
+    }
+
+    /** Factory for the task of a single partition. */
+    @FunctionalInterface
+    private interface PartitionTaskFactory {
+        Callable<StreamableOperatorInternals> create(int partition);
+    }
+
+    /**
+     * Runs the tasks for all partitions, the first in the calling thread and all others in the current (or global)
+     * thread pool.
+     */
+    private static StreamableOperatorInternals[] runPartitions(final int nrPartitions,
+        final PartitionTaskFactory factory) throws Exception {
+        StreamableOperatorInternals[] results = new StreamableOperatorInternals[nrPartitions];
+        if (nrPartitions == 1) {
+            results[0] = factory.create(0).call();
+            return results;
+        }
+        ThreadPool currentPool = ThreadPool.currentPool();
+        ThreadPool pool = currentPool != null ? currentPool : KNIMEConstants.GLOBAL_THREAD_POOL;
+        final NodeContext context = NodeContext.getContext();
+        List<Future<StreamableOperatorInternals>> futures = new ArrayList<>(nrPartitions);
+        for (int p = 1; p < nrPartitions; p++) {
+            final Callable<StreamableOperatorInternals> task = factory.create(p);
+            futures.add(pool.enqueue(() -> {
+                NodeContext.pushContext(context);
+                try {
+                    return task.call();
+                } finally {
+                    NodeContext.removeLastContext();
+                }
+            }));
+        }
+        try {
+            results[0] = factory.create(0).call();
+            Callable<Void> waitForOthers = () -> {
+                for (int p = 1; p < nrPartitions; p++) {
+                    results[p] = futures.get(p - 1).get();
+                }
+                return null;
+            };
+            if (currentPool != null) {
+                currentPool.runInvisible(waitForOthers);
+            } else {
+                waitForOthers.call();
+            }
+        } catch (ExecutionException ee) {
+            Throwable cause = ee;
+            while (cause instanceof ExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw cause instanceof Exception ? (Exception)cause : ee;
+        } finally {
+            for (Future<?> f : futures) {
+                f.cancel(true);
+            }
+        }
+        return results;
+    }
+
+}
@@ -90,6 +90,13 @@
  * have some performance problems when the user scrolls up in the table view.
  * However, when scrolling down, the data flow is somewhat "fluent".</p>
  *
+ * <p>If the table is a {@link BufferedDataTable} or {@link ContainerTable} (known
+ * row count, iterators can be positioned at arbitrary rows) and no hilite filter
+ * is set, the ring buffer is filled from a {@link TableContentPageCache} instead:
+ * jumps to arbitrary positions (in either direction) only read the pages around
+ * the target row and the next page in scroll direction is read in the
+ * background.</p>
+ *
  * <p>This class also supports hiliting of rows (even though it is a view
  * property). We do store the hilite status of the rows in here as it
  * complies nicely with the caching strategy.</p>
@@ -217,6 +224,10 @@ public boolean performsFiltering() {
     /** Policy as to which rows to show. */
     private TableContentFilter m_tableFilter = TableContentFilter.All;
 
+    /** Random access page cache, non-null if the table supports it (paging mode,
+     * see {@link #isPagingMode()}). */
+    private TableContentPageCache m_pageCache;
+
     /** number of rows that are read at a time, defaults to
      * {@link #CHUNK_SIZE}. */
     private int m_chunkSize;
@@ -366,6 +377,10 @@ private void setDataTableIntern(final DataTable originalData,
             ((CloseableRowIterator)m_iterator).close();
         }
         m_iterator = null;
+        if (m_pageCache != null) {
+            m_pageCache.dispose();
+            m_pageCache = null;
+        }
         m_rowCountOfInterestInIterator = 0;
         m_rowCountOfInterest = 0;
         m_maxRowCount = 0;
@@ -403,6 +418,7 @@ private void setDataTableIntern(final DataTable originalData,
                 } else {
                     m_maxRowCount = (int) rowCountFromTable;
                 }
+                m_pageCache = TableContentPageCache.create(data, m_maxRowCount);
                 if (!m_tableFilter.performsFiltering()) {
                     m_rowCountOfInterest = m_maxRowCount;
                     m_isRowCountOfInterestFinal = true;
@@ -1084,8 +1100,14 @@ protected DataRow getRow(final int row) {
         }
 
         /* row is not in cache */
-        // row already released from cache
-        if (row < (m_rowCountOfInterestInIterator - cacheSize)) {
+        if (isPagingMode() && (row < (m_rowCountOfInterestInIterator - cacheSize)
+                || row >= (m_rowCountOfInterestInIterator + cacheSize))) {
+            // random access: fill the cache so that it ends at row+m_chunkSize
+            // (or the last row), all slots in the ring buffer are then valid
+            final int end = (int)Math.min((long)row + m_chunkSize + 1, m_maxRowCount);
+            seekCache(Math.max(0, end - cacheSize));
+        } else if (row < (m_rowCountOfInterestInIterator - cacheSize)) {
+            // row already released from cache
             // clear cache, init new iterator
             clearCache();
         }
@@ -1125,21 +1147,33 @@ private boolean cacheNextRow() {
         assert (hasData());
         DataRow currentRow;
         boolean isHiLit;
-        do {
-            if (!m_iterator.hasNext()) {
-                // set to false with new data
-                m_isMaxRowCountFinal = true;
-                // set to false with new highlight event or new data
+        if (isPagingMode()) {
+            // row count is final and no filter, row index == iterator position
+            if (m_rowCountInIterator >= m_maxRowCount) {
                 m_isRowCountOfInterestFinal = true;
                 return false;
             }
-            currentRow = m_iterator.next();
+            currentRow = m_pageCache.getRow(m_rowCountInIterator);
             m_rowCountInIterator++;
-            m_maxRowCount = Math.max(m_maxRowCount, m_rowCountInIterator);
             isHiLit = m_hiLiteHdl != null
                 ? m_hiLiteHdl.isHiLit(currentRow.getKey()) : false;
-            // ignore row if we filter for hilit rows and this one is not hilit
-        } while (!m_tableFilter.matches(isHiLit));
+        } else {
+            do {
+                if (!m_iterator.hasNext()) {
+                    // set to false with new data
+                    m_isMaxRowCountFinal = true;
+                    // set to false with new highlight event or new data
+                    m_isRowCountOfInterestFinal = true;
+                    return false;
+                }
+                currentRow = m_iterator.next();
+                m_rowCountInIterator++;
+                m_maxRowCount = Math.max(m_maxRowCount, m_rowCountInIterator);
+                isHiLit = m_hiLiteHdl != null
+                    ? m_hiLiteHdl.isHiLit(currentRow.getKey()) : false;
+                // ignore row if we filter for hilit rows and this one is not hilit
+            } while (!m_tableFilter.matches(isHiLit));
+        }
         // index of row in cache
         int indexInCache = m_rowCountOfInterestInIterator % getCacheSize();
         m_cachedRows[indexInCache] = currentRow;
@@ -1161,8 +1195,17 @@ private RowIterator getNewDataIterator() {
         return m_data.iterator();
     }
 
+    /** Whether rows are read from the page cache (random access) rather than
+     * from an iterator. That's the case if the table supports it and no
+     * hilite filter is set (the row index is then the index in the table).
+     * @return that property
+     */
+    private boolean isPagingMode() {
+        return m_pageCache != null && !m_tableFilter.performsFiltering();
+    }
+
     /**
-     * Clears cache, instantiates new Iterator.
+     * Clears cache, instantiates new Iterator (unless in paging mode).
      */
     protected void clearCache() {
         if (!hasData()) {
@@ -1171,14 +1214,23 @@ protected void clearCache() {
         if (m_iterator instanceof CloseableRowIterator) {
             ((CloseableRowIterator)m_iterator).close();
         }
-        m_iterator = getNewDataIterator();
-        m_rowCountInIterator = 0;
+        m_iterator = isPagingMode() ? null : getNewDataIterator();
+        seekCache(0);
+    } // clearCache()
+
+    /** Clears the ring buffer and sets the position of the next row to be
+     * cached. In iterator mode only 0 is a valid position.
+     * @param row index of the next row read by {@link #cacheNextRow()}
+     */
+    private void seekCache(final int row) {
+        assert row == 0 || isPagingMode();
+        m_rowCountInIterator = row;
         // all updated in nextBlock()
-        m_rowCountOfInterestInIterator = 0;
+        m_rowCountOfInterestInIterator = row;
         // clear cache
         Arrays.fill(m_cachedRows, null);
         m_hilitSet.clear();
-    } // clearCache()
+    }
 
     /**
      * Returns a row with a given index from the cache. It is mandatory to give
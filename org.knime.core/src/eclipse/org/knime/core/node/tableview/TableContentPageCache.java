@@ -0,0 +1,385 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.tableview;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongFunction;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTable;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Page cache used by the {@link TableContentModel} for tables that support positioning an iterator at an arbitrary
+ * row ({@link BufferedDataTable#iteratorFrom(long)}, {@link ContainerTable#iteratorFrom(long)}). Rows are loaded in
+ * pages of {@link #PAGE_SIZE} rows; only pages that are accessed are loaded (the cache is sparse) and the least
+ * recently used pages are dropped once the number of pages exceeds a limit derived from the available heap. When a
+ * page is accessed, the adjacent page in scroll direction is loaded asynchronously so that it's usually available
+ * when the user continues scrolling.
+ *
+ * <p>The iterator used to load a page is kept open and continued for the following page, so scrolling down reads
+ * the table only once. A new positioned iterator is only opened for pages before the current iterator position or,
+ * if the table {@link BufferedDataTable#isRandomAccessSupported() supports random access}, for pages further ahead.
+ * Tables without random access (e.g. gzip compressed files) skip all leading rows when positioning an iterator,
+ * hence pages are only prefetched in forward direction for those.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TableContentPageCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TableContentPageCache.class);
+
+    /** Number of rows per page. */
+    static final int PAGE_SIZE = 1000;
+
+    /** Fraction of the max heap that is used for cached pages. */
+    private static final double MEMORY_FRACTION = 0.05;
+
+    /** Rough estimate of the heap size of a row and of a cell, used to determine the number of pages. */
+    private static final int ROW_BYTES = 80;
+
+    private static final int CELL_BYTES = 48;
+
+    private static final int MIN_PAGES = 3;
+
+    private static final int MAX_PAGES = 1000;
+
+    /** Single (daemon) thread shared by all caches, terminated when idle. */
+    private static final ThreadPoolExecutor PREFETCH_EXECUTOR = createPrefetchExecutor();
+
+    private final LongFunction<CloseableRowIterator> m_iteratorFromFunction;
+
+    private final BooleanSupplier m_isRandomAccessSupported;
+
+    /** Guards {@link #m_iterator} and {@link #m_iteratorRow}, held while a page is loaded. */
+    private final ReentrantLock m_loadLock = new ReentrantLock();
+
+    /** Iterator of the last page load, continued by the next load if possible; guarded by m_loadLock. */
+    private CloseableRowIterator m_iterator;
+
+    /** Index of the row returned next by {@link #m_iterator}; guarded by m_loadLock. */
+    private long m_iteratorRow;
+
+    private final int m_rowCount;
+
+    private final int m_maxPages;
+
+    /** Cached pages by page index, in access order; guarded by this. */
+    private final LinkedHashMap<Integer, DataRow[]> m_pages;
+
+    /** Pages that are currently loaded by the prefetch thread; guarded by this. */
+    private final Map<Integer, Future<DataRow[]>> m_pendingPages = new HashMap<>();
+
+    /** Page accessed last, used to determine the scroll direction; guarded by this. */
+    private int m_lastPage = -1;
+
+    private boolean m_isDisposed;
+
+    private final MemoryAlertListener m_memoryAlertListener = new MemoryAlertListener() {
+        @Override
+        protected boolean memoryAlert(final MemoryAlert alert) {
+            synchronized (TableContentPageCache.this) {
+                final DataRow[] lastPage = m_pages.get(m_lastPage);
+                m_pages.clear();
+                if (lastPage != null) {
+                    m_pages.put(m_lastPage, lastPage);
+                }
+            }
+            return false;
+        }
+    };
+
+    /**
+     * @param iteratorFromFunction creates an iterator starting at the given row index
+     * @param isRandomAccessSupported whether the iterator function positions iterators without iterating over the
+     *            leading rows, queried with each load as the property may change
+     * @param rowCount number of rows in the table
+     * @param columnCount number of columns in the table, used to estimate the memory footprint of a page
+     */
+    TableContentPageCache(final LongFunction<CloseableRowIterator> iteratorFromFunction,
+        final BooleanSupplier isRandomAccessSupported, final int rowCount, final int columnCount) {
+        m_iteratorFromFunction = iteratorFromFunction;
+        m_isRandomAccessSupported = isRandomAccessSupported;
+        m_rowCount = rowCount;
+        final long pageBytes = (long)PAGE_SIZE * (ROW_BYTES + (long)CELL_BYTES * columnCount);
+        final long maxPages = (long)(Runtime.getRuntime().maxMemory() * MEMORY_FRACTION) / pageBytes;
+        m_maxPages = (int)Math.max(MIN_PAGES, Math.min(MAX_PAGES, maxPages));
+        m_pages = new LinkedHashMap<Integer, DataRow[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Integer, DataRow[]> eldest) {
+                return size() > m_maxPages;
+            }
+        };
+        MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
+    }
+
+    /**
+     * Creates a page cache for the given table if the table supports positioning an iterator at an arbitrary row.
+     *
+     * @param table the table
+     * @param rowCount the number of rows in the table (must be known)
+     * @return a new cache or <code>null</code> if the table doesn't support random access
+     */
+    static TableContentPageCache create(final DataTable table, final int rowCount) {
+        final int columnCount = table.getDataTableSpec().getNumColumns();
+        if (table instanceof BufferedDataTable) {
+            final BufferedDataTable bdt = (BufferedDataTable)table;
+            return new TableContentPageCache(rowIndex -> {
+                try {
+                    return bdt.iteratorFrom(rowIndex);
+                } catch (RuntimeException e) {
+                    // e.g. table cleared concurrently (node reset), use the iterator returning missing values
+                    LOGGER.debug("Unable to position iterator at row " + rowIndex + ": " + e.getMessage(), e);
+                    final CloseableRowIterator it = bdt.iteratorFailProve();
+                    for (long i = 0; i < rowIndex && it.hasNext(); i++) {
+                        it.next();
+                    }
+                    return it;
+                }
+            }, bdt::isRandomAccessSupported, rowCount, columnCount);
+        } else if (table instanceof ContainerTable) {
+            final ContainerTable containerTable = (ContainerTable)table;
+            return new TableContentPageCache(containerTable::iteratorFrom, containerTable::isRandomAccessSupported,
+                rowCount, columnCount);
+        }
+        return null;
+    }
+
+    /** @return maximum number of pages kept in memory */
+    int getMaxPages() {
+        return m_maxPages;
+    }
+
+    /** @return the number rows of the table */
+    int getRowCount() {
+        return m_rowCount;
+    }
+
+    /**
+     * Returns a row, loading its page if not cached, and triggers the prefetching of the adjacent page.
+     *
+     * @param row the row index
+     * @return the row
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    DataRow getRow(final int row) {
+        if (row < 0 || row >= m_rowCount) {
+            throw new IndexOutOfBoundsException("Row index " + row + " out of range [0, " + m_rowCount + ")");
+        }
+        final int page = row / PAGE_SIZE;
+        final DataRow[] rows = getPage(page);
+        prefetch(page);
+        return rows[row - page * PAGE_SIZE];
+    }
+
+    /** @return whether the page containing the argument row is in memory (for testing) */
+    synchronized boolean isCached(final int row) {
+        return m_pages.containsKey(row / PAGE_SIZE);
+    }
+
+    private DataRow[] getPage(final int page) {
+        final Future<DataRow[]> pending;
+        synchronized (this) {
+            final DataRow[] rows = m_pages.get(page);
+            if (rows != null) {
+                return rows;
+            }
+            pending = m_pendingPages.get(page);
+        }
+        DataRow[] rows = null;
+        if (pending != null) {
+            try {
+                rows = pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | CancellationException e) {
+                // load it again in this thread
+            }
+        }
+        if (rows == null) {
+            rows = loadPage(page);
+        }
+        synchronized (this) {
+            if (!m_isDisposed) {
+                m_pages.put(page, rows);
+            }
+        }
+        return rows;
+    }
+
+    /** Loads the page next to the argument page in scroll direction in the background, if not cached yet. Without
+     * random access only the following page is loaded, which continues the iterator of the last load. */
+    private synchronized void prefetch(final int page) {
+        final boolean isForward = page >= m_lastPage;
+        final int nextPage = isForward ? page + 1 : page - 1;
+        m_lastPage = page;
+        if (m_isDisposed || (!isForward && !m_isRandomAccessSupported.getAsBoolean()) || nextPage < 0 || (long)nextPage * PAGE_SIZE >= m_rowCount
+            || m_pages.containsKey(nextPage) || m_pendingPages.containsKey(nextPage)) {
+            return;
+        }
+        m_pendingPages.put(nextPage, PREFETCH_EXECUTOR.submit(() -> {
+            try {
+                final DataRow[] rows = loadPage(nextPage);
+                synchronized (TableContentPageCache.this) {
+                    if (!m_isDisposed) {
+                        m_pages.put(nextPage, rows);
+                    }
+                }
+                return rows;
+            } finally {
+                synchronized (TableContentPageCache.this) {
+                    m_pendingPages.remove(nextPage);
+                }
+            }
+        }));
+    }
+
+    private DataRow[] loadPage(final int page) {
+        final int firstRow = page * PAGE_SIZE;
+        final DataRow[] rows = new DataRow[Math.min(PAGE_SIZE, m_rowCount - firstRow)];
+        m_loadLock.lock();
+        try {
+            final CloseableRowIterator it = getIteratorAt(firstRow);
+            for (int i = 0; i < rows.length; i++) {
+                if (!it.hasNext()) {
+                    throw new IllegalStateException("Table has fewer rows than expected: " + (firstRow + i)
+                        + " instead of " + m_rowCount);
+                }
+                rows[i] = it.next();
+                m_iteratorRow++;
+            }
+            if (isDisposed()) {
+                closeIterator();
+            }
+        } catch (RuntimeException e) {
+            closeIterator();
+            throw e;
+        } finally {
+            m_loadLock.unlock();
+        }
+        return rows;
+    }
+
+    /**
+     * Returns an iterator whose next row is the argument row. The iterator of the previous load is continued if the
+     * row is not before its position and (unless the table doesn't support random access) not more than a page ahead.
+     * Must be called while holding m_loadLock.
+     */
+    private CloseableRowIterator getIteratorAt(final int row) {
+        if (m_iterator != null && m_iteratorRow <= row
+            && (row - m_iteratorRow <= PAGE_SIZE || !m_isRandomAccessSupported.getAsBoolean())) {
+            while (m_iteratorRow < row && m_iterator.hasNext()) {
+                m_iterator.next();
+                m_iteratorRow++;
+            }
+            return m_iterator;
+        }
+        closeIterator();
+        m_iterator = m_iteratorFromFunction.apply(row);
+        m_iteratorRow = row;
+        return m_iterator;
+    }
+
+    /** Closes the iterator of the last load, must be called while holding m_loadLock. */
+    private void closeIterator() {
+        if (m_iterator != null) {
+            m_iterator.close();
+            m_iterator = null;
+        }
+    }
+
+    private synchronized boolean isDisposed() {
+        return m_isDisposed;
+    }
+
+    /** Drops all pages, cancels pending prefetches and closes the open iterator (or lets the currently running load
+     * close it). The cache must not be used afterwards. */
+    void dispose() {
+        synchronized (this) {
+            m_isDisposed = true;
+            m_pendingPages.values().forEach(f -> f.cancel(false));
+            m_pendingPages.clear();
+            m_pages.clear();
+        }
+        MemoryAlertSystem.getInstance().removeListener(m_memoryAlertListener);
+        if (m_loadLock.tryLock()) {
+            try {
+                closeIterator();
+            } finally {
+                m_loadLock.unlock();
+            }
+        }
+    }
+
+    private static ThreadPoolExecutor createPrefetchExecutor() {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 10L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), r -> {
+                final Thread t = new Thread(r, "KNIME Table View Prefetcher");
+                t.setDaemon(true);
+                return t;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
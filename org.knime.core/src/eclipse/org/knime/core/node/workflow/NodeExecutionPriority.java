@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.node.workflow;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scheduling priority of a node that is about to be executed. It is derived from the workflow graph: the estimated
+ * duration of the longest chain of nodes that still need to run downstream of the node (its critical path), the
+ * length of that chain and the number of direct successors. Durations are estimated from the node's
+ * {@link NodeTimer} or, for nodes that haven't run yet, from the statistics collected for nodes of the same kind.
+ *
+ * <p>Priorities are ordered by descending urgency, i.e. the smallest element is the node that should run first.
+ * Only the workflow containing the node is considered, connections leaving the (meta-)node are not followed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class NodeExecutionPriority implements Comparable<NodeExecutionPriority> {
+
+    /** Duration (in ms) assumed for nodes for which no execution time is known. */
+    static final long DEFAULT_DURATION = 1000L;
+
+    /** Priority used if the workflow graph could not be analyzed. */
+    public static final NodeExecutionPriority NONE = new NodeExecutionPriority(0, 0, 0);
+
+    private final long m_criticalPathDuration;
+
+    private final int m_criticalPathLength;
+
+    private final int m_successorCount;
+
+    /**
+     * Creates a priority with the given values, usually priorities are computed via {@link #of(NodeContainer)}.
+     *
+     * @param criticalPathDuration estimated duration (in ms) of the critical path, including the node itself
+     * @param criticalPathLength number of nodes on the critical path, including the node itself
+     * @param successorCount number of nodes directly connected to the node's outputs
+     */
+    public NodeExecutionPriority(final long criticalPathDuration, final int criticalPathLength,
+        final int successorCount) {
+        m_criticalPathDuration = criticalPathDuration;
+        m_criticalPathLength = criticalPathLength;
+        m_successorCount = successorCount;
+    }
+
+    /**
+     * Computes the priority of the given node. If the lock of the node's parent workflow is held by another thread
+     * the graph is not analyzed and {@link #NONE} is returned (callers usually hold the node's mutex, which must not
+     * be held when waiting for the workflow lock).
+     *
+     * @param nc the node to be executed
+     * @return its priority, not <code>null</code>
+     */
+    public static NodeExecutionPriority of(final NodeContainer nc) {
+        WorkflowManager parent = nc.getParent();
+        if (parent == null) {
+            return NONE;
+        }
+        ReentrantLock lock = parent.getReentrantLockInstance();
+        if (!lock.tryLock()) {
+            return NONE;
+        }
+        try {
+            Workflow workflow = parent.getWorkflow();
+            long[] path = computeCriticalPath(workflow, nc.getID(), new HashMap<NodeID, long[]>(),
+                new HashSet<NodeID>());
+            return new NodeExecutionPriority(path[0], (int)path[1], getSuccessors(workflow, nc.getID()).size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return estimated duration (in ms) of the longest chain of nodes starting at the node, including the node itself
+     */
+    public long getCriticalPathDuration() {
+        return m_criticalPathDuration;
+    }
+
+    /**
+     * @return number of nodes on the critical path, including the node itself
+     */
+    public int getCriticalPathLength() {
+        return m_criticalPathLength;
+    }
+
+    /**
+     * @return number of nodes directly connected to the node's outputs
+     */
+    public int getSuccessorCount() {
+        return m_successorCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int compareTo(final NodeExecutionPriority o) {
+        int c = Long.compare(o.m_criticalPathDuration, m_criticalPathDuration);
+        if (c == 0) {
+            c = Integer.compare(o.m_criticalPathLength, m_criticalPathLength);
+        }
+        if (c == 0) {
+            c = Integer.compare(o.m_successorCount, m_successorCount);
+        }
+        return c;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "critical path: " + m_criticalPathDuration + "ms (" + m_criticalPathLength + " nodes), "
+            + m_successorCount + " successor(s)";
+    }
+
+    /** Returns {duration, node count} of the longest downstream path, memoized. */
+    private static long[] computeCriticalPath(final Workflow workflow, final NodeID id,
+        final Map<NodeID, long[]> memo, final Set<NodeID> inProgress) {
+        long[] result = memo.get(id);
+        if (result != null) {
+            return result;
+        }
+        if (!inProgress.add(id)) {
+            return new long[]{0, 0}; // should not happen in an acyclic graph
+        }
+        long maxDuration = 0;
+        long maxLength = 0;
+        for (NodeID succ : getSuccessors(workflow, id)) {
+            long[] succPath = computeCriticalPath(workflow, succ, memo, inProgress);
+            if (succPath[0] > maxDuration || (succPath[0] == maxDuration && succPath[1] > maxLength)) {
+                maxDuration = succPath[0];
+                maxLength = succPath[1];
+            }
+        }
+        inProgress.remove(id);
+        result = new long[]{estimateDuration(workflow.getNode(id)) + maxDuration, 1 + maxLength};
+        memo.put(id, result);
+        return result;
+    }
+
+    private static Set<NodeID> getSuccessors(final Workflow workflow, final NodeID id) {
+        Set<NodeID> result = new HashSet<NodeID>();
+        Set<ConnectionContainer> ccs = workflow.getConnectionsBySource(id);
+        if (ccs != null) {
+            for (ConnectionContainer cc : ccs) {
+                // skip connections to the workflow's outports
+                if (!cc.getDest().equals(workflow.getID())) {
+                    result.add(cc.getDest());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static long estimateDuration(final NodeContainer nc) {
+        if ((nc == null) || nc.getNodeContainerState().isExecuted()) {
+            return 0;
+        }
+        long duration = nc.getNodeTimer().getLastExecutionDuration();
+        if (duration < 0) {
+            duration = NodeTimer.GLOBAL_TIMER.getAverageExecutionTime(nc);
+        }
+        return duration < 0 ? DEFAULT_DURATION : duration;
+    }
+}
@@ -192,6 +192,20 @@ void addExecutionTime(final String cname, final boolean success, final long exec
                 processStatChanges();
             }
         }
+
+        /**
+         * @param nc a node
+         * @return the average duration (in ms) of all executions, successful and failed, of nodes of the same kind,
+         *         recorded across sessions (the recorded time includes failed executions), or -1 if unknown
+         */
+        synchronized long getAverageExecutionTime(final NodeContainer nc) {
+            NodeStats ns = m_globalNodeStats.get(getCanonicalName(nc));
+            if ((ns == null) || (ns.executionCount + ns.failureCount == 0)) {
+                return -1;
+            }
+            return ns.executionTime / (ns.executionCount + ns.failureCount);
+        }
+
         public void addNodeCreation(final NodeContainer nc) {
             if (DISABLE_GLOBAL_TIMER) {
                 return;
@@ -78,9 +78,12 @@
  * <p>Note: This implementation is not thread-safe, it's supposed to be used
  * by a single thread only.
  *
+ * <p>See also {@link FingerprintDuplicateChecker}, which avoids the per-key
+ * object allocations of this implementation.
+ *
  * @author Thorsten Meinl, University of Konstanz
  */
-public class DuplicateChecker {
+public class DuplicateChecker implements IDuplicateChecker {
     private static class Chunk {
         private final File m_file;
         private DataOutputStream m_out;
@@ -246,6 +249,7 @@ public DuplicateChecker(final int maxChunkSize, final int maxStreams) {
      * @throws IOException if an I/O error occurs while writing the chunk to
      *             disk
      */
+    @Override
     public void addKey(final String s) throws DuplicateKeyException,
             IOException {
         if (DISABLE_DUPLICATE_CHECK) {
@@ -268,6 +272,7 @@ public void addKey(final String s) throws DuplicateKeyException,
      * @throws DuplicateKeyException if a duplicate key has been detected
      * @throws IOException if an I/O error occurs
      */
+    @Override
     public void checkForDuplicates() throws DuplicateKeyException, IOException {
         if (m_storedChunks.size() == 0) {
             // less than MAX_CHUNK_SIZE keys, no need to write
@@ -283,6 +288,7 @@ public void checkForDuplicates() throws DuplicateKeyException, IOException {
      * Clears the checker, i.e. removes all temporary files and all keys in
      * memory.
      */
+    @Override
     public void clear() {
         for (Chunk c : m_storedChunks) {
             c.dispose();
@@ -0,0 +1,664 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 16, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+import org.knime.core.node.KNIMEConstants;
+
+/**
+ * Duplicate checker that keeps the keys of the current chunk in an open-addressing hash table of 64-bit fingerprints.
+ * The characters of the keys are appended to a single <code>char[]</code>, hence (unlike in {@link DuplicateChecker})
+ * no objects are allocated per key. Two keys are only compared character by character if their fingerprints are
+ * equal.
+ *
+ * <p>
+ * If a chunk is full it is written to disk sorted by fingerprint. {@link #checkForDuplicates()} merges the chunks by
+ * comparing the fingerprints; keys are only compared if their fingerprints are equal, so the result is exact.
+ *
+ * <p>
+ * Note: This implementation is not thread-safe, it's supposed to be used by a single thread only.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public final class FingerprintDuplicateChecker implements IDuplicateChecker {
+
+    private static final boolean DISABLE_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_DISABLE_ROWID_DUPLICATE_CHECK);
+
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private static final long EMPTY = -1L;
+
+    /** Temp files not yet deleted, deleted on shutdown. */
+    private static final Collection<File> ALL_FILES = new ArrayList<File>();
+
+    static {
+        ShutdownHelper.getInstance().appendShutdownHook(() -> removeTempFiles());
+    }
+
+    private static void removeTempFiles() {
+        synchronized (ALL_FILES) {
+            for (File f : ALL_FILES) {
+                f.delete();
+            }
+            ALL_FILES.clear();
+        }
+    }
+
+    private final int m_maxChunkSize;
+
+    private final int m_maxStreams;
+
+    private final ToLongFunction<String> m_fingerprintFunction;
+
+    /**
+     * The hash table of the current chunk (linear probing). Slot i occupies two elements: the fingerprint of the key
+     * (at 2i) and the position of the key in {@link #m_chars} (at 2i + 1, offset in the upper and length in the lower
+     * 32 bits) or {@link #EMPTY} if the slot is empty.
+     */
+    private long[] m_table;
+
+    /** Number of slots in the table, a power of 2. */
+    private int m_capacity;
+
+    /** The characters of all keys in the current chunk. */
+    private char[] m_chars;
+
+    private int m_charCount;
+
+    /** Number of keys in the current chunk. */
+    private int m_size;
+
+    /** Fingerprints of the current chunk when writing it, reused for all chunks. */
+    private long[] m_sortBuffer;
+
+    private final List<File> m_storedChunks = new ArrayList<File>();
+
+    /** Creates a new duplicate checker with default parameters. */
+    public FingerprintDuplicateChecker() {
+        this(DuplicateChecker.MAX_CHUNK_SIZE, DuplicateChecker.MAX_STREAMS);
+    }
+
+    /**
+     * Creates a new duplicate checker.
+     *
+     * @param maxChunkSize the size of each chunk, i.e. the maximum number of elements kept in memory
+     * @param maxStreams the maximum number of streams that are kept open during the merge process, must be at least
+     *            2
+     */
+    public FingerprintDuplicateChecker(final int maxChunkSize, final int maxStreams) {
+        this(maxChunkSize, maxStreams, FingerprintDuplicateChecker::fingerprint);
+    }
+
+    /**
+     * Creates a new duplicate checker using a custom fingerprint function. Used in tests to enforce fingerprint
+     * collisions.
+     *
+     * @param maxChunkSize see {@link #FingerprintDuplicateChecker(int, int)}
+     * @param maxStreams see {@link #FingerprintDuplicateChecker(int, int)}
+     * @param fingerprintFunction computes the fingerprint of a key
+     */
+    FingerprintDuplicateChecker(final int maxChunkSize, final int maxStreams,
+        final ToLongFunction<String> fingerprintFunction) {
+        if (maxStreams < 2) {
+            throw new IllegalArgumentException("The number of streams must be at least 2");
+        }
+        if (maxChunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + maxChunkSize);
+        }
+        m_maxChunkSize = maxChunkSize;
+        m_maxStreams = maxStreams;
+        m_fingerprintFunction = fingerprintFunction;
+        initTable(INITIAL_CAPACITY);
+        m_chars = new char[16 * INITIAL_CAPACITY];
+    }
+
+    private void initTable(final int capacity) {
+        m_capacity = capacity;
+        m_table = new long[2 * capacity];
+        Arrays.fill(m_table, EMPTY);
+    }
+
+    private static int getOffset(final long position) {
+        return (int)(position >>> 32);
+    }
+
+    private static int getLength(final long position) {
+        return (int)position;
+    }
+
+    /**
+     * Computes the 64-bit fingerprint of a string (FNV-1a on the characters followed by the finalization step of
+     * MurmurHash3 to spread the bits).
+     *
+     * @param s the string
+     * @return its fingerprint
+     */
+    static long fingerprint(final String s) {
+        long h = 0xcbf29ce484222325L ^ s.length();
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        final long fingerprint = m_fingerprintFunction.applyAsLong(s);
+        final long[] table = m_table;
+        final int mask = m_capacity - 1;
+        int slot = (int)fingerprint & mask;
+        long position;
+        while ((position = table[2 * slot + 1]) != EMPTY) {
+            if (table[2 * slot] == fingerprint && equalsKey(position, s)) {
+                throw new DuplicateKeyException(s);
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (m_charCount + s.length() > m_chars.length) {
+            long newLength = Math.max(2L * m_chars.length, (long)m_charCount + s.length());
+            if (newLength > Integer.MAX_VALUE - 8) {
+                // too many characters in memory, write the chunk and start over
+                writeChunk();
+                addKey(s);
+                return;
+            }
+            m_chars = Arrays.copyOf(m_chars, (int)newLength);
+        }
+        s.getChars(0, s.length(), m_chars, m_charCount);
+        table[2 * slot] = fingerprint;
+        table[2 * slot + 1] = ((long)m_charCount << 32) | s.length();
+        m_charCount += s.length();
+        m_size++;
+        if (m_size >= m_maxChunkSize) {
+            writeChunk();
+        } else if (2 * m_size > m_capacity) {
+            rehash(2 * m_capacity);
+        }
+    }
+
+    private boolean equalsKey(final long position, final String s) {
+        final int length = getLength(position);
+        if (length != s.length()) {
+            return false;
+        }
+        final int offset = getOffset(position);
+        for (int i = 0; i < length; i++) {
+            if (m_chars[offset + i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash(final int capacity) {
+        final long[] old = m_table;
+        initTable(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i + 1] != EMPTY) {
+                int slot = (int)old[i] & mask;
+                while (m_table[2 * slot + 1] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                m_table[2 * slot] = old[i];
+                m_table[2 * slot + 1] = old[i + 1];
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        if (m_storedChunks.isEmpty()) {
+            // all keys in memory, checked in addKey
+            return;
+        }
+        writeChunk();
+        checkForDuplicates(m_storedChunks);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        for (File f : m_storedChunks) {
+            f.delete();
+        }
+        synchronized (ALL_FILES) {
+            ALL_FILES.removeAll(m_storedChunks);
+        }
+        m_storedChunks.clear();
+        clearTable();
+    }
+
+    private void clearTable() {
+        Arrays.fill(m_table, EMPTY);
+        m_size = 0;
+        m_charCount = 0;
+    }
+
+    private static File createChunkFile() throws IOException {
+        File f = FileUtil.createTempFile("KNIME_DuplicateChecker", ".bin", false);
+        synchronized (ALL_FILES) {
+            ALL_FILES.add(f);
+        }
+        return f;
+    }
+
+    private static void deleteChunkFiles(final List<File> files) {
+        for (File f : files) {
+            f.delete();
+        }
+        synchronized (ALL_FILES) {
+            ALL_FILES.removeAll(files);
+        }
+    }
+
+    /**
+     * Writes the keys of the current chunk sorted by fingerprint to disk and clears the table.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeChunk() throws IOException {
+        if (m_size == 0) {
+            return;
+        }
+        if (m_sortBuffer == null || m_sortBuffer.length < m_size) {
+            m_sortBuffer = new long[m_size];
+        }
+        final long[] sorted = m_sortBuffer;
+        final int count = m_size;
+        int index = 0;
+        for (int i = 0; i < m_table.length; i += 2) {
+            if (m_table[i + 1] != EMPTY) {
+                sorted[index++] = m_table[i];
+            }
+        }
+        Arrays.sort(sorted, 0, count);
+        File file = createChunkFile();
+        final int mask = m_capacity - 1;
+        try (ChunkWriter out = new ChunkWriter(file, m_size)) {
+            for (int i = 0; i < count; i++) {
+                final long fingerprint = sorted[i];
+                if (i > 0 && sorted[i - 1] == fingerprint) {
+                    // all keys with this fingerprint have already been written
+                    continue;
+                }
+                long position;
+                for (int slot = (int)fingerprint & mask; (position = m_table[2 * slot + 1]) != EMPTY;
+                        slot = (slot + 1) & mask) {
+                    if (m_table[2 * slot] == fingerprint) {
+                        out.writeEntry(fingerprint, m_chars, getOffset(position), getLength(position));
+                    }
+                }
+            }
+        }
+        m_storedChunks.add(file);
+        clearTable();
+    }
+
+    /**
+     * Merges the argument chunks, possibly in multiple passes.
+     *
+     * @param storedChunks the list of chunk files to process
+     * @throws IOException if an I/O error occurs
+     * @throws DuplicateKeyException if a duplicate key has been detected
+     */
+    private void checkForDuplicates(final List<File> storedChunks) throws IOException, DuplicateKeyException {
+        final int nrChunks = (int)Math.ceil(storedChunks.size() / (double)m_maxStreams);
+        List<File> newChunks = new ArrayList<File>(nrChunks);
+        try {
+            for (int i = 0; i < nrChunks; i++) {
+                List<File> toMerge =
+                    storedChunks.subList(i * m_maxStreams, Math.min((i + 1) * m_maxStreams, storedChunks.size()));
+                if (toMerge.size() == 1) {
+                    // only one (remaining) chunk => no need to merge anything
+                    newChunks.add(toMerge.get(0));
+                    break;
+                }
+                File mergedFile = nrChunks > 1 ? createChunkFile() : null;
+                if (mergedFile != null) {
+                    newChunks.add(mergedFile);
+                }
+                merge(toMerge, mergedFile);
+            }
+            if (newChunks.size() > 1) {
+                checkForDuplicates(newChunks);
+            }
+        } finally {
+            deleteChunkFiles(newChunks);
+        }
+    }
+
+    /** Merges the argument chunks into the (optional) output file and checks for duplicates. */
+    private static void merge(final List<File> chunks, final File output) throws IOException, DuplicateKeyException {
+        List<ChunkReader> readers = new ArrayList<>(chunks.size());
+        PriorityQueue<ChunkReader> heap = new PriorityQueue<>(chunks.size());
+        ChunkWriter out = null;
+        try {
+            long totalSize = 0L;
+            for (File f : chunks) {
+                ChunkReader reader = new ChunkReader(f, readers.size());
+                readers.add(reader);
+                totalSize += reader.m_remaining;
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+            if (output != null) {
+                out = new ChunkWriter(output, totalSize);
+            }
+            // first key of the current group (same fingerprint) and further keys of that group (hash collisions)
+            char[] groupKey = new char[64];
+            int groupKeyLength = -1;
+            long groupFingerprint = 0L;
+            List<String> collisions = new ArrayList<>();
+            while (!heap.isEmpty()) {
+                ChunkReader top = heap.poll();
+                if (groupKeyLength >= 0 && top.m_fingerprint == groupFingerprint) {
+                    String key = top.getKey();
+                    if (top.equalsKey(groupKey, groupKeyLength) || collisions.contains(key)) {
+                        throw new DuplicateKeyException(key);
+                    }
+                    collisions.add(key);
+                } else {
+                    if (top.m_keyLength > groupKey.length) {
+                        groupKey = new char[Math.max(top.m_keyLength, 2 * groupKey.length)];
+                    }
+                    System.arraycopy(top.m_key, 0, groupKey, 0, top.m_keyLength);
+                    groupKeyLength = top.m_keyLength;
+                    groupFingerprint = top.m_fingerprint;
+                    collisions.clear();
+                }
+                if (out != null) {
+                    out.writeEntry(top.m_fingerprint, top.m_key, 0, top.m_keyLength);
+                }
+                if (top.advance()) {
+                    heap.add(top);
+                }
+            }
+        } finally {
+            if (out != null) {
+                out.close();
+            }
+            for (ChunkReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+
+    /*
+     * Chunk file format: number of entries (long), followed by the entries sorted by fingerprint. Each entry is the
+     * fingerprint (long), the key length shifted left by one with the lowest bit set if all characters are ASCII
+     * (int) and the characters (one byte each if ASCII, otherwise two bytes). The streams are buffered manually as
+     * the per-call overhead of the java.io data streams dominates for short keys.
+     */
+
+    /** Writes a chunk file. */
+    private static final class ChunkWriter implements Closeable {
+
+        private final OutputStream m_out;
+
+        private final byte[] m_buffer = new byte[1 << 16];
+
+        private int m_pos;
+
+        ChunkWriter(final File file, final long entryCount) throws IOException {
+            m_out = new FileOutputStream(file);
+            writeLong(entryCount);
+        }
+
+        private void ensureCapacity(final int bytes) throws IOException {
+            if (m_pos + bytes > m_buffer.length) {
+                flushBuffer();
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            m_out.write(m_buffer, 0, m_pos);
+            m_pos = 0;
+        }
+
+        private void writeLong(final long value) throws IOException {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                m_buffer[m_pos++] = (byte)(value >>> shift);
+            }
+        }
+
+        private void writeInt(final int value) throws IOException {
+            ensureCapacity(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                m_buffer[m_pos++] = (byte)(value >>> shift);
+            }
+        }
+
+        void writeEntry(final long fingerprint, final char[] chars, final int offset, final int length)
+            throws IOException {
+            if (length > (Integer.MAX_VALUE >> 1)) {
+                throw new IOException("Key too long: " + length + " characters");
+            }
+            boolean isAscii = true;
+            for (int i = offset; i < offset + length && isAscii; i++) {
+                isAscii = chars[i] < 0x80;
+            }
+            writeLong(fingerprint);
+            writeInt((length << 1) | (isAscii ? 1 : 0));
+            final int bytesPerChar = isAscii ? 1 : 2;
+            int i = offset;
+            while (i < offset + length) {
+                int n = Math.min(offset + length - i, (m_buffer.length - m_pos) / bytesPerChar);
+                if (n == 0) {
+                    flushBuffer();
+                    continue;
+                }
+                for (int end = i + n; i < end; i++) {
+                    if (!isAscii) {
+                        m_buffer[m_pos++] = (byte)(chars[i] >>> 8);
+                    }
+                    m_buffer[m_pos++] = (byte)chars[i];
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            try {
+                flushBuffer();
+            } finally {
+                m_out.close();
+            }
+        }
+    }
+
+    /** Reads the entries of a chunk file, the current key is held in a reused buffer. */
+    private static final class ChunkReader implements Comparable<ChunkReader> {
+
+        private final InputStream m_in;
+
+        private final byte[] m_buffer = new byte[1 << 16];
+
+        private int m_pos;
+
+        private int m_limit;
+
+        private final int m_index;
+
+        private long m_remaining;
+
+        private long m_fingerprint;
+
+        private char[] m_key = new char[64];
+
+        private int m_keyLength;
+
+        ChunkReader(final File file, final int index) throws IOException {
+            m_in = new FileInputStream(file);
+            m_index = index;
+            m_remaining = readLong();
+        }
+
+        /** Makes sure that at least the argument number of bytes (at most the buffer size) is buffered. */
+        private void require(final int bytes) throws IOException {
+            if (m_limit - m_pos >= bytes) {
+                return;
+            }
+            System.arraycopy(m_buffer, m_pos, m_buffer, 0, m_limit - m_pos);
+            m_limit -= m_pos;
+            m_pos = 0;
+            while (m_limit < bytes) {
+                int read = m_in.read(m_buffer, m_limit, m_buffer.length - m_limit);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of duplicate checker chunk file");
+                }
+                m_limit += read;
+            }
+        }
+
+        private long readLong() throws IOException {
+            require(8);
+            long value = 0L;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (m_buffer[m_pos++] & 0xFF);
+            }
+            return value;
+        }
+
+        private int readInt() throws IOException {
+            require(4);
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (m_buffer[m_pos++] & 0xFF);
+            }
+            return value;
+        }
+
+        /** Reads the next entry, returns false if there is none. */
+        boolean advance() throws IOException {
+            if (m_remaining == 0) {
+                return false;
+            }
+            m_remaining--;
+            m_fingerprint = readLong();
+            final int header = readInt();
+            final boolean isAscii = (header & 1) != 0;
+            m_keyLength = header >>> 1;
+            if (m_keyLength > m_key.length) {
+                m_key = new char[Math.max(m_keyLength, 2 * m_key.length)];
+            }
+            final int bytesPerChar = isAscii ? 1 : 2;
+            int i = 0;
+            while (i < m_keyLength) {
+                require(bytesPerChar);
+                int n = Math.min(m_keyLength - i, (m_limit - m_pos) / bytesPerChar);
+                for (int end = i + n; i < end; i++) {
+                    if (isAscii) {
+                        m_key[i] = (char)(m_buffer[m_pos++] & 0xFF);
+                    } else {
+                        m_key[i] = (char)(((m_buffer[m_pos] & 0xFF) << 8) | (m_buffer[m_pos + 1] & 0xFF));
+                        m_pos += 2;
+                    }
+                }
+            }
+            return true;
+        }
+
+        String getKey() {
+            return new String(m_key, 0, m_keyLength);
+        }
+
+        boolean equalsKey(final char[] key, final int length) {
+            if (length != m_keyLength) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (key[i] != m_key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void close() throws IOException {
+            m_in.close();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo(final ChunkReader o) {
+            int c = Long.compare(m_fingerprint, o.m_fingerprint);
+            return c != 0 ? c : Integer.compare(m_index, o.m_index);
+        }
+    }
+
+}
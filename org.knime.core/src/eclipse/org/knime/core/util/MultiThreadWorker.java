@@ -214,7 +214,8 @@ public Void call() throws Exception {
             }
         };
         try {
-            if (m_executor == null) {
+            // threads not taken out of a pool (e.g. virtual threads of a job manager) don't occupy a pool slot
+            if (m_executor == null && ThreadPool.currentPool() != null) {
                 KNIMEConstants.GLOBAL_THREAD_POOL.runInvisible(c);
             } else {
                 c.call();
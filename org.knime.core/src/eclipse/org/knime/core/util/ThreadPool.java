@@ -790,7 +790,8 @@ protected void finalize() throws Throwable {
 
     /**
      * If the current thread is taken out of a thread pool, this method will
-     * return the thread pool. Otherwise it will return <code>null</code>.
+     * return the thread pool. Otherwise it will return <code>null</code>. This also covers threads running a task
+     * of a {@link WorkStealingThreadPool}.
      *
      * @return a thread pool or <code>null</code>
      */
@@ -798,7 +799,7 @@ public static ThreadPool currentPool() {
         if (Thread.currentThread() instanceof Worker) {
             return ((Worker)Thread.currentThread()).m_startedFrom;
         } else {
-            return null;
+            return WorkStealingThreadPool.currentWorkStealingPool();
         }
     }
 
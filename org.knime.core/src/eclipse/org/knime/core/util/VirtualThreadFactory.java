@@ -0,0 +1,154 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A thread factory creating virtual threads if the JVM supports them (Java 21 or later, looked up reflectively) and
+ * daemon platform threads otherwise. Virtual threads don't occupy an operating system thread while blocked in IO,
+ * they are multiplexed on the JVM's carrier pool, whose size is bounded by the number of processors (see the JVM
+ * property <tt>jdk.virtualThreadScheduler.parallelism</tt>). Executors using this factory should still bound the
+ * number of concurrently running tasks.
+ *
+ * <p>Threads created by this factory don't inherit the {@link org.knime.core.node.workflow.NodeContext}; wrap tasks
+ * using {@link ThreadUtils#runnableWithContext(Runnable)} or similar.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class VirtualThreadFactory implements ThreadFactory {
+
+    /** Default for {@link KNIMEConstants#PROPERTY_VIRTUAL_THREAD_MAX_TASKS}. */
+    public static final int DEF_MAX_TASKS = 256;
+
+    /** Thread.ofVirtual(), Thread.Builder#name(String, long), Thread.Builder#factory() -- null if unsupported. */
+    private static final Method[] VIRTUAL_THREAD_METHODS = lookupVirtualThreadMethods();
+
+    private final String m_namePrefix;
+
+    private final ThreadFactory m_virtualFactory;
+
+    private final AtomicInteger m_threadCount = new AtomicInteger();
+
+    /**
+     * @param namePrefix prefix of the thread names, a running number is appended
+     */
+    public VirtualThreadFactory(final String namePrefix) {
+        m_namePrefix = namePrefix;
+        m_virtualFactory = createVirtualFactory(namePrefix);
+    }
+
+    /**
+     * @return whether the JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_METHODS != null;
+    }
+
+    /**
+     * @return the maximum number of tasks that should run concurrently on virtual threads, as set by
+     *         {@link KNIMEConstants#PROPERTY_VIRTUAL_THREAD_MAX_TASKS}; at least 1
+     */
+    public static int getMaxConcurrentTasks() {
+        return Math.max(1, Integer.getInteger(KNIMEConstants.PROPERTY_VIRTUAL_THREAD_MAX_TASKS, DEF_MAX_TASKS));
+    }
+
+    /**
+     * @return whether the threads created by this factory are virtual threads
+     */
+    public boolean isVirtual() {
+        return m_virtualFactory != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Thread newThread(final Runnable r) {
+        if (m_virtualFactory != null) {
+            return m_virtualFactory.newThread(r);
+        }
+        Thread t = new Thread(r, m_namePrefix + m_threadCount.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    }
+
+    private static ThreadFactory createVirtualFactory(final String namePrefix) {
+        if (VIRTUAL_THREAD_METHODS == null) {
+            return null;
+        }
+        try {
+            Object builder = VIRTUAL_THREAD_METHODS[0].invoke(null);
+            builder = VIRTUAL_THREAD_METHODS[1].invoke(builder, namePrefix, 0L);
+            return (ThreadFactory)VIRTUAL_THREAD_METHODS[2].invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            NodeLogger.getLogger(VirtualThreadFactory.class)
+                .debug("Unable to create virtual thread factory, using platform threads: " + ex.getMessage(), ex);
+            return null;
+        }
+    }
+
+    private static Method[] lookupVirtualThreadMethods() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method[] methods = new Method[]{ofVirtual, builderClass.getMethod("name", String.class, long.class),
+                builderClass.getMethod("factory")};
+            // fails with an UnsupportedOperationException on JVMs where virtual threads are a disabled preview
+            ofVirtual.invoke(null);
+            return methods;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,725 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 17, 2026 (KNIME AG): created
+ */
+package org.knime.core.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A {@link ThreadPool} whose tasks are executed by a work-stealing {@link ForkJoinPool}. The pool keeps the
+ * semantics of the classic implementation: sub pools share the threads of their parent and never run more tasks
+ * than their (and all their ancestors') thread quota allows, tasks carry the node context and the context class
+ * loader of the submitting thread, and threads waiting in {@link #runInvisible(Callable)} or on a {@link Future}
+ * returned by this pool are not counted.
+ *
+ * <p>In contrast to the classic pool a thread that waits for a task submitted to this pool doesn't just block: if
+ * the awaited task hasn't been started yet the waiting thread runs it (or other pending tasks) itself, and if it
+ * has to block the fork/join pool activates a compensating thread. This keeps all cores busy with nested
+ * parallelism, e.g. parallel chunks inside metanodes that themselves use a {@link MultiThreadWorker}.
+ *
+ * <p>The pool is used as {@link org.knime.core.node.KNIMEConstants#GLOBAL_THREAD_POOL} if the system property
+ * {@value org.knime.core.node.KNIMEConstants#PROPERTY_THREAD_POOL_WORK_STEALING} is set to <code>true</code>.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.8
+ */
+public class WorkStealingThreadPool extends ThreadPool {
+    /** The pool from which the task currently run by a thread was submitted (tasks may be nested due to helping). */
+    private static final ThreadLocal<WorkStealingThreadPool> CURRENT_POOL = new ThreadLocal<WorkStealingThreadPool>();
+
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    private static final ForkJoinWorkerThreadFactory THREAD_FACTORY = new ForkJoinWorkerThreadFactory() {
+        @Override
+        public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+            ForkJoinWorkerThread t = new ForkJoinWorkerThread(pool) {
+            };
+            t.setName("KNIME-WS-Worker-" + WORKER_COUNTER.getAndIncrement());
+            t.setPriority(Thread.MIN_PRIORITY + 2);
+            t.setDaemon(true);
+            return t;
+        }
+    };
+
+    /** A task as it is run by the fork/join pool. */
+    private final class Job<T> extends ForkJoinTask<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final Callable<T> m_callable;
+
+        private final ClassLoader m_contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        private final CountDownLatch m_startWaiter = new CountDownLatch(1);
+
+        /** Set by whoever gets hold of the job first: the executing thread or the canceling thread. */
+        private final AtomicBoolean m_claimed = new AtomicBoolean();
+
+        private volatile boolean m_dispatched;
+
+        /** Guards {@link #m_runner} and {@link #m_interrupted}; the task's own monitor is used by ForkJoinTask. */
+        private final Object m_runnerLock = new Object();
+
+        /** The thread executing the callable, <code>null</code> before and after execution. */
+        private Thread m_runner;
+
+        /** Whether the callable is currently executing; a canceled job is only done once this is false. */
+        private volatile boolean m_running;
+
+        /** Whether {@link #m_runner} has been interrupted by {@link #cancel(boolean)}. */
+        private boolean m_interrupted;
+
+        private T m_result;
+
+        Job(final Callable<T> callable) {
+            m_callable = ThreadUtils.callableWithContext(callable, false);
+        }
+
+        WorkStealingThreadPool getOwnerPool() {
+            return WorkStealingThreadPool.this;
+        }
+
+        @Override
+        public T getRawResult() {
+            return m_result;
+        }
+
+        @Override
+        protected void setRawResult(final T value) {
+            m_result = value;
+        }
+
+        @Override
+        protected boolean exec() {
+            final Thread thread = Thread.currentThread();
+            // register before claiming so that a concurrent cancel(true) either sees the runner or wins the claim
+            synchronized (m_runnerLock) {
+                m_runner = thread;
+                m_running = true;
+            }
+            if (!m_claimed.compareAndSet(false, true)) {
+                runnerFinished();
+                return true; // canceled in the meantime, the quota has been released already
+            }
+            m_startWaiter.countDown();
+            final ClassLoader previousContextClassLoader = thread.getContextClassLoader();
+            final WorkStealingThreadPool previousPool = CURRENT_POOL.get();
+            thread.setContextClassLoader(m_contextClassLoader);
+            CURRENT_POOL.set(WorkStealingThreadPool.this);
+            taskStarted(thread);
+            try {
+                // complete before the pool is notified so that waiting for termination implies isDone()
+                complete(m_callable.call());
+                return true;
+            } catch (Exception ex) {
+                if (ex instanceof InterruptedException) {
+                    NodeLogger.getLogger(WorkStealingThreadPool.class).debug("Thread was interrupted");
+                } else if (!(ex instanceof CanceledExecutionException)) {
+                    // canceled execution exception is fine and will not be reported
+                    NodeLogger.getLogger(WorkStealingThreadPool.class).error(
+                        "An exception occurred while executing a runnable.", ex);
+                }
+                completeExceptionally(ex);
+                return false;
+            } finally {
+                thread.setContextClassLoader(previousContextClassLoader);
+                if (previousPool == null) {
+                    CURRENT_POOL.remove();
+                } else {
+                    CURRENT_POOL.set(previousPool);
+                }
+                runnerFinished();
+                taskFinished(thread);
+            }
+        }
+
+        private void runnerFinished() {
+            synchronized (m_runnerLock) {
+                m_runner = null;
+                if (m_interrupted) {
+                    // don't leak the cancellation interrupt into the next task run by this worker
+                    Thread.interrupted();
+                }
+            }
+            m_running = false;
+        }
+
+        /** @return whether the callable is currently executing (also after the job has been canceled) */
+        boolean isRunning() {
+            return m_running;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            boolean b = super.cancel(mayInterruptIfRunning);
+            if (b) {
+                // ForkJoinTask#cancel ignores the flag, hence interrupt the executing thread ourselves
+                if (mayInterruptIfRunning) {
+                    synchronized (m_runnerLock) {
+                        if (m_runner != null) {
+                            m_interrupted = true;
+                            m_runner.interrupt();
+                        }
+                    }
+                }
+                m_startWaiter.countDown();
+                // queued jobs are removed (and accounted for) by the queue check
+                if (m_dispatched && m_claimed.compareAndSet(false, true)) {
+                    taskFinished(null);
+                }
+            }
+            return b;
+        }
+    }
+
+    /** The future handed out to callers; waiting on it makes the current thread invisible. */
+    private static final class JobFuture<T> implements Future<T> {
+        private final WorkStealingThreadPool.Job<T> m_job;
+
+        JobFuture(final WorkStealingThreadPool.Job<T> job) {
+            m_job = job;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            return m_job.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return m_job.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            // a canceled job is completed right away but may still be executing
+            return m_job.isDone() && !m_job.isRunning();
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            WorkStealingThreadPool current = CURRENT_POOL.get();
+            if (current == null) {
+                return m_job.get();
+            }
+            current.changeInvisibleThreads(1);
+            try {
+                current.checkQueue();
+                // joins (and possibly runs) the task in a fork/join worker, compensates if blocked
+                return m_job.get();
+            } finally {
+                current.changeInvisibleThreads(-1);
+            }
+        }
+
+        @Override
+        public T get(final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+            WorkStealingThreadPool current = CURRENT_POOL.get();
+            if (current == null) {
+                return m_job.get(timeout, unit);
+            }
+            current.changeInvisibleThreads(1);
+            try {
+                current.checkQueue();
+                return m_job.get(timeout, unit);
+            } finally {
+                current.changeInvisibleThreads(-1);
+            }
+        }
+
+        void waitUntilStarted() throws InterruptedException {
+            final CountDownLatch latch = m_job.m_startWaiter;
+            ForkJoinPool.managedBlock(new ManagedBlocker() {
+                @Override
+                public boolean isReleasable() {
+                    return latch.getCount() == 0;
+                }
+
+                @Override
+                public boolean block() throws InterruptedException {
+                    latch.await();
+                    return true;
+                }
+            });
+        }
+    }
+
+    private final ForkJoinPool m_forkJoinPool;
+
+    private final WorkStealingThreadPool m_parent;
+
+    /** Jobs waiting for a free slot, shared with all sub pools and guarded by itself. */
+    private final Queue<Job<?>> m_queuedJobs;
+
+    private final AtomicInteger m_maxThreads = new AtomicInteger();
+
+    /** Number of dispatched but not yet finished jobs of this pool and its sub pools, guarded by m_queuedJobs. */
+    private int m_activeJobs;
+
+    private final AtomicInteger m_invisibleThreads = new AtomicInteger();
+
+    private final AtomicInteger m_pendingJobs = new AtomicInteger();
+
+    /** Threads currently running a job of this pool or its sub pools; may contain a thread more than once. */
+    private final List<Thread> m_runningThreads = new ArrayList<Thread>();
+
+    /**
+     * Creates a new work-stealing thread pool with a maximum number of threads. The parallelism of the underlying
+     * fork/join pool is the maximum of the given thread count and the number of available processors.
+     *
+     * @param maxThreads the maximum number of threads
+     */
+    public WorkStealingThreadPool(final int maxThreads) {
+        super(maxThreads);
+        m_maxThreads.set(maxThreads);
+        m_parent = null;
+        m_queuedJobs = new LinkedList<Job<?>>();
+        int parallelism = Math.max(maxThreads, Runtime.getRuntime().availableProcessors());
+        m_forkJoinPool = new ForkJoinPool(parallelism, THREAD_FACTORY, null, false);
+    }
+
+    /**
+     * Creates a new sub pool.
+     *
+     * @param maxThreads the maximum number of threads in the pool
+     * @param parent the parent pool
+     */
+    protected WorkStealingThreadPool(final int maxThreads, final WorkStealingThreadPool parent) {
+        super(maxThreads);
+        m_maxThreads.set(maxThreads);
+        m_parent = parent;
+        m_queuedJobs = parent.m_queuedJobs;
+        m_forkJoinPool = parent.m_forkJoinPool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPool createSubPool() {
+        return new WorkStealingThreadPool(m_maxThreads.get(), this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPool createSubPool(final int maxThreads) {
+        return new WorkStealingThreadPool(maxThreads, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> enqueue(final Callable<T> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
+        Job<T> job = new Job<T>(task);
+        synchronized (m_queuedJobs) {
+            changePendingJobs(1);
+            if (!dispatch(job)) {
+                m_queuedJobs.add(job);
+            }
+        }
+        return new JobFuture<T>(job);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> enqueue(final Runnable r) {
+        return enqueue(toCallable(r));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> trySubmit(final Callable<T> t) {
+        Job<T> job = new Job<T>(t);
+        synchronized (m_queuedJobs) {
+            changePendingJobs(1);
+            if (!dispatch(job)) {
+                changePendingJobs(-1);
+                return null;
+            }
+        }
+        return new JobFuture<T>(job);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> trySubmit(final Runnable r) {
+        return trySubmit(toCallable(r));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) throws InterruptedException {
+        JobFuture<T> future = (JobFuture<T>)enqueue(task);
+        future.waitUntilStarted();
+        return future;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> submit(final Runnable task) throws InterruptedException {
+        return submit(toCallable(task));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxThreads() {
+        return m_maxThreads.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRunningThreads() {
+        synchronized (m_queuedJobs) {
+            return m_activeJobs - m_invisibleThreads.get();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>As with the classic pool the current thread is made invisible in the pool it has been taken out of. If it is
+     * a worker of the underlying fork/join pool the callable is run as a managed block, i.e. the fork/join pool may
+     * activate a spare thread while the callable waits for the jobs it has submitted.
+     */
+    @Override
+    public <T> T runInvisible(final Callable<T> r) throws ExecutionException {
+        final WorkStealingThreadPool current = CURRENT_POOL.get();
+        if (current == null) {
+            throw new IllegalThreadStateException("The current thread is not taken out of a thread pool");
+        }
+        current.changeInvisibleThreads(1);
+        checkQueue();
+        try {
+            if (isOwnWorker(Thread.currentThread())) {
+                final CallableBlocker<T> blocker = new CallableBlocker<T>(r);
+                ForkJoinPool.managedBlock(blocker);
+                return blocker.getResult();
+            } else {
+                return r.call();
+            }
+        } catch (Exception ex) {
+            throw new ExecutionException(ex);
+        } finally {
+            current.changeInvisibleThreads(-1);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The parallelism of the underlying fork/join pool is not changed, it only limits the number of concurrently
+     * running jobs if the maximum is raised above the number of available processors.
+     */
+    @Override
+    public void setMaxThreads(final int newValue) {
+        if (newValue < 0) {
+            throw new IllegalArgumentException("Thread count must be >= 0");
+        }
+        m_maxThreads.set(newValue);
+        checkQueue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        synchronized (m_queuedJobs) {
+            Iterator<Job<?>> it = m_queuedJobs.iterator();
+            while (it.hasNext()) {
+                Job<?> job = it.next();
+                if (job.getOwnerPool() == this) {
+                    changePendingJobs(-1);
+                    job.cancel(true);
+                    it.remove();
+                }
+            }
+        }
+        setMaxThreads(0);
+        if (m_parent == null) {
+            m_forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void interruptAll() {
+        synchronized (m_runningThreads) {
+            for (Thread t : m_runningThreads) {
+                t.interrupt();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void waitForTermination() throws InterruptedException {
+        synchronized (m_pendingJobs) {
+            WorkStealingThreadPool currentPool = CURRENT_POOL.get();
+            if (currentPool != null) {
+                currentPool.changeInvisibleThreads(1);
+            }
+            try {
+                checkQueue();
+                while (m_pendingJobs.get() != 0) {
+                    m_pendingJobs.wait();
+                }
+            } finally {
+                if (currentPool != null) {
+                    currentPool.changeInvisibleThreads(-1);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getQueueSize() {
+        synchronized (m_queuedJobs) {
+            return m_queuedJobs.size();
+        }
+    }
+
+    /**
+     * Returns the work-stealing pool from which the task that the current thread is executing was submitted.
+     *
+     * @return a thread pool or <code>null</code>
+     * @see ThreadPool#currentPool()
+     */
+    static WorkStealingThreadPool currentWorkStealingPool() {
+        return CURRENT_POOL.get();
+    }
+
+    private boolean isOwnWorker(final Thread thread) {
+        return (thread instanceof ForkJoinWorkerThread)
+            && (((ForkJoinWorkerThread)thread).getPool() == m_forkJoinPool);
+    }
+
+    /** Must be called while holding the lock on m_queuedJobs. */
+    private boolean hasFreeSlot() {
+        return (m_activeJobs - m_invisibleThreads.get() < m_maxThreads.get())
+            && ((m_parent == null) || m_parent.hasFreeSlot());
+    }
+
+    /** Must be called while holding the lock on m_queuedJobs. */
+    private boolean dispatch(final Job<?> job) {
+        WorkStealingThreadPool pool = job.getOwnerPool();
+        if (!pool.hasFreeSlot()) {
+            return false;
+        }
+        for (WorkStealingThreadPool p = pool; p != null; p = p.m_parent) {
+            p.m_activeJobs++;
+        }
+        job.m_dispatched = true;
+        if (isOwnWorker(Thread.currentThread())) {
+            job.fork(); // push onto the local deque, idle workers will steal it
+        } else {
+            m_forkJoinPool.execute(job);
+        }
+        return true;
+    }
+
+    private boolean checkQueue() {
+        boolean dispatched = false;
+        synchronized (m_queuedJobs) {
+            for (Iterator<Job<?>> it = m_queuedJobs.iterator(); it.hasNext();) {
+                Job<?> job = it.next();
+                if (job.isCancelled()) {
+                    it.remove();
+                    job.getOwnerPool().changePendingJobs(-1);
+                } else if (dispatch(job)) {
+                    it.remove();
+                    dispatched = true;
+                }
+            }
+        }
+        return dispatched;
+    }
+
+    private void changeInvisibleThreads(final int delta) {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_invisibleThreads.addAndGet(delta);
+        }
+    }
+
+    private void changePendingJobs(final int delta) {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            if (p.m_pendingJobs.addAndGet(delta) == 0) {
+                synchronized (p.m_pendingJobs) {
+                    p.m_pendingJobs.notifyAll();
+                }
+            }
+        }
+    }
+
+    private void taskStarted(final Thread thread) {
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            synchronized (p.m_runningThreads) {
+                p.m_runningThreads.add(thread);
+            }
+        }
+    }
+
+    /**
+     * Called when a dispatched job has finished or was canceled before it started.
+     *
+     * @param thread the thread that ran the job, <code>null</code> if it has never been started
+     */
+    private void taskFinished(final Thread thread) {
+        synchronized (m_queuedJobs) {
+            for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+                p.m_activeJobs--;
+            }
+        }
+        if (thread != null) {
+            for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+                synchronized (p.m_runningThreads) {
+                    p.m_runningThreads.remove(thread);
+                }
+            }
+        }
+        changePendingJobs(-1);
+        checkQueue();
+    }
+
+    private static Callable<Object> toCallable(final Runnable r) {
+        if (r == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
+        return new Callable<Object>() {
+            @Override
+            public Object call() throws Exception {
+                r.run();
+                return null;
+            }
+        };
+    }
+
+    /** Runs a callable as a {@link ManagedBlocker}. */
+    private static final class CallableBlocker<T> implements ManagedBlocker {
+        private final Callable<T> m_callable;
+
+        private boolean m_done;
+
+        private T m_result;
+
+        private Exception m_exception;
+
+        CallableBlocker(final Callable<T> callable) {
+            m_callable = callable;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            try {
+                m_result = m_callable.call();
+            } catch (Exception ex) {
+                m_exception = ex;
+            }
+            m_done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return m_done;
+        }
+
+        T getResult() throws Exception {
+            if (m_exception != null) {
+                throw m_exception;
+            }
+            return m_result;
+        }
+    }
+}